@@ -1,10 +1,7 @@
 package io.openems.backend.alerting.scheduler;
 
 import java.time.ZonedDateTime;
-import java.util.ArrayList;
-import java.util.Map;
-import java.util.PriorityQueue;
-import java.util.TreeMap;
+import java.util.List;
 import java.util.function.Predicate;
 
 import io.openems.backend.alerting.Handler;
@@ -16,19 +13,21 @@ import io.openems.backend.alerting.Message;
  * After the specified time is reached, the scheduler sends the Messages to
  * their {@link Handler} and removes them from itself.
  * </p>
+ * <p>
+ * Messages are kept in a {@link TimingWheel}, so scheduling and removing a
+ * Message does not depend on the number of scheduled Messages.
+ * </p>
  *
  * @param <T> type of Message
  */
 public class MessageScheduler<T extends Message> {
-	private final Map<String, T> messageForId;
-	private final PriorityQueue<T> queue;
+	private final TimingWheel<T> wheel;
 
 	private final Handler<T> handler;
 
 	public MessageScheduler(Handler<T> handler) {
 		this.handler = handler;
-		this.queue = new PriorityQueue<>();
-		this.messageForId = new TreeMap<>();
+		this.wheel = new TimingWheel<>();
 	}
 
 	/**
@@ -41,10 +40,7 @@ public class MessageScheduler<T extends Message> {
 			return;
 		}
 		synchronized (this) {
-			this.messageForId.computeIfAbsent(msg.getId(), (key) -> {
-				this.queue.add(msg);
-				return msg;
-			});
+			this.wheel.add(msg);
 		}
 	}
 
@@ -59,11 +55,7 @@ public class MessageScheduler<T extends Message> {
 			return null;
 		}
 		synchronized (this) {
-			var msg = this.messageForId.remove(msgId);
-			if (msg != null) {
-				this.queue.remove(msg);
-			}
-			return msg;
+			return this.wheel.remove(msgId);
 		}
 	}
 
@@ -74,7 +66,12 @@ public class MessageScheduler<T extends Message> {
 	 * @return true if is scheduled
 	 */
 	public boolean isScheduled(Message msg) {
-		return this.queue.contains(msg);
+		if (msg == null) {
+			return false;
+		}
+		synchronized (this) {
+			return this.wheel.get(msg.getId()) != null;
+		}
 	}
 
 	/**
@@ -84,7 +81,9 @@ public class MessageScheduler<T extends Message> {
 	 * @return true if is scheduled
 	 */
 	public boolean isScheduled(Predicate<T> find) {
-		return this.queue.stream().anyMatch(find);
+		synchronized (this) {
+			return this.wheel.anyMatch(find);
+		}
 	}
 
 	public Class<T> getGeneric() {
@@ -97,7 +96,9 @@ public class MessageScheduler<T extends Message> {
 	 * @return size of message queue
 	 */
 	public int size() {
-		return this.queue.size();
+		synchronized (this) {
+			return this.wheel.size();
+		}
 	}
 
 	/**
@@ -106,35 +107,15 @@ public class MessageScheduler<T extends Message> {
 	 * @param now TimeStamp on call
 	 */
 	public void handle(ZonedDateTime now) {
-		var msgs = new ArrayList<T>();
-		while (this.hasTimeElapsed(now, this.peek())) {
-			msgs.add(this.poll());
+		final List<T> msgs;
+		synchronized (this) {
+			msgs = this.wheel.advance(now);
 		}
 		if (!msgs.isEmpty()) {
 			this.handler.send(now, msgs);
 		}
 	}
 
-	private boolean hasTimeElapsed(ZonedDateTime now, T msg) {
-		return msg != null && now.isAfter(msg.getNotifyStamp());
-	}
-
-	private T poll() {
-		synchronized (this) {
-			final var msg = this.queue.poll();
-			if (msg != null) {
-				this.messageForId.remove(msg.getId());
-			}
-			return msg;
-		}
-	}
-
-	private T peek() {
-		synchronized (this) {
-			return this.queue.peek();
-		}
-	}
-
 	/**
 	 * Check if this MessageScheduler handles messages for given handler.
 	 *
@@ -0,0 +1,218 @@
+package io.openems.backend.alerting.scheduler;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import io.openems.backend.alerting.Message;
+
+/**
+ * A hierarchical timing wheel with a resolution of one minute.
+ *
+ * <p>
+ * Messages are kept in buckets by their notify minute: level 0 has one bucket
+ * per minute for the next {@link #SLOTS} minutes, every further level covers
+ * {@link #SLOTS} times the span of the previous one; messages beyond the last
+ * level are kept in an overflow bucket. When the wheel advances into a bucket
+ * of a higher level, its messages are cascaded into the lower levels. Due
+ * messages are collected in the 'current' bucket and are checked against the
+ * exact notify stamp on every {@link #advance(ZonedDateTime)}.
+ *
+ * <p>
+ * Schedule, remove and lookup by id are O(1). This class is not thread-safe.
+ *
+ * @param <T> type of Message
+ */
+class TimingWheel<T extends Message> {
+
+	private static final int SLOTS = 64;
+	private static final int LEVELS = 3;
+	private static final long[] SPANS = { 1, SLOTS, SLOTS * SLOTS };
+	private static final long WHEEL_SPAN = SLOTS * SLOTS * SLOTS; // [minutes]
+	private static final long UNSET = Long.MIN_VALUE;
+
+	private final class Entry {
+		private final T message;
+		private final long minute;
+		private LinkedHashSet<Entry> bucket;
+
+		private Entry(T message) {
+			this.message = message;
+			this.minute = toMinute(message.getNotifyStamp());
+		}
+	}
+
+	private final Map<String, Entry> entries = new HashMap<>();
+	private final List<List<LinkedHashSet<Entry>>> levels = new ArrayList<>(LEVELS);
+	private final LinkedHashSet<Entry> overflow = new LinkedHashSet<>();
+	private final LinkedHashSet<Entry> current = new LinkedHashSet<>();
+
+	private long currentMinute = UNSET;
+
+	public TimingWheel() {
+		for (var level = 0; level < LEVELS; level++) {
+			var buckets = new ArrayList<LinkedHashSet<Entry>>(SLOTS);
+			for (var slot = 0; slot < SLOTS; slot++) {
+				buckets.add(new LinkedHashSet<>());
+			}
+			this.levels.add(buckets);
+		}
+	}
+
+	private static long toMinute(ZonedDateTime stamp) {
+		return Math.floorDiv(stamp.toEpochSecond(), 60);
+	}
+
+	/**
+	 * Adds a message, if no message with the same id is scheduled.
+	 *
+	 * @param message to add
+	 * @return true if the message was added
+	 */
+	public boolean add(T message) {
+		if (this.entries.containsKey(message.getId())) {
+			return false;
+		}
+		var entry = new Entry(message);
+		this.entries.put(message.getId(), entry);
+		this.place(entry);
+		return true;
+	}
+
+	/**
+	 * Removes the message with the given id.
+	 *
+	 * @param id of the message
+	 * @return the removed message or null, if none was found
+	 */
+	public T remove(String id) {
+		var entry = this.entries.remove(id);
+		if (entry == null) {
+			return null;
+		}
+		entry.bucket.remove(entry);
+		return entry.message;
+	}
+
+	/**
+	 * Gets the message with the given id.
+	 *
+	 * @param id of the message
+	 * @return the message or null, if none was found
+	 */
+	public T get(String id) {
+		var entry = this.entries.get(id);
+		return entry == null ? null : entry.message;
+	}
+
+	/**
+	 * Get if a message fitting the {@link Predicate} is scheduled.
+	 *
+	 * @param find filter to use
+	 * @return true if is scheduled
+	 */
+	public boolean anyMatch(Predicate<T> find) {
+		return this.entries.values().stream().anyMatch(e -> find.test(e.message));
+	}
+
+	public int size() {
+		return this.entries.size();
+	}
+
+	/**
+	 * Advances the wheel to the given time and removes all messages whose notify
+	 * stamp has elapsed.
+	 *
+	 * @param now current time
+	 * @return the due messages, ordered by their notify stamp
+	 */
+	public List<T> advance(ZonedDateTime now) {
+		final var minute = toMinute(now);
+		if (this.currentMinute == UNSET) {
+			this.currentMinute = minute;
+		} else if (minute < this.currentMinute || minute - this.currentMinute > SLOTS) {
+			// Clock jumped: sort all messages in again
+			this.rebuild(minute);
+		} else {
+			while (this.currentMinute < minute) {
+				this.tick();
+			}
+		}
+
+		final var due = new ArrayList<T>();
+		final var later = new ArrayList<Entry>();
+		for (var iterator = this.current.iterator(); iterator.hasNext();) {
+			var entry = iterator.next();
+			if (now.isAfter(entry.message.getNotifyStamp())) {
+				iterator.remove();
+				this.entries.remove(entry.message.getId());
+				due.add(entry.message);
+			} else if (entry.minute > this.currentMinute) {
+				// e.g. added before the first advance
+				iterator.remove();
+				later.add(entry);
+			}
+		}
+		later.forEach(this::place);
+		due.sort(null);
+		return due;
+	}
+
+	private void tick() {
+		final var minute = ++this.currentMinute;
+		if (minute % WHEEL_SPAN == 0) {
+			this.cascade(this.overflow);
+		}
+		for (var level = LEVELS - 1; level > 0; level--) {
+			if (minute % SPANS[level] == 0) {
+				this.cascade(this.bucket(level, minute));
+			}
+		}
+		this.cascade(this.bucket(0, minute));
+	}
+
+	private void rebuild(long minute) {
+		final var all = new ArrayList<>(this.entries.values());
+		this.overflow.clear();
+		this.current.clear();
+		this.levels.forEach(buckets -> buckets.forEach(LinkedHashSet::clear));
+		this.currentMinute = minute;
+		all.forEach(this::place);
+	}
+
+	private void cascade(LinkedHashSet<Entry> bucket) {
+		if (bucket.isEmpty()) {
+			return;
+		}
+		final var entries = new ArrayList<>(bucket);
+		bucket.clear();
+		entries.forEach(this::place);
+	}
+
+	private LinkedHashSet<Entry> bucket(int level, long minute) {
+		return this.levels.get(level).get((int) Math.floorMod(minute / SPANS[level], SLOTS));
+	}
+
+	private void place(Entry entry) {
+		final var delta = this.currentMinute == UNSET ? 0 : entry.minute - this.currentMinute;
+		final LinkedHashSet<Entry> bucket;
+		if (delta <= 0) {
+			bucket = this.current;
+		} else if (delta < WHEEL_SPAN) {
+			var level = 0;
+			while (delta >= SPANS[level] * SLOTS) {
+				level++;
+			}
+			bucket = this.bucket(level, entry.minute);
+		} else {
+			bucket = this.overflow;
+		}
+		bucket.add(entry);
+		entry.bucket = bucket;
+	}
+
+}
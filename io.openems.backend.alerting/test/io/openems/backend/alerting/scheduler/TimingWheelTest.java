@@ -0,0 +1,125 @@
+package io.openems.backend.alerting.scheduler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.List;
+
+import org.junit.Ignore;
+import org.junit.Test;
+
+import com.google.gson.JsonObject;
+
+import io.openems.backend.alerting.Message;
+
+public class TimingWheelTest {
+
+	private static final ZonedDateTime NOW = ZonedDateTime.of(2024, 3, 1, 12, 0, 17, 0, ZoneOffset.UTC);
+
+	private static class DummyMessage extends Message {
+		private final ZonedDateTime timeStamp;
+
+		public DummyMessage(String messageId, ZonedDateTime timeStamp) {
+			super(messageId);
+			this.timeStamp = timeStamp;
+		}
+
+		@Override
+		public ZonedDateTime getNotifyStamp() {
+			return this.timeStamp;
+		}
+
+		@Override
+		public JsonObject getParams() {
+			return new JsonObject();
+		}
+	}
+
+	@Test
+	public void testAdvance() {
+		final var sut = new TimingWheel<DummyMessage>();
+		final var delays = List.of(-60L, 30L, 5 * 60L, 2 * 3600L, 5 * 86400L, 300 * 86400L); // [s]
+		for (var delay : delays) {
+			sut.add(new DummyMessage(delay.toString(), NOW.plusSeconds(delay)));
+		}
+		assertEquals(delays.size(), sut.size());
+
+		// Step minute by minute and record when each message becomes due
+		final var dueAt = new HashMap<String, ZonedDateTime>();
+		for (var now = NOW; sut.size() > 0; now = now.plusMinutes(1)) {
+			for (var msg : sut.advance(now)) {
+				dueAt.put(msg.getId(), now);
+			}
+		}
+		for (var delay : delays) {
+			var stamp = NOW.plusSeconds(delay);
+			var at = dueAt.get(delay.toString());
+			assertTrue("Late " + delay, at.isAfter(stamp));
+			assertFalse("Early " + delay, at.minusMinutes(1).isAfter(stamp));
+		}
+	}
+
+	@Test
+	public void testRemoveAndClockJump() {
+		final var sut = new TimingWheel<DummyMessage>();
+		sut.advance(NOW);
+		final var msg1 = new DummyMessage("1", NOW.plusHours(3));
+		final var msg2 = new DummyMessage("2", NOW.plusHours(5));
+		assertTrue(sut.add(msg1));
+		assertTrue(sut.add(msg2));
+
+		// Same id is only scheduled once
+		assertFalse(sut.add(new DummyMessage("1", NOW)));
+
+		assertEquals(msg2, sut.remove("2"));
+		assertNull(sut.remove("2"));
+		assertNull(sut.get("2"));
+
+		// Clock jumps ahead, e.g. after a leap in tests
+		assertEquals(List.of(), sut.advance(NOW.plusHours(2)));
+		assertEquals(List.of(msg1), sut.advance(NOW.plusHours(4)));
+		assertEquals(0, sut.size());
+	}
+
+	/**
+	 * Measures rescheduling of 100k messages, i.e. remove and schedule on every
+	 * state flip, and the dispatch per minute tick.
+	 */
+	@Ignore
+	@Test
+	public void benchmark() {
+		final var count = 100_000;
+		final var sut = new MessageScheduler<DummyMessage>(null);
+		final var wheel = new TimingWheel<DummyMessage>();
+		wheel.advance(NOW);
+
+		var start = System.nanoTime();
+		for (var i = 0; i < count; i++) {
+			sut.schedule(new DummyMessage(Integer.toString(i), NOW.plusSeconds(i % 86400)));
+		}
+		for (var i = 0; i < count; i++) {
+			var msg = sut.remove(Integer.toString(i));
+			sut.schedule(msg);
+		}
+		final var reschedule = (System.nanoTime() - start) / 1_000_000.;
+
+		for (var i = 0; i < count; i++) {
+			wheel.add(new DummyMessage(Integer.toString(i), NOW.plusSeconds(i % 86400)));
+		}
+		start = System.nanoTime();
+		var dispatched = 0;
+		for (var now = NOW; wheel.size() > 0; now = now.plusMinutes(1)) {
+			dispatched += wheel.advance(now).size();
+		}
+		final var dispatch = (System.nanoTime() - start) / 1_000_000.;
+
+		System.out.println(String.format("Scheduled and rescheduled %d messages in %.1f ms; dispatched %d in %.1f ms", //
+				count, reschedule, dispatched, dispatch));
+	}
+
+}
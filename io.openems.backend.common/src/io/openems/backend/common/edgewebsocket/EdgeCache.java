@@ -1,41 +1,69 @@
 package io.openems.backend.common.edgewebsocket;
 
-import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.SortedMap;
+import java.util.SortedSet;
 import java.util.TreeMap;
-import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import com.google.common.collect.Maps;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonNull;
 
 import io.openems.common.jsonrpc.notification.AggregatedDataNotification;
 import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
 
+/**
+ * Caches the latest current and aggregated data of one Edge.
+ *
+ * <p>
+ * Reads are lock-free: every Channel has a slot that is updated in place by
+ * the writer. Channel-Addresses are interned, so all Edges share the same
+ * key instances for common Channels like '_sum/State'.
+ */
 public class EdgeCache {
 
+	/** Values older than this are not valid anymore. */
+	private static final long MAX_AGE_MILLIS = 15 * 60 * 1000;
+
+	private static final Interner<String> ADDRESSES = Interners.newWeakInterner();
+
 	private final ChannelDataCache current = new ChannelDataCache();
 	private final ChannelDataCache aggregated = new ChannelDataCache();
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
 
 	public static record Pair<A, B>(A a, B b) {
 
 	}
 
+	private static class Slot {
+		private volatile long timestamp;
+		private volatile JsonElement value;
+	}
+
 	private static class ChannelDataCache {
-		private long timestamp = 0L;
-		private final HashMap<String, JsonElement> data = new HashMap<>();
+		private final ConcurrentHashMap<String, Slot> data = new ConcurrentHashMap<>();
+		private volatile long timestamp = 0L;
+		private volatile long validFrom = Long.MIN_VALUE;
 
 		/**
 		 * Gets the channel value from cache.
 		 *
 		 * @param address the Channel-Address of the channel
-		 * @return the value; {@link JsonNull} if it is not in cache
+		 * @return the value; null if it is not in cache
 		 */
 		public final JsonElement getChannelValue(String address) {
-			synchronized (this) {
-				return this.data.get(address);
+			var slot = this.data.get(address);
+			if (slot == null || slot.timestamp < this.validFrom) {
+				return null;
 			}
+			return slot.value;
 		}
 
 		/**
@@ -43,7 +71,7 @@ public class EdgeCache {
 		 *
 		 * @param incomingDatas the incoming data
 		 */
-		public void update(SortedMap<Long, Map<String, JsonElement>> incomingDatas) {
+		public synchronized void update(SortedMap<Long, Map<String, JsonElement>> incomingDatas) {
 			for (var entry : incomingDatas.entrySet()) {
 				var incomingTimestamp = entry.getKey();
 				var incomingData = entry.getValue();
@@ -51,25 +79,38 @@ public class EdgeCache {
 				// Check if cache should be applied
 				if (incomingTimestamp < this.timestamp) {
 					// Incoming data is older than cache -> do not apply cache
+					continue;
+				}
 
-				} else {
-					// Incoming data is more recent than cache
-
-					if (incomingTimestamp > this.timestamp + 15 * 60 * 1000) {
-						// Cache is not anymore valid (elder than 15 minutes) -> clear Cache
-						synchronized (this) {
-							this.data.clear();
-						}
-					}
+				// Incoming data is more recent than cache
+				if (incomingTimestamp > this.timestamp + MAX_AGE_MILLIS) {
+					// Cache is not anymore valid (elder than 15 minutes) -> invalidate all slots
+					this.validFrom = incomingTimestamp;
+					this.data.values().removeIf(slot -> slot.timestamp < incomingTimestamp);
+				}
 
-					// update cache
-					this.timestamp = incomingTimestamp;
-					synchronized (this) {
-						this.data.putAll(incomingData);
+				// update cache
+				this.timestamp = incomingTimestamp;
+				for (var e : incomingData.entrySet()) {
+					var slot = this.data.get(e.getKey());
+					if (slot == null) {
+						slot = new Slot();
+						this.data.put(ADDRESSES.intern(e.getKey()), slot);
 					}
+					slot.value = e.getValue();
+					slot.timestamp = incomingTimestamp;
 				}
 			}
 		}
+
+		/**
+		 * Gets the number of cached Channels.
+		 *
+		 * @return the size
+		 */
+		public int size() {
+			return this.data.size();
+		}
 	}
 
 	/**
@@ -81,41 +122,55 @@ public class EdgeCache {
 	public final JsonElement getChannelValue(String address) {
 		final var result = this.current.getChannelValue(address);
 		if (result != null) {
+			this.hits.increment();
 			return result;
 		}
 		final var aggregatedResult = this.aggregated.getChannelValue(address);
 		if (aggregatedResult != null) {
+			this.hits.increment();
 			return aggregatedResult;
 		}
+		this.misses.increment();
 		return JsonNull.INSTANCE;
 	}
 
 	/**
 	 * Gets the channel values from cache.
 	 *
+	 * <p>
+	 * Every value is read exactly once. The result is sorted if the given
+	 * addresses are a {@link SortedSet}.
+	 *
 	 * @param addresses the Channel-Addresses of the channels
 	 * @return a) Map of Channel-Address to values ({@link JsonNull} if not in
 	 *         cache); b) Set of Channel-Addresses that are only available as
 	 *         aggregated data
 	 */
 	public final Pair<Map<String, JsonElement>, Set<String>> getChannelValues(Set<String> addresses) {
-		final var result = new TreeMap<String, JsonElement>();
-		final var aggregatedChannelValues = new TreeSet<String>();
+		final Map<String, JsonElement> values = addresses instanceof SortedSet<String> sortedAddresses //
+				? new TreeMap<>(sortedAddresses.comparator()) //
+				: Maps.newHashMapWithExpectedSize(addresses.size());
+		final var aggregatedChannelValues = new HashSet<String>();
+		var hits = 0;
 		for (var address : addresses) {
 			final var value = this.current.getChannelValue(address);
 			if (value != null) {
-				result.put(address, value);
+				values.put(address, value);
+				hits++;
 				continue;
 			}
 			final var aggregatedValue = this.aggregated.getChannelValue(address);
 			if (aggregatedValue != null) {
-				result.put(address, aggregatedValue);
+				values.put(address, aggregatedValue);
 				aggregatedChannelValues.add(address);
+				hits++;
 				continue;
 			}
-			result.put(address, JsonNull.INSTANCE);
+			values.put(address, JsonNull.INSTANCE);
 		}
-		return new Pair<>(result, aggregatedChannelValues);
+		this.hits.add(hits);
+		this.misses.add(values.size() - hits);
+		return new Pair<>(values, aggregatedChannelValues);
 	}
 
 	/**
@@ -136,4 +191,31 @@ public class EdgeCache {
 		this.aggregated.update(notification.getData().rowMap());
 	}
 
+	/**
+	 * Gets the number of cached current and aggregated Channel values.
+	 *
+	 * @return the size
+	 */
+	public int size() {
+		return this.current.size() + this.aggregated.size();
+	}
+
+	/**
+	 * Gets the number of reads that were answered from the cache.
+	 *
+	 * @return the number of hits
+	 */
+	public long getHits() {
+		return this.hits.sum();
+	}
+
+	/**
+	 * Gets the number of reads for Channels that were not in the cache.
+	 *
+	 * @return the number of misses
+	 */
+	public long getMisses() {
+		return this.misses.sum();
+	}
+
 }
@@ -3,8 +3,11 @@ package io.openems.backend.common.edgewebsocket;
 import static org.junit.Assert.assertEquals;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
+import java.util.TreeSet;
 
 import org.junit.Test;
 
@@ -14,6 +17,7 @@ import com.google.gson.JsonNull;
 import com.google.gson.JsonPrimitive;
 
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.jsonrpc.notification.AggregatedDataNotification;
 import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
 import io.openems.common.types.ChannelAddress;
 
@@ -49,6 +53,32 @@ public class EdgeCacheTest {
 		assertEquals(JsonNull.INSTANCE, cache.getChannelValue(CHANNEL1));
 		assertEquals(JsonNull.INSTANCE, cache.getChannelValue(CHANNEL2));
 		assertEquals("value3", cache.getChannelValue(CHANNEL3).getAsString());
+		assertEquals(1, cache.size());
+	}
+
+	@Test
+	public void testGetChannelValues() throws OpenemsNamedException {
+		var cache = new EdgeCache();
+		cache.updateCurrentData(buildData(0, CHANNEL1, "value1"));
+		var aggregated = TreeBasedTable.<Long, String, JsonElement>create();
+		aggregated.put(0L, CHANNEL2, new JsonPrimitive("value2"));
+		cache.updateAggregatedData(new AggregatedDataNotification(aggregated));
+
+		var result = cache.getChannelValues(new TreeSet<>(List.of(CHANNEL3, CHANNEL2, CHANNEL1)));
+		assertEquals(List.of(CHANNEL1, CHANNEL2, CHANNEL3), List.copyOf(result.a().keySet()));
+		assertEquals("value1", result.a().get(CHANNEL1).getAsString());
+		assertEquals("value2", result.a().get(CHANNEL2).getAsString());
+		assertEquals(JsonNull.INSTANCE, result.a().get(CHANNEL3));
+		assertEquals(Set.of(CHANNEL2), Set.copyOf(result.b()));
+		assertEquals(2, cache.getHits());
+		assertEquals(1, cache.getMisses());
+
+		// Result is a snapshot: reading it again does not count and later updates are
+		// not visible
+		cache.updateCurrentData(buildData(1, CHANNEL2, "value2b"));
+		assertEquals("value2", result.a().get(CHANNEL2).getAsString());
+		assertEquals(Set.of(CHANNEL2), result.b());
+		assertEquals(2, cache.getHits());
 	}
 
 	private static TimestampedDataNotification buildData(long timestamp, String channel, String value)
@@ -14,5 +14,8 @@ import org.osgi.service.metatype.annotations.ObjectClassDefinition;
 	@AttributeDefinition(name = "Number of Threads", description = "Pool-Size: the number of threads dedicated to handle the tasks")
 	int poolSize() default 10;
 
+	@AttributeDefinition(name = "Connection Queue Size", description = "If > 0: handle the messages of each Edge in order, fairly shared over the threads, with this max number of queued messages per Edge; if the queue is full, requests are rejected, an EdgeConfig replaces the queued one and reading data from the Edge pauses until the queue has space.")
+	int connectionQueueSize() default 0;
+
 	String webconsole_configurationFactory_nameHint() default "Edge Websocket";
 }
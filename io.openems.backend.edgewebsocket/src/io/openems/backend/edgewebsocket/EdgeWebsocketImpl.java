@@ -110,7 +110,8 @@ public class EdgeWebsocketImpl extends AbstractOpenemsBackendComponent
 	 */
 	private synchronized void startServer() {
 		if (this.server == null) {
-			this.server = new WebsocketServer(this, this.getName(), this.config.port(), this.config.poolSize());
+			this.server = new WebsocketServer(this, this.getName(), this.config.port(), this.config.poolSize(),
+					this.config.connectionQueueSize());
 			this.server.start();
 		}
 	}
@@ -308,7 +309,26 @@ public class EdgeWebsocketImpl extends AbstractOpenemsBackendComponent
 			return null;
 		}
 
-		return this.server.debugMetrics().entrySet().stream() //
+		final var metrics = this.server.debugMetrics();
+
+		// EdgeCache metrics
+		var cacheSize = 0L;
+		var cacheHits = 0L;
+		var cacheMisses = 0L;
+		for (var ws : this.server.getConnections()) {
+			WsData wsData = ws.getAttachment();
+			if (wsData == null) {
+				continue;
+			}
+			cacheSize += wsData.edgeCache.size();
+			cacheHits += wsData.edgeCache.getHits();
+			cacheMisses += wsData.edgeCache.getMisses();
+		}
+		metrics.put("EdgeCache/Size", cacheSize);
+		metrics.put("EdgeCache/Hits", cacheHits);
+		metrics.put("EdgeCache/Misses", cacheMisses);
+
+		return metrics.entrySet().stream() //
 				.collect(toUnmodifiableMap(//
 						e -> this.getId() + "/" + e.getKey(), //
 						e -> new JsonPrimitive(e.getValue())));
@@ -1,5 +1,6 @@
 package io.openems.backend.edgewebsocket;
 
+import java.nio.ByteBuffer;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -8,12 +9,20 @@ import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 import org.java_websocket.WebSocket;
+import org.java_websocket.handshake.ClientHandshake;
+import org.java_websocket.handshake.ServerHandshakeBuilder;
 import org.slf4j.Logger;
 
 import com.google.gson.JsonElement;
 
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.jsonrpc.base.JsonrpcMessage;
+import io.openems.common.jsonrpc.base.JsonrpcNotification;
+import io.openems.common.jsonrpc.notification.EdgeConfigNotification;
 import io.openems.common.types.ChannelAddress;
 import io.openems.common.websocket.AbstractWebsocketServer;
+import io.openems.common.websocket.BinaryDataFormat;
+import io.openems.common.websocket.OrderedDispatcher.OverflowPolicy;
 
 public class WebsocketServer extends AbstractWebsocketServer<WsData> {
 
@@ -24,8 +33,9 @@ public class WebsocketServer extends AbstractWebsocketServer<WsData> {
 	private final OnError onError;
 	private final OnClose onClose;
 
-	public WebsocketServer(EdgeWebsocketImpl parent, String name, int port, int poolSize) {
-		super(name, port, poolSize);
+	public WebsocketServer(EdgeWebsocketImpl parent, String name, int port, int poolSize,
+			int connectionQueueSize) {
+		super(name, port, poolSize, connectionQueueSize);
 		this.parent = parent;
 		this.onOpen = new OnOpen(parent);
 		this.onRequest = new OnRequest(//
@@ -41,6 +51,20 @@ public class WebsocketServer extends AbstractWebsocketServer<WsData> {
 		return new WsData(ws);
 	}
 
+	@Override
+	protected void onHandshake(ClientHandshake request, ServerHandshakeBuilder response) {
+		// Confirm the binary data format if requested by the Edge
+		if (BinaryDataFormat.isSupported(request.getFieldValue(BinaryDataFormat.HTTP_HEADER))) {
+			response.put(BinaryDataFormat.HTTP_HEADER, BinaryDataFormat.VERSION);
+		}
+	}
+
+	@Override
+	protected JsonrpcMessage decodeBinaryMessage(WebSocket ws, ByteBuffer message) throws OpenemsNamedException {
+		WsData wsData = ws.getAttachment();
+		return wsData.binaryDataDecoder.decode(message);
+	}
+
 	/**
 	 * Is the given Edge online?.
 	 *
@@ -78,6 +102,19 @@ public class WebsocketServer extends AbstractWebsocketServer<WsData> {
 		return this.onClose;
 	}
 
+	@Override
+	protected OverflowPolicy getOverflowPolicy(JsonrpcMessage message) {
+		// A full EdgeConfig supersedes the previous one; data notifications carry
+		// deltas and must never be dropped, so stop reading from the Edge instead
+		if (message instanceof JsonrpcNotification notification) {
+			if (EdgeConfigNotification.METHOD.equals(notification.getMethod())) {
+				return OverflowPolicy.DROP_OLDEST;
+			}
+			return OverflowPolicy.WAIT;
+		}
+		return super.getOverflowPolicy(message);
+	}
+
 	@Override
 	protected void logInfo(Logger log, String message) {
 		this.parent.logInfo(log, message);
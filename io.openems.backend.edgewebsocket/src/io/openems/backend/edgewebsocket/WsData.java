@@ -13,6 +13,7 @@ import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.jsonrpc.base.JsonrpcMessage;
 import io.openems.common.utils.StringUtils;
+import io.openems.common.websocket.BinaryDataFormat;
 
 public class WsData extends io.openems.common.websocket.WsData {
 
@@ -25,6 +26,11 @@ public class WsData extends io.openems.common.websocket.WsData {
 	private final CompletableFuture<Void> isAuthenticated = new CompletableFuture<>();
 	public final EdgeCache edgeCache = new EdgeCache();
 
+	/**
+	 * Decodes data notifications in the {@link BinaryDataFormat}.
+	 */
+	protected final BinaryDataFormat.Decoder binaryDataDecoder = new BinaryDataFormat.Decoder();
+
 	public WsData(WebSocket ws) {
 		super(ws);
 	}
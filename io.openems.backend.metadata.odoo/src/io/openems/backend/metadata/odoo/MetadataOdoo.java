@@ -57,7 +57,6 @@ import io.openems.backend.common.metadata.EdgeHandler;
 import io.openems.backend.common.metadata.Mailer;
 import io.openems.backend.common.metadata.Metadata;
 import io.openems.backend.common.metadata.User;
-import io.openems.backend.metadata.odoo.odoo.FieldValue;
 import io.openems.backend.metadata.odoo.odoo.OdooHandler;
 import io.openems.backend.metadata.odoo.odoo.OdooUserRole;
 import io.openems.backend.metadata.odoo.odoo.OdooUtils.DateTime;
@@ -72,7 +71,6 @@ import io.openems.common.oem.OpenemsBackendOem;
 import io.openems.common.session.Language;
 import io.openems.common.session.Role;
 import io.openems.common.types.EdgeConfig;
-import io.openems.common.types.EdgeConfigDiff;
 import io.openems.common.types.SemanticVersion;
 import io.openems.common.utils.JsonUtils;
 import io.openems.common.utils.ThreadPoolUtils;
@@ -101,7 +99,6 @@ public class MetadataOdoo extends AbstractMetadata implements AppCenterMetadata,
 	private final ConcurrentHashMap<String, AtomicInteger> activeTasks = new ConcurrentHashMap<>(100);
 
 	private ThreadPoolExecutor executor = null;
-	private final ConcurrentHashMap<String, Boolean> pendingEdgeConfigIds = new ConcurrentHashMap<>();
 
 	@Reference
 	private EventAdmin eventAdmin;
@@ -340,8 +337,8 @@ public class MetadataOdoo extends AbstractMetadata implements AppCenterMetadata,
 			var edge = (MyEdge) reader.getProperty(Edge.Events.OnSetVersion.EDGE);
 			var version = (SemanticVersion) reader.getProperty(Edge.Events.OnSetVersion.VERSION);
 
-			// Set Version in Odoo
-			this.odooHandler.writeEdge(edge, new FieldValue<>(Field.EdgeDevice.OPENEMS_VERSION, version.toString()));
+			// Set Version in Odoo/Postgres
+			this.postgresHandler.getPeriodicWriteWorker().onSetVersion(edge, version.toString());
 		}
 			break;
 
@@ -366,14 +363,7 @@ public class MetadataOdoo extends AbstractMetadata implements AppCenterMetadata,
 			var edge = (MyEdge) reader.getProperty(Edge.Events.OnSetProducttype.EDGE);
 			var producttype = reader.getString(Edge.Events.OnSetProducttype.PRODUCTTYPE);
 			// Set Producttype in Odoo/Postgres
-			this.execute("OnSetProducttype", () -> {
-				try {
-					this.postgresHandler.edge.updateProductType(edge.getOdooId(), producttype);
-				} catch (SQLException | OpenemsNamedException e) {
-					this.logWarn(this.log, "Edge [" + edge.getId() + "] " //
-							+ "Unable to insert update Product Type: " + e.getMessage());
-				}
-			});
+			this.postgresHandler.getPeriodicWriteWorker().onSetProducttype(edge, producttype);
 		}
 			break;
 
@@ -394,56 +384,9 @@ public class MetadataOdoo extends AbstractMetadata implements AppCenterMetadata,
 
 	private void onSetConfigEvent(EventReader reader) {
 		final var edge = (MyEdge) reader.getProperty(Edge.Events.OnSetConfig.EDGE);
-		if (this.pendingEdgeConfigIds.putIfAbsent(edge.getId(), Boolean.TRUE) != null) {
-			// A task for this Edge-ID is already scheduled
-			// TODO it would be better to drop the old task and not the new one
-			this.logWarn(this.log,
-					"Edge [" + edge.getId() + "]. Update config ignored: another task is already scheduled");
-			return;
-		}
-
-		this.execute("OnSetConfig", () -> {
-			try {
-				var newConfig = (EdgeConfig) reader.getProperty(Edge.Events.OnSetConfig.CONFIG);
-
-				EdgeConfig oldConfig;
-				try {
-					oldConfig = this.edgeHandler.getEdgeConfig(edge.getId());
-
-				} catch (OpenemsNamedException e) {
-					oldConfig = EdgeConfig.empty();
-					this.logWarn(this.log, "Edge [" + edge.getId() + "]. " + e.getMessage());
-				}
-
-				var diff = EdgeConfigDiff.diff(newConfig, oldConfig);
-				if (diff.isDifferent()) {
-					// Update "EdgeConfigUpdate"
-					var diffString = diff.toString();
-					if (!diffString.isBlank()) {
-						this.logInfo(this.log, "Edge [" + edge.getId() + "]. Update config: " + diff.toString());
-					}
-
-					try {
-						this.postgresHandler.edge.insertEdgeConfigUpdate(edge.getOdooId(), diff);
-					} catch (SQLException | OpenemsNamedException e) {
-						this.logWarn(this.log, "Edge [" + edge.getId() + "] " //
-								+ "Unable to insert EdgeConfigUpdate: " + e.getMessage());
-					}
-				}
-
-				// Always update EdgeConfig, because it also updates "openems_config_components"
-				try {
-					this.postgresHandler.edge.updateEdgeConfig(edge.getOdooId(), newConfig);
-				} catch (SQLException | OpenemsNamedException e) {
-					this.logWarn(this.log, "Edge [" + edge.getId() + "] " //
-							+ "Unable to insert EdgeConfigUpdate: " + e.getMessage());
-				}
-
-			} finally {
-				// Remove from pending list
-				this.pendingEdgeConfigIds.remove(edge.getId());
-			}
-		});
+		final var config = (EdgeConfig) reader.getProperty(Edge.Events.OnSetConfig.CONFIG);
+		// Set EdgeConfig and insert EdgeConfigUpdate in Odoo/Postgres
+		this.postgresHandler.getPeriodicWriteWorker().onSetConfig(edge, config);
 	}
 
 	@Override
@@ -700,7 +643,11 @@ public class MetadataOdoo extends AbstractMetadata implements AppCenterMetadata,
 
 	@Override
 	public Map<String, JsonElement> debugMetrics() {
-		return ThreadPoolUtils.debugMetrics(this.executor).entrySet().stream() //
+		final var metrics = new TreeMap<String, Long>(ThreadPoolUtils.debugMetrics(this.executor));
+		if (this.postgresHandler != null) {
+			metrics.putAll(this.postgresHandler.getPeriodicWriteWorker().debugMetrics());
+		}
+		return metrics.entrySet().stream() //
 				.collect(toUnmodifiableMap(//
 						// TODO implement getId()
 						e -> "metadata0/" + e.getKey(), //
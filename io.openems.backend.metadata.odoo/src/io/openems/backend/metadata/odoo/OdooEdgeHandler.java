@@ -17,6 +17,16 @@ public final class OdooEdgeHandler implements EdgeHandler {
 
 	@Override
 	public EdgeConfig getEdgeConfig(String edgeId) throws OpenemsNamedException {
+		// EdgeConfig that was not yet written to Postgres
+		final var edge = this.parent.getEdge(edgeId).orElse(null);
+		if (edge instanceof MyEdge myEdge) {
+			final var pending = this.parent.postgresHandler.getPeriodicWriteWorker()
+					.getPendingEdgeConfig(myEdge.getOdooId());
+			if (pending != null) {
+				return pending;
+			}
+		}
+
 		try {
 			return this.parent.postgresHandler.edge.getEdgeConfig(edgeId);
 
@@ -1,42 +1,47 @@
 package io.openems.backend.metadata.odoo.postgres;
 
-import static java.util.Collections.emptySet;
-import static java.util.stream.Collectors.groupingBy;
-import static java.util.stream.Collectors.joining;
-import static java.util.stream.Collectors.mapping;
-import static java.util.stream.Collectors.toSet;
-
 import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
-import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Consumer;
-import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.collect.Lists;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import io.openems.backend.common.metadata.Edge;
 import io.openems.backend.metadata.odoo.MyEdge;
 import io.openems.common.channel.Level;
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.types.EdgeConfig;
+import io.openems.common.types.EdgeConfig.Component.JsonFormat;
+import io.openems.common.types.EdgeConfigDiff;
+import io.openems.common.utils.JsonUtils;
 import io.openems.common.utils.ThreadPoolUtils;
 
 /**
- * This worker combines writes to lastMessage and lastUpdate fields, to avoid
- * DDOSing Odoo/Postgres by writing too often.
+ * This worker combines all writes of Edge metadata - lastMessage, connection
+ * state, Sum-State, version, producttype and EdgeConfig - to avoid DDOSing
+ * Odoo/Postgres by writing too often.
+ *
+ * <p>
+ * Updates are collected per Edge; only the latest value of every field is
+ * kept. Every {@link #UPDATE_INTERVAL_IN_SECONDS} all collected updates are
+ * written with one array based statement per field. Updates that could not be
+ * written are merged back and retried with the next batch.
  */
 public class PeriodicWriteWorker {
 
@@ -47,6 +52,11 @@ public class PeriodicWriteWorker {
 
 	private static final int UPDATE_INTERVAL_IN_SECONDS = 30;
 
+	/**
+	 * EdgeConfigs can be large; they are read and written in chunks.
+	 */
+	private static final int MAX_EDGE_CONFIGS_PER_STATEMENT = 50;
+
 	private final Logger log = LoggerFactory.getLogger(PeriodicWriteWorker.class);
 	private final PostgresHandler parent;
 
@@ -87,62 +97,270 @@ public class PeriodicWriteWorker {
 		ThreadPoolUtils.shutdownAndAwaitTermination(this.executor, 5);
 	}
 
-	private final LinkedBlockingQueue<Integer> lastMessageOdooIds = new LinkedBlockingQueue<>();
-	private ExchangableObject<Map<Integer, Boolean>> connectionStatesToUpdate = new ExchangableObject<>(
-			new ConcurrentHashMap<>());
-	private ExchangableObject<Map<Integer, Level>> sumStatesToUpdate = new ExchangableObject<>(
+	/**
+	 * The pending updates of one Edge. Fields that were not updated are null.
+	 */
+	protected static final class EdgeUpdate {
+		private final int odooId;
+		private final String edgeId;
+		private long queuedAt = System.currentTimeMillis();
+		private boolean lastMessage = false;
+		private Boolean isOnline = null;
+		private Level sumState = null;
+		private String version = null;
+		private String producttype = null;
+		private volatile EdgeConfig config = null;
+
+		private EdgeUpdate(int odooId, String edgeId) {
+			this.odooId = odooId;
+			this.edgeId = edgeId;
+		}
+
+		/**
+		 * Fills the fields that were not updated since with the values of an older
+		 * update that could not be written.
+		 *
+		 * @param older the older {@link EdgeUpdate}
+		 * @return this
+		 */
+		private EdgeUpdate mergeOlder(EdgeUpdate older) {
+			this.queuedAt = Math.min(this.queuedAt, older.queuedAt);
+			this.lastMessage |= older.lastMessage;
+			if (this.isOnline == null) {
+				this.isOnline = older.isOnline;
+			}
+			if (this.sumState == null) {
+				this.sumState = older.sumState;
+			}
+			if (this.version == null) {
+				this.version = older.version;
+			}
+			if (this.producttype == null) {
+				this.producttype = older.producttype;
+			}
+			if (this.config == null) {
+				this.config = older.config;
+			}
+			return this;
+		}
+
+		private EdgeUpdate onlyConfig() {
+			final var result = new EdgeUpdate(this.odooId, this.edgeId);
+			result.queuedAt = this.queuedAt;
+			result.config = this.config;
+			return result;
+		}
+	}
+
+	/**
+	 * The pending updates of all Edges, split by field.
+	 */
+	protected static record Batch(//
+			Collection<EdgeUpdate> updates, //
+			Integer[] lastMessage, //
+			Integer[] connectionIds, Boolean[] connections, //
+			Integer[] sumStateIds, Level[] sumStates, //
+			Integer[] versionIds, String[] versions, //
+			Integer[] producttypeIds, String[] producttypes, //
+			List<EdgeUpdate> configs) {
+
+		protected static Batch from(Collection<EdgeUpdate> updates) {
+			final var lastMessage = new ArrayList<Integer>();
+			final var connectionIds = new ArrayList<Integer>();
+			final var connections = new ArrayList<Boolean>();
+			final var sumStateIds = new ArrayList<Integer>();
+			final var sumStates = new ArrayList<Level>();
+			final var versionIds = new ArrayList<Integer>();
+			final var versions = new ArrayList<String>();
+			final var producttypeIds = new ArrayList<Integer>();
+			final var producttypes = new ArrayList<String>();
+			final var configs = new ArrayList<EdgeUpdate>();
+			for (var u : updates) {
+				if (u.lastMessage) {
+					lastMessage.add(u.odooId);
+				}
+				if (u.isOnline != null) {
+					connectionIds.add(u.odooId);
+					connections.add(u.isOnline);
+				}
+				if (u.sumState != null) {
+					sumStateIds.add(u.odooId);
+					sumStates.add(u.sumState);
+				}
+				if (u.version != null) {
+					versionIds.add(u.odooId);
+					versions.add(u.version);
+				}
+				if (u.producttype != null) {
+					producttypeIds.add(u.odooId);
+					producttypes.add(u.producttype);
+				}
+				if (u.config != null) {
+					configs.add(u);
+				}
+			}
+			return new Batch(updates, //
+					lastMessage.toArray(Integer[]::new), //
+					connectionIds.toArray(Integer[]::new), connections.toArray(Boolean[]::new), //
+					sumStateIds.toArray(Integer[]::new), sumStates.toArray(Level[]::new), //
+					versionIds.toArray(Integer[]::new), versions.toArray(String[]::new), //
+					producttypeIds.toArray(Integer[]::new), producttypes.toArray(String[]::new), //
+					configs);
+		}
+
+		protected int edges() {
+			return this.updates.size();
+		}
+	}
+
+	private final ExchangableObject<Map<Integer, EdgeUpdate>> updates = new ExchangableObject<>(
 			new ConcurrentHashMap<>());
 
-	private final void applyChanges() {
-		final var edge = this.parent.edge;
+	/**
+	 * The updates that are currently being written.
+	 */
+	private volatile Map<Integer, EdgeUpdate> inFlight = Map.of();
+
+	private volatile int lastBatchEdges = 0;
+	private volatile int lastBatchConfigs = 0;
+	private volatile long lastBatchDuration = 0;
+
+	/**
+	 * Writes the pending updates. Never throws, as an exception would cancel the
+	 * scheduled task; updates that could not be written are requeued.
+	 */
+	protected void applyChanges() {
 		if (PeriodicWriteWorker.DEBUG_MODE) {
 			this.debugLog();
 		}
 
+		final var start = System.nanoTime();
 		try {
-			// Last Message
-			edge.updateLastMessage(drainToSet(this.lastMessageOdooIds));
-
-			// Online/Offline
-			final var connectionToUpdate = this.connectionStatesToUpdate.exchange(new ConcurrentHashMap<>());
-			final var edgesByConnection = connectionToUpdate.entrySet().stream() //
-					.collect(groupingBy(Entry::getValue, mapping(Entry::getKey, toSet())));
-			edge.updateOpenemsIsConnected(edgesByConnection.getOrDefault(false, emptySet()), false);
-			edge.updateOpenemsIsConnected(edgesByConnection.getOrDefault(true, emptySet()), true);
+			final var batch = this.drainToBatch();
+			try {
+				final var edge = this.parent.edge;
+				edge.updateLastMessage(batch.lastMessage());
+				edge.updateOpenemsIsConnected(batch.connectionIds(), batch.connections());
+				edge.updateSumState(batch.sumStateIds(), batch.sumStates());
+				edge.updateVersion(batch.versionIds(), batch.versions());
+				edge.updateProductType(batch.producttypeIds(), batch.producttypes());
+			} catch (SQLException | RuntimeException e) {
+				this.log.error("Unable to write Edge updates. Retrying with next batch: " + e.getMessage(), e);
+				this.requeue(batch.updates());
+				return;
+			}
+			for (var configs : Lists.partition(batch.configs(), MAX_EDGE_CONFIGS_PER_STATEMENT)) {
+				try {
+					this.writeEdgeConfigs(configs);
+				} catch (SQLException | RuntimeException e) {
+					this.log.error("Unable to write EdgeConfigs. Retrying with next batch: " + e.getMessage(), e);
+					this.requeue(configs.stream().map(EdgeUpdate::onlyConfig).toList());
+				}
+			}
+
+			this.lastBatchEdges = batch.edges();
+			this.lastBatchConfigs = batch.configs().size();
+			this.lastBatchDuration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
 			if (PeriodicWriteWorker.DEBUG_MODE) {
-				this.parent.logInfo(this.log,
-						"Update Edge connection states online["
-								+ edgesByConnection.getOrDefault(true, emptySet()).size() + "] offline["
-								+ edgesByConnection.getOrDefault(false, emptySet()).size() + "]");
+				this.parent.logInfo(this.log, "Update Edges [" + batch.edges() + "] " //
+						+ "lastMessage[" + batch.lastMessage().length + "] " //
+						+ "connection[" + batch.connectionIds().length + "] " //
+						+ "sumState[" + batch.sumStateIds().length + "] " //
+						+ "version[" + batch.versionIds().length + "] " //
+						+ "producttype[" + batch.producttypeIds().length + "] " //
+						+ "config[" + batch.configs().size() + "] " //
+						+ "in [" + this.lastBatchDuration + "ms]");
 			}
 
-			// Sum-State
-			final var statesToUpdate = this.sumStatesToUpdate.exchange(new ConcurrentHashMap<>());
-			final var edgesByState = statesToUpdate.entrySet().stream()
-					.collect(groupingBy(Entry::getValue, mapping(Entry::getKey, toSet())));
-			for (var stateEntry : edgesByState.entrySet()) {
-				edge.updateSumState(stateEntry.getValue(), stateEntry.getKey());
+		} catch (RuntimeException e) {
+			this.log.error("Unexpected error while writing Edge updates: " + e.getMessage(), e);
+
+		} finally {
+			this.inFlight = Map.of();
+		}
+	}
+
+	/**
+	 * Merges updates that could not be written back into the pending updates.
+	 * Values that were updated in the meantime win.
+	 *
+	 * @param failed the {@link EdgeUpdate}s that could not be written
+	 */
+	protected void requeue(Collection<EdgeUpdate> failed) {
+		this.updates.lockReading(t -> {
+			for (var older : failed) {
+				t.merge(older.odooId, older, (newer, o) -> newer.mergeOlder(o));
 			}
-			if (PeriodicWriteWorker.DEBUG_MODE) {
-				this.parent.logInfo(this.log, "Update Edge sum states " + Stream.of(Level.values()) //
-						.map(level -> {
-							final var itemsToUpdate = edgesByState.getOrDefault(level, emptySet());
-							return level.getName() + "[" + itemsToUpdate.size() + "]";
-						}).collect(joining(" ")));
+		});
+	}
+
+	/**
+	 * Writes the EdgeConfigs of some Edges and inserts an EdgeConfigUpdate for
+	 * every changed EdgeConfig.
+	 *
+	 * @param updates the {@link EdgeUpdate}s with EdgeConfig
+	 * @throws SQLException on error
+	 */
+	private void writeEdgeConfigs(List<EdgeUpdate> updates) throws SQLException {
+		final var edge = this.parent.edge;
+		final var odooIds = updates.stream().map(u -> u.odooId).toArray(Integer[]::new);
+		final var oldConfigs = edge.getEdgeConfigs(odooIds);
+
+		final var diffIds = new ArrayList<Integer>();
+		final var diffs = new ArrayList<EdgeConfigDiff>();
+		for (var update : updates) {
+			var oldConfig = EdgeConfig.empty();
+			var oldConfigJson = oldConfigs.get(update.odooId);
+			if (oldConfigJson == null) {
+				this.parent.logWarn(this.log, "Edge [" + update.edgeId + "]. EdgeConfig is null in the Database");
+			} else {
+				try {
+					oldConfig = EdgeConfig.fromJson(JsonUtils.parseToJsonObject(oldConfigJson));
+				} catch (OpenemsNamedException e) {
+					this.parent.logWarn(this.log, "Edge [" + update.edgeId + "]. " + e.getMessage());
+				}
 			}
 
-		} catch (SQLException e) {
-			this.log.error("Unable to execute WriteWorker task: " + e.getMessage());
+			var diff = EdgeConfigDiff.diff(update.config, oldConfig);
+			if (diff.isDifferent()) {
+				var diffString = diff.toString();
+				if (!diffString.isBlank()) {
+					this.parent.logInfo(this.log, "Edge [" + update.edgeId + "]. Update config: " + diffString);
+				}
+				diffIds.add(update.odooId);
+				diffs.add(diff);
+			}
 		}
+		edge.insertEdgeConfigUpdates(diffIds.toArray(Integer[]::new), diffs.toArray(EdgeConfigDiff[]::new));
+
+		// Always update EdgeConfig, because it also updates "openems_config_components"
+		edge.updateEdgeConfigs(odooIds, //
+				updates.stream().map(u -> JsonUtils.prettyToString(u.config.toJson())).toArray(String[]::new), //
+				updates.stream() //
+						.map(u -> JsonUtils.prettyToString(u.config.componentsToJson(JsonFormat.WITHOUT_CHANNELS))) //
+						.toArray(String[]::new));
+	}
+
+	private void update(MyEdge edge, Consumer<EdgeUpdate> update) {
+		final var odooId = edge.getOdooId();
+		this.updates.lockReading(t -> {
+			t.compute(odooId, (id, u) -> {
+				if (u == null) {
+					u = new EdgeUpdate(odooId, edge.getId());
+				}
+				update.accept(u);
+				return u;
+			});
+		});
 	}
 
 	/**
-	 * Called on {@link Edge.Events#ON_SET_LAST_MESSAGE_TIMESTAMP} event.
+	 * Called on {@link Edge.Events#ON_SET_LASTMESSAGE} event.
 	 *
 	 * @param edge the {@link MyEdge}.
 	 */
 	public void onLastMessage(MyEdge edge) {
-		this.lastMessageOdooIds.add(edge.getOdooId());
+		this.update(edge, u -> u.lastMessage = true);
 	}
 
 	/**
@@ -152,10 +370,7 @@ public class PeriodicWriteWorker {
 	 * @param isOnline true if online, false if offline
 	 */
 	public void onSetOnline(MyEdge edge, boolean isOnline) {
-		final var odooId = edge.getOdooId();
-		this.connectionStatesToUpdate.lockReading(t -> {
-			t.put(odooId, isOnline);
-		});
+		this.update(edge, u -> u.isOnline = isOnline);
 	}
 
 	/**
@@ -165,23 +380,87 @@ public class PeriodicWriteWorker {
 	 * @param sumState Sum-State {@link Level}
 	 */
 	public void onSetSumState(MyEdge edge, Level sumState) {
-		final var odooId = edge.getOdooId();
-		this.sumStatesToUpdate.lockReading(t -> {
-			t.put(odooId, sumState);
-		});
+		this.update(edge, u -> u.sumState = sumState);
 	}
 
 	/**
-	 * Moves all entries of a {@link LinkedBlockingQueue} to a Set and clears the
-	 * queue. This is thread-safe.
-	 * 
-	 * @param queue the {@link LinkedBlockingQueue}
-	 * @return the {@link Set}
+	 * Called on {@link Edge.Events#ON_SET_VERSION} event.
+	 *
+	 * @param edge    the {@link MyEdge}.
+	 * @param version the version
 	 */
-	protected static Set<Integer> drainToSet(LinkedBlockingQueue<Integer> queue) {
-		Set<Integer> result = new HashSet<>(queue.size());
-		queue.drainTo(result);
-		return result;
+	public void onSetVersion(MyEdge edge, String version) {
+		this.update(edge, u -> u.version = version);
+	}
+
+	/**
+	 * Called on {@link Edge.Events#ON_SET_PRODUCTTYPE} event.
+	 *
+	 * @param edge        the {@link MyEdge}.
+	 * @param producttype the producttype
+	 */
+	public void onSetProducttype(MyEdge edge, String producttype) {
+		this.update(edge, u -> u.producttype = producttype);
+	}
+
+	/**
+	 * Called on {@link Edge.Events#ON_SET_CONFIG} event.
+	 *
+	 * @param edge   the {@link MyEdge}.
+	 * @param config the {@link EdgeConfig}
+	 */
+	public void onSetConfig(MyEdge edge, EdgeConfig config) {
+		this.update(edge, u -> u.config = config);
+	}
+
+	/**
+	 * Gets an {@link EdgeConfig} that was not yet written to the Database.
+	 *
+	 * @param odooId the Odoo-ID
+	 * @return the {@link EdgeConfig} or null
+	 */
+	public EdgeConfig getPendingEdgeConfig(int odooId) {
+		var update = this.updates.get().get(odooId);
+		if (update == null || update.config == null) {
+			update = this.inFlight.get(odooId);
+		}
+		return update == null ? null : update.config;
+	}
+
+	/**
+	 * Gets metrics of the pending updates and the last written batch.
+	 *
+	 * @return the metrics
+	 */
+	public Map<String, Long> debugMetrics() {
+		final var pending = this.updates.get();
+		final var now = System.currentTimeMillis();
+		final var oldest = pending.values().stream() //
+				.mapToLong(u -> u.queuedAt) //
+				.min().orElse(now);
+		return Map.of(//
+				"WriteQueueEdges", (long) pending.size(), //
+				"WriteQueueAge", TimeUnit.MILLISECONDS.toSeconds(now - oldest), //
+				"WriteBatchEdges", (long) this.lastBatchEdges, //
+				"WriteBatchConfigs", (long) this.lastBatchConfigs, //
+				"WriteBatchDuration", this.lastBatchDuration //
+		);
+	}
+
+	/**
+	 * Collects the pending updates into a {@link Batch} and clears them. The
+	 * updates stay visible to {@link #getPendingEdgeConfig(int)} until they are
+	 * written.
+	 *
+	 * @return the {@link Batch}
+	 */
+	protected Batch drainToBatch() {
+		// Publish before the exchange, so the updates are visible at any time. Only
+		// this worker exchanges the updates.
+		this.inFlight = this.updates.get();
+		final var updates = this.updates.exchange(new ConcurrentHashMap<>());
+		this.inFlight = updates;
+		return Batch.from(updates.values());
 	}
 
 	/*
@@ -208,6 +487,10 @@ public class PeriodicWriteWorker {
 			this.currentObject = currentObject;
 		}
 
+		public T get() {
+			return this.currentObject;
+		}
+
 		public T exchange(T newObject) {
 			this.lock.writeLock().lock();
 			try {
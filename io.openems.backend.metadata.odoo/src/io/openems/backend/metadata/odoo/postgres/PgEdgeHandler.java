@@ -5,20 +5,19 @@ import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
 
 import com.zaxxer.hikari.HikariDataSource;
 
 import io.openems.backend.common.metadata.Metadata.GenericSystemLog;
-import io.openems.backend.metadata.odoo.Field;
 import io.openems.backend.metadata.odoo.Field.EdgeConfigUpdate;
 import io.openems.backend.metadata.odoo.Field.EdgeDevice;
 import io.openems.common.channel.Level;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.types.EdgeConfig;
-import io.openems.common.types.EdgeConfig.Component.JsonFormat;
 import io.openems.common.types.EdgeConfigDiff;
 import io.openems.common.utils.JsonUtils;
 
@@ -62,38 +61,77 @@ public final class PgEdgeHandler {
 	}
 
 	/**
-	 * Updates the {@link EdgeConfig} for an Edge-ID.
-	 * 
-	 * @param odooId     the Odoo-ID
-	 * @param edgeConfig the {@link EdgeConfig}
-	 * @throws OpenemsNamedException on error
-	 * @throws SQLException          on error
+	 * Gets the stored {@link EdgeConfig}s for multiple Edges.
+	 *
+	 * @param odooIds the Odoo-IDs
+	 * @return a map of Odoo-ID to the {@link EdgeConfig} as JSON String; Edges
+	 *         without EdgeConfig are missing
+	 * @throws SQLException on error
 	 */
-	public void updateEdgeConfig(int odooId, EdgeConfig edgeConfig) throws SQLException, OpenemsNamedException {
+	public Map<Integer, String> getEdgeConfigs(Integer[] odooIds) throws SQLException {
+		final var result = new HashMap<Integer, String>();
+		if (odooIds.length == 0) {
+			return result;
+		}
 		try (var con = this.dataSource.getConnection(); //
 				var pst = con.prepareStatement(new StringBuilder() //
-						.append("UPDATE ").append(EdgeDevice.ODOO_TABLE) //
+						.append("SELECT id, ").append(EdgeDevice.OPENEMS_CONFIG.id()) //
+						.append(" FROM ").append(EdgeDevice.ODOO_TABLE) //
+						.append(" WHERE id = ANY(?)") //
+						.toString())) {
+			pst.setArray(1, con.createArrayOf("integer", odooIds));
+			try (var rs = pst.executeQuery()) {
+				while (rs.next()) {
+					var string = rs.getString(2);
+					if (string != null) {
+						result.put(rs.getInt(1), string);
+					}
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Updates the {@link EdgeConfig}s for multiple Edges.
+	 *
+	 * @param odooIds    the Odoo-IDs
+	 * @param configs    the {@link EdgeConfig}s as JSON String, in the same order
+	 * @param components the Components of the {@link EdgeConfig}s as JSON String,
+	 *                   in the same order
+	 * @throws SQLException on error
+	 */
+	public void updateEdgeConfigs(Integer[] odooIds, String[] configs, String[] components) throws SQLException {
+		if (odooIds.length == 0) {
+			return;
+		}
+		try (var con = this.dataSource.getConnection(); //
+				var pst = con.prepareStatement(new StringBuilder() //
+						.append("UPDATE ").append(EdgeDevice.ODOO_TABLE).append(" AS d") //
 						.append(" SET ") //
-						.append(EdgeDevice.OPENEMS_CONFIG.id()).append(" = ?, ") //
-						.append(EdgeDevice.OPENEMS_CONFIG_COMPONENTS.id()).append(" = ?") //
-						.append(" WHERE id = ?") //
+						.append(EdgeDevice.OPENEMS_CONFIG.id()).append(" = u.config, ") //
+						.append(EdgeDevice.OPENEMS_CONFIG_COMPONENTS.id()).append(" = u.components") //
+						.append(" FROM unnest(?, ?, ?) AS u(id, config, components)") //
+						.append(" WHERE d.id = u.id") //
 						.toString())) {
-			pst.setString(1, JsonUtils.prettyToString(edgeConfig.toJson()));
-			pst.setString(2, JsonUtils.prettyToString(edgeConfig.componentsToJson(JsonFormat.WITHOUT_CHANNELS)));
-			pst.setInt(3, odooId);
-			pst.execute();
+			pst.setArray(1, con.createArrayOf("integer", odooIds));
+			pst.setArray(2, con.createArrayOf("text", configs));
+			pst.setArray(3, con.createArrayOf("text", components));
+			pst.executeUpdate();
 		}
 	}
 
 	/**
-	 * Inserts an {@link EdgeConfigDiff} for an Edge-ID.
-	 * 
-	 * @param odooId the Odoo-ID
-	 * @param diff   the {@link EdgeConfigDiff}
-	 * @throws OpenemsNamedException on error
-	 * @throws SQLException          on error
+	 * Inserts {@link EdgeConfigDiff}s for multiple Edges.
+	 *
+	 * @param odooIds the Odoo-IDs
+	 * @param diffs   the {@link EdgeConfigDiff}s, in the same order
+	 * @throws SQLException on error
 	 */
-	public void insertEdgeConfigUpdate(int odooId, EdgeConfigDiff diff) throws SQLException, OpenemsNamedException {
+	public void insertEdgeConfigUpdates(Integer[] odooIds, EdgeConfigDiff[] diffs) throws SQLException {
+		if (odooIds.length == 0) {
+			return;
+		}
 		try (var con = this.dataSource.getConnection(); //
 				var pst = con.prepareStatement(new StringBuilder() //
 						.append("INSERT INTO ").append(EdgeConfigUpdate.ODOO_TABLE) //
@@ -101,13 +139,13 @@ public final class PgEdgeHandler {
 						.append(", ").append(EdgeConfigUpdate.DEVICE_ID.id()) //
 						.append(", ").append(EdgeConfigUpdate.TEASER.id()) //
 						.append(", ").append(EdgeConfigUpdate.DETAILS.id()) //
-						.append(") VALUES(?, ?, ?, ?)") //
+						.append(") SELECT (now() at time zone 'UTC'), u.id, u.teaser, u.details") //
+						.append(" FROM unnest(?, ?, ?) AS u(id, teaser, details)") //
 						.toString())) {
-			pst.setTimestamp(1, Timestamp.valueOf(LocalDateTime.now(ZoneOffset.UTC)));
-			pst.setInt(2, odooId);
-			pst.setString(3, diff.getAsText());
-			pst.setString(4, diff.getAsHtml());
-			pst.execute();
+			pst.setArray(1, con.createArrayOf("integer", odooIds));
+			pst.setArray(2, con.createArrayOf("text", Stream.of(diffs).map(EdgeConfigDiff::getAsText).toArray()));
+			pst.setArray(3, con.createArrayOf("text", Stream.of(diffs).map(EdgeConfigDiff::getAsHtml).toArray()));
+			pst.executeUpdate();
 		}
 	}
 
@@ -169,105 +207,96 @@ public final class PgEdgeHandler {
 	}
 
 	/**
-	 * Updates the ProductType for an Edge-ID.
-	 * 
-	 * @param odooId      the Odoo-ID
-	 * @param producttype the ProductType
-	 * @throws OpenemsNamedException on error
-	 * @throws SQLException          on error
+	 * Updates the LastMessage field for multiple Edges.
+	 *
+	 * @param odooIds the Odoo-IDs
+	 * @throws SQLException on error
 	 */
-	public void updateProductType(int odooId, String producttype) throws SQLException, OpenemsNamedException {
+	public void updateLastMessage(Integer[] odooIds) throws SQLException {
+		if (odooIds.length == 0) {
+			return;
+		}
 		try (var con = this.dataSource.getConnection(); //
 				var pst = con.prepareStatement(new StringBuilder() //
 						.append("UPDATE ").append(EdgeDevice.ODOO_TABLE) //
-						.append(" SET ") //
-						.append(EdgeDevice.PRODUCTTYPE.id()).append(" = ?") //
-						.append(" WHERE id = ?") //
+						.append(" SET ").append(EdgeDevice.LASTMESSAGE.id()).append(" = (now() at time zone 'UTC')") //
+						.append(" WHERE id = ANY(?)") //
 						.toString())) {
-			pst.setString(1, producttype);
-			pst.setInt(2, odooId);
-			pst.execute();
+			pst.setArray(1, con.createArrayOf("integer", odooIds));
+			pst.executeUpdate();
 		}
 	}
 
 	/**
-	 * Updates the OpenemsIsConnected field for multiple Edge-IDs.
-	 * 
+	 * Updates the OpenemsIsConnected field for multiple Edges.
+	 *
 	 * @param odooIds     the Odoo-IDs
-	 * @param isConnected true if online; false if offline
+	 * @param isConnected true if online; false if offline; in the same order
 	 * @throws SQLException on error
 	 */
-	public void updateOpenemsIsConnected(Set<Integer> odooIds, boolean isConnected) throws SQLException {
-		if (odooIds.isEmpty()) {
-			return;
-		}
-
-		try (var con = this.dataSource.getConnection(); //
-				var st = con.createStatement()) {
-			st.executeUpdate(new StringBuilder() //
-					.append("UPDATE ").append(EdgeDevice.ODOO_TABLE) //
-					.append(" SET ").append(Field.EdgeDevice.OPENEMS_IS_CONNECTED.id()).append(" = ")
-					.append(isConnected ? "TRUE" : "FALSE") //
-					.append(" WHERE id IN (") //
-					.append(odooIds.stream() //
-							.map(String::valueOf) //
-							.collect(Collectors.joining(","))) //
-					.append(")") //
-					.toString());
-		}
+	public void updateOpenemsIsConnected(Integer[] odooIds, Boolean[] isConnected) throws SQLException {
+		this.updateColumn(EdgeDevice.OPENEMS_IS_CONNECTED, odooIds, "boolean", isConnected);
 	}
 
 	/**
-	 * Updates the LastMessage field for multiple Edge-IDs.
-	 * 
+	 * Updates the Sum-State field for multiple Edges.
+	 *
 	 * @param odooIds the Odoo-IDs
-	 * @throws OpenemsNamedException on error
-	 * @throws SQLException          on error
+	 * @param levels  the Sum-State {@link Level}s, in the same order
+	 * @throws SQLException on error
 	 */
-	public void updateLastMessage(Set<Integer> odooIds) throws SQLException {
-		if (odooIds.isEmpty()) {
-			return;
-		}
+	public void updateSumState(Integer[] odooIds, Level[] levels) throws SQLException {
+		this.updateColumn(EdgeDevice.OPENEMS_SUM_STATE, odooIds, "text", Stream.of(levels) //
+				.map(level -> level.getName().toLowerCase()) //
+				.toArray());
+	}
 
-		try (var con = this.dataSource.getConnection(); //
-				var st = con.createStatement()) {
-			st.executeUpdate(new StringBuilder() //
-					.append("UPDATE ").append(EdgeDevice.ODOO_TABLE) //
-					.append(" SET ").append(Field.EdgeDevice.LASTMESSAGE.id()).append(" = (now() at time zone 'UTC')") //
-					.append(" WHERE id IN (") //
-					.append(odooIds.stream() //
-							.map(String::valueOf) //
-							.collect(Collectors.joining(","))) //
-					.append(")") //
-					.toString());
-		}
+	/**
+	 * Updates the OpenEMS Version field for multiple Edges.
+	 *
+	 * @param odooIds  the Odoo-IDs
+	 * @param versions the versions, in the same order
+	 * @throws SQLException on error
+	 */
+	public void updateVersion(Integer[] odooIds, String[] versions) throws SQLException {
+		this.updateColumn(EdgeDevice.OPENEMS_VERSION, odooIds, "text", versions);
 	}
 
 	/**
-	 * Updates the Sum-State field for multiple Edge-IDs.
-	 * 
+	 * Updates the ProductType field for multiple Edges.
+	 *
+	 * @param odooIds      the Odoo-IDs
+	 * @param producttypes the ProductTypes, in the same order
+	 * @throws SQLException on error
+	 */
+	public void updateProductType(Integer[] odooIds, String[] producttypes) throws SQLException {
+		this.updateColumn(EdgeDevice.PRODUCTTYPE, odooIds, "text", producttypes);
+	}
+
+	/**
+	 * Updates one field for multiple Edges with a single statement.
+	 *
+	 * @param field   the {@link EdgeDevice} field
 	 * @param odooIds the Odoo-IDs
-	 * @param level   the Sum-State {@link Level}
-	 * @throws OpenemsNamedException on error
-	 * @throws SQLException          on error
+	 * @param sqlType the SQL type of the values
+	 * @param values  the values, in the same order
+	 * @throws SQLException on error
 	 */
-	public void updateSumState(Set<Integer> odooIds, Level level) throws SQLException {
-		if (odooIds.isEmpty()) {
+	private void updateColumn(EdgeDevice field, Integer[] odooIds, String sqlType, Object[] values)
+			throws SQLException {
+		if (odooIds.length == 0) {
 			return;
 		}
-
 		try (var con = this.dataSource.getConnection(); //
-				var st = con.createStatement()) {
-			st.executeUpdate(new StringBuilder() //
-					.append("UPDATE ").append(EdgeDevice.ODOO_TABLE) //
-					.append(" SET ").append(Field.EdgeDevice.OPENEMS_SUM_STATE.id()).append(" = '")
-					.append(level.getName().toLowerCase()) //
-					.append("' WHERE id IN (") //
-					.append(odooIds.stream() //
-							.map(String::valueOf) //
-							.collect(Collectors.joining(","))) //
-					.append(")") //
-					.toString());
+				var pst = con.prepareStatement(new StringBuilder() //
+						.append("UPDATE ").append(EdgeDevice.ODOO_TABLE).append(" AS d") //
+						.append(" SET ").append(field.id()).append(" = u.value") //
+						.append(" FROM unnest(?, ?) AS u(id, value)") //
+						.append(" WHERE d.id = u.id") //
+						.toString())) {
+			pst.setArray(1, con.createArrayOf("integer", odooIds));
+			pst.setArray(2, con.createArrayOf(sqlType, values));
+			pst.executeUpdate();
 		}
 	}
-}
\ No newline at end of file
+}
@@ -1,24 +1,111 @@
 package io.openems.backend.metadata.odoo.postgres;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
-
-import java.util.concurrent.LinkedBlockingQueue;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 
 import org.junit.Test;
 
+import io.openems.backend.metadata.odoo.MyEdge;
+import io.openems.common.channel.Level;
+import io.openems.common.types.EdgeConfig;
+
 public class PeriodicWriteWorkerTest {
 
+	private static MyEdge edge(int odooId) {
+		return new MyEdge(null, odooId, "edge" + odooId, "apikey" + odooId, "", "2024.1.0", "", null);
+	}
+
+	@Test
+	public void testDrainToBatch() {
+		final var sut = new PeriodicWriteWorker(null);
+		final var edge1 = edge(1);
+		final var edge2 = edge(2);
+		final var config = EdgeConfig.empty();
+
+		sut.onLastMessage(edge1);
+		sut.onLastMessage(edge1);
+		sut.onSetOnline(edge1, false);
+		sut.onSetOnline(edge1, true);
+		sut.onSetSumState(edge1, Level.FAULT);
+		sut.onSetSumState(edge2, Level.WARNING);
+		sut.onSetSumState(edge2, Level.OK);
+		sut.onSetVersion(edge2, "2024.2.0");
+		sut.onSetConfig(edge2, config);
+		assertSame(config, sut.getPendingEdgeConfig(2));
+		assertEquals(2L, sut.debugMetrics().get("WriteQueueEdges").longValue());
+
+		// Deduplicated by Edge; latest value wins
+		final var batch = sut.drainToBatch();
+		assertEquals(2, batch.edges());
+		assertArrayEquals(new Integer[] { 1 }, batch.lastMessage());
+		assertArrayEquals(new Integer[] { 1 }, batch.connectionIds());
+		assertArrayEquals(new Boolean[] { true }, batch.connections());
+		assertEquals(2, batch.sumStateIds().length);
+		assertEquals(Level.OK, batch.sumStates()[batch.sumStateIds()[0] == 2 ? 0 : 1]);
+		assertArrayEquals(new Integer[] { 2 }, batch.versionIds());
+		assertArrayEquals(new String[] { "2024.2.0" }, batch.versions());
+		assertEquals(0, batch.producttypeIds().length);
+		assertEquals(1, batch.configs().size());
+
+		assertEquals(0L, sut.debugMetrics().get("WriteQueueEdges").longValue());
+		assertEquals(0, sut.drainToBatch().edges());
+		assertNull(sut.getPendingEdgeConfig(1));
+		sut.stop();
+	}
+
 	@Test
-	public void testDrainToSet() {
-		final LinkedBlockingQueue<Integer> queue = new LinkedBlockingQueue<>();
-		queue.add(1);
-		queue.add(2);
-		queue.add(3);
-		queue.add(2);
-		queue.add(4);
-		var set = PeriodicWriteWorker.drainToSet(queue);
-		assertEquals(4, set.size());
-		assertEquals(0, queue.size());
+	public void testRequeue() {
+		final var sut = new PeriodicWriteWorker(null);
+		final var edge1 = edge(1);
+		final var edge2 = edge(2);
+		final var config = EdgeConfig.empty();
+
+		sut.onLastMessage(edge1);
+		sut.onSetSumState(edge1, Level.FAULT);
+		sut.onSetVersion(edge1, "2024.2.0");
+		sut.onSetConfig(edge2, config);
+		final var failed = sut.drainToBatch();
+		assertSame(config, sut.getPendingEdgeConfig(2));
+
+		// Updated while the batch was written
+		sut.onSetSumState(edge1, Level.OK);
+
+		// Writing failed
+		sut.requeue(failed.updates());
+		assertSame(config, sut.getPendingEdgeConfig(2));
+
+		// Latest value wins; other values are retried
+		final var batch = sut.drainToBatch();
+		assertEquals(2, batch.edges());
+		assertArrayEquals(new Integer[] { 1 }, batch.lastMessage());
+		assertArrayEquals(new Integer[] { 1 }, batch.sumStateIds());
+		assertArrayEquals(new Level[] { Level.OK }, batch.sumStates());
+		assertArrayEquals(new String[] { "2024.2.0" }, batch.versions());
+		assertEquals(1, batch.configs().size());
+		sut.stop();
+	}
+
+	@Test
+	public void testApplyChangesFails() {
+		// No PostgresHandler: writing throws a RuntimeException
+		final var sut = new PeriodicWriteWorker(null);
+		final var edge1 = edge(1);
+		final var edge2 = edge(2);
+		final var config = EdgeConfig.empty();
+
+		sut.onSetSumState(edge1, Level.FAULT);
+		sut.onSetConfig(edge2, config);
+		sut.applyChanges();
+
+		// Updates are kept for the next batch
+		assertEquals(2L, sut.debugMetrics().get("WriteQueueEdges").longValue());
+		assertSame(config, sut.getPendingEdgeConfig(2));
+		final var batch = sut.drainToBatch();
+		assertArrayEquals(new Level[] { Level.FAULT }, batch.sumStates());
+		assertEquals(1, batch.configs().size());
+		sut.stop();
 	}
 
 }
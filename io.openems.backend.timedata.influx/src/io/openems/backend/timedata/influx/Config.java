@@ -49,6 +49,15 @@ import io.openems.shared.influxdb.QueryLanguageConfig;
 	@AttributeDefinition(name = "List of blacklisted channels", description = "Blacklisted channels which are not saved by this influx. e.g. \"kacoCore0/Serialnumber\"")
 	String[] blacklistedChannels() default {};
 
+	@AttributeDefinition(name = "Spool directory", description = "Directory for points that could not be written to InfluxDB; replayed once InfluxDB is available again. Empty to disable.", required = false)
+	String spoolDirectory() default "";
+
+	@AttributeDefinition(name = "Spool max size [MB]", description = "Max size of the spool; the oldest points are dropped if it is full.")
+	int spoolMaxSize() default 1024;
+
+	@AttributeDefinition(name = "Spool replay rate [points/s]", description = "Max number of spooled points that are replayed per second.")
+	int spoolReplayRate() default 10000;
+
 	String webconsole_configurationFactory_nameHint() default "Timedata InfluxDB";
 
 }
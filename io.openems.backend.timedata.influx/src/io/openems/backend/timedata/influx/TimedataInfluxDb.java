@@ -1,6 +1,9 @@
 package io.openems.backend.timedata.influx;
 
+import static java.util.stream.Collectors.toUnmodifiableMap;
+
 import java.net.URI;
+import java.nio.file.Path;
 import java.time.ZonedDateTime;
 import java.util.Map;
 import java.util.Optional;
@@ -45,6 +48,7 @@ import io.openems.common.oem.OpenemsBackendOem;
 import io.openems.common.timedata.Resolution;
 import io.openems.common.types.ChannelAddress;
 import io.openems.shared.influxdb.InfluxConnector;
+import io.openems.shared.influxdb.PointsSpool;
 
 @Designate(ocd = Config.class, factory = true)
 @Component(//
@@ -98,7 +102,11 @@ public class TimedataInfluxDb extends AbstractOpenemsBackendComponent implements
 				config.poolSize(), config.maxQueueSize(), //
 				(e) -> {
 					this.fieldTypeConflictHandler.handleException(e);
-				});
+				}, false, //
+				config.spoolDirectory() == null || config.spoolDirectory().isBlank() //
+						? null //
+						: new PointsSpool.Config(Path.of(config.spoolDirectory()), config.spoolMaxSize(),
+								config.spoolReplayRate()));
 	}
 
 	@Deactivate
@@ -409,7 +417,13 @@ public class TimedataInfluxDb extends AbstractOpenemsBackendComponent implements
 
 	@Override
 	public Map<String, JsonElement> debugMetrics() {
-		return null;
+		if (this.influxConnector == null) {
+			return null;
+		}
+		return this.influxConnector.debugMetrics().entrySet().stream() //
+				.collect(toUnmodifiableMap(//
+						e -> this.id() + "/" + e.getKey(), //
+						e -> new JsonPrimitive(e.getValue())));
 	}
 
 }
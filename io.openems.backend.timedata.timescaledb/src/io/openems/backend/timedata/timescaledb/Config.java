@@ -33,6 +33,12 @@ public @interface Config {
 	@AttributeDefinition(name = "Number of Threads", description = "Pool-Size: the number of threads dedicated to handle the tasks")
 	int poolSize() default 10;
 
+	@AttributeDefinition(name = "Direct binary COPY", description = "Encodes points directly to the PostgreSQL binary COPY format instead of building PgBulkInsert rows.")
+	boolean directBinaryCopy() default false;
+
+	@AttributeDefinition(name = "Query rollups", description = "Answers queries from raw data or the hourly/daily continuous aggregates ('_1h'/'_1d' tables) where possible. Requires these tables to exist in the database.")
+	boolean useRollups() default false;
+
 	String webconsole_configurationFactory_nameHint() default "Timedata.TimescaleDB";
 
 }
@@ -0,0 +1,158 @@
+package io.openems.backend.timedata.timescaledb.internal;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+
+import io.openems.common.timedata.Resolution;
+
+/**
+ * The tables that hold data of a {@link Type} and {@link Priority}: raw data
+ * and pre-computed rollups with increasing bucket size.
+ *
+ * <p>
+ * Rollups are UTC-based continuous aggregates. A rollup can answer a query if
+ * every requested period consists of whole buckets, so the planner picks the
+ * coarsest rollup that satisfies this for the requested resolution, range and
+ * timezone.
+ *
+ * <p>
+ * The hourly and daily rollups are hierarchical: they aggregate the 5-minute
+ * rollup, so an average is the unweighted average of the 5-minute averages.
+ * Channels are recorded once per Edge cycle, so the buckets hold about the
+ * same number of samples and the error is negligible; buckets with missing
+ * data are weighted the same as full buckets. This matches the behaviour of
+ * queries with a {@link Resolution} above 5 minutes, which already average
+ * the 5-minute averages.
+ *
+ * <p>
+ * The '_1h' and '_1d' tables are not part of existing deployments. Rollups are
+ * only used if enabled via Config 'useRollups'; otherwise all queries use
+ * {@link #FIVE_MINUTES}.
+ */
+public enum Rollup {
+	RAW(Duration.ZERO), //
+	FIVE_MINUTES(Duration.ofMinutes(5)), //
+	ONE_HOUR(Duration.ofHours(1)), //
+	ONE_DAY(Duration.ofDays(1)), //
+	;
+
+	/** Queries on raw data are only allowed for short ranges. */
+	private static final Duration MAX_RAW_RANGE = Duration.ofDays(1);
+
+	/** Rollups from coarse to fine. */
+	private static final Rollup[] ROLLUPS = { ONE_DAY, ONE_HOUR, FIVE_MINUTES };
+
+	public final Duration bucket;
+
+	private Rollup(Duration bucket) {
+		this.bucket = bucket;
+	}
+
+	/**
+	 * Gets the table name of this rollup.
+	 *
+	 * @param type     the {@link Type}
+	 * @param priority the {@link Priority}
+	 * @return the table name
+	 */
+	public String getTableName(Type type, Priority priority) {
+		return switch (this) {
+		case RAW -> type.getRawTableName(priority);
+		case FIVE_MINUTES -> type.getAggregate5mTableName(priority);
+		case ONE_HOUR -> type.getAggregate1hTableName(priority);
+		case ONE_DAY -> type.getAggregate1dTableName(priority);
+		};
+	}
+
+	/**
+	 * Gets the column that holds the result of the given aggregate function.
+	 *
+	 * @param aggregateFunction one of {@link Type#aggregateFunctions}
+	 * @return the quoted column name
+	 */
+	public String getColumn(String aggregateFunction) {
+		if (this == RAW) {
+			return "\"value\"";
+		}
+		return "\"" + aggregateFunction + "\"";
+	}
+
+	/**
+	 * Selects the coarsest table that can answer a query with the given
+	 * {@link Resolution}.
+	 *
+	 * @param resolution the {@link Resolution}
+	 * @param fromDate   the From-Date
+	 * @param toDate     the To-Date
+	 * @return the {@link Rollup}
+	 */
+	public static Rollup forResolution(Resolution resolution, ZonedDateTime fromDate, ZonedDateTime toDate) {
+		for (var rollup : ROLLUPS) {
+			if (rollup.divides(resolution) && rollup.isAligned(fromDate) && rollup.isAligned(toDate)) {
+				return rollup;
+			}
+		}
+		return fallback(fromDate, toDate);
+	}
+
+	/**
+	 * Selects the coarsest table that can answer a query for the whole range, e.g.
+	 * for energy values.
+	 *
+	 * @param fromDate the From-Date
+	 * @param toDate   the To-Date
+	 * @return the {@link Rollup}
+	 */
+	public static Rollup forRange(ZonedDateTime fromDate, ZonedDateTime toDate) {
+		for (var rollup : ROLLUPS) {
+			if (rollup.isAligned(fromDate) && rollup.isAligned(toDate)) {
+				return rollup;
+			}
+		}
+		return fallback(fromDate, toDate);
+	}
+
+	private static Rollup fallback(ZonedDateTime fromDate, ZonedDateTime toDate) {
+		if (Duration.between(fromDate, toDate).compareTo(MAX_RAW_RANGE) <= 0) {
+			return RAW;
+		}
+		// Long range with an odd resolution: approximate with 5-minute rollup
+		return FIVE_MINUTES;
+	}
+
+	/**
+	 * Is every period of the {@link Resolution} a multiple of the bucket?.
+	 *
+	 * @param resolution the {@link Resolution}
+	 * @return true if yes
+	 */
+	private boolean divides(Resolution resolution) {
+		return switch (resolution.getUnit()) {
+		// Calendar based units consist of whole days
+		case DAYS, WEEKS, MONTHS, YEARS -> true;
+		case HALF_DAYS, HOURS, MINUTES, SECONDS -> resolution.toSeconds() % this.bucket.toSeconds() == 0;
+		default -> false;
+		};
+	}
+
+	/**
+	 * Is the date a bucket boundary, and are the bucket boundaries in the timezone
+	 * of the date the same as in UTC?.
+	 *
+	 * @param date the date
+	 * @return true if yes
+	 */
+	private boolean isAligned(ZonedDateTime date) {
+		final var bucketSeconds = this.bucket.toSeconds();
+		if (date.toEpochSecond() % bucketSeconds != 0 || date.getNano() != 0) {
+			return false;
+		}
+		final var rules = date.getZone().getRules();
+		if (this == ONE_DAY) {
+			// Days are only the same in UTC
+			return rules.isFixedOffset() && rules.getOffset(date.toInstant()).getTotalSeconds() == 0;
+		}
+		return date.getOffset().getTotalSeconds() % bucketSeconds == 0;
+	}
+
+}
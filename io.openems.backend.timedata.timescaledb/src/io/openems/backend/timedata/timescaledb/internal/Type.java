@@ -37,6 +37,8 @@ public enum Type {
 
 	private final Map<Priority, String> rawTableName = new EnumMap<>(Priority.class);
 	private final Map<Priority, String> aggregate5mTableName = new EnumMap<>(Priority.class);
+	private final Map<Priority, String> aggregate1hTableName = new EnumMap<>(Priority.class);
+	private final Map<Priority, String> aggregate1dTableName = new EnumMap<>(Priority.class);
 
 	private final ThrowingBiFunction<ResultSet, Integer, JsonElement, SQLException> parseValueFromResultSet;
 	private final ThrowingBiFunction<JsonElement, JsonElement, JsonElement, OpenemsNamedException> subtractFunction;
@@ -73,6 +75,28 @@ public enum Type {
 		return this.aggregate5mTableName.computeIfAbsent(priority, t -> this.baseTableName(priority) + "_5m");
 	}
 
+	/**
+	 * Gets the hourly aggregate table name of the current type and the specified
+	 * priority.
+	 * 
+	 * @param priority the priority of the table
+	 * @return the table name
+	 */
+	public String getAggregate1hTableName(Priority priority) {
+		return this.aggregate1hTableName.computeIfAbsent(priority, t -> this.baseTableName(priority) + "_1h");
+	}
+
+	/**
+	 * Gets the daily aggregate table name of the current type and the specified
+	 * priority.
+	 * 
+	 * @param priority the priority of the table
+	 * @return the table name
+	 */
+	public String getAggregate1dTableName(Priority priority) {
+		return this.aggregate1dTableName.computeIfAbsent(priority, t -> this.baseTableName(priority) + "_1d");
+	}
+
 	private String baseTableName(Priority priority) {
 		return this.prefix + "_" + priority.getTableSuffix();
 	}
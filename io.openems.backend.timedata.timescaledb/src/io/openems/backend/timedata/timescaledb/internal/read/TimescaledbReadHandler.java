@@ -20,6 +20,7 @@ import com.google.gson.JsonElement;
 import com.zaxxer.hikari.HikariDataSource;
 
 import io.openems.backend.timedata.timescaledb.Config;
+import io.openems.backend.timedata.timescaledb.internal.Rollup;
 import io.openems.backend.timedata.timescaledb.internal.Schema;
 import io.openems.backend.timedata.timescaledb.internal.Utils;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
@@ -39,10 +40,17 @@ public class TimescaledbReadHandler {
 	 */
 	private final HikariDataSource dataSource;
 
+	/**
+	 * Use raw data and hourly/daily rollups; otherwise always query the 5-minute
+	 * aggregates.
+	 */
+	private final boolean useRollups;
+
 	public TimescaledbReadHandler(Config config) throws SQLException {
 		this.dataSource = Utils.getDataSource(//
 				config.host(), config.port(), config.database(), //
 				config.user(), config.password(), config.poolSize());
+		this.useRollups = config.useRollups();
 	}
 
 	/**
@@ -81,6 +89,9 @@ public class TimescaledbReadHandler {
 
 		var result = Utils.prepareDataMap(fromDate, toDate, channels, resolution);
 		var types = Utils.querySchemaCache(this.assertAndGetSchema(), edgeId, channelStrings);
+		var rollup = this.useRollups //
+				? Rollup.forResolution(resolution, fromDate, toDate) //
+				: Rollup.FIVE_MINUTES;
 
 		// Open ONE database connection
 		try (var con = this.dataSource.getConnection()) {
@@ -99,8 +110,9 @@ public class TimescaledbReadHandler {
 							+ "        ?::interval," // [1] Resolution
 							+ "        data.time)," //
 							+ "    data.edge_channel_id," //
-							+ "    " + type.defaultAggregateFunction + "(data." + type.defaultAggregateFunction + ") " //
-							+ "FROM " + type.getAggregate5mTableName(priority) + " data " //
+							+ "    " + type.defaultAggregateFunction //
+							+ "(data." + rollup.getColumn(type.defaultAggregateFunction) + ") " //
+							+ "FROM " + rollup.getTableName(type, priority) + " data " //
 							+ "WHERE" //
 							+ "    data.edge_channel_id IN (" //
 							+ ids.keySet().stream() //
@@ -169,6 +181,9 @@ public class TimescaledbReadHandler {
 
 		var result = Utils.prepareEnergyMap(fromDate, toDate, channels);
 		var types = Utils.querySchemaCache(this.assertAndGetSchema(), edgeId, channelStrings);
+		var rollup = this.useRollups //
+				? Rollup.forRange(fromDate, toDate) //
+				: Rollup.FIVE_MINUTES;
 
 		// Open ONE database connection
 		try (var con = this.dataSource.getConnection()) {
@@ -184,8 +199,9 @@ public class TimescaledbReadHandler {
 					// Build custom SQL for PreparedStatement
 					var sql = "SELECT" //
 							+ "	   d.edge_channel_id," //
-							+ "    LAST(\"max\", d.time) - FIRST(\"min\", d.time) " //
-							+ "FROM " + type.getAggregate5mTableName(priority) + " d " //
+							+ "    LAST(" + rollup.getColumn("max") + ", d.time) - FIRST(" + rollup.getColumn("min")
+							+ ", d.time) " //
+							+ "FROM " + rollup.getTableName(type, priority) + " d " //
 							+ "WHERE" //
 							+ "    d.edge_channel_id = ANY (?) AND" // [1] Channel-ID
 							+ "    d.time >= ? AND" // [2] FromDate
@@ -246,6 +262,9 @@ public class TimescaledbReadHandler {
 
 		var result = Utils.prepareDataMap(fromDate, toDate, channels, resolution);
 		var types = Utils.querySchemaCache(this.assertAndGetSchema(), edgeId, channelStrings);
+		var rollup = this.useRollups //
+				? Rollup.forResolution(resolution, fromDate, toDate) //
+				: Rollup.FIVE_MINUTES;
 
 		// Open ONE database connection
 		try (var con = this.dataSource.getConnection()) {
@@ -265,8 +284,8 @@ public class TimescaledbReadHandler {
 							+ "        data.time," //
 							+ "        timezone => ?)," // [2] timezone
 							+ "    data.edge_channel_id," //
-							+ "    LAST(\"max\", data.time)" //
-							+ "FROM " + type.getAggregate5mTableName(priority) + " data " //
+							+ "    LAST(data." + rollup.getColumn("max") + ", data.time) " //
+							+ "FROM " + rollup.getTableName(type, priority) + " data " //
 							+ "WHERE" //
 							+ "    data.edge_channel_id = ANY (?) AND" // [3] Channel IDs
 							+ "    data.time >= ? AND" // [4] FromDate
@@ -0,0 +1,89 @@
+package io.openems.backend.timedata.timescaledb.internal.write;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Encodes {@link Point}s to the PostgreSQL binary COPY format.
+ *
+ * <p>
+ * Points are written directly to a byte buffer, without creating intermediate
+ * row objects. The result can be sent with one 'COPY ... FROM STDIN BINARY'.
+ * Every row consists of the columns 'time', 'edge_channel_id' and 'value'.
+ *
+ * @see <a href=
+ *      "https://www.postgresql.org/docs/current/sql-copy.html#id-1.9.3.55.9.4">PostgreSQL
+ *      Binary Format</a>
+ */
+public class BinaryCopyEncoder {
+
+	private static final byte[] SIGNATURE = { 'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0 };
+	private static final short NUMBER_OF_COLUMNS = 3;
+	private static final long POSTGRES_EPOCH_SECONDS = 946_684_800L; // 2000-01-01T00:00:00Z
+
+	private final ByteArrayOutputStream buffer;
+	private final DataOutputStream out;
+	private int rows = 0;
+
+	public BinaryCopyEncoder(int expectedRows) {
+		this.buffer = new ByteArrayOutputStream(SIGNATURE.length + 10 + expectedRows * 36);
+		this.out = new DataOutputStream(this.buffer);
+		try {
+			this.out.write(SIGNATURE);
+			this.out.writeInt(0); // Flags
+			this.out.writeInt(0); // Header extension length
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Adds a {@link Point} as row.
+	 *
+	 * @param point the {@link Point}
+	 */
+	public void add(Point point) {
+		try {
+			this.out.writeShort(NUMBER_OF_COLUMNS);
+			// time: timestamptz in microseconds since 2000-01-01
+			var instant = point.timestamp.toInstant();
+			this.out.writeInt(Long.BYTES);
+			this.out.writeLong((instant.getEpochSecond() - POSTGRES_EPOCH_SECONDS) * 1_000_000L //
+					+ instant.getNano() / 1_000);
+			// edge_channel_id: integer
+			this.out.writeInt(Integer.BYTES);
+			this.out.writeInt(point.channelId);
+			// value
+			point.writeBinaryValue(this.out);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		this.rows++;
+	}
+
+	/**
+	 * Gets the number of added rows.
+	 *
+	 * @return the number of rows
+	 */
+	public int getRows() {
+		return this.rows;
+	}
+
+	/**
+	 * Finishes the COPY data and returns it.
+	 *
+	 * @return the binary COPY data
+	 */
+	public byte[] finish() {
+		try {
+			this.out.writeShort(-1); // File trailer
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return this.buffer.toByteArray();
+	}
+
+}
@@ -0,0 +1,52 @@
+package io.openems.backend.timedata.timescaledb.internal.write;
+
+import java.io.ByteArrayInputStream;
+import java.sql.SQLException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import de.bytefish.pgbulkinsert.util.PostgreSqlUtils;
+import io.openems.backend.timedata.timescaledb.internal.Priority;
+import io.openems.backend.timedata.timescaledb.internal.Type;
+
+/**
+ * Writes Points that were encoded by a {@link BinaryCopyEncoder} with one
+ * binary COPY.
+ */
+public class CopyPointsHandler implements Runnable {
+
+	private final Logger log = LoggerFactory.getLogger(CopyPointsHandler.class);
+
+	private final HikariDataSource dataSource;
+	private final String sql;
+	private final byte[] data;
+
+	public CopyPointsHandler(HikariDataSource dataSource, Type type, Priority priority, byte[] data) {
+		this.dataSource = dataSource;
+		this.sql = "COPY " + type.getRawTableName(priority) + "(time, edge_channel_id, value) FROM STDIN BINARY";
+		this.data = data;
+	}
+
+	@Override
+	public void run() {
+		try (var con = this.dataSource.getConnection()) {
+			PostgreSqlUtils.getPGConnection(con).getCopyAPI() //
+					.copyIn(this.sql, new ByteArrayInputStream(this.data));
+
+		} catch (SQLException e) {
+			// 'Expected errors', e.g. PostgreSQL server stopped
+			// -> short error log
+			this.log.error("Unable to write Points. " + e.getClass().getSimpleName() + ": " + e.getMessage());
+
+		} catch (Exception e) {
+			// 'Unexpected errors' -> long stacktrace
+			this.log.error("Unable to write Points. " + e.getClass().getSimpleName() + ": " + e.getMessage());
+			e.printStackTrace();
+
+		}
+	}
+
+}
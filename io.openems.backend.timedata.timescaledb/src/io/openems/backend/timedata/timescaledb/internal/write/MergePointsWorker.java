@@ -7,6 +7,7 @@ import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import com.zaxxer.hikari.HikariDataSource;
 
@@ -20,16 +21,19 @@ public class MergePointsWorker<POINT extends Point> extends AbstractImmediateWor
 	private final ExecutorService executor;
 	private final Type type;
 	private final Priority priority;
+	private final boolean directBinaryCopy;
 	// TODO queue: delete old entries if full; like an EvictingQueue;
 	// https://github.com/google/guava/issues/3882
 	private final BlockingQueue<POINT> queue = new ArrayBlockingQueue<>(TimescaledbWriteHandler.POINTS_QUEUE_SIZE);
 	private long countPoints = 0;
 
-	public MergePointsWorker(HikariDataSource dataSource, ExecutorService executor, Type type, Priority priority) {
+	public MergePointsWorker(HikariDataSource dataSource, ExecutorService executor, Type type, Priority priority,
+			boolean directBinaryCopy) {
 		this.dataSource = dataSource;
 		this.executor = executor;
 		this.type = type;
 		this.priority = priority;
+		this.directBinaryCopy = directBinaryCopy;
 	}
 
 	public BlockingQueue<POINT> getQueue() {
@@ -43,8 +47,24 @@ public class MergePointsWorker<POINT extends Point> extends AbstractImmediateWor
 		 * TimescaleDB. This approach improves speed as not every single Point gets sent
 		 * via HTTP individually.
 		 */
+		if (this.directBinaryCopy) {
+			// Poll Points and encode them directly to binary COPY format
+			var encoder = new BinaryCopyEncoder(TimescaledbWriteHandler.MAX_POINTS_PER_WRITE);
+			var count = pollPoints(this.queue, encoder::add);
+			if (count == 0) {
+				return;
+			}
+
+			this.countPoints += count;
+
+			// Write points async.
+			this.executor.execute(new CopyPointsHandler(this.dataSource, this.type, this.priority, encoder.finish()));
+			return;
+		}
+
 		// Poll and merge Points. Wait max 10 seconds in total.
-		var points = pollAndMergePoints(this.queue);
+		List<Point> points = new ArrayList<>(TimescaledbWriteHandler.MAX_POINTS_PER_WRITE);
+		pollPoints(this.queue, points::add);
 
 		if (points.isEmpty()) {
 			return;
@@ -57,28 +77,30 @@ public class MergePointsWorker<POINT extends Point> extends AbstractImmediateWor
 	}
 
 	/**
-	 * Poll and merge Points. Wait max 10 seconds in total.
+	 * Poll Points. Wait max 10 seconds in total.
 	 * 
-	 * @param <POINT> the type of the Point
-	 * @param queue   the Queue of Points
-	 * @return a list of Points
+	 * @param <POINT>  the type of the Point
+	 * @param queue    the Queue of Points
+	 * @param consumer the consumer for each polled Point
+	 * @return the number of polled Points
 	 * @throws InterruptedException on error
 	 */
-	private static <POINT extends Point> List<Point> pollAndMergePoints(BlockingQueue<POINT> queue)
+	private static <POINT extends Point> int pollPoints(BlockingQueue<POINT> queue, Consumer<? super POINT> consumer)
 			throws InterruptedException {
 		final Instant maxWait = Instant.now().plusSeconds(TimescaledbWriteHandler.MAX_AGGREGATE_WAIT);
-		List<Point> points = new ArrayList<>(TimescaledbWriteHandler.MAX_POINTS_PER_WRITE);
-		for (int i = 0; i < TimescaledbWriteHandler.MAX_POINTS_PER_WRITE; i++) {
+		var count = 0;
+		while (count < TimescaledbWriteHandler.MAX_POINTS_PER_WRITE) {
 			var point = queue.poll(TimescaledbWriteHandler.MAX_AGGREGATE_WAIT, TimeUnit.SECONDS);
 			if (point == null) {
 				break;
 			}
-			points.add(point);
+			consumer.accept(point);
+			count++;
 			if (Instant.now().isAfter(maxWait)) {
 				break;
 			}
 		}
-		return points;
+		return count;
 	}
 
 	/**
@@ -1,5 +1,9 @@
 package io.openems.backend.timedata.timescaledb.internal.write;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.DataOutput;
+import java.io.IOException;
 import java.time.ZonedDateTime;
 
 import de.bytefish.pgbulkinsert.row.SimpleRow;
@@ -28,6 +32,12 @@ public abstract class Point {
 			row.setLong(column, this.value);
 		}
 
+		@Override
+		public void writeBinaryValue(DataOutput out) throws IOException {
+			out.writeInt(Long.BYTES);
+			out.writeLong(this.value);
+		}
+
 		@Override
 		public String toString() {
 			return "IntPoint [" + this.timestamp + ": " + this.channelId + "=" + this.value + "]";
@@ -48,6 +58,12 @@ public abstract class Point {
 			row.setDouble(column, this.value);
 		}
 
+		@Override
+		public void writeBinaryValue(DataOutput out) throws IOException {
+			out.writeInt(Double.BYTES);
+			out.writeDouble(this.value);
+		}
+
 		@Override
 		public String toString() {
 			return "FloatPoint [" + this.timestamp + ": " + this.channelId + "=" + this.value + "]";
@@ -68,6 +84,13 @@ public abstract class Point {
 			row.setText(column, this.value);
 		}
 
+		@Override
+		public void writeBinaryValue(DataOutput out) throws IOException {
+			var bytes = this.value.getBytes(UTF_8);
+			out.writeInt(bytes.length);
+			out.write(bytes);
+		}
+
 		@Override
 		public String toString() {
 			return "StringPoint [" + this.timestamp + ": " + this.channelId + "=" + this.value + "]";
@@ -82,4 +105,13 @@ public abstract class Point {
 	 */
 	public abstract void addToSimpleRow(SimpleRow row, int column);
 
-}
\ No newline at end of file
+	/**
+	 * Writes the value of the Point as field of the PostgreSQL binary COPY format,
+	 * i.e. length and data.
+	 * 
+	 * @param out the {@link DataOutput}
+	 * @throws IOException on error
+	 */
+	public abstract void writeBinaryValue(DataOutput out) throws IOException;
+
+}
@@ -76,29 +76,31 @@ public abstract class QueueHandler<T extends Point> {
 	/**
 	 * Returns a new {@link QueueHandler} of the given type.
 	 * 
-	 * @param type       the type of the handler
-	 * @param priority   the priority of the handler
-	 * @param dataSource the dataSource to get database connections
-	 * @param executor   the executor to execute writes
+	 * @param type             the type of the handler
+	 * @param priority         the priority of the handler
+	 * @param dataSource       the dataSource to get database connections
+	 * @param executor         the executor to execute writes
+	 * @param directBinaryCopy encode Points directly to binary COPY format
 	 * @return the handler
 	 */
 	public static QueueHandler<?> of(Type type, Priority priority, HikariDataSource dataSource,
-			ExecutorService executor) {
+			ExecutorService executor, boolean directBinaryCopy) {
 		switch (type) {
 		case INTEGER:
-			return new IntQueueHandler(dataSource, executor, type, priority);
+			return new IntQueueHandler(dataSource, executor, type, priority, directBinaryCopy);
 		case FLOAT:
-			return new FloatQueueHandler(dataSource, executor, type, priority);
+			return new FloatQueueHandler(dataSource, executor, type, priority, directBinaryCopy);
 		case STRING:
-			return new StringQueueHandler(dataSource, executor, type, priority);
+			return new StringQueueHandler(dataSource, executor, type, priority, directBinaryCopy);
 		}
 		return null;
 	}
 
 	public static class IntQueueHandler extends QueueHandler<IntPoint> {
 
-		public IntQueueHandler(HikariDataSource dataSource, ExecutorService executor, Type type, Priority priority) {
-			super(new MergePointsWorker<IntPoint>(dataSource, executor, type, priority), IntPoint.class);
+		public IntQueueHandler(HikariDataSource dataSource, ExecutorService executor, Type type, Priority priority,
+				boolean directBinaryCopy) {
+			super(new MergePointsWorker<IntPoint>(dataSource, executor, type, priority, directBinaryCopy), IntPoint.class);
 		}
 
 		@Override
@@ -115,8 +117,9 @@ public abstract class QueueHandler<T extends Point> {
 
 	public static class FloatQueueHandler extends QueueHandler<FloatPoint> {
 
-		public FloatQueueHandler(HikariDataSource dataSource, ExecutorService executor, Type type, Priority priority) {
-			super(new MergePointsWorker<FloatPoint>(dataSource, executor, type, priority), FloatPoint.class);
+		public FloatQueueHandler(HikariDataSource dataSource, ExecutorService executor, Type type, Priority priority,
+				boolean directBinaryCopy) {
+			super(new MergePointsWorker<FloatPoint>(dataSource, executor, type, priority, directBinaryCopy), FloatPoint.class);
 		}
 
 		@Override
@@ -133,8 +136,9 @@ public abstract class QueueHandler<T extends Point> {
 
 	public static class StringQueueHandler extends QueueHandler<StringPoint> {
 
-		public StringQueueHandler(HikariDataSource dataSource, ExecutorService executor, Type type, Priority priority) {
-			super(new MergePointsWorker<StringPoint>(dataSource, executor, type, priority), StringPoint.class);
+		public StringQueueHandler(HikariDataSource dataSource, ExecutorService executor, Type type, Priority priority,
+				boolean directBinaryCopy) {
+			super(new MergePointsWorker<StringPoint>(dataSource, executor, type, priority, directBinaryCopy), StringPoint.class);
 		}
 
 		@Override
@@ -75,7 +75,8 @@ public class TimescaledbWriteHandler {
 		for (var type : Type.values()) {
 			for (var priority : Priority.values()) {
 				this.queueHandler.put(type, priority, //
-						QueueHandler.of(type, priority, this.dataSource, this.executor));
+						QueueHandler.of(type, priority, this.dataSource, this.executor, //
+								config.directBinaryCopy()));
 			}
 		}
 
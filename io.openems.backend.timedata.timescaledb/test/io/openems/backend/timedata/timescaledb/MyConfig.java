@@ -14,6 +14,8 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		private String database;
 		private boolean isReadOnly;
 		private int poolSize;
+		private boolean directBinaryCopy;
+		private boolean useRollups;
 
 		private Builder() {
 		}
@@ -58,6 +60,16 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 			return this;
 		}
 
+		public Builder setDirectBinaryCopy(boolean directBinaryCopy) {
+			this.directBinaryCopy = directBinaryCopy;
+			return this;
+		}
+
+		public Builder setUseRollups(boolean useRollups) {
+			this.useRollups = useRollups;
+			return this;
+		}
+
 		public MyConfig build() {
 			return new MyConfig(this);
 		}
@@ -114,4 +126,14 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		return this.builder.poolSize;
 	}
 
+	@Override
+	public boolean directBinaryCopy() {
+		return this.builder.directBinaryCopy;
+	}
+
+	@Override
+	public boolean useRollups() {
+		return this.builder.useRollups;
+	}
+
 }
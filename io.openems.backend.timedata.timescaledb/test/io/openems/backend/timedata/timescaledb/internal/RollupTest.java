@@ -0,0 +1,75 @@
+package io.openems.backend.timedata.timescaledb.internal;
+
+import static org.junit.Assert.assertEquals;
+
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+
+import org.junit.Test;
+
+import io.openems.common.timedata.Resolution;
+
+public class RollupTest {
+
+	private static final ZoneId BERLIN = ZoneId.of("Europe/Berlin");
+	private static final ZoneId KOLKATA = ZoneId.of("Asia/Kolkata"); // UTC+05:30
+
+	@Test
+	public void testForResolution() {
+		// Year view in UTC: daily rollup
+		var from = ZonedDateTime.of(2023, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+		assertEquals(Rollup.ONE_DAY, Rollup.forResolution(//
+				new Resolution(1, ChronoUnit.MONTHS), from, from.plusYears(1)));
+
+		// Year view in local time: days differ from UTC days -> hourly rollup
+		from = ZonedDateTime.of(2023, 1, 1, 0, 0, 0, 0, BERLIN);
+		assertEquals(Rollup.ONE_HOUR, Rollup.forResolution(//
+				new Resolution(1, ChronoUnit.MONTHS), from, from.plusYears(1)));
+
+		// Half-hour timezone offset -> 5-minute rollup
+		from = ZonedDateTime.of(2023, 1, 1, 0, 0, 0, 0, KOLKATA);
+		assertEquals(Rollup.FIVE_MINUTES, Rollup.forResolution(//
+				new Resolution(1, ChronoUnit.DAYS), from, from.plusMonths(1)));
+
+		// Day view with 15 minutes resolution
+		from = ZonedDateTime.of(2023, 6, 1, 0, 0, 0, 0, BERLIN);
+		assertEquals(Rollup.FIVE_MINUTES, Rollup.forResolution(//
+				new Resolution(15, ChronoUnit.MINUTES), from, from.plusDays(1)));
+
+		// Finer resolution on a short range -> raw data
+		assertEquals(Rollup.RAW, Rollup.forResolution(//
+				new Resolution(1, ChronoUnit.MINUTES), from, from.plusDays(1)));
+
+		// Finer resolution on a long range -> 5-minute rollup
+		assertEquals(Rollup.FIVE_MINUTES, Rollup.forResolution(//
+				new Resolution(1, ChronoUnit.MINUTES), from, from.plusDays(7)));
+
+		// Unaligned From-Date
+		assertEquals(Rollup.RAW, Rollup.forResolution(//
+				new Resolution(1, ChronoUnit.HOURS), from.plusMinutes(2), from.plusDays(1)));
+	}
+
+	@Test
+	public void testForRange() {
+		var from = ZonedDateTime.of(2023, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+		assertEquals(Rollup.ONE_DAY, Rollup.forRange(from, from.plusYears(1)));
+
+		from = ZonedDateTime.of(2023, 1, 1, 0, 0, 0, 0, BERLIN);
+		assertEquals(Rollup.ONE_HOUR, Rollup.forRange(from, from.plusYears(1)));
+		assertEquals(Rollup.FIVE_MINUTES, Rollup.forRange(from.plusMinutes(5), from.plusYears(1)));
+		assertEquals(Rollup.RAW, Rollup.forRange(from.plusMinutes(1), from.plusHours(5)));
+	}
+
+	@Test
+	public void testGetTableName() {
+		assertEquals("data_integer_low_raw", Rollup.RAW.getTableName(Type.INTEGER, Priority.LOW));
+		assertEquals("data_float_high_5m", Rollup.FIVE_MINUTES.getTableName(Type.FLOAT, Priority.HIGH));
+		assertEquals("data_string_low_1h", Rollup.ONE_HOUR.getTableName(Type.STRING, Priority.LOW));
+		assertEquals("data_integer_high_1d", Rollup.ONE_DAY.getTableName(Type.INTEGER, Priority.HIGH));
+		assertEquals("\"value\"", Rollup.RAW.getColumn("avg"));
+		assertEquals("\"avg\"", Rollup.ONE_DAY.getColumn("avg"));
+	}
+
+}
@@ -99,6 +99,10 @@ public class SchemaGenerator {
 						// .append(this.addCompression(type, priority)) //
 						.append(this.createAggregateTable(type, priority)) //
 						.append(this.addContinuousAggregate(type, priority)) //
+						.append(this.createRollupTable(type, priority, Rollup.ONE_HOUR, Rollup.FIVE_MINUTES, "1 hour")) //
+						.append(this.addRollupPolicy(type, priority, Rollup.ONE_HOUR, "3 hours", "1 hour")) //
+						.append(this.createRollupTable(type, priority, Rollup.ONE_DAY, Rollup.ONE_HOUR, "1 day")) //
+						.append(this.addRollupPolicy(type, priority, Rollup.ONE_DAY, "2 days", "1 day")) //
 				;
 			}
 		}
@@ -184,6 +188,39 @@ public class SchemaGenerator {
 				+ ");\n\n";
 	}
 
+	/*
+	 * Hierarchical continuous aggregate on top of a finer rollup. Real-time
+	 * aggregation is enabled, so data that is not yet materialized is still
+	 * included in queries. Averages are averages of the source averages, i.e. not
+	 * weighted by sample count. Required for Config 'useRollups'.
+	 */
+	private String createRollupTable(Type type, Priority priority, Rollup rollup, Rollup source, String bucket) {
+		return "CREATE MATERIALIZED VIEW " + rollup.getTableName(type, priority) //
+				+ "(time, edge_channel_id, " //
+				+ Stream.of(type.aggregateFunctions) //
+						.map(s -> "\"" + s + "\"") //
+						.collect(Collectors.joining(", "))
+				+ ")\n" //
+				+ "  WITH (timescaledb.continuous, timescaledb.materialized_only = false) AS\n" //
+				+ "  SELECT time_bucket ('" + bucket + "', time) AS time,\n" //
+				+ "    edge_channel_id,\n" //
+				+ "    " + Stream.of(type.aggregateFunctions) //
+						.map(s -> s + "(" + source.getColumn(s) + ")") //
+						.collect(Collectors.joining(", "))
+				+ "\n" //
+				+ "  FROM " + source.getTableName(type, priority) + "\n" //
+				+ "  GROUP BY (1, 2)\n" + "WITH NO DATA;\n\n";
+	}
+
+	private String addRollupPolicy(Type type, Priority priority, Rollup rollup, String endOffset,
+			String scheduleInterval) {
+		return "SELECT add_continuous_aggregate_policy('" + rollup.getTableName(type, priority) + "',\n" //
+				+ "  start_offset => NULL,\n" //
+				+ "  end_offset => interval '" + endOffset + "',\n" //
+				+ "  schedule_interval => interval '" + scheduleInterval + "'\n" //
+				+ ");\n\n";
+	}
+
 	private String createFunctionGetOrCreateEdgeId() {
 		return """
 				CREATE OR REPLACE FUNCTION openems_get_or_create_edge_id(
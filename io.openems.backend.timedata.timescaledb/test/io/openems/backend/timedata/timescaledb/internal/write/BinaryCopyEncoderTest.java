@@ -0,0 +1,93 @@
+package io.openems.backend.timedata.timescaledb.internal.write;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.nio.ByteBuffer;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+
+import org.junit.Ignore;
+import org.junit.Test;
+
+import io.openems.backend.timedata.timescaledb.internal.write.Point.FloatPoint;
+import io.openems.backend.timedata.timescaledb.internal.write.Point.IntPoint;
+import io.openems.backend.timedata.timescaledb.internal.write.Point.StringPoint;
+
+public class BinaryCopyEncoderTest {
+
+	private static final ZonedDateTime TIME = ZonedDateTime.of(2000, 1, 1, 0, 0, 1, 500_000_000, ZoneOffset.UTC);
+
+	@Test
+	public void test() {
+		var sut = new BinaryCopyEncoder(3);
+		sut.add(new IntPoint(7, TIME, -5L));
+		sut.add(new FloatPoint(8, TIME, 1.5));
+		sut.add(new StringPoint(9, TIME, "ä"));
+		assertEquals(3, sut.getRows());
+
+		var b = ByteBuffer.wrap(sut.finish());
+
+		// Header
+		var signature = new byte[11];
+		b.get(signature);
+		assertArrayEquals("PGCOPY\n\377\r\n\0".getBytes(ISO_8859_1), signature);
+		assertEquals(0, b.getInt());
+		assertEquals(0, b.getInt());
+
+		// IntPoint
+		assertRowStart(b, 7);
+		assertEquals(8, b.getInt());
+		assertEquals(-5L, b.getLong());
+
+		// FloatPoint
+		assertRowStart(b, 8);
+		assertEquals(8, b.getInt());
+		assertEquals(1.5, b.getDouble(), 0.0);
+
+		// StringPoint: UTF-8
+		assertRowStart(b, 9);
+		assertEquals(2, b.getInt());
+		assertEquals((byte) 0xC3, b.get());
+		assertEquals((byte) 0xA4, b.get());
+
+		// Trailer
+		assertEquals(-1, b.getShort());
+		assertEquals(0, b.remaining());
+	}
+
+	private static void assertRowStart(ByteBuffer b, int channelId) {
+		assertEquals(3, b.getShort());
+		assertEquals(8, b.getInt());
+		assertEquals(1_500_000L, b.getLong()); // microseconds since 2000-01-01
+		assertEquals(4, b.getInt());
+		assertEquals(channelId, b.getInt());
+	}
+
+	/**
+	 * Measures the throughput of encoding Points; the encoded data is sent to a
+	 * stand-in for the PostgreSQL COPY stream.
+	 */
+	@Ignore
+	@Test
+	public void benchmark() {
+		final var points = new Point[TimescaledbWriteHandler.MAX_POINTS_PER_WRITE];
+		for (var i = 0; i < points.length; i++) {
+			points[i] = new IntPoint(i, TIME.plusSeconds(i), i * 10L);
+		}
+		final var iterations = 1_000;
+		long bytes = 0;
+		final var start = System.nanoTime();
+		for (var i = 0; i < iterations; i++) {
+			var sut = new BinaryCopyEncoder(points.length);
+			Arrays.stream(points).forEach(sut::add);
+			bytes += sut.finish().length;
+		}
+		final var seconds = (System.nanoTime() - start) / 1_000_000_000.;
+		System.out.println(String.format("Encoded %d Points (%d MB) in %.2f s: %.0f Points/s", //
+				iterations * points.length, bytes / 1024 / 1024, seconds, iterations * points.length / seconds));
+	}
+
+}
@@ -0,0 +1,69 @@
+package io.openems.backend.uiwebsocket.impl;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reverse index from Edge-ID to the UI sessions that subscribed the Edge.
+ *
+ * <p>
+ * The index is maintained on SubscribeEdgesRequest and when the connection is
+ * closed, so data of an Edge is forwarded only to its actual subscribers
+ * instead of checking every open UI session.
+ */
+public class EdgeSubscriptions {
+
+	private final ConcurrentHashMap<String, Set<WsData>> subscribers = new ConcurrentHashMap<>();
+
+	/**
+	 * Updates the subscribed Edges of a UI session.
+	 *
+	 * @param wsData     the {@link WsData} of the UI session
+	 * @param oldEdgeIds the previously subscribed Edge-IDs
+	 * @param newEdgeIds the currently subscribed Edge-IDs
+	 */
+	protected void update(WsData wsData, Set<String> oldEdgeIds, Set<String> newEdgeIds) {
+		for (var edgeId : oldEdgeIds) {
+			if (!newEdgeIds.contains(edgeId)) {
+				this.remove(edgeId, wsData);
+			}
+		}
+		for (var edgeId : newEdgeIds) {
+			this.subscribers.compute(edgeId, (key, set) -> {
+				if (set == null) {
+					set = ConcurrentHashMap.newKeySet();
+				}
+				set.add(wsData);
+				return set;
+			});
+		}
+	}
+
+	private void remove(String edgeId, WsData wsData) {
+		this.subscribers.computeIfPresent(edgeId, (key, set) -> {
+			set.remove(wsData);
+			return set.isEmpty() ? null : set;
+		});
+	}
+
+	/**
+	 * Gets the UI sessions that subscribed the given Edge.
+	 *
+	 * @param edgeId the Edge-ID
+	 * @return the {@link WsData}s; empty if there are none
+	 */
+	public Set<WsData> getSubscribers(String edgeId) {
+		return this.subscribers.getOrDefault(edgeId, Collections.emptySet());
+	}
+
+	/**
+	 * Gets the number of Edges with at least one subscriber.
+	 *
+	 * @return the number of Edges
+	 */
+	public int getNumberOfSubscribedEdges() {
+		return this.subscribers.size();
+	}
+
+}
@@ -2,8 +2,6 @@ package io.openems.backend.uiwebsocket.impl;
 
 import static java.util.stream.Collectors.toUnmodifiableMap;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
@@ -155,9 +153,8 @@ public class UiWebsocketImpl extends AbstractOpenemsBackendComponent
 		if (this.server == null) {
 			return;
 		}
-		var wsDatas = this.getWsDatasForEdgeId(edgeId);
-		for (WsData wsData : wsDatas) {
-			if (!wsData.isEdgeSubscribed(edgeId)) {
+		for (var wsData : this.server.getEdgeSubscriptions().getSubscribers(edgeId)) {
+			if (!this.hasAccess(wsData, edgeId)) {
 				continue;
 			}
 			wsData.send(notification);
@@ -186,37 +183,16 @@ public class UiWebsocketImpl extends AbstractOpenemsBackendComponent
 	}
 
 	/**
-	 * Gets the WebSocket connection attachments of all connections accessing an
-	 * Edge-ID.
+	 * Does the User of the WebSocket connection have access to the Edge-ID?.
 	 *
+	 * @param wsData the WebSocket attachment
 	 * @param edgeId the Edge-ID
-	 * @return the WsDatas; empty list if there are none
+	 * @return true if the User has a Role for the Edge
 	 */
-	private List<WsData> getWsDatasForEdgeId(String edgeId) {
-		var result = new ArrayList<WsData>();
-		var connections = this.server.getConnections();
-		for (var websocket : connections) {
-			WsData wsData = websocket.getAttachment();
-			if (wsData == null) {
-				continue;
-			}
-			// get attachment User-ID
-			var userIdOpt = wsData.getUserId();
-			if (userIdOpt.isPresent()) {
-				var userId = userIdOpt.get();
-				// get User for User-ID
-				var userOpt = this.metadata.getUser(userId);
-				if (userOpt.isPresent()) {
-					var user = userOpt.get();
-					var edgeRoleOpt = user.getRole(edgeId);
-					if (edgeRoleOpt.isPresent()) {
-						// User has access to this Edge-ID
-						result.add(wsData);
-					}
-				}
-			}
-		}
-		return result;
+	private boolean hasAccess(WsData wsData, String edgeId) {
+		return wsData.getUser(this.metadata) //
+				.flatMap(user -> user.getRole(edgeId)) //
+				.isPresent();
 	}
 
 	@Override
@@ -233,13 +209,7 @@ public class UiWebsocketImpl extends AbstractOpenemsBackendComponent
 		if (this.server == null) {
 			return;
 		}
-		var connections = this.server.getConnections();
-		for (var websocket : connections) {
-			WsData wsData = websocket.getAttachment();
-			if (wsData != null) {
-				wsData.sendSubscribedChannels(edgeId, edgeCache);
-			}
-		}
+		this.server.sendSubscribedChannels(edgeId, edgeCache);
 	}
 
 	/**
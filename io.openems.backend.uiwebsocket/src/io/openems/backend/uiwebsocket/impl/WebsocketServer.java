@@ -1,8 +1,11 @@
 package io.openems.backend.uiwebsocket.impl;
 
+import java.util.Map;
+
 import org.java_websocket.WebSocket;
 import org.slf4j.Logger;
 
+import io.openems.backend.common.edgewebsocket.EdgeCache;
 import io.openems.common.websocket.AbstractWebsocketServer;
 import io.openems.common.websocket.OnClose;
 import io.openems.common.websocket.OnOpen;
@@ -13,6 +16,7 @@ public class WebsocketServer extends AbstractWebsocketServer<WsData> {
 	private final OnRequest onRequest;
 	private final OnNotification onNotification;
 	private final OnError onError;
+	private final EdgeSubscriptions edgeSubscriptions = new EdgeSubscriptions();
 
 	public WebsocketServer(UiWebsocketImpl parent, String name, int port, int poolSize) {
 		super(name, port, poolSize);
@@ -24,7 +28,36 @@ public class WebsocketServer extends AbstractWebsocketServer<WsData> {
 
 	@Override
 	protected WsData createWsData(WebSocket ws) {
-		return new WsData(ws);
+		return new WsData(ws, this.edgeSubscriptions);
+	}
+
+	/**
+	 * Gets the {@link EdgeSubscriptions} of all UI sessions.
+	 *
+	 * @return the {@link EdgeSubscriptions}
+	 */
+	public EdgeSubscriptions getEdgeSubscriptions() {
+		return this.edgeSubscriptions;
+	}
+
+	/**
+	 * Sends the subscribed Channels of an Edge to all UI sessions that subscribed
+	 * the Edge.
+	 *
+	 * @param edgeId    the Edge-ID
+	 * @param edgeCache the {@link EdgeCache} for the Edge-ID
+	 */
+	public void sendSubscribedChannels(String edgeId, EdgeCache edgeCache) {
+		for (var wsData : this.edgeSubscriptions.getSubscribers(edgeId)) {
+			wsData.scheduleSubscribedChannels(edgeId, edgeCache, this::execute);
+		}
+	}
+
+	@Override
+	public Map<String, Number> debugMetrics() {
+		final var metrics = super.debugMetrics();
+		metrics.put("SubscribedEdges", this.edgeSubscriptions.getNumberOfSubscribedEdges());
+		return metrics;
 	}
 
 	@Override
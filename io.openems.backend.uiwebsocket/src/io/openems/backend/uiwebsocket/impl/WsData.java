@@ -8,6 +8,10 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.java_websocket.WebSocket;
 
@@ -69,10 +73,25 @@ public class WsData extends io.openems.common.websocket.WsData {
 	private Optional<String> userId = Optional.empty();
 	private Optional<String> token = Optional.empty();
 
+	private final EdgeSubscriptions edgeSubscriptions;
 	private Set<String> subscribedEdges = new HashSet<>();
 
-	public WsData(WebSocket ws) {
+	/**
+	 * Edges with new data that was not yet sent to this UI session.
+	 */
+	private final Map<String, EdgeCache> pendingEdges = new ConcurrentHashMap<>();
+	private final AtomicBoolean isSendScheduled = new AtomicBoolean(false);
+
+	public WsData(WebSocket ws, EdgeSubscriptions edgeSubscriptions) {
 		super(ws);
+		this.edgeSubscriptions = edgeSubscriptions;
+	}
+
+	@Override
+	public void dispose() {
+		super.dispose();
+		this.handleSubscribeEdgesRequest(Collections.emptySet());
+		this.pendingEdges.clear();
 	}
 
 	/**
@@ -179,11 +198,50 @@ public class WsData extends io.openems.common.websocket.WsData {
 	 * 
 	 * @param edgeIds the edges to subscribe
 	 */
-	public void handleSubscribeEdgesRequest(Set<String> edgeIds) {
+	public synchronized void handleSubscribeEdgesRequest(Set<String> edgeIds) {
 		// TODO maybe only add and remove on explicit request
+		this.edgeSubscriptions.update(this, this.subscribedEdges, edgeIds);
 		this.subscribedEdges = edgeIds;
 	}
 
+	/**
+	 * Schedules sending the subscribed Channels to the UI session. If sending is
+	 * already scheduled, only the latest {@link EdgeCache} of each Edge is sent
+	 * once.
+	 *
+	 * @param edgeId    the Edge-ID
+	 * @param edgeCache the {@link EdgeCache} for the Edge-ID
+	 * @param executor  the {@link Executor} for sending
+	 */
+	public void scheduleSubscribedChannels(String edgeId, EdgeCache edgeCache, Executor executor) {
+		this.pendingEdges.put(edgeId, edgeCache);
+		if (!this.isSendScheduled.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			executor.execute(this::sendPendingEdges);
+		} catch (RejectedExecutionException e) {
+			// Executor is shutting down
+			this.isSendScheduled.set(false);
+		}
+	}
+
+	private void sendPendingEdges() {
+		do {
+			try {
+				for (var edgeId : this.pendingEdges.keySet()) {
+					var edgeCache = this.pendingEdges.remove(edgeId);
+					if (edgeCache != null) {
+						this.sendSubscribedChannels(edgeId, edgeCache);
+					}
+				}
+			} finally {
+				this.isSendScheduled.set(false);
+			}
+			// Data that arrived while sending did not schedule a new run
+		} while (!this.pendingEdges.isEmpty() && this.isSendScheduled.compareAndSet(false, true));
+	}
+
 	/**
 	 * Sends the subscribed Channels to the UI session.
 	 * 
@@ -0,0 +1,133 @@
+package io.openems.backend.uiwebsocket.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+import org.junit.Test;
+
+import com.google.common.collect.TreeBasedTable;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.backend.common.edgewebsocket.EdgeCache;
+import io.openems.common.jsonrpc.notification.EdgeRpcNotification;
+import io.openems.common.jsonrpc.notification.JsonrpcNotification;
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+import io.openems.common.jsonrpc.request.SubscribeChannelsRequest;
+
+public class EdgeSubscriptionsTest {
+
+	private static final String CHANNEL = "_sum/State";
+
+	private static class DummyWsData extends WsData {
+
+		private final List<String> sent = new ArrayList<>();
+		private Consumer<String> onSend = edgeId -> {
+		};
+
+		public DummyWsData(EdgeSubscriptions edgeSubscriptions, String... edgeIds) {
+			super(null, edgeSubscriptions);
+			this.handleSubscribeEdgesRequest(Set.of(edgeIds));
+			for (var edgeId : edgeIds) {
+				var request = new SubscribeChannelsRequest(1);
+				request.getChannels().add(CHANNEL);
+				this.handleSubscribeChannelsRequest(edgeId, request);
+			}
+		}
+
+		@Override
+		public boolean send(JsonrpcNotification notification) {
+			var edgeId = ((EdgeRpcNotification) notification).getEdgeId();
+			this.sent.add(edgeId);
+			this.onSend.accept(edgeId);
+			return true;
+		}
+	}
+
+	private static EdgeCache edgeCache(int value) {
+		var data = TreeBasedTable.<Long, String, JsonElement>create();
+		data.put(0L, CHANNEL, new JsonPrimitive(value));
+		var result = new EdgeCache();
+		result.updateCurrentData(new TimestampedDataNotification(data));
+		return result;
+	}
+
+	@Test
+	public void testSubscribeAndUnsubscribe() {
+		final var sut = new EdgeSubscriptions();
+		final var ws1 = new DummyWsData(sut, "edge0", "edge1");
+		final var ws2 = new DummyWsData(sut, "edge1");
+		assertEquals(Set.of(ws1), sut.getSubscribers("edge0"));
+		assertEquals(Set.of(ws1, ws2), sut.getSubscribers("edge1"));
+		assertEquals(Set.of(), sut.getSubscribers("edge2"));
+		assertEquals(2, sut.getNumberOfSubscribedEdges());
+
+		// Unsubscribe one Edge
+		ws1.handleSubscribeEdgesRequest(Set.of("edge1"));
+		assertEquals(Set.of(), sut.getSubscribers("edge0"));
+		assertEquals(Set.of(ws1, ws2), sut.getSubscribers("edge1"));
+		assertEquals(1, sut.getNumberOfSubscribedEdges());
+
+		// Connection is closed
+		ws1.dispose();
+		ws2.dispose();
+		assertEquals(Set.of(), sut.getSubscribers("edge1"));
+		assertEquals(0, sut.getNumberOfSubscribedEdges());
+	}
+
+	@Test
+	public void testFanOut() {
+		final var sut = new EdgeSubscriptions();
+		final var ws1 = new DummyWsData(sut, "edge0", "edge1");
+		final var ws2 = new DummyWsData(sut, "edge1");
+		final var tasks = new ArrayList<Runnable>();
+		final Executor executor = tasks::add;
+
+		// Like WebsocketServer#sendSubscribedChannels
+		for (var edgeId : List.of("edge0", "edge1", "edge1")) {
+			for (var wsData : sut.getSubscribers(edgeId)) {
+				wsData.scheduleSubscribedChannels(edgeId, edgeCache(1), executor);
+			}
+		}
+
+		// One run per session; latest data of each Edge is sent once
+		assertEquals(2, tasks.size());
+		tasks.forEach(Runnable::run);
+		assertEquals(Set.of("edge0", "edge1"), Set.copyOf(ws1.sent));
+		assertEquals(2, ws1.sent.size());
+		assertEquals(List.of("edge1"), ws2.sent);
+	}
+
+	@Test
+	public void testDataWhileSending() {
+		final var sut = new EdgeSubscriptions();
+		final var ws = new DummyWsData(sut, "edge0", "edge1");
+		final var tasks = new ArrayList<Runnable>();
+		final Executor executor = tasks::add;
+
+		// Data of another Edge arrives while sending
+		ws.onSend = edgeId -> {
+			if (edgeId.equals("edge0")) {
+				ws.scheduleSubscribedChannels("edge1", edgeCache(2), executor);
+			}
+		};
+		ws.scheduleSubscribedChannels("edge0", edgeCache(1), executor);
+		assertEquals(1, tasks.size());
+		tasks.remove(0).run();
+
+		// ...is sent by the same run
+		assertTrue(tasks.isEmpty());
+		assertEquals(List.of("edge0", "edge1"), ws.sent);
+
+		// Next data schedules a new run
+		ws.scheduleSubscribedChannels("edge0", edgeCache(3), executor);
+		assertEquals(1, tasks.size());
+	}
+
+}
@@ -0,0 +1,135 @@
+package io.openems.common.jsonrpc.base;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import com.google.common.collect.TreeBasedTable;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.Strictness;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.jsonrpc.notification.AggregatedDataNotification;
+import io.openems.common.jsonrpc.notification.ResendDataNotification;
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+
+/**
+ * Parses a JSON String to a {@link JsonrpcMessage} with a streaming fast path
+ * for data notifications.
+ *
+ * <p>
+ * {@link TimestampedDataNotification}s, {@link AggregatedDataNotification}s and
+ * {@link ResendDataNotification}s are read token by token directly into their
+ * data table, i.e. without building a {@link JsonElement} tree of the whole
+ * message and copying it afterwards. All other messages - and anything the fast
+ * path does not understand, e.g. 'params' before 'method' - fall back to
+ * {@link JsonrpcMessage#from(String)}, so results and errors are the same as
+ * for the regular path.
+ */
+public final class JsonrpcMessageReader {
+
+	private JsonrpcMessageReader() {
+	}
+
+	/**
+	 * Parses a JSON String to a {@link JsonrpcMessage}.
+	 *
+	 * @param json the JSON String
+	 * @return the {@link JsonrpcMessage}
+	 * @throws OpenemsNamedException on error
+	 */
+	public static JsonrpcMessage read(String json) throws OpenemsNamedException {
+		JsonrpcMessage result;
+		try {
+			result = readDataNotification(json);
+		} catch (IOException | JsonParseException | IllegalStateException | NumberFormatException e) {
+			result = null;
+		}
+		if (result != null) {
+			return result;
+		}
+		return JsonrpcMessage.from(json);
+	}
+
+	/**
+	 * Reads a data notification.
+	 *
+	 * @param json the JSON String
+	 * @return the notification; null if the message is not a data notification
+	 * @throws IOException on error
+	 */
+	private static JsonrpcNotification readDataNotification(String json) throws IOException {
+		try (var reader = new JsonReader(new StringReader(json))) {
+			// Same as JsonParser.parseString()
+			reader.setStrictness(Strictness.LENIENT);
+			if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+				return null;
+			}
+			reader.beginObject();
+			String method = null;
+			TreeBasedTable<Long, String, JsonElement> data = null;
+			while (reader.hasNext()) {
+				switch (reader.nextName()) {
+				case "jsonrpc" -> reader.skipValue();
+				case "method" -> {
+					if (reader.peek() != JsonToken.STRING) {
+						return null;
+					}
+					method = reader.nextString();
+					if (!isDataMethod(method)) {
+						return null;
+					}
+				}
+				case "params" -> {
+					if (method == null || data != null) {
+						return null;
+					}
+					data = readData(reader);
+				}
+				default -> {
+					// e.g. 'id' of a Request
+					return null;
+				}
+				}
+			}
+			reader.endObject();
+			if (method == null || data == null || reader.peek() != JsonToken.END_DOCUMENT) {
+				return null;
+			}
+			return switch (method) {
+			case TimestampedDataNotification.METHOD -> new TimestampedDataNotification(data);
+			case AggregatedDataNotification.METHOD -> new AggregatedDataNotification(data);
+			case ResendDataNotification.METHOD -> new ResendDataNotification(data);
+			default -> null;
+			};
+		}
+	}
+
+	private static boolean isDataMethod(String method) {
+		return switch (method) {
+		case TimestampedDataNotification.METHOD, AggregatedDataNotification.METHOD, ResendDataNotification.METHOD ->
+			true;
+		default -> false;
+		};
+	}
+
+	private static TreeBasedTable<Long, String, JsonElement> readData(JsonReader reader) throws IOException {
+		final var data = TreeBasedTable.<Long, String, JsonElement>create();
+		reader.beginObject();
+		while (reader.hasNext()) {
+			final var timestamp = Long.parseLong(reader.nextName());
+			reader.beginObject();
+			while (reader.hasNext()) {
+				final var address = reader.nextName();
+				data.put(timestamp, address, JsonParser.parseReader(reader));
+			}
+			reader.endObject();
+		}
+		reader.endObject();
+		return data;
+	}
+
+}
@@ -35,6 +35,10 @@ public class TimestampedDataNotification extends AbstractDataNotification {
 	 * @throws OpenemsNamedException on error
 	 */
 	public static TimestampedDataNotification from(JsonrpcNotification notification) throws OpenemsNamedException {
+		if (notification instanceof TimestampedDataNotification n) {
+			// e.g. decoded from binary format
+			return n;
+		}
 		return new TimestampedDataNotification(parseParams(notification.getParams()));
 	}
 
@@ -4,11 +4,15 @@ import static io.openems.common.utils.JsonrpcUtils.simplifyJsonrpcMessage;
 import static io.openems.common.utils.StringUtils.toShortString;
 import static io.openems.common.websocket.WebsocketUtils.generateWsDataString;
 
+import java.nio.ByteBuffer;
+
 import org.java_websocket.WebSocket;
 import org.java_websocket.exceptions.WebsocketNotConnectedException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.jsonrpc.base.JsonrpcMessage;
 
 public abstract class AbstractWebsocket<T extends WsData> {
@@ -127,6 +131,55 @@ public abstract class AbstractWebsocket<T extends WsData> {
 		}
 	}
 
+	/**
+	 * Sends a binary message to the {@link WebSocket}. Returns true if sending was
+	 * successful, otherwise false. Also logs a warning in that case.
+	 *
+	 * @param ws   the {@link WebSocket}
+	 * @param data the binary message
+	 * @return true if sending was successful
+	 */
+	protected final boolean sendBinaryMessage(WebSocket ws, byte[] data) {
+		if (!ws.isOpen()) {
+			this.sendBinaryMessageFailedLog(ws, data);
+			return false;
+		}
+
+		try {
+			ws.send(data);
+			return true;
+
+		} catch (WebsocketNotConnectedException e) {
+			// Fallback for race condition if Connection was closed inbetween
+			this.sendBinaryMessageFailedLog(ws, data);
+			return false;
+		}
+	}
+
+	/**
+	 * Decodes a binary message to a {@link JsonrpcMessage}. Called synchronously
+	 * in the order the messages were received on a {@link WebSocket}.
+	 *
+	 * <p>
+	 * Binary messages are not supported by default.
+	 *
+	 * @param ws      the {@link WebSocket}
+	 * @param message the binary message
+	 * @return the {@link JsonrpcMessage}
+	 * @throws OpenemsNamedException on error
+	 */
+	protected JsonrpcMessage decodeBinaryMessage(WebSocket ws, ByteBuffer message) throws OpenemsNamedException {
+		throw new OpenemsException("Binary messages are not supported");
+	}
+
+	private void sendBinaryMessageFailedLog(WebSocket ws, byte[] data) {
+		this.logWarn(this.log, new StringBuilder() //
+				.append("[").append(generateWsDataString(ws)) //
+				.append("] Unable to send binary message: Connection is closed. ") //
+				.append(data.length).append(" bytes") //
+				.toString());
+	}
+
 	private void sendMessageFailedLog(WebSocket ws, JsonrpcMessage message) {
 		this.logWarn(this.log, new StringBuilder() //
 				.append("[").append(generateWsDataString(ws)) //
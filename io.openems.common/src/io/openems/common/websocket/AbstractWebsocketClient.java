@@ -163,6 +163,17 @@ public abstract class AbstractWebsocketClient<T extends WsData> extends Abstract
 		return this.sendMessage(this.ws, message);
 	}
 
+	/**
+	 * Sends a binary message to the {@link WebSocket}. Returns true if sending was
+	 * successful, otherwise false. Also logs a warning in that case.
+	 *
+	 * @param data the binary message
+	 * @return true if sending was successful
+	 */
+	public boolean sendBinaryMessage(byte[] data) {
+		return this.sendBinaryMessage(this.ws, data);
+	}
+
 	@Override
 	protected OnInternalError getOnInternalError() {
 		return (t, wsDataString) -> {
@@ -1,9 +1,11 @@
 package io.openems.common.websocket;
 
 import static io.openems.common.utils.ThreadPoolUtils.shutdownAndAwaitTermination;
+import static io.openems.common.websocket.WebsocketUtils.generateWsDataString;
 
 import java.net.BindException;
 import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
@@ -14,15 +16,26 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadPoolExecutor;
 
 import org.java_websocket.WebSocket;
+import org.java_websocket.drafts.Draft;
+import org.java_websocket.exceptions.InvalidDataException;
+import org.java_websocket.framing.CloseFrame;
 import org.java_websocket.handshake.ClientHandshake;
+import org.java_websocket.handshake.ServerHandshakeBuilder;
 import org.java_websocket.server.WebSocketServer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.jsonrpc.base.AbstractJsonrpcRequest;
 import io.openems.common.jsonrpc.base.JsonrpcMessage;
+import io.openems.common.jsonrpc.base.JsonrpcMessageReader;
+import io.openems.common.jsonrpc.base.JsonrpcNotification;
+import io.openems.common.jsonrpc.base.JsonrpcRequest;
+import io.openems.common.jsonrpc.base.JsonrpcResponseError;
 import io.openems.common.utils.ThreadPoolUtils;
+import io.openems.common.websocket.OrderedDispatcher.OverflowPolicy;
 
 public abstract class AbstractWebsocketServer<T extends WsData> extends AbstractWebsocket<T> {
 
@@ -31,6 +44,12 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 	 */
 	private final ThreadPoolExecutor executor;
 
+	/**
+	 * Dispatches the events of each connection in order; null if events are
+	 * executed directly on the shared {@link ExecutorService}.
+	 */
+	private final OrderedDispatcher dispatcher;
+
 	private final Logger log = LoggerFactory.getLogger(AbstractWebsocketServer.class);
 	private final int port;
 	private final WebSocketServer ws;
@@ -44,9 +63,27 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 	 * @param poolSize number of threads dedicated to handle the tasks
 	 */
 	protected AbstractWebsocketServer(String name, int port, int poolSize) {
+		this(name, port, poolSize, 0);
+	}
+
+	/**
+	 * Construct an {@link AbstractWebsocketServer}.
+	 *
+	 * @param name                to identify this server
+	 * @param port                to listen on
+	 * @param poolSize            number of threads dedicated to handle the tasks
+	 * @param connectionQueueSize if &gt; 0, events of each connection are handled
+	 *                            in order via an {@link OrderedDispatcher} with
+	 *                            this max number of queued messages per
+	 *                            connection
+	 */
+	protected AbstractWebsocketServer(String name, int port, int poolSize, int connectionQueueSize) {
 		super(name);
 		this.executor = (ThreadPoolExecutor) Executors.newFixedThreadPool(poolSize,
 				new ThreadFactoryBuilder().setNameFormat(name + "-%d").build());
+		this.dispatcher = connectionQueueSize > 0 //
+				? new OrderedDispatcher(this.executor, connectionQueueSize) //
+				: null;
 
 		this.port = port;
 		this.ws = new WebSocketServer(new InetSocketAddress(port),
@@ -62,7 +99,7 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 			public void onOpen(WebSocket ws, ClientHandshake handshake) {
 				T wsData = AbstractWebsocketServer.this.createWsData(ws);
 				ws.setAttachment(wsData);
-				AbstractWebsocketServer.this.execute(new OnOpenHandler(//
+				AbstractWebsocketServer.this.dispatch(ws, new OnOpenHandler(//
 						ws, handshake, //
 						AbstractWebsocketServer.this.getOnOpen(), //
 						AbstractWebsocketServer.this::logWarn, //
@@ -71,6 +108,18 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 
 			@Override
 			public void onMessage(WebSocket ws, String message) {
+				if (AbstractWebsocketServer.this.dispatcher != null) {
+					// Parse here to apply the OverflowPolicy of the message
+					final JsonrpcMessage jsonrpcMessage;
+					try {
+						jsonrpcMessage = JsonrpcMessageReader.read(message);
+					} catch (OpenemsNamedException e) {
+						AbstractWebsocketServer.this.handleInternalError(e, generateWsDataString(ws));
+						return;
+					}
+					AbstractWebsocketServer.this.dispatchMessage(ws, jsonrpcMessage);
+					return;
+				}
 				AbstractWebsocketServer.this.execute(new OnMessageHandler(//
 						ws, message, //
 						AbstractWebsocketServer.this.getOnRequest(), //
@@ -80,9 +129,31 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 						AbstractWebsocketServer.this::logWarn));
 			}
 
+			@Override
+			public void onMessage(WebSocket ws, ByteBuffer message) {
+				// Decode synchronously to keep the order of stateful binary messages
+				final JsonrpcMessage jsonrpcMessage;
+				try {
+					jsonrpcMessage = AbstractWebsocketServer.this.decodeBinaryMessage(ws, message);
+				} catch (OpenemsNamedException e) {
+					AbstractWebsocketServer.this.handleInternalError(e, generateWsDataString(ws));
+					ws.close(CloseFrame.PROTOCOL_ERROR, "Unable to decode binary message");
+					return;
+				}
+				AbstractWebsocketServer.this.dispatchMessage(ws, jsonrpcMessage);
+			}
+
+			@Override
+			public ServerHandshakeBuilder onWebsocketHandshakeReceivedAsServer(WebSocket ws, Draft draft,
+					ClientHandshake request) throws InvalidDataException {
+				var response = super.onWebsocketHandshakeReceivedAsServer(ws, draft, request);
+				AbstractWebsocketServer.this.onHandshake(request, response);
+				return response;
+			}
+
 			@Override
 			public void onError(WebSocket ws, Exception ex) {
-				AbstractWebsocketServer.this.execute(new OnErrorHandler(//
+				AbstractWebsocketServer.this.dispatch(ws, new OnErrorHandler(//
 						ws, ex, //
 						AbstractWebsocketServer.this.getOnError(), //
 						AbstractWebsocketServer.this::handleInternalError));
@@ -90,10 +161,19 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 
 			@Override
 			public void onClose(WebSocket ws, int code, String reason, boolean remote) {
-				AbstractWebsocketServer.this.execute(new OnCloseHandler(//
+				final var handler = new OnCloseHandler(//
 						ws, code, reason, remote, //
 						AbstractWebsocketServer.this.getOnClose(), //
-						AbstractWebsocketServer.this::handleInternalError));
+						AbstractWebsocketServer.this::handleInternalError);
+				final var dispatcher = AbstractWebsocketServer.this.dispatcher;
+				if (dispatcher == null) {
+					AbstractWebsocketServer.this.execute(handler);
+					return;
+				}
+				dispatcher.dispatch(ws, null, OverflowPolicy.ENQUEUE, () -> {
+					handler.run();
+					dispatcher.remove(ws);
+				});
 			}
 
 			@Override
@@ -135,6 +215,80 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 		this.ws.setReuseAddr(true);
 	}
 
+	/**
+	 * Executes an event of a connection; in order if the {@link OrderedDispatcher}
+	 * is used.
+	 *
+	 * @param ws      the {@link WebSocket}
+	 * @param handler the event handler
+	 */
+	private void dispatch(WebSocket ws, Runnable handler) {
+		if (this.dispatcher == null) {
+			this.execute(handler);
+		} else {
+			this.dispatcher.dispatch(ws, null, OverflowPolicy.ENQUEUE, handler);
+		}
+	}
+
+	/**
+	 * Executes a {@link JsonrpcMessage} of a connection; in order and with its
+	 * {@link OverflowPolicy} if the {@link OrderedDispatcher} is used. Rejected
+	 * {@link JsonrpcRequest}s are answered with an error.
+	 *
+	 * @param ws      the {@link WebSocket}
+	 * @param message the {@link JsonrpcMessage}
+	 */
+	private void dispatchMessage(WebSocket ws, JsonrpcMessage message) {
+		final var handler = new OnMessageHandler(//
+				ws, message, //
+				this.getOnRequest(), //
+				this.getOnNotification(), //
+				this::sendMessage, //
+				this::handleInternalError, //
+				this::logWarn);
+		if (this.dispatcher == null) {
+			this.execute(handler);
+			return;
+		}
+		final var key = message instanceof AbstractJsonrpcRequest r ? r.getMethod() : null;
+		if (!this.dispatcher.dispatch(ws, key, this.getOverflowPolicy(message), handler)
+				&& message instanceof JsonrpcRequest request) {
+			this.sendMessage(ws, new JsonrpcResponseError(request.getId(), "Too many pending messages"));
+		}
+	}
+
+	/**
+	 * Gets the {@link OverflowPolicy} for a message if the queue of its connection
+	 * is full. By default {@link JsonrpcRequest}s are rejected; notifications and
+	 * responses are always queued.
+	 *
+	 * <p>
+	 * Override to return {@link OverflowPolicy#DROP_OLDEST} for a
+	 * {@link JsonrpcNotification} that is fully superseded by the next one of the
+	 * same method. Notifications carrying deltas must never be dropped; return
+	 * {@link OverflowPolicy#WAIT} to stop reading from the connection until its
+	 * queue has space.
+	 *
+	 * @param message the {@link JsonrpcMessage}
+	 * @return the {@link OverflowPolicy}
+	 */
+	protected OverflowPolicy getOverflowPolicy(JsonrpcMessage message) {
+		if (message instanceof JsonrpcRequest) {
+			return OverflowPolicy.REJECT;
+		}
+		return OverflowPolicy.ENQUEUE;
+	}
+
+	/**
+	 * Callback for the handshake of a new connection, e.g. to confirm protocol
+	 * features requested by the client in the HTTP headers of the response.
+	 *
+	 * @param request  the {@link ClientHandshake}
+	 * @param response the {@link ServerHandshakeBuilder}
+	 */
+	protected void onHandshake(ClientHandshake request, ServerHandshakeBuilder response) {
+	}
+
 	/**
 	 * Returns a debug log of the current websocket state.
 	 * 
@@ -155,6 +309,9 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 	public Map<String, Number> debugMetrics() {
 		final var metrics = new HashMap<String, Number>();
 		metrics.putAll(ThreadPoolUtils.debugMetrics(this.executor));
+		if (this.dispatcher != null) {
+			metrics.putAll(this.dispatcher.debugMetrics());
+		}
 		metrics.put("Connections", this.connections.size());
 		return metrics;
 	}
@@ -0,0 +1,353 @@
+package io.openems.common.websocket;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.jsonrpc.notification.AbstractDataNotification;
+import io.openems.common.jsonrpc.notification.AggregatedDataNotification;
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+import io.openems.common.utils.JsonUtils;
+
+/**
+ * Compact binary format for {@link TimestampedDataNotification}s and
+ * {@link AggregatedDataNotification}s sent from Edge to Backend in binary
+ * websocket frames.
+ *
+ * <p>
+ * The format is negotiated during the websocket handshake via the
+ * {@link #HTTP_HEADER}: the client announces it, the server confirms it in the
+ * response. Without confirmation the JSON-RPC format is used.
+ *
+ * <p>
+ * Channel-Addresses are sent only once per connection and then referenced by
+ * an integer id; new addresses are sent inline in the frame that uses them
+ * first. Integer values are delta-encoded against the previous value of the
+ * same Channel. All integers are written as variable-length quantities.
+ *
+ * <pre>
+ * frame    := version type count(newAddress) newAddress* count(row) row*
+ * newAddress := length utf8-bytes
+ * row      := timestamp count(value) value*
+ * value    := id tag payload
+ * </pre>
+ *
+ * <p>
+ * Encoder and Decoder are stateful: frames must be decoded in the order they
+ * were encoded, and both have to be recreated for a new connection.
+ */
+public final class BinaryDataFormat {
+
+	/** Name of the HTTP header that negotiates the format. */
+	public static final String HTTP_HEADER = "binarydata";
+
+	/** Current version of the format. */
+	public static final String VERSION = "1";
+
+	private static final byte FORMAT_VERSION = 1;
+
+	private static final byte TYPE_TIMESTAMPED_DATA = 1;
+	private static final byte TYPE_AGGREGATED_DATA = 2;
+
+	private static final byte TAG_NULL = 0;
+	private static final byte TAG_FALSE = 1;
+	private static final byte TAG_TRUE = 2;
+	private static final byte TAG_LONG_DELTA = 3;
+	private static final byte TAG_DOUBLE = 4;
+	private static final byte TAG_STRING = 5;
+	private static final byte TAG_JSON = 6;
+
+	private BinaryDataFormat() {
+	}
+
+	/**
+	 * Is the binary format requested resp. confirmed by the given header value?.
+	 *
+	 * @param headerValue the value of the {@link #HTTP_HEADER}; possibly null
+	 * @return true if the format is supported
+	 */
+	public static boolean isSupported(String headerValue) {
+		return VERSION.equals(headerValue);
+	}
+
+	/**
+	 * Encodes data notifications of one connection.
+	 */
+	public static final class Encoder {
+
+		private final Map<String, Integer> ids = new HashMap<>();
+		private long[] lastLongs = new long[64];
+
+		/**
+		 * Encodes a {@link TimestampedDataNotification} or
+		 * {@link AggregatedDataNotification}.
+		 *
+		 * <p>
+		 * The frame has to be delivered to the Decoder; use
+		 * {@link #encodeAndSend(AbstractDataNotification, Predicate)} if sending can
+		 * fail.
+		 *
+		 * @param notification the {@link AbstractDataNotification}
+		 * @return the binary frame
+		 */
+		public synchronized byte[] encode(AbstractDataNotification notification) {
+			return this.encode(notification, new ArrayList<>(), new HashMap<>());
+		}
+
+		/**
+		 * Encodes a {@link TimestampedDataNotification} or
+		 * {@link AggregatedDataNotification} and sends the frame.
+		 *
+		 * <p>
+		 * Encoding and sending happen under one lock, so frames are sent in the order
+		 * they were encoded. If sending fails, the Encoder is reset to its state
+		 * before, i.e. it stays in sync with the Decoder that never received the
+		 * frame.
+		 *
+		 * @param notification the {@link AbstractDataNotification}
+		 * @param send         sends the binary frame; returns true on success
+		 * @return true if sending was successful
+		 */
+		public synchronized boolean encodeAndSend(AbstractDataNotification notification, Predicate<byte[]> send) {
+			final var newAddresses = new ArrayList<String>();
+			final var previousLongs = new HashMap<Integer, Long>();
+			final var frame = this.encode(notification, newAddresses, previousLongs);
+			if (send.test(frame)) {
+				return true;
+			}
+			// Roll back
+			newAddresses.forEach(this.ids::remove);
+			previousLongs.forEach((id, value) -> this.lastLongs[id] = value);
+			return false;
+		}
+
+		private byte[] encode(AbstractDataNotification notification, List<String> newAddresses,
+				Map<Integer, Long> previousLongs) {
+			final var data = notification.getData();
+			final var out = new ByteArrayOutputStream(64 + data.size() * 4);
+			out.write(FORMAT_VERSION);
+			out.write(notification instanceof AggregatedDataNotification //
+					? TYPE_AGGREGATED_DATA //
+					: TYPE_TIMESTAMPED_DATA);
+
+			// Register new Channel-Addresses
+			for (var address : data.columnKeySet()) {
+				if (!this.ids.containsKey(address)) {
+					this.ids.put(address, this.ids.size());
+					newAddresses.add(address);
+				}
+			}
+			if (this.ids.size() > this.lastLongs.length) {
+				this.lastLongs = Arrays.copyOf(this.lastLongs, Math.max(this.ids.size(), this.lastLongs.length * 2));
+			}
+			writeVarint(out, newAddresses.size());
+			for (var address : newAddresses) {
+				var bytes = address.getBytes(UTF_8);
+				writeVarint(out, bytes.length);
+				out.write(bytes, 0, bytes.length);
+			}
+
+			// Write values
+			final var rows = data.rowMap();
+			writeVarint(out, rows.size());
+			for (var row : rows.entrySet()) {
+				writeVarint(out, row.getKey());
+				writeVarint(out, row.getValue().size());
+				for (var entry : row.getValue().entrySet()) {
+					int id = this.ids.get(entry.getKey());
+					writeVarint(out, id);
+					this.writeValue(out, id, entry.getValue(), previousLongs);
+				}
+			}
+			return out.toByteArray();
+		}
+
+		private void writeValue(ByteArrayOutputStream out, int id, JsonElement value,
+				Map<Integer, Long> previousLongs) {
+			if (value == null || value.isJsonNull()) {
+				out.write(TAG_NULL);
+				return;
+			}
+			if (value.isJsonPrimitive()) {
+				var p = value.getAsJsonPrimitive();
+				if (p.isBoolean()) {
+					out.write(p.getAsBoolean() ? TAG_TRUE : TAG_FALSE);
+					return;
+				}
+				if (p.isString()) {
+					out.write(TAG_STRING);
+					var bytes = p.getAsString().getBytes(UTF_8);
+					writeVarint(out, bytes.length);
+					out.write(bytes, 0, bytes.length);
+					return;
+				}
+				var n = p.getAsNumber();
+				if (n instanceof Long || n instanceof Integer || n instanceof Short || n instanceof Byte) {
+					var v = n.longValue();
+					out.write(TAG_LONG_DELTA);
+					writeVarint(out, zigZag(v - this.lastLongs[id]));
+					previousLongs.putIfAbsent(id, this.lastLongs[id]);
+					this.lastLongs[id] = v;
+					return;
+				}
+				if (n instanceof Double || n instanceof Float) {
+					out.write(TAG_DOUBLE);
+					// Floats are sent with their shortest decimal representation, like in JSON
+					var bits = Double.doubleToRawLongBits(n instanceof Float f //
+							? Double.parseDouble(f.toString()) //
+							: n.doubleValue());
+					for (var i = 0; i < 8; i++) {
+						out.write((int) (bits >>> (i * 8)));
+					}
+					return;
+				}
+			}
+			// Fallback for everything else
+			out.write(TAG_JSON);
+			var bytes = value.toString().getBytes(UTF_8);
+			writeVarint(out, bytes.length);
+			out.write(bytes, 0, bytes.length);
+		}
+	}
+
+	/**
+	 * Decodes data notifications of one connection.
+	 */
+	public static final class Decoder {
+
+		private final List<String> addresses = new ArrayList<>();
+		private long[] lastLongs = new long[64];
+
+		/**
+		 * Decodes a binary frame.
+		 *
+		 * @param buffer the binary frame
+		 * @return the {@link TimestampedDataNotification} or
+		 *         {@link AggregatedDataNotification}
+		 * @throws OpenemsNamedException on error
+		 */
+		public synchronized AbstractDataNotification decode(ByteBuffer buffer) throws OpenemsNamedException {
+			try {
+				var version = buffer.get();
+				if (version != FORMAT_VERSION) {
+					throw new OpenemsException("Unsupported binary data format version [" + version + "]");
+				}
+				final var type = buffer.get();
+				final AbstractDataNotification notification = switch (type) {
+				case TYPE_TIMESTAMPED_DATA -> new TimestampedDataNotification();
+				case TYPE_AGGREGATED_DATA -> new AggregatedDataNotification();
+				default -> throw new OpenemsException("Unknown binary data type [" + type + "]");
+				};
+
+				// Register new Channel-Addresses
+				for (var i = readSize(buffer); i > 0; i--) {
+					this.addresses.add(readString(buffer));
+				}
+				if (this.addresses.size() > this.lastLongs.length) {
+					this.lastLongs = Arrays.copyOf(this.lastLongs,
+							Math.max(this.addresses.size(), this.lastLongs.length * 2));
+				}
+
+				// Read values
+				for (var rows = readSize(buffer); rows > 0; rows--) {
+					var timestamp = readVarint(buffer);
+					for (var values = readSize(buffer); values > 0; values--) {
+						var id = readSize(buffer);
+						if (id >= this.addresses.size()) {
+							throw new OpenemsException("Unknown Channel id [" + id + "]");
+						}
+						notification.add(timestamp, this.addresses.get(id), this.readValue(buffer, id));
+					}
+				}
+				return notification;
+
+			} catch (BufferUnderflowException e) {
+				throw new OpenemsException("Incomplete binary data frame");
+			}
+		}
+
+		private JsonElement readValue(ByteBuffer buffer, int id) throws OpenemsNamedException {
+			final var tag = buffer.get();
+			return switch (tag) {
+			case TAG_NULL -> JsonNull.INSTANCE;
+			case TAG_FALSE -> new JsonPrimitive(false);
+			case TAG_TRUE -> new JsonPrimitive(true);
+			case TAG_LONG_DELTA -> {
+				var v = this.lastLongs[id] + unZigZag(readVarint(buffer));
+				this.lastLongs[id] = v;
+				yield new JsonPrimitive(v);
+			}
+			case TAG_DOUBLE -> {
+				var bits = 0L;
+				for (var i = 0; i < 8; i++) {
+					bits |= (buffer.get() & 0xFFL) << (i * 8);
+				}
+				yield new JsonPrimitive(Double.longBitsToDouble(bits));
+			}
+			case TAG_STRING -> new JsonPrimitive(readString(buffer));
+			case TAG_JSON -> JsonUtils.parse(readString(buffer));
+			default -> throw new OpenemsException("Unknown binary value tag [" + tag + "]");
+			};
+		}
+	}
+
+	private static void writeVarint(ByteArrayOutputStream out, long value) {
+		while ((value & ~0x7FL) != 0) {
+			out.write((int) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		out.write((int) value);
+	}
+
+	private static long readVarint(ByteBuffer buffer) throws OpenemsException {
+		var result = 0L;
+		for (var shift = 0; shift < 64; shift += 7) {
+			var b = buffer.get();
+			result |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return result;
+			}
+		}
+		throw new OpenemsException("Malformed variable-length quantity");
+	}
+
+	private static int readSize(ByteBuffer buffer) throws OpenemsException {
+		var value = readVarint(buffer);
+		if (value < 0 || value > Integer.MAX_VALUE) {
+			throw new OpenemsException("Invalid size [" + value + "]");
+		}
+		return (int) value;
+	}
+
+	private static String readString(ByteBuffer buffer) throws OpenemsException {
+		var length = readSize(buffer);
+		if (length > buffer.remaining()) {
+			throw new OpenemsException("Incomplete binary data frame");
+		}
+		var bytes = new byte[length];
+		buffer.get(bytes);
+		return new String(bytes, UTF_8);
+	}
+
+	private static long zigZag(long value) {
+		return (value << 1) ^ (value >> 63);
+	}
+
+	private static long unZigZag(long value) {
+		return (value >>> 1) ^ -(value & 1);
+	}
+}
@@ -17,6 +17,7 @@ import org.slf4j.LoggerFactory;
 
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.jsonrpc.base.JsonrpcMessage;
+import io.openems.common.jsonrpc.base.JsonrpcMessageReader;
 import io.openems.common.jsonrpc.base.JsonrpcNotification;
 import io.openems.common.jsonrpc.base.JsonrpcRequest;
 import io.openems.common.jsonrpc.base.JsonrpcResponse;
@@ -31,6 +32,7 @@ public final class OnMessageHandler implements Runnable {
 	private final Logger log = LoggerFactory.getLogger(OnMessageHandler.class);
 	private final WebSocket ws;
 	private final String message;
+	private final JsonrpcMessage jsonrpcMessage;
 	private final OnRequest onRequest;
 	private final OnNotification onNotification;
 	private final BiPredicate<WebSocket, JsonrpcMessage> sendMessage;
@@ -44,8 +46,29 @@ public final class OnMessageHandler implements Runnable {
 			BiPredicate<WebSocket, JsonrpcMessage> sendMessage, //
 			BiConsumer<Throwable, String> handleInternalError, //
 			BiConsumer<Logger, String> logWarn) {
+		this(ws, message, null, onRequest, onNotification, sendMessage, handleInternalError, logWarn);
+	}
+
+	public OnMessageHandler(//
+			WebSocket ws, JsonrpcMessage message, //
+			OnRequest onRequest, //
+			OnNotification onNotification, //
+			BiPredicate<WebSocket, JsonrpcMessage> sendMessage, //
+			BiConsumer<Throwable, String> handleInternalError, //
+			BiConsumer<Logger, String> logWarn) {
+		this(ws, null, message, onRequest, onNotification, sendMessage, handleInternalError, logWarn);
+	}
+
+	private OnMessageHandler(//
+			WebSocket ws, String message, JsonrpcMessage jsonrpcMessage, //
+			OnRequest onRequest, //
+			OnNotification onNotification, //
+			BiPredicate<WebSocket, JsonrpcMessage> sendMessage, //
+			BiConsumer<Throwable, String> handleInternalError, //
+			BiConsumer<Logger, String> logWarn) {
 		this.ws = ws;
 		this.message = message;
+		this.jsonrpcMessage = jsonrpcMessage;
 		this.onRequest = onRequest;
 		this.onNotification = onNotification;
 		this.sendMessage = sendMessage;
@@ -56,7 +79,9 @@ public final class OnMessageHandler implements Runnable {
 	@Override
 	public final void run() {
 		try {
-			var message = JsonrpcMessage.from(this.message);
+			var message = this.jsonrpcMessage != null //
+					? this.jsonrpcMessage // already decoded, e.g. from a binary message
+					: JsonrpcMessageReader.read(this.message);
 
 			if (message instanceof JsonrpcRequest request) {
 				this.handleJsonrpcRequest(this.ws, request);
@@ -0,0 +1,247 @@
+package io.openems.common.websocket;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.java_websocket.WebSocket;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Dispatches the tasks of each {@link WebSocket} connection in order, one at a
+ * time, on a shared {@link Executor}.
+ *
+ * <p>
+ * Every connection has its own bounded queue. A connection with pending tasks
+ * occupies at most one slot in the queue of the {@link Executor}; after
+ * {@link #MAX_TASKS_PER_TURN} tasks it is re-queued at the end, so busy
+ * connections cannot starve others. If the queue of a connection is full, the
+ * {@link OverflowPolicy} of the new task decides what happens.
+ *
+ * <p>
+ * {@link OverflowPolicy#WAIT} blocks the dispatching thread until the queue
+ * has space. If tasks are dispatched from the thread that reads the
+ * connection, this stops reading and the TCP flow control slows down the
+ * sender.
+ */
+public class OrderedDispatcher {
+
+	public enum OverflowPolicy {
+		/** Always enqueue, e.g. for open/close events and responses. */
+		ENQUEUE, //
+		/**
+		 * Drop the oldest queued task with the same key, if any; the new task is
+		 * always enqueued, as it supersedes the dropped one.
+		 */
+		DROP_OLDEST, //
+		/**
+		 * Wait until the queue has space; must not be used from a thread of the
+		 * {@link Executor}.
+		 */
+		WAIT, //
+		/** Do not enqueue; the caller is responsible for handling the rejection. */
+		REJECT;
+	}
+
+	private static final int MAX_TASKS_PER_TURN = 4;
+
+	private final Logger log = LoggerFactory.getLogger(OrderedDispatcher.class);
+
+	private final Executor executor;
+	private final int maxQueueSize;
+	private final Map<WebSocket, Lane> lanes = new ConcurrentHashMap<>();
+
+	private final AtomicInteger queued = new AtomicInteger();
+	private final LongAdder dropped = new LongAdder();
+	private final LongAdder rejected = new LongAdder();
+	private final LongAdder waited = new LongAdder();
+	private final LongAdder latencySum = new LongAdder();
+	private final LongAdder latencyCount = new LongAdder();
+	private final LongAccumulator latencyMax = new LongAccumulator(Long::max, 0L);
+
+	private static record Task(String key, Runnable runnable, long enqueuedAt) {
+	}
+
+	private final class Lane implements Runnable {
+
+		private final WebSocket ws;
+		private final ArrayDeque<Task> tasks = new ArrayDeque<>();
+		private boolean isScheduled = false;
+
+		private Lane(WebSocket ws) {
+			this.ws = ws;
+		}
+
+		private synchronized boolean offer(Task task, OverflowPolicy policy) {
+			if (this.tasks.size() >= OrderedDispatcher.this.maxQueueSize) {
+				switch (policy) {
+				case ENQUEUE -> {
+				}
+				case REJECT -> {
+					OrderedDispatcher.this.rejected.increment();
+					return false;
+				}
+				case DROP_OLDEST -> {
+					if (this.removeOldest(task.key())) {
+						OrderedDispatcher.this.dropped.increment();
+					}
+				}
+				case WAIT -> {
+					OrderedDispatcher.this.waited.increment();
+					this.awaitSpace();
+				}
+				}
+			}
+			this.tasks.add(task);
+			OrderedDispatcher.this.queued.incrementAndGet();
+			if (!this.isScheduled) {
+				this.isScheduled = true;
+				this.schedule();
+			}
+			return true;
+		}
+
+		// Called while holding the lock of this Lane
+		private void awaitSpace() {
+			try {
+				while (this.tasks.size() >= OrderedDispatcher.this.maxQueueSize) {
+					this.wait();
+				}
+			} catch (InterruptedException e) {
+				// Enqueue anyway
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		private boolean removeOldest(String key) {
+			for (var iterator = this.tasks.iterator(); iterator.hasNext();) {
+				if (Objects.equals(iterator.next().key(), key)) {
+					iterator.remove();
+					OrderedDispatcher.this.queued.decrementAndGet();
+					return true;
+				}
+			}
+			return false;
+		}
+
+		private synchronized Task poll() {
+			var task = this.tasks.poll();
+			if (task == null) {
+				this.isScheduled = false;
+			} else if (this.tasks.size() < OrderedDispatcher.this.maxQueueSize) {
+				// Queue has space again
+				this.notifyAll();
+			}
+			return task;
+		}
+
+		// Called while holding the lock of this Lane
+		private void schedule() {
+			try {
+				OrderedDispatcher.this.executor.execute(this);
+			} catch (RejectedExecutionException e) {
+				// Executor is shutting down: discard the pending tasks
+				OrderedDispatcher.this.queued.addAndGet(-this.tasks.size());
+				this.tasks.clear();
+				this.isScheduled = false;
+				this.notifyAll();
+				OrderedDispatcher.this.lanes.remove(this.ws, this);
+			}
+		}
+
+		@Override
+		public void run() {
+			for (var i = 0; i < MAX_TASKS_PER_TURN; i++) {
+				var task = this.poll();
+				if (task == null) {
+					return;
+				}
+				OrderedDispatcher.this.queued.decrementAndGet();
+				var latency = System.nanoTime() - task.enqueuedAt();
+				OrderedDispatcher.this.latencySum.add(latency);
+				OrderedDispatcher.this.latencyCount.increment();
+				OrderedDispatcher.this.latencyMax.accumulate(latency);
+				try {
+					task.runnable().run();
+				} catch (Throwable t) {
+					OrderedDispatcher.this.log.error("Error in dispatched task: " + t.getMessage(), t);
+				}
+			}
+			// Give other connections a turn
+			synchronized (this) {
+				if (this.tasks.isEmpty()) {
+					this.isScheduled = false;
+					return;
+				}
+				this.schedule();
+			}
+		}
+	}
+
+	/**
+	 * Creates an {@link OrderedDispatcher}.
+	 *
+	 * @param executor     the shared {@link Executor}
+	 * @param maxQueueSize the max number of queued tasks per connection
+	 */
+	public OrderedDispatcher(Executor executor, int maxQueueSize) {
+		this.executor = executor;
+		this.maxQueueSize = Math.max(1, maxQueueSize);
+	}
+
+	/**
+	 * Dispatches a task of a connection.
+	 *
+	 * @param ws       the {@link WebSocket}
+	 * @param key      identifies tasks that supersede each other for
+	 *                 {@link OverflowPolicy#DROP_OLDEST}, e.g. the JSON-RPC
+	 *                 method; may be null
+	 * @param policy   the {@link OverflowPolicy} if the queue is full
+	 * @param runnable the task
+	 * @return false if the task was rejected
+	 */
+	public boolean dispatch(WebSocket ws, String key, OverflowPolicy policy, Runnable runnable) {
+		final var lane = this.lanes.computeIfAbsent(ws, Lane::new);
+		return lane.offer(new Task(key, runnable, System.nanoTime()), policy);
+	}
+
+	/**
+	 * Removes the queue of a closed connection. Has to be called by the last task
+	 * of the connection.
+	 *
+	 * @param ws the {@link WebSocket}
+	 */
+	public void remove(WebSocket ws) {
+		this.lanes.remove(ws);
+	}
+
+	/**
+	 * Gets debug metrics. Latencies are measured since the last call.
+	 *
+	 * @return the metrics
+	 */
+	public Map<String, Number> debugMetrics() {
+		final var count = this.latencyCount.sumThenReset();
+		final var sum = this.latencySum.sumThenReset();
+		final var max = this.latencyMax.getThenReset();
+		final var metrics = new HashMap<String, Number>();
+		metrics.put("DispatchQueues", this.lanes.size());
+		metrics.put("DispatchQueued", this.queued.get());
+		metrics.put("DispatchDropped", this.dropped.sum());
+		metrics.put("DispatchRejected", this.rejected.sum());
+		metrics.put("DispatchWaited", this.waited.sum());
+		metrics.put("DispatchLatencyAvg", count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(sum / count));
+		metrics.put("DispatchLatencyMax", TimeUnit.NANOSECONDS.toMillis(max));
+		return metrics;
+	}
+
+}
@@ -0,0 +1,110 @@
+package io.openems.common.jsonrpc.base;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Ignore;
+import org.junit.Test;
+
+import com.google.gson.JsonNull;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.jsonrpc.notification.AggregatedDataNotification;
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+import io.openems.common.utils.JsonUtils;
+
+public class JsonrpcMessageReaderTest {
+
+	private static TimestampedDataNotification timestampedData(int timestamps, int channels) {
+		var notification = new TimestampedDataNotification();
+		for (var t = 0; t < timestamps; t++) {
+			for (var c = 0; c < channels; c++) {
+				notification.add(1_700_000_000_000L + t * 1000L, "meter" + c + "/ActivePower", new JsonPrimitive(c * 10));
+			}
+		}
+		return notification;
+	}
+
+	@Test
+	public void testDataNotification() throws OpenemsNamedException {
+		var expected = timestampedData(2, 3);
+		expected.add(1_700_000_000_000L, "_sum/State", JsonNull.INSTANCE);
+		expected.add(1_700_000_000_000L, "_meta/Version", new JsonPrimitive("2024.1.0"));
+		expected.add(1_700_000_000_000L, "ess0/Cells", JsonUtils.buildJsonArray().add(1).add(2).build());
+
+		var message = JsonrpcMessageReader.read(expected.toString());
+
+		assertTrue(message instanceof TimestampedDataNotification);
+		var data = ((TimestampedDataNotification) message).getData();
+		assertEquals(expected.getData(), data);
+		// Same values as the regular path
+		assertEquals(TimestampedDataNotification.from(GenericJsonrpcNotification.from(expected.toString())).getData(),
+				data);
+
+		var aggregated = new AggregatedDataNotification();
+		aggregated.add(1_700_000_000_000L, "_sum/EssSoc", new JsonPrimitive(50));
+		assertTrue(JsonrpcMessageReader.read(aggregated.toString()) instanceof AggregatedDataNotification);
+	}
+
+	@Test
+	public void testFallback() throws OpenemsNamedException {
+		// Request
+		var request = JsonrpcMessageReader.read("""
+				{"jsonrpc":"2.0","method":"timestampedData","id":"00000000-0000-0000-0000-000000000000","params":{}}""");
+		assertTrue(request instanceof GenericJsonrpcRequest);
+
+		// Params before method
+		var notification = JsonrpcMessageReader.read("""
+				{"jsonrpc":"2.0","params":{"1000":{"_sum/EssSoc":50}},"method":"timestampedData"}""");
+		assertTrue(notification instanceof GenericJsonrpcNotification);
+
+		// Other method
+		notification = JsonrpcMessageReader.read("""
+				{"jsonrpc":"2.0","method":"currentData","params":{"1000":{"_sum/EssSoc":50}}}""");
+		assertTrue(notification instanceof GenericJsonrpcNotification);
+
+		// Invalid timestamp: same error as the regular path
+		notification = JsonrpcMessageReader.read("""
+				{"jsonrpc":"2.0","method":"timestampedData","params":{"foo":{"_sum/EssSoc":50}}}""");
+		assertTrue(notification instanceof GenericJsonrpcNotification);
+	}
+
+	@Test(expected = OpenemsNamedException.class)
+	public void testInvalidJson() throws OpenemsNamedException {
+		JsonrpcMessageReader.read("{\"jsonrpc\":\"2.0\",\"method\":\"timestampedData\",\"params\":{");
+	}
+
+	/**
+	 * Compares the throughput of the streaming fast path with the regular path
+	 * for a typical {@link TimestampedDataNotification}.
+	 */
+	@Ignore
+	@Test
+	public void benchmark() throws OpenemsNamedException {
+		final var json = timestampedData(1, 500).toString();
+		final var iterations = 20_000;
+
+		// Warm-up
+		for (var i = 0; i < iterations; i++) {
+			TimestampedDataNotification.from((JsonrpcNotification) JsonrpcMessage.from(json));
+			TimestampedDataNotification.from((JsonrpcNotification) JsonrpcMessageReader.read(json));
+		}
+
+		var start = System.nanoTime();
+		for (var i = 0; i < iterations; i++) {
+			TimestampedDataNotification.from((JsonrpcNotification) JsonrpcMessage.from(json));
+		}
+		final var tree = (System.nanoTime() - start) / 1_000_000_000.;
+
+		start = System.nanoTime();
+		for (var i = 0; i < iterations; i++) {
+			TimestampedDataNotification.from((JsonrpcNotification) JsonrpcMessageReader.read(json));
+		}
+		final var streaming = (System.nanoTime() - start) / 1_000_000_000.;
+
+		System.out.println(String.format("Parsed %d messages (%d KB): tree %.2f s, streaming %.2f s (%.1fx)", //
+				iterations, json.length() / 1024, tree, streaming, tree / streaming));
+	}
+
+}
@@ -0,0 +1,111 @@
+package io.openems.common.websocket;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.jsonrpc.notification.AggregatedDataNotification;
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+
+public class BinaryDataFormatTest {
+
+	@Test
+	public void testRoundtrip() throws OpenemsNamedException {
+		var encoder = new BinaryDataFormat.Encoder();
+		var decoder = new BinaryDataFormat.Decoder();
+
+		var n1 = new TimestampedDataNotification();
+		n1.add(1_700_000_000_000L, "_sum/EssSoc", new JsonPrimitive(55));
+		n1.add(1_700_000_000_000L, "_sum/GridActivePower", new JsonPrimitive(-1234L));
+		n1.add(1_700_000_000_000L, "meter0/Frequency", new JsonPrimitive(49.98));
+		n1.add(1_700_000_000_000L, "_meta/Version", new JsonPrimitive("2024.1.0"));
+		n1.add(1_700_000_000_000L, "ess0/Running", new JsonPrimitive(true));
+		n1.add(1_700_000_000_000L, "ess0/Undefined", JsonNull.INSTANCE);
+		n1.add(1_700_000_001_000L, "_sum/EssSoc", new JsonPrimitive(56));
+		var array = new JsonArray();
+		array.add(1);
+		n1.add(1_700_000_001_000L, "ess0/Array", array);
+		var r1 = decoder.decode(ByteBuffer.wrap(encoder.encode(n1)));
+		assertTrue(r1 instanceof TimestampedDataNotification);
+		assertEquals(n1.getData(), r1.getData());
+
+		// Known addresses are not sent again; values are delta-encoded
+		var n2 = new AggregatedDataNotification();
+		n2.add(1_700_000_300_000L, "_sum/EssSoc", new JsonPrimitive(57));
+		n2.add(1_700_000_300_000L, "_sum/GridActivePower", new JsonPrimitive(-1200L));
+		var bytes = encoder.encode(n2);
+		assertTrue(bytes.length < 20);
+		var r2 = decoder.decode(ByteBuffer.wrap(bytes));
+		assertTrue(r2 instanceof AggregatedDataNotification);
+		assertEquals(n2.getData(), r2.getData());
+	}
+
+	@Test
+	public void testFloat() throws OpenemsNamedException {
+		var n = new TimestampedDataNotification();
+		n.add(1_700_000_000_000L, "meter0/Frequency", new JsonPrimitive(49.98f));
+		var r = new BinaryDataFormat.Decoder().decode(ByteBuffer.wrap(new BinaryDataFormat.Encoder().encode(n)));
+
+		// Same value as via JSON
+		assertEquals("49.98", r.getData().get(1_700_000_000_000L, "meter0/Frequency").toString());
+	}
+
+	@Test
+	public void testFailedSend() throws OpenemsNamedException {
+		var encoder = new BinaryDataFormat.Encoder();
+		var decoder = new BinaryDataFormat.Decoder();
+
+		var n1 = new TimestampedDataNotification();
+		n1.add(1_700_000_000_000L, "_sum/EssSoc", new JsonPrimitive(55));
+		assertTrue(encoder.encodeAndSend(n1, frame -> decodeOrFail(decoder, frame)));
+
+		// Frame with a new address and a new delta is lost
+		var n2 = new TimestampedDataNotification();
+		n2.add(1_700_000_001_000L, "_sum/EssSoc", new JsonPrimitive(60));
+		n2.add(1_700_000_001_000L, "_sum/GridActivePower", new JsonPrimitive(100));
+		assertFalse(encoder.encodeAndSend(n2, frame -> false));
+
+		// Decoder is still in sync
+		var n3 = new TimestampedDataNotification();
+		n3.add(1_700_000_002_000L, "_sum/EssSoc", new JsonPrimitive(61));
+		n3.add(1_700_000_002_000L, "_sum/GridActivePower", new JsonPrimitive(110));
+		assertTrue(encoder.encodeAndSend(n3, frame -> {
+			try {
+				assertEquals(n3.getData(), decoder.decode(ByteBuffer.wrap(frame)).getData());
+				return true;
+			} catch (OpenemsNamedException e) {
+				throw new AssertionError(e);
+			}
+		}));
+	}
+
+	private static boolean decodeOrFail(BinaryDataFormat.Decoder decoder, byte[] frame) {
+		try {
+			decoder.decode(ByteBuffer.wrap(frame));
+			return true;
+		} catch (OpenemsNamedException e) {
+			throw new AssertionError(e);
+		}
+	}
+
+	@Test(expected = OpenemsNamedException.class)
+	public void testUnknownChannelId() throws OpenemsNamedException {
+		var n = new TimestampedDataNotification();
+		n.add(1_700_000_000_000L, "_sum/EssSoc", new JsonPrimitive(55));
+		var encoder = new BinaryDataFormat.Encoder();
+		encoder.encode(n);
+
+		// Decoder never received the address of the Channel
+		new BinaryDataFormat.Decoder().decode(ByteBuffer.wrap(encoder.encode(n)));
+	}
+
+}
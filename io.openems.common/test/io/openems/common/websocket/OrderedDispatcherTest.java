@@ -0,0 +1,125 @@
+package io.openems.common.websocket;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.java_websocket.WebSocket;
+import org.junit.Test;
+
+import io.openems.common.websocket.OrderedDispatcher.OverflowPolicy;
+
+public class OrderedDispatcherTest {
+
+	private static WebSocket dummyWebsocket() {
+		return (WebSocket) Proxy.newProxyInstance(WebSocket.class.getClassLoader(),
+				new Class<?>[] { WebSocket.class }, (proxy, method, args) -> switch (method.getName()) {
+				case "hashCode" -> System.identityHashCode(proxy);
+				case "equals" -> proxy == args[0];
+				default -> null;
+				});
+	}
+
+	@Test
+	public void testOrderAndFairness() {
+		final var executor = new ArrayList<Runnable>();
+		final var sut = new OrderedDispatcher(executor::add, 100);
+		final var ws1 = dummyWebsocket();
+		final var ws2 = dummyWebsocket();
+		final var result = new ArrayList<String>();
+
+		for (var i = 0; i < 6; i++) {
+			final var name = "a" + i;
+			sut.dispatch(ws1, null, OverflowPolicy.ENQUEUE, () -> result.add(name));
+		}
+		sut.dispatch(ws2, null, OverflowPolicy.ENQUEUE, () -> result.add("b0"));
+
+		// One slot per connection
+		assertEquals(2, executor.size());
+
+		runAll(executor);
+
+		// ws1 is re-queued after 4 tasks, so ws2 gets its turn
+		assertEquals(List.of("a0", "a1", "a2", "a3", "b0", "a4", "a5"), result);
+		assertEquals(0, sut.debugMetrics().get("DispatchQueued"));
+	}
+
+	@Test
+	public void testOverflowPolicy() {
+		final var executor = new ArrayList<Runnable>();
+		final var sut = new OrderedDispatcher(executor::add, 2);
+		final var ws = dummyWebsocket();
+		final var result = new ArrayList<String>();
+
+		assertTrue(sut.dispatch(ws, "data", OverflowPolicy.DROP_OLDEST, () -> result.add("data0")));
+		assertTrue(sut.dispatch(ws, "request", OverflowPolicy.REJECT, () -> result.add("request0")));
+
+		// Queue is full
+		assertFalse(sut.dispatch(ws, "request", OverflowPolicy.REJECT, () -> result.add("request1")));
+		assertTrue(sut.dispatch(ws, "data", OverflowPolicy.DROP_OLDEST, () -> result.add("data1")));
+		// Superseding task without a queued predecessor is never dropped
+		assertTrue(sut.dispatch(ws, "config", OverflowPolicy.DROP_OLDEST, () -> result.add("config0")));
+		assertTrue(sut.dispatch(ws, null, OverflowPolicy.ENQUEUE, () -> result.add("close")));
+
+		runAll(executor);
+
+		assertEquals(List.of("request0", "data1", "config0", "close"), result);
+		final var metrics = sut.debugMetrics();
+		assertEquals(1L, metrics.get("DispatchRejected"));
+		assertEquals(1L, metrics.get("DispatchDropped"));
+	}
+
+	@Test
+	public void testWait() throws InterruptedException {
+		final var executor = Collections.synchronizedList(new ArrayList<Runnable>());
+		final var sut = new OrderedDispatcher(executor::add, 1);
+		final var ws = dummyWebsocket();
+		final var result = Collections.synchronizedList(new ArrayList<String>());
+
+		assertTrue(sut.dispatch(ws, null, OverflowPolicy.WAIT, () -> result.add("data0")));
+
+		// Queue is full: the dispatching thread waits
+		final var thread = new Thread(() -> sut.dispatch(ws, null, OverflowPolicy.WAIT, () -> result.add("data1")));
+		thread.start();
+		thread.join(100);
+		assertTrue(thread.isAlive());
+
+		// ...until the queue has space
+		executor.remove(0).run();
+		thread.join(5000);
+		assertFalse(thread.isAlive());
+		runAll(executor);
+
+		assertEquals(List.of("data0", "data1"), result);
+		assertEquals(1L, sut.debugMetrics().get("DispatchWaited"));
+	}
+
+	@Test
+	public void testRejectedExecution() {
+		final var sut = new OrderedDispatcher(t -> {
+			throw new RejectedExecutionException();
+		}, 2);
+		final var ws = dummyWebsocket();
+
+		assertTrue(sut.dispatch(ws, null, OverflowPolicy.ENQUEUE, () -> fail("Executed")));
+
+		// Pending tasks are discarded
+		final var metrics = sut.debugMetrics();
+		assertEquals(0, metrics.get("DispatchQueues"));
+		assertEquals(0, metrics.get("DispatchQueued"));
+	}
+
+	private static void runAll(List<Runnable> executor) {
+		while (!executor.isEmpty()) {
+			executor.remove(0).run();
+		}
+	}
+
+}
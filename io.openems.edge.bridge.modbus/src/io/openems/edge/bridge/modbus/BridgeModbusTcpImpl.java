@@ -13,6 +13,9 @@ import org.osgi.service.event.EventHandler;
 import org.osgi.service.event.propertytypes.EventTopics;
 import org.osgi.service.metatype.annotations.Designate;
 
+import com.ghgande.j2mod.modbus.ModbusIOException;
+import com.ghgande.j2mod.modbus.ModbusSlaveException;
+import com.ghgande.j2mod.modbus.io.AbstractModbusTransport;
 import com.ghgande.j2mod.modbus.io.ModbusTCPTransaction;
 import com.ghgande.j2mod.modbus.io.ModbusTransaction;
 import com.ghgande.j2mod.modbus.net.TCPMasterConnection;
@@ -46,6 +49,9 @@ public class BridgeModbusTcpImpl extends AbstractModbusBridge
 	private InetAddress ipAddress = null;
 	private int port;
 
+	/** Pipeline for multiple requests in flight; null for sequential mode. */
+	private ModbusTcpPipeline pipeline = null;
+
 	public BridgeModbusTcpImpl() {
 		super(//
 				OpenemsComponent.ChannelId.values(), //
@@ -57,14 +63,16 @@ public class BridgeModbusTcpImpl extends AbstractModbusBridge
 	@Activate
 	private void activate(ComponentContext context, ConfigTcp config) throws UnknownHostException {
 		super.activate(context, config.id(), config.alias(), config.enabled(), config.logVerbosity(),
-				config.invalidateElementsAfterReadErrors());
+				config.invalidateElementsAfterReadErrors(), config.coalesceReadTasksMaxGap(),
+				config.adaptivePollingMaxInterval());
 		this.applyConfig(config);
 	}
 
 	@Modified
 	private void modified(ComponentContext context, ConfigTcp config) throws UnknownHostException {
 		super.modified(context, config.id(), config.alias(), config.enabled(), config.logVerbosity(),
-				config.invalidateElementsAfterReadErrors());
+				config.invalidateElementsAfterReadErrors(), config.coalesceReadTasksMaxGap(),
+				config.adaptivePollingMaxInterval());
 		this.applyConfig(config);
 		this.closeModbusConnection();
 	}
@@ -72,26 +80,80 @@ public class BridgeModbusTcpImpl extends AbstractModbusBridge
 	private void applyConfig(ConfigTcp config) {
 		this.setIpAddress(InetAddressUtils.parseOrNull(config.ip()));
 		this.port = config.port();
+		synchronized (this) {
+			this.pipeline = config.pipelineDepth() > 1 //
+					? new ModbusTcpPipeline(config.pipelineDepth(), value -> this._setSequentialUnits(value)) //
+					: null;
+		}
+		this.worker.setPipelineDepth(config.pipelineDepth());
 	}
 
 	@Override
 	@Deactivate
 	protected void deactivate() {
 		super.deactivate();
+		this.worker.setPipelineDepth(1);
 	}
 
 	@Override
-	public void closeModbusConnection() {
+	public synchronized void closeModbusConnection() {
+		if (this.pipeline != null) {
+			this.pipeline.failAll(new ModbusIOException("Connection closed"));
+		}
 		if (this._connection != null) {
 			this._connection.close();
 			this._connection = null;
 		}
 	}
 
+	@Override
+	public synchronized void closeModbusConnectionOnError(Exception cause) {
+		if (this.pipeline != null && cause instanceof ModbusSlaveException) {
+			// Exception response of a device; the connection is fine and used by other
+			// requests in flight
+			return;
+		}
+		if (this.pipeline != null && this._connection != null
+				&& !this.pipeline.hasFailed(this._connection.getModbusTransport())) {
+			// Other requests are in flight on this connection; it was either not
+			// affected or already reopened after the error
+			return;
+		}
+		super.closeModbusConnectionOnError(cause);
+	}
+
+	/**
+	 * Closes the Modbus connection, if it still uses the given transport.
+	 *
+	 * @param transport the {@link AbstractModbusTransport} that failed
+	 */
+	protected synchronized void closeModbusConnection(AbstractModbusTransport transport) {
+		if (this._connection != null && this._connection.getModbusTransport() == transport) {
+			this.closeModbusConnection();
+		}
+	}
+
+	/**
+	 * Gets the {@link AbstractModbusTransport} of the open Modbus connection;
+	 * connects if required.
+	 *
+	 * @return the {@link AbstractModbusTransport}
+	 * @throws OpenemsException on error
+	 */
+	protected synchronized AbstractModbusTransport getModbusTransport() throws OpenemsException {
+		return this.getModbusConnection().getModbusTransport();
+	}
+
 	@Override
 	public ModbusTransaction getNewModbusTransaction() throws OpenemsException {
 		var connection = this.getModbusConnection();
-		var transaction = new ModbusTCPTransaction(connection);
+		final ModbusTransaction transaction;
+		synchronized (this) {
+			transaction = this.pipeline != null //
+					? new PipelinedModbusTransaction(this.pipeline, connection.getModbusTransport(),
+							this::getModbusTransport, this::closeModbusConnection) //
+					: new ModbusTCPTransaction(connection);
+		}
 		transaction.setRetries(AbstractModbusBridge.DEFAULT_RETRIES);
 		return transaction;
 	}
@@ -51,5 +51,11 @@ import io.openems.edge.bridge.modbus.api.Stopbit;
 	@AttributeDefinition(name = "Invalidate elements after how many read Errors?", description = "Increase this value if modbus read errors happen frequently.")
 	int invalidateElementsAfterReadErrors() default 1;
 
+	@AttributeDefinition(name = "Coalesce read tasks with max gap", description = "Read adjacent register blocks of one device with one request, if the number of unused registers between them is at most this value. Make sure that the device allows reading the registers in the gap. Set to -1 to disable.", min = "-1")
+	int coalesceReadTasksMaxGap() default -1;
+
+	@AttributeDefinition(name = "Adaptive polling max interval [s]", description = "Low priority registers whose values do not change are polled less often, up to this interval. Set to 0 to disable.", min = "0")
+	int adaptivePollingMaxInterval() default 0;
+
 	String webconsole_configurationFactory_nameHint() default "Bridge Modbus/RTU Serial [{id}]";
 }
\ No newline at end of file
@@ -33,5 +33,14 @@ import io.openems.edge.bridge.modbus.api.LogVerbosity;
 	@AttributeDefinition(name = "Invalidate elements after how many read Errors?", description = "Increase this value if modbus read errors happen frequently.")
 	int invalidateElementsAfterReadErrors() default 1;
 
+	@AttributeDefinition(name = "Coalesce read tasks with max gap", description = "Read adjacent register blocks of one device with one request, if the number of unused registers between them is at most this value. Make sure that the device allows reading the registers in the gap. Set to -1 to disable.", min = "-1")
+	int coalesceReadTasksMaxGap() default -1;
+
+	@AttributeDefinition(name = "Adaptive polling max interval [s]", description = "Low priority registers whose values do not change are polled less often, up to this interval. Set to 0 to disable.", min = "0")
+	int adaptivePollingMaxInterval() default 0;
+
+	@AttributeDefinition(name = "Pipeline depth", description = "Max number of requests in flight on the connection. Values above 1 enable pipelined mode, e.g. for gateways with many devices. Devices that reply out-of-order or drop replies fall back to sequential mode.", min = "1")
+	int pipelineDepth() default 1;
+
 	String webconsole_configurationFactory_nameHint() default "Bridge Modbus/TCP [{id}]";
 }
\ No newline at end of file
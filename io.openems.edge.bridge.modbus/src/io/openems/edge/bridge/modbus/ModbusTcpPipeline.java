@@ -0,0 +1,208 @@
+package io.openems.edge.bridge.modbus;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ghgande.j2mod.modbus.ModbusException;
+import com.ghgande.j2mod.modbus.ModbusIOException;
+import com.ghgande.j2mod.modbus.ModbusSlaveException;
+import com.ghgande.j2mod.modbus.io.AbstractModbusTransport;
+import com.ghgande.j2mod.modbus.msg.ExceptionResponse;
+import com.ghgande.j2mod.modbus.msg.ModbusRequest;
+import com.ghgande.j2mod.modbus.msg.ModbusResponse;
+
+/**
+ * Keeps multiple Modbus/TCP requests in flight on one connection and matches
+ * the responses by their Transaction-ID.
+ *
+ * <p>
+ * Requests are written immediately. Waiting threads take turns in reading
+ * responses from the connection and hand them over to the matching request,
+ * i.e. no separate reader thread is required.
+ *
+ * <p>
+ * Some gateways do not handle multiple outstanding requests properly. If a
+ * device (Unit-ID) replies out-of-order or a reply is dropped while other
+ * requests were in flight, the device falls back to sequential mode: its
+ * requests are then executed exclusively, with no other request in flight.
+ */
+class ModbusTcpPipeline {
+
+	private static record Pending(int transactionId, int unitId, long sequence,
+			CompletableFuture<ModbusResponse> future) {
+	}
+
+	private final Logger log = LoggerFactory.getLogger(ModbusTcpPipeline.class);
+
+	private final int depth;
+	private final Consumer<Integer> sequentialUnitsChannel;
+	private final Semaphore inFlight;
+	private final Object writeLock = new Object();
+	private final ReentrantLock readLock = new ReentrantLock();
+	private final Map<Integer, Pending> pending = new ConcurrentHashMap<>();
+	private final Set<Integer> sequentialUnitIds = ConcurrentHashMap.newKeySet();
+	private final AtomicInteger nextTransactionId = new AtomicInteger();
+
+	/** Order in which requests were written; guarded by 'writeLock'. */
+	private long nextSequence = 0;
+
+	/** The transport of the last connection that failed with an I/O error. */
+	private volatile AbstractModbusTransport failedTransport = null;
+
+	/**
+	 * Constructor for {@link ModbusTcpPipeline}.
+	 *
+	 * @param depth                  the max number of requests in flight
+	 * @param sequentialUnitsChannel sets the number of Unit-IDs that fell back to
+	 *                               sequential mode
+	 */
+	protected ModbusTcpPipeline(int depth, Consumer<Integer> sequentialUnitsChannel) {
+		this.depth = depth;
+		this.sequentialUnitsChannel = sequentialUnitsChannel;
+		this.inFlight = new Semaphore(depth, true);
+		this.sequentialUnitsChannel.accept(0);
+	}
+
+	/**
+	 * Sends a {@link ModbusRequest} and waits for the matching
+	 * {@link ModbusResponse}.
+	 *
+	 * @param transport the {@link AbstractModbusTransport} of the connection
+	 * @param request   the {@link ModbusRequest}; Unit-ID must be set
+	 * @return the {@link ModbusResponse}
+	 * @throws ModbusException on error
+	 */
+	protected ModbusResponse execute(AbstractModbusTransport transport, ModbusRequest request)
+			throws ModbusException {
+		final var unitId = request.getUnitID();
+		final var permits = this.sequentialUnitIds.contains(unitId) ? this.depth : 1;
+		this.inFlight.acquireUninterruptibly(permits);
+		Pending pending = null;
+		try {
+			synchronized (this.writeLock) {
+				// Sequence has to match the order on the wire
+				pending = new Pending(this.reserveTransactionId(), unitId, ++this.nextSequence,
+						new CompletableFuture<>());
+				this.pending.put(pending.transactionId, pending);
+				request.setTransactionID(pending.transactionId);
+				try {
+					transport.writeRequest(request);
+				} catch (ModbusIOException e) {
+					this.fail(transport, e);
+					throw e;
+				}
+			}
+
+			this.readLock.lock();
+			try {
+				while (!pending.future.isDone()) {
+					this.dispatch(transport.readResponse());
+				}
+
+			} catch (ModbusIOException e) {
+				if (!pending.future.isDone() && permits == 1 && this.pending.size() > 1) {
+					this.fallBackToSequential(unitId, "reply was dropped");
+				}
+				// Connection state is unknown -> fail all outstanding requests
+				this.fail(transport, e);
+
+			} finally {
+				this.readLock.unlock();
+			}
+
+			var response = pending.future.join();
+			if (response instanceof ExceptionResponse e) {
+				throw new ModbusSlaveException(e.getExceptionCode());
+			}
+			return response;
+
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof ModbusException me) {
+				throw me;
+			}
+			throw new ModbusIOException(e.getMessage());
+
+		} finally {
+			if (pending != null) {
+				this.pending.remove(pending.transactionId);
+			}
+			this.inFlight.release(permits);
+		}
+	}
+
+	/**
+	 * Fails all outstanding requests, e.g. because the connection was closed.
+	 *
+	 * @param e the cause
+	 */
+	protected void failAll(ModbusException e) {
+		this.pending.values().forEach(p -> p.future.completeExceptionally(e));
+	}
+
+	/**
+	 * Gets whether an I/O error happened on the given transport, i.e. the
+	 * connection has to be reopened.
+	 *
+	 * @param transport the {@link AbstractModbusTransport}; may be null
+	 * @return true if the transport failed
+	 */
+	protected boolean hasFailed(AbstractModbusTransport transport) {
+		return transport != null && transport == this.failedTransport;
+	}
+
+	private void fail(AbstractModbusTransport transport, ModbusIOException e) {
+		this.failedTransport = transport;
+		this.failAll(e);
+	}
+
+	/**
+	 * Hands a {@link ModbusResponse} over to the matching request.
+	 *
+	 * @param response the {@link ModbusResponse}
+	 */
+	private void dispatch(ModbusResponse response) {
+		var pending = this.pending.get(response.getTransactionID());
+		if (pending == null) {
+			this.log.warn("Ignoring Modbus/TCP response with unknown Transaction-ID [" + response.getTransactionID()
+					+ "] from Unit-ID [" + response.getUnitID() + "]");
+			return;
+		}
+		var isOutOfOrder = this.pending.values().stream() //
+				.anyMatch(p -> p.sequence < pending.sequence && !p.future.isDone());
+		if (isOutOfOrder) {
+			this.fallBackToSequential(pending.unitId, "reply was out-of-order");
+		}
+		pending.future.complete(response);
+	}
+
+	private void fallBackToSequential(int unitId, String reason) {
+		if (this.sequentialUnitIds.add(unitId)) {
+			this.log.warn("Modbus/TCP Unit-ID [" + unitId + "] falls back to sequential mode: " + reason);
+			this.sequentialUnitsChannel.accept(this.sequentialUnitIds.size());
+		}
+	}
+
+	/**
+	 * Reserves a Transaction-ID that is not used by any outstanding request.
+	 *
+	 * @return the Transaction-ID
+	 */
+	private int reserveTransactionId() {
+		while (true) {
+			var transactionId = this.nextTransactionId.incrementAndGet() & 0xFFFF;
+			if (!this.pending.containsKey(transactionId)) {
+				return transactionId;
+			}
+		}
+	}
+}
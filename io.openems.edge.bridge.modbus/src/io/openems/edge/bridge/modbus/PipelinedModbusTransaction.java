@@ -0,0 +1,75 @@
+package io.openems.edge.bridge.modbus;
+
+import java.util.function.Consumer;
+
+import com.ghgande.j2mod.modbus.ModbusException;
+import com.ghgande.j2mod.modbus.ModbusIOException;
+import com.ghgande.j2mod.modbus.io.AbstractModbusTransport;
+import com.ghgande.j2mod.modbus.io.ModbusTransaction;
+import com.ghgande.j2mod.modbus.msg.ModbusResponse;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.function.ThrowingSupplier;
+
+/**
+ * A {@link ModbusTransaction} that is executed via a {@link ModbusTcpPipeline}.
+ *
+ * <p>
+ * Like the j2mod transactions, a request that failed with an I/O error is
+ * retried up to {@link #getRetries()} times on a new connection.
+ */
+class PipelinedModbusTransaction extends ModbusTransaction {
+
+	private final ModbusTcpPipeline pipeline;
+	private final ThrowingSupplier<AbstractModbusTransport, OpenemsException> reconnect;
+	private final Consumer<AbstractModbusTransport> closeConnection;
+
+	private AbstractModbusTransport transport;
+	private ModbusResponse response = null;
+
+	/**
+	 * Constructor for {@link PipelinedModbusTransaction}.
+	 *
+	 * @param pipeline        the {@link ModbusTcpPipeline}
+	 * @param transport       the {@link AbstractModbusTransport} of the open
+	 *                        connection
+	 * @param reconnect       gets the transport of the open connection; connects
+	 *                        if required
+	 * @param closeConnection closes the connection, if it still uses the given
+	 *                        failed transport
+	 */
+	protected PipelinedModbusTransaction(ModbusTcpPipeline pipeline, AbstractModbusTransport transport,
+			ThrowingSupplier<AbstractModbusTransport, OpenemsException> reconnect,
+			Consumer<AbstractModbusTransport> closeConnection) {
+		this.pipeline = pipeline;
+		this.transport = transport;
+		this.reconnect = reconnect;
+		this.closeConnection = closeConnection;
+	}
+
+	@Override
+	public void execute() throws ModbusException {
+		for (var retry = 0;; retry++) {
+			try {
+				this.response = this.pipeline.execute(this.transport, this.getRequest());
+				return;
+
+			} catch (ModbusIOException e) {
+				if (retry >= this.getRetries()) {
+					throw e;
+				}
+				this.closeConnection.accept(this.transport);
+				try {
+					this.transport = this.reconnect.get();
+				} catch (OpenemsException oe) {
+					throw new ModbusIOException(oe.getMessage());
+				}
+			}
+		}
+	}
+
+	@Override
+	public ModbusResponse getResponse() {
+		return this.response;
+	}
+}
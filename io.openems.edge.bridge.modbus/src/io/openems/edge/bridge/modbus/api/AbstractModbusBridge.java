@@ -1,5 +1,6 @@
 package io.openems.edge.bridge.modbus.api;
 
+import java.time.Duration;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 
@@ -47,6 +48,10 @@ public abstract class AbstractModbusBridge extends AbstractOpenemsComponent impl
 			state -> this._setCycleTimeIsTooShort(state),
 			// Set ChannelId.CYCLE_DELAY
 			cycleDelay -> this._setCycleDelay(cycleDelay),
+			// Set ChannelId.COALESCED_READ_TASKS
+			value -> this._setCoalescedReadTasks(value),
+			// Set ChannelId.SAVED_READ_REQUESTS
+			value -> this._setSavedReadRequests(value),
 			// LogVerbosity
 			this.logVerbosity //
 	);
@@ -63,9 +68,11 @@ public abstract class AbstractModbusBridge extends AbstractOpenemsComponent impl
 	}
 
 	protected void activate(ComponentContext context, String id, String alias, boolean enabled,
-			LogVerbosity logVerbosity, int invalidateElementsAfterReadErrors) {
+			LogVerbosity logVerbosity, int invalidateElementsAfterReadErrors, int coalesceReadTasksMaxGap,
+			int adaptivePollingMaxInterval) {
 		super.activate(context, id, alias, enabled);
-		this.applyConfig(logVerbosity, invalidateElementsAfterReadErrors);
+		this.applyConfig(logVerbosity, invalidateElementsAfterReadErrors, coalesceReadTasksMaxGap,
+				adaptivePollingMaxInterval);
 		if (enabled) {
 			this.worker.activate(id);
 		}
@@ -85,9 +92,11 @@ public abstract class AbstractModbusBridge extends AbstractOpenemsComponent impl
 	}
 
 	protected void modified(ComponentContext context, String id, String alias, boolean enabled,
-			LogVerbosity logVerbosity, int invalidateElementsAfterReadErrors) {
+			LogVerbosity logVerbosity, int invalidateElementsAfterReadErrors, int coalesceReadTasksMaxGap,
+			int adaptivePollingMaxInterval) {
 		super.modified(context, id, alias, enabled);
-		this.applyConfig(logVerbosity, invalidateElementsAfterReadErrors);
+		this.applyConfig(logVerbosity, invalidateElementsAfterReadErrors, coalesceReadTasksMaxGap,
+				adaptivePollingMaxInterval);
 		if (enabled) {
 			this.worker.modified(id);
 		} else {
@@ -95,9 +104,12 @@ public abstract class AbstractModbusBridge extends AbstractOpenemsComponent impl
 		}
 	}
 
-	private void applyConfig(LogVerbosity logVerbosity, int invalidateElementsAfterReadErrors) {
+	private void applyConfig(LogVerbosity logVerbosity, int invalidateElementsAfterReadErrors,
+			int coalesceReadTasksMaxGap, int adaptivePollingMaxInterval) {
 		this.logVerbosity.set(logVerbosity);
 		this.invalidateElementsAfterReadErrors = invalidateElementsAfterReadErrors;
+		this.worker.setCoalesceReadTasksMaxGap(coalesceReadTasksMaxGap);
+		this.worker.setAdaptivePollingMaxInterval(Duration.ofSeconds(Math.max(0, adaptivePollingMaxInterval)));
 	}
 
 	/**
@@ -161,6 +173,20 @@ public abstract class AbstractModbusBridge extends AbstractOpenemsComponent impl
 	 */
 	public abstract void closeModbusConnection();
 
+	/**
+	 * Closes the Modbus connection after a request failed, so that the next request
+	 * reconnects.
+	 *
+	 * <p>
+	 * Implementations that keep multiple requests in flight on one connection may
+	 * override this to keep the connection if it was not affected.
+	 *
+	 * @param cause the cause of the failed request
+	 */
+	public void closeModbusConnectionOnError(Exception cause) {
+		this.closeModbusConnection();
+	}
+
 	/**
 	 * Gets the configured {@link LogVerbosity}.
 	 * 
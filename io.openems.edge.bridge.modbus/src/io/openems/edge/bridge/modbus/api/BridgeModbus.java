@@ -7,6 +7,7 @@ import io.openems.common.channel.Level;
 import io.openems.common.channel.Unit;
 import io.openems.common.types.OpenemsType;
 import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.channel.IntegerReadChannel;
 import io.openems.edge.common.channel.LongReadChannel;
 import io.openems.edge.common.channel.StateChannel;
 import io.openems.edge.common.channel.value.Value;
@@ -23,7 +24,17 @@ public interface BridgeModbus extends OpenemsComponent {
 		 * can be reduced by this amount, without causing CYCLE_TIME_IS_TOO_SHORT.
 		 */
 		CYCLE_DELAY(Doc.of(OpenemsType.LONG) //
-				.unit(Unit.MILLISECONDS)); //
+				.unit(Unit.MILLISECONDS)), //
+		/**
+		 * Number of ReadTasks that were executed within coalesced requests in the last
+		 * Cycle.
+		 */
+		COALESCED_READ_TASKS(Doc.of(OpenemsType.INTEGER)), //
+		/**
+		 * Number of read requests that were saved by coalescing ReadTasks in the last
+		 * Cycle.
+		 */
+		SAVED_READ_REQUESTS(Doc.of(OpenemsType.INTEGER)); //
 
 		private final Doc doc;
 
@@ -94,6 +105,64 @@ public interface BridgeModbus extends OpenemsComponent {
 		this.getCycleDelayChannel().setNextValue(value);
 	}
 
+	/**
+	 * Gets the Channel for {@link ChannelId#COALESCED_READ_TASKS}.
+	 *
+	 * @return the Channel
+	 */
+	public default IntegerReadChannel getCoalescedReadTasksChannel() {
+		return this.channel(ChannelId.COALESCED_READ_TASKS);
+	}
+
+	/**
+	 * Gets the number of coalesced ReadTasks, see
+	 * {@link ChannelId#COALESCED_READ_TASKS}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Integer> getCoalescedReadTasks() {
+		return this.getCoalescedReadTasksChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#COALESCED_READ_TASKS} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setCoalescedReadTasks(int value) {
+		this.getCoalescedReadTasksChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#SAVED_READ_REQUESTS}.
+	 *
+	 * @return the Channel
+	 */
+	public default IntegerReadChannel getSavedReadRequestsChannel() {
+		return this.channel(ChannelId.SAVED_READ_REQUESTS);
+	}
+
+	/**
+	 * Gets the number of saved read requests, see
+	 * {@link ChannelId#SAVED_READ_REQUESTS}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Integer> getSavedReadRequests() {
+		return this.getSavedReadRequestsChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#SAVED_READ_REQUESTS} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setSavedReadRequests(int value) {
+		this.getSavedReadRequestsChannel().setNextValue(value);
+	}
+
 	/**
 	 * Adds a Protocol with a source identifier to this Modbus Bridge.
 	 *
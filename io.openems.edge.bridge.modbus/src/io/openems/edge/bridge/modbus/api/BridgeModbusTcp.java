@@ -4,13 +4,20 @@ import java.net.InetAddress;
 
 import org.osgi.annotation.versioning.ProviderType;
 
+import io.openems.common.types.OpenemsType;
 import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.channel.IntegerReadChannel;
+import io.openems.edge.common.channel.value.Value;
 
 @ProviderType
 public interface BridgeModbusTcp extends BridgeModbus {
 
 	public enum ChannelId implements io.openems.edge.common.channel.ChannelId {
-		;
+		/**
+		 * Number of devices (Unit-IDs) that fell back from pipelined to sequential
+		 * mode.
+		 */
+		SEQUENTIAL_UNITS(Doc.of(OpenemsType.INTEGER)); //
 
 		private final Doc doc;
 
@@ -31,4 +38,33 @@ public interface BridgeModbusTcp extends BridgeModbus {
 	 */
 	public InetAddress getIpAddress();
 
+	/**
+	 * Gets the Channel for {@link ChannelId#SEQUENTIAL_UNITS}.
+	 *
+	 * @return the Channel
+	 */
+	public default IntegerReadChannel getSequentialUnitsChannel() {
+		return this.channel(ChannelId.SEQUENTIAL_UNITS);
+	}
+
+	/**
+	 * Gets the number of devices in sequential mode, see
+	 * {@link ChannelId#SEQUENTIAL_UNITS}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Integer> getSequentialUnits() {
+		return this.getSequentialUnitsChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#SEQUENTIAL_UNITS}
+	 * Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setSequentialUnits(int value) {
+		this.getSequentialUnitsChannel().setNextValue(value);
+	}
+
 }
@@ -8,6 +8,7 @@ import com.ghgande.j2mod.modbus.msg.ModbusResponse;
 import com.ghgande.j2mod.modbus.procimg.Register;
 
 import io.openems.common.exceptions.OpenemsException;
+import io.openems.edge.bridge.modbus.api.AbstractModbusBridge;
 import io.openems.edge.bridge.modbus.api.element.ModbusElement;
 import io.openems.edge.bridge.modbus.api.element.ModbusRegisterElement;
 import io.openems.edge.common.taskmanager.Priority;
@@ -34,4 +35,49 @@ public abstract class AbstractReadRegistersTask<//
 	protected final int calculateNextPosition(ModbusElement modbusElement, int position) {
 		return position + modbusElement.length;
 	}
+
+	@Override
+	protected int hashResponse(Register[] result) {
+		var hash = 1;
+		for (var register : result) {
+			hash = 31 * hash + register.getValue();
+		}
+		return hash;
+	}
+
+	@Override
+	protected final REQUEST createModbusRequest() {
+		return this.createModbusRequest(this.startAddress, this.length);
+	}
+
+	/**
+	 * Factory for a {@link ModbusRequest} for the given register range.
+	 * 
+	 * @param startAddress the start address
+	 * @param length       the number of registers
+	 * @return a new {@link ModbusRequest}
+	 */
+	protected abstract REQUEST createModbusRequest(int startAddress, int length);
+
+	/**
+	 * Executes a request for the given register range and returns the parsed
+	 * registers.
+	 * 
+	 * <p>
+	 * This is used by {@link CoalescedReadRegistersTask} to read the registers of
+	 * multiple tasks with one request. Unit-ID, retry and log verbosity of this
+	 * task are applied.
+	 * 
+	 * @param bridge       the {@link AbstractModbusBridge}
+	 * @param startAddress the start address
+	 * @param length       the number of registers
+	 * @return the registers
+	 * @throws Exception on error
+	 */
+	protected Register[] executeRange(AbstractModbusBridge bridge, int startAddress, int length) throws Exception {
+		var response = this.executeRequest(bridge, this.createModbusRequest(startAddress, length));
+		var result = this.parseResponse(response);
+		validateResponse(result, length);
+		return result;
+	}
 }
\ No newline at end of file
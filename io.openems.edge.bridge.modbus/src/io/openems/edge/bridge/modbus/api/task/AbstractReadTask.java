@@ -1,6 +1,8 @@
 package io.openems.edge.bridge.modbus.api.task;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
@@ -34,6 +36,10 @@ public abstract class AbstractReadTask<//
 	private final Priority priority;
 	private final Class<?> elementClazz;
 
+	private Duration pollInterval = null;
+	private Integer lastResponseHash = null;
+	private boolean changedOnLastExecute = true;
+
 	public AbstractReadTask(String name, Consumer<ExecuteState> onExecute, Class<RESPONSE> responseClazz,
 			Class<ELEMENT> elementClazz, int startAddress, Priority priority, ModbusElement... elements) {
 		super(name, onExecute, responseClazz, startAddress, elements);
@@ -47,10 +53,42 @@ public abstract class AbstractReadTask<//
 			var response = this.executeRequest(bridge, this.createModbusRequest());
 			// On error a log message has already been logged
 
+			final T[] result;
+			try {
+				result = this.parseResponse(response);
+
+			} catch (OpenemsException e1) {
+				logError(this.log, e1, "Parsing Response failed.");
+				throw e1;
+			}
+			return this.handleResult(bridge, result);
+
+		} catch (Exception e) {
+			return this.handleError(bridge, e);
+		}
+	}
+
+	/**
+	 * Handles the parsed values of a successful request: validates the length,
+	 * calls the 'onExecute' callback and fills the {@link ModbusElement}s.
+	 * 
+	 * <p>
+	 * This is also used by {@link CoalescedReadRegistersTask} to fan out the
+	 * response of a merged request.
+	 * 
+	 * @param bridge the {@link AbstractModbusBridge}
+	 * @param result the parsed values; starting at {@link #startAddress}
+	 * @return the {@link ExecuteState}
+	 */
+	protected ExecuteState handleResult(AbstractModbusBridge bridge, T[] result) {
+		try {
 			try {
-				var result = this.parseResponse(response);
 				validateResponse(result, this.length);
 
+				var responseHash = this.hashResponse(result);
+				this.changedOnLastExecute = this.lastResponseHash == null || this.lastResponseHash != responseHash;
+				this.lastResponseHash = responseHash;
+
 				// NOTE: onExecute has to be called before filling elements; but OK could be
 				// wrong if fillElements throws an exception.
 				this.onExecute.accept(ExecuteState.OK);
@@ -64,15 +102,60 @@ public abstract class AbstractReadTask<//
 			}
 
 		} catch (Exception e) {
-			var executeState = new ExecuteState.Error(e);
-			this.onExecute.accept(executeState);
-
-			// Invalidate Elements
-			Stream.of(this.elements).forEach(el -> el.invalidate(bridge));
-			return executeState;
+			return this.handleError(bridge, e);
 		}
 	}
 
+	/**
+	 * Calculates a hash of the response values to detect changes.
+	 * 
+	 * @param result the parsed values
+	 * @return the hash
+	 */
+	protected int hashResponse(T[] result) {
+		return Arrays.hashCode(result);
+	}
+
+	/**
+	 * Sets the target interval for polling this task. See
+	 * {@link ReadTask#getPollInterval()}.
+	 * 
+	 * @param pollInterval the interval; null to poll according to the Priority
+	 * @return myself
+	 */
+	public AbstractReadTask<REQUEST, RESPONSE, ELEMENT, T> pollInterval(Duration pollInterval) {
+		this.pollInterval = pollInterval;
+		return this;
+	}
+
+	@Override
+	public Duration getPollInterval() {
+		return this.pollInterval;
+	}
+
+	@Override
+	public boolean hasChangedOnLastExecute() {
+		return this.changedOnLastExecute;
+	}
+
+	/**
+	 * Handles a failed request: calls the 'onExecute' callback and invalidates the
+	 * {@link ModbusElement}s.
+	 * 
+	 * @param bridge the {@link AbstractModbusBridge}
+	 * @param e      the {@link Exception}
+	 * @return the {@link ExecuteState}
+	 */
+	protected ExecuteState handleError(AbstractModbusBridge bridge, Exception e) {
+		var executeState = new ExecuteState.Error(e);
+		this.lastResponseHash = null;
+		this.onExecute.accept(executeState);
+
+		// Invalidate Elements
+		Stream.of(this.elements).forEach(el -> el.invalidate(bridge));
+		return executeState;
+	}
+
 	/**
 	 * Verify length of response array.
 	 * 
@@ -80,7 +163,7 @@ public abstract class AbstractReadTask<//
 	 * @param length   expected length
 	 * @throws OpenemsException on failed validation
 	 */
-	private static void validateResponse(Object[] response, int length) throws OpenemsException {
+	protected static void validateResponse(Object[] response, int length) throws OpenemsException {
 		if (response.length < length) {
 			throw new OpenemsException("Received message is too short. " //
 					+ "Expected [" + length + "] " //
@@ -100,8 +100,8 @@ public abstract non-sealed class AbstractTask<//
 	 * {@link ModbusResponse}.
 	 * 
 	 * <p>
-	 * If first request fails, the implementation reconnects the Modbus connection
-	 * and tries again.
+	 * If first request fails, the implementation tries again. The Modbus connection
+	 * is reconnected before, unless the device replied with an exception response.
 	 * 
 	 * <p>
 	 * Successful execution is produces a log message if {@link LogVerbosity} !=
@@ -122,7 +122,7 @@ public abstract non-sealed class AbstractTask<//
 
 		} catch (Exception e) {
 			// Second try; with new connection
-			bridge.closeModbusConnection();
+			bridge.closeModbusConnectionOnError(e);
 			return this.logRequest(TryExecute.SECOND_TRY, bridge, logVerbosity, request,
 					() -> sendRequest(bridge, unitId, this.responseClazz, request));
 		}
@@ -0,0 +1,139 @@
+package io.openems.edge.bridge.modbus.api.task;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.ghgande.j2mod.modbus.procimg.Register;
+
+import io.openems.edge.bridge.modbus.api.AbstractModbusBridge;
+import io.openems.edge.bridge.modbus.api.AbstractOpenemsModbusComponent;
+import io.openems.edge.bridge.modbus.api.ModbusComponent;
+import io.openems.edge.bridge.modbus.api.element.ModbusElement;
+import io.openems.edge.common.taskmanager.Priority;
+
+/**
+ * Reads the register ranges of multiple {@link AbstractReadRegistersTask}s
+ * with one Modbus request and fans out the response to the original tasks.
+ *
+ * <p>
+ * All tasks must be of the same type (i.e. the same Modbus function code), have
+ * the same {@link Priority} and belong to the same parent component (i.e. the
+ * same Unit-ID). The request is
+ * executed via the first task, so its log verbosity applies. Success and error
+ * are reported to every original task, so 'onExecute' callbacks and element
+ * invalidation behave as if the tasks were executed one by one.
+ *
+ * <p>
+ * Instances are created per Cycle by the
+ * {@link io.openems.edge.bridge.modbus.api.worker.internal.ReadTasksCoalescer}.
+ */
+public final class CoalescedReadRegistersTask implements ReadTask {
+
+	/** The maximum number of registers of one FC3/FC4 request. */
+	public static final int MAX_LENGTH = 125;
+
+	private final List<AbstractReadRegistersTask<?, ?>> tasks;
+	private final int startAddress;
+	private final int length;
+	private final Priority priority;
+
+	/**
+	 * Creates a {@link CoalescedReadRegistersTask}.
+	 *
+	 * @param tasks the tasks of equal {@link Priority}, sorted by start address;
+	 *              at least two
+	 */
+	public CoalescedReadRegistersTask(List<AbstractReadRegistersTask<?, ?>> tasks) {
+		this.tasks = List.copyOf(tasks);
+		this.startAddress = tasks.stream() //
+				.mapToInt(Task::getStartAddress) //
+				.min().orElse(0);
+		this.length = tasks.stream() //
+				.mapToInt(t -> t.getStartAddress() + t.getLength()) //
+				.max().orElse(0) - this.startAddress;
+		this.priority = tasks.get(0).getPriority();
+	}
+
+	/**
+	 * Gets the original tasks.
+	 *
+	 * @return a list of {@link AbstractReadRegistersTask}s
+	 */
+	public List<AbstractReadRegistersTask<?, ?>> getTasks() {
+		return this.tasks;
+	}
+
+	@Override
+	public ModbusElement[] getElements() {
+		return this.tasks.stream() //
+				.flatMap(t -> Arrays.stream(t.getElements())) //
+				.toArray(ModbusElement[]::new);
+	}
+
+	@Override
+	public int getStartAddress() {
+		return this.startAddress;
+	}
+
+	@Override
+	public int getLength() {
+		return this.length;
+	}
+
+	@Override
+	public Priority getPriority() {
+		return this.priority;
+	}
+
+	@Override
+	public boolean hasChangedOnLastExecute() {
+		return this.tasks.stream().anyMatch(ReadTask::hasChangedOnLastExecute);
+	}
+
+	@Override
+	public void setParent(AbstractOpenemsModbusComponent parent) {
+		// Parent is given by the original tasks
+	}
+
+	@Override
+	public ModbusComponent getParent() {
+		return this.tasks.get(0).getParent();
+	}
+
+	@Override
+	public void deactivate() {
+		// Original tasks are deactivated by their ModbusProtocol
+	}
+
+	@Override
+	public ExecuteState execute(AbstractModbusBridge bridge) {
+		final Register[] result;
+		try {
+			result = this.tasks.get(0).executeRange(bridge, this.startAddress, this.length);
+
+		} catch (Exception e) {
+			this.tasks.forEach(t -> t.handleError(bridge, e));
+			return new ExecuteState.Error(e);
+		}
+
+		ExecuteState state = ExecuteState.OK;
+		for (var task : this.tasks) {
+			var from = task.getStartAddress() - this.startAddress;
+			var taskState = task.handleResult(bridge, Arrays.copyOfRange(result, from, from + task.getLength()));
+			if (taskState instanceof ExecuteState.Error) {
+				state = taskState;
+			}
+		}
+		return state;
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder("CoalescedReadRegistersTask [") //
+				.append("startAddress=").append(this.startAddress) //
+				.append(", length=").append(this.length) //
+				.append(", tasks=").append(this.tasks.size()) //
+				.append("]") //
+				.toString();
+	}
+}
@@ -31,8 +31,8 @@ public class FC4ReadInputRegistersTask
 	}
 
 	@Override
-	protected ReadInputRegistersRequest createModbusRequest() {
-		return new ReadInputRegistersRequest(this.startAddress, this.length);
+	protected ReadInputRegistersRequest createModbusRequest(int startAddress, int length) {
+		return new ReadInputRegistersRequest(startAddress, length);
 	}
 
 	@Override
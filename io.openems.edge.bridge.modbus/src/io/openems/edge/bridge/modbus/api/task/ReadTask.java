@@ -1,5 +1,7 @@
 package io.openems.edge.bridge.modbus.api.task;
 
+import java.time.Duration;
+
 import io.openems.edge.bridge.modbus.api.element.ModbusElement;
 
 /**
@@ -9,4 +11,30 @@ import io.openems.edge.bridge.modbus.api.element.ModbusElement;
  * inherits from ReadTask.
  */
 public non-sealed interface ReadTask extends Task {
+
+	/**
+	 * Gets the target interval for polling this task.
+	 * 
+	 * <p>
+	 * If set, the task is executed whenever the interval has passed, independent
+	 * of its {@link #getPriority()}.
+	 * 
+	 * @return the interval; null to poll according to the Priority
+	 */
+	public default Duration getPollInterval() {
+		return null;
+	}
+
+	/**
+	 * Did the values change on the last successful execution?.
+	 * 
+	 * <p>
+	 * This is used for adaptive polling, i.e. tasks whose values do not change
+	 * are polled less often.
+	 * 
+	 * @return true if values changed or if this is unknown
+	 */
+	public default boolean hasChangedOnLastExecute() {
+		return true;
+	}
 }
@@ -1,15 +1,27 @@
 package io.openems.edge.bridge.modbus.api.worker;
 
+import static io.openems.common.utils.ThreadPoolUtils.shutdownAndAwaitTermination;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
+import com.google.common.base.Stopwatch;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
 import io.openems.common.worker.AbstractImmediateWorker;
 import io.openems.edge.bridge.modbus.api.BridgeModbus;
 import io.openems.edge.bridge.modbus.api.LogVerbosity;
 import io.openems.edge.bridge.modbus.api.ModbusComponent;
 import io.openems.edge.bridge.modbus.api.ModbusProtocol;
 import io.openems.edge.bridge.modbus.api.element.ModbusElement;
+import io.openems.edge.bridge.modbus.api.task.ReadTask;
 import io.openems.edge.bridge.modbus.api.task.Task;
 import io.openems.edge.bridge.modbus.api.task.Task.ExecuteState;
 import io.openems.edge.bridge.modbus.api.worker.internal.CycleTasks;
@@ -39,6 +51,13 @@ public class ModbusWorker extends AbstractImmediateWorker {
 	private final TasksSupplierImpl tasksSupplier;
 	private final CycleTasksManager cycleTasksManager;
 
+	/**
+	 * Executor for pipelined execution of ReadTasks; null if ReadTasks are
+	 * executed one by one.
+	 */
+	private volatile ExecutorService pipelineExecutor = null;
+	private int pipelineDepth = 1;
+
 	/**
 	 * Constructor for {@link ModbusWorker}.
 	 * 
@@ -52,16 +71,23 @@ public class ModbusWorker extends AbstractImmediateWorker {
 	 * @param cycleDelayChannel          sets the
 	 *                                   {@link BridgeModbus.ChannelId#CYCLE_DELAY}
 	 *                                   channel
+	 * @param coalescedReadTasksChannel  sets the
+	 *                                   {@link BridgeModbus.ChannelId#COALESCED_READ_TASKS}
+	 *                                   channel
+	 * @param savedReadRequestsChannel   sets the
+	 *                                   {@link BridgeModbus.ChannelId#SAVED_READ_REQUESTS}
+	 *                                   channel
 	 * @param logVerbosity               the configured {@link LogVerbosity}
 	 */
 	public ModbusWorker(Function<Task, ExecuteState> execute, Consumer<ModbusElement[]> invalidate,
 			Consumer<Boolean> cycleTimeIsTooShortChannel, Consumer<Long> cycleDelayChannel,
+			Consumer<Integer> coalescedReadTasksChannel, Consumer<Integer> savedReadRequestsChannel,
 			AtomicReference<LogVerbosity> logVerbosity) {
 		this.execute = execute;
 		this.invalidate = invalidate;
 
 		this.defectiveComponents = new DefectiveComponents(logVerbosity);
-		this.tasksSupplier = new TasksSupplierImpl();
+		this.tasksSupplier = new TasksSupplierImpl(coalescedReadTasksChannel, savedReadRequestsChannel);
 		this.cycleTasksManager = new CycleTasksManager(this.tasksSupplier, this.defectiveComponents,
 				cycleTimeIsTooShortChannel, cycleDelayChannel, logVerbosity);
 	}
@@ -70,9 +96,63 @@ public class ModbusWorker extends AbstractImmediateWorker {
 	protected void forever() throws InterruptedException {
 		var task = this.cycleTasksManager.getNextTask();
 
+		var pipelineExecutor = this.pipelineExecutor;
+		if (pipelineExecutor != null && task instanceof ReadTask) {
+			var tasks = new ArrayList<Task>();
+			tasks.add(task);
+			tasks.addAll(this.cycleTasksManager.getNextReadTasks(this.pipelineDepth - 1));
+			if (tasks.size() > 1) {
+				this.executePipelined(pipelineExecutor, tasks);
+				return;
+			}
+		}
+
 		// execute the task
+		this.handleResult(task, this.executeAndMeasure(task));
+	}
+
+	/**
+	 * Executes a {@link Task} and updates its polling state.
+	 * 
+	 * @param task the {@link Task}
+	 * @return the {@link ExecuteState}
+	 */
+	private ExecuteState executeAndMeasure(Task task) {
+		if (!(task instanceof ReadTask)) {
+			return this.execute.apply(task);
+		}
+		var stopwatch = Stopwatch.createStarted();
 		var result = this.execute.apply(task);
+		this.tasksSupplier.onExecuted(task, result instanceof ExecuteState.Ok,
+				stopwatch.elapsed().toMillis());
+		return result;
+	}
+
+	/**
+	 * Executes the given {@link Task}s in parallel, so that the bridge can keep
+	 * multiple requests in flight. Results are handled in order afterwards.
+	 * 
+	 * @param executor the {@link ExecutorService}
+	 * @param tasks    the {@link Task}s
+	 * @throws InterruptedException on interrupt
+	 */
+	private void executePipelined(ExecutorService executor, ArrayList<Task> tasks) throws InterruptedException {
+		var futures = new ArrayList<Future<ExecuteState>>(tasks.size());
+		for (var task : tasks) {
+			futures.add(executor.submit(() -> this.executeAndMeasure(task)));
+		}
+		for (var i = 0; i < tasks.size(); i++) {
+			ExecuteState result;
+			try {
+				result = futures.get(i).get();
+			} catch (ExecutionException e) {
+				result = new ExecuteState.Error(e);
+			}
+			this.handleResult(tasks.get(i), result);
+		}
+	}
 
+	private void handleResult(Task task, ExecuteState result) {
 		// NOTE: with Java 21 LTS this can be refactored to a pattern matching switch
 		// statement
 		if (result instanceof ExecuteState.Ok) {
@@ -149,6 +229,52 @@ public class ModbusWorker extends AbstractImmediateWorker {
 		this.defectiveComponents.remove(sourceId);
 	}
 
+	/**
+	 * Sets the max gap in registers between two coalesced ReadTasks. See
+	 * {@link TasksSupplierImpl#setCoalesceReadTasksMaxGap(int)}.
+	 * 
+	 * @param maxGap the max gap; negative to disable coalescing
+	 */
+	public void setCoalesceReadTasksMaxGap(int maxGap) {
+		this.tasksSupplier.setCoalesceReadTasksMaxGap(maxGap);
+	}
+
+	/**
+	 * Sets the max interval for adaptive polling. See
+	 * {@link TasksSupplierImpl#setAdaptivePollingMaxInterval(Duration)}.
+	 * 
+	 * @param maxInterval the max interval; {@link Duration#ZERO} to disable
+	 */
+	public void setAdaptivePollingMaxInterval(Duration maxInterval) {
+		this.tasksSupplier.setAdaptivePollingMaxInterval(maxInterval);
+	}
+
+	/**
+	 * Sets the max number of ReadTasks that are executed in parallel. Values
+	 * smaller than two disable pipelined execution.
+	 * 
+	 * <p>
+	 * This requires a bridge implementation that supports multiple outstanding
+	 * requests on one connection.
+	 * 
+	 * @param depth the pipeline depth
+	 */
+	public synchronized void setPipelineDepth(int depth) {
+		depth = Math.max(depth, 1);
+		if (depth == this.pipelineDepth) {
+			return;
+		}
+		var oldExecutor = this.pipelineExecutor;
+		if (depth > 1) {
+			this.pipelineExecutor = Executors.newFixedThreadPool(depth,
+					new ThreadFactoryBuilder().setNameFormat("Modbus:Pipeline-%d").build());
+		} else {
+			this.pipelineExecutor = null;
+		}
+		this.pipelineDepth = depth;
+		shutdownAndAwaitTermination(oldExecutor, 5);
+	}
+
 	/**
 	 * Called on EXECUTE_WRITE event.
 	 */
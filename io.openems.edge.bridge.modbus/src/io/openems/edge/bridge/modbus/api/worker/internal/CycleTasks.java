@@ -9,8 +9,17 @@ import io.openems.edge.bridge.modbus.api.task.WriteTask;
 
 /**
  * Holds the Read- and Write-Tasks for one Cycle.
+ * 
+ * @param reads         the {@link ReadTask}s
+ * @param writes        the {@link WriteTask}s
+ * @param plannedMillis the estimated execution time of optional ReadTasks that
+ *                      was planned from the time budget of the Cycle
  */
-public record CycleTasks(LinkedList<ReadTask> reads, LinkedList<WriteTask> writes) {
+public record CycleTasks(LinkedList<ReadTask> reads, LinkedList<WriteTask> writes, long plannedMillis) {
+
+	public CycleTasks(LinkedList<ReadTask> reads, LinkedList<WriteTask> writes) {
+		this(reads, writes, 0);
+	}
 
 	public static class Builder {
 		private final LinkedList<ReadTask> reads = new LinkedList<>();
@@ -1,5 +1,7 @@
 package io.openems.edge.bridge.modbus.api.worker.internal;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
@@ -7,6 +9,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.openems.edge.bridge.modbus.api.LogVerbosity;
+import io.openems.edge.bridge.modbus.api.task.ReadTask;
 import io.openems.edge.bridge.modbus.api.task.Task;
 import io.openems.edge.bridge.modbus.api.task.WaitTask;
 import io.openems.edge.bridge.modbus.api.worker.ModbusWorker;
@@ -86,8 +89,10 @@ public class CycleTasksManager {
 		// Update WaitDelayHandler Queue size
 		this.waitDelayHandler.updateTotalNumberOfTasks(this.tasksSupplier.getTotalNumberOfTasks());
 
-		// Fill queues for this Cycle
-		this.cycleTasks = this.tasksSupplier.getCycleTasks(this.defectiveComponents);
+		// Fill queues for this Cycle; plan optional ReadTasks within the delay
+		this.cycleTasks = this.tasksSupplier.getCycleTasks(this.defectiveComponents,
+				this.waitDelayHandler.getBudget());
+		this.waitDelayHandler.reserveBudget(this.cycleTasks.plannedMillis());
 
 		// On defectiveComponents invalidate time measurement
 		if (this.cycleTasks.containsDefectiveComponent(this.defectiveComponents)) {
@@ -193,6 +198,35 @@ public class CycleTasksManager {
 		return nextTask;
 	}
 
+	/**
+	 * Gets up to 'max' further {@link ReadTask}s, if the current state is reading.
+	 * This is called by {@link ModbusWorker} after {@link #getNextTask()} returned
+	 * a {@link ReadTask} to execute multiple ReadTasks in a pipeline.
+	 * 
+	 * @param max the max number of tasks
+	 * @return a list of {@link ReadTask}s; possibly empty
+	 */
+	public List<ReadTask> getNextReadTasks(int max) {
+		var result = new ArrayList<ReadTask>();
+		if (this.cycleTasks == null) {
+			return result;
+		}
+		switch (this.state) {
+		case READ_BEFORE_WRITE, READ_AFTER_WRITE -> {
+			while (result.size() < max) {
+				var task = this.cycleTasks.reads().poll();
+				if (task == null) {
+					break;
+				}
+				result.add(task);
+			}
+		}
+		case INITIAL_WAIT, WAIT_FOR_WRITE, WRITE, WAIT_BEFORE_READ, FINISHED -> {
+		}
+		}
+		return result;
+	}
+
 	/**
 	 * Waiting in INITIAL_WAIT or WAIT_BEFORE_READ finished.
 	 */
@@ -0,0 +1,112 @@
+package io.openems.edge.bridge.modbus.api.worker.internal;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import io.openems.edge.bridge.modbus.api.task.ReadTask;
+
+/**
+ * Holds the polling state of one {@link ReadTask}: time of last execution,
+ * estimated execution duration and - for adaptive polling - the current
+ * interval.
+ */
+class PollingState {
+
+	/** Execution duration that is assumed before the first measurement. */
+	protected static final long DEFAULT_DURATION_MILLIS = 50;
+
+	/** First back-off step for adaptive polling. */
+	protected static final Duration ADAPTIVE_MIN_INTERVAL = Duration.ofSeconds(1);
+
+	/** Weight of the latest measurement for the estimated execution duration. */
+	private static final double ALPHA = 0.2;
+
+	private Instant lastExecution = null;
+	private Duration adaptiveInterval = Duration.ZERO;
+	private double durationMillis = -1;
+
+	/**
+	 * Is the task due for execution?.
+	 *
+	 * @param now      the current {@link Instant}
+	 * @param interval the target interval
+	 * @return true if it is due
+	 */
+	protected boolean isDue(Instant now, Duration interval) {
+		return this.lastExecution == null || !now.isBefore(this.lastExecution.plus(interval));
+	}
+
+	/**
+	 * Is the task starving, i.e. was it never executed or is it overdue by more
+	 * than one interval?.
+	 *
+	 * @param now      the current {@link Instant}
+	 * @param interval the target interval
+	 * @return true if it is starving
+	 */
+	protected boolean isStarving(Instant now, Duration interval) {
+		return this.lastExecution == null || !now.isBefore(this.lastExecution.plus(interval.multipliedBy(2)));
+	}
+
+	/**
+	 * Gets the time that passed since the last execution.
+	 *
+	 * @param now the current {@link Instant}
+	 * @return the {@link Duration}; {@link Duration#ZERO} if never executed
+	 */
+	protected Duration getAge(Instant now) {
+		return this.lastExecution == null //
+				? Duration.ZERO //
+				: Duration.between(this.lastExecution, now);
+	}
+
+	/**
+	 * Gets the current interval for adaptive polling.
+	 *
+	 * @return the interval; {@link Duration#ZERO} for no back-off
+	 */
+	protected Duration getAdaptiveInterval() {
+		return this.adaptiveInterval;
+	}
+
+	/**
+	 * Gets the estimated execution duration.
+	 *
+	 * @return the duration in [ms]
+	 */
+	protected long getEstimatedDurationMillis() {
+		return this.durationMillis < 0 //
+				? DEFAULT_DURATION_MILLIS //
+				: Math.round(this.durationMillis);
+	}
+
+	/**
+	 * Updates the state after an execution.
+	 *
+	 * @param now                 the current {@link Instant}
+	 * @param successful          was the execution successful?
+	 * @param changed             did the values change?
+	 * @param durationMillis      the execution duration in [ms]
+	 * @param maxAdaptiveInterval the max interval for adaptive polling;
+	 *                            {@link Duration#ZERO} to disable
+	 */
+	protected void onExecuted(Instant now, boolean successful, boolean changed, long durationMillis,
+			Duration maxAdaptiveInterval) {
+		this.lastExecution = now;
+		this.durationMillis = this.durationMillis < 0 //
+				? durationMillis //
+				: ALPHA * durationMillis + (1 - ALPHA) * this.durationMillis;
+
+		if (!successful || changed || maxAdaptiveInterval.isZero()) {
+			this.adaptiveInterval = Duration.ZERO;
+		} else {
+			// Values did not change -> back off
+			var interval = this.adaptiveInterval.isZero() //
+					? ADAPTIVE_MIN_INTERVAL //
+					: this.adaptiveInterval.multipliedBy(2);
+			this.adaptiveInterval = interval.compareTo(maxAdaptiveInterval) > 0 //
+					? maxAdaptiveInterval //
+					: interval;
+		}
+	}
+}
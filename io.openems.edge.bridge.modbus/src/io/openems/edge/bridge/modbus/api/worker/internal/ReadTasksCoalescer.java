@@ -0,0 +1,97 @@
+package io.openems.edge.bridge.modbus.api.worker.internal;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+
+import io.openems.edge.bridge.modbus.api.task.AbstractReadRegistersTask;
+import io.openems.edge.bridge.modbus.api.task.CoalescedReadRegistersTask;
+import io.openems.edge.bridge.modbus.api.task.Task;
+import io.openems.edge.common.taskmanager.Priority;
+
+/**
+ * Merges read tasks of one component that read adjacent or nearly adjacent
+ * register blocks into {@link CoalescedReadRegistersTask}s.
+ *
+ * <p>
+ * Tasks are compatible if they are of the same type (i.e.
+ * {@link io.openems.edge.bridge.modbus.api.task.FC3ReadRegistersTask} or
+ * {@link io.openems.edge.bridge.modbus.api.task.FC4ReadInputRegistersTask}),
+ * have the same {@link Priority} (so a LOW task is never read as often as a
+ * HIGH task), the gap between them is at most 'maxGap' registers and the merged request
+ * does not exceed {@link CoalescedReadRegistersTask#MAX_LENGTH} registers.
+ * Registers within a gap are read, but ignored.
+ */
+public class ReadTasksCoalescer {
+
+	private record Group(Class<?> type, Priority priority) {
+	}
+
+	/** Coalescing is disabled if 'maxGap' is below this value. */
+	public static final int DISABLED = -1;
+
+	private ReadTasksCoalescer() {
+	}
+
+	/**
+	 * Coalesces the tasks of one component. Tasks that cannot be merged are kept
+	 * as they are.
+	 *
+	 * @param tasks  the tasks of one component
+	 * @param maxGap the max number of unused registers between two tasks
+	 * @return a new list of tasks
+	 */
+	public static LinkedList<Task> coalesce(List<Task> tasks, int maxGap) {
+		var result = new LinkedList<Task>();
+		if (maxGap <= DISABLED) {
+			result.addAll(tasks);
+			return result;
+		}
+
+		// Group by type and priority of task
+		var groups = new LinkedHashMap<Group, List<AbstractReadRegistersTask<?, ?>>>();
+		for (var task : tasks) {
+			if (task instanceof AbstractReadRegistersTask<?, ?> t) {
+				groups.computeIfAbsent(new Group(t.getClass(), t.getPriority()), ignore -> new ArrayList<>()).add(t);
+			} else {
+				result.add(task);
+			}
+		}
+
+		for (var group : groups.values()) {
+			group.sort(Comparator.comparingInt(Task::getStartAddress));
+			var merge = new ArrayList<AbstractReadRegistersTask<?, ?>>();
+			int start = 0;
+			int end = 0; // exclusive
+			for (var task : group) {
+				var taskEnd = task.getStartAddress() + task.getLength();
+				if (!merge.isEmpty() //
+						&& task.getStartAddress() - end <= maxGap //
+						&& Math.max(end, taskEnd) - start <= CoalescedReadRegistersTask.MAX_LENGTH) {
+					merge.add(task);
+					end = Math.max(end, taskEnd);
+					continue;
+				}
+				flush(merge, result);
+				merge.add(task);
+				start = task.getStartAddress();
+				end = taskEnd;
+			}
+			flush(merge, result);
+		}
+		return result;
+	}
+
+	private static void flush(List<AbstractReadRegistersTask<?, ?>> merge, List<Task> result) {
+		switch (merge.size()) {
+		case 0 -> {
+		}
+		case 1 -> result.add(merge.get(0));
+		default -> result.add(new CoalescedReadRegistersTask(merge));
+		}
+		merge.clear();
+	}
+
+}
@@ -10,6 +10,19 @@ public interface TasksSupplier {
 	 */
 	public CycleTasks getCycleTasks(DefectiveComponents defectiveComponents);
 
+	/**
+	 * Supplies the Tasks for one Cycle, using the given time budget for optional
+	 * ReadTasks, i.e. tasks that are due because of their Poll-Interval and
+	 * further LOW priority tasks.
+	 * 
+	 * @param defectiveComponents the {@link DefectiveComponents} handler
+	 * @param budgetMillis        the time budget in [ms]
+	 * @return a {@link CycleTasks} object
+	 */
+	public default CycleTasks getCycleTasks(DefectiveComponents defectiveComponents, long budgetMillis) {
+		return this.getCycleTasks(defectiveComponents);
+	}
+
 	/**
 	 * Gets the total number of tasks.
 	 * 
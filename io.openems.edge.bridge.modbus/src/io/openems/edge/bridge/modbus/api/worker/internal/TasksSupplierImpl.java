@@ -1,13 +1,22 @@
 package io.openems.edge.bridge.modbus.api.worker.internal;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Queue;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import io.openems.edge.bridge.modbus.api.ModbusProtocol;
+import io.openems.edge.bridge.modbus.api.task.CoalescedReadRegistersTask;
 import io.openems.edge.bridge.modbus.api.task.ReadTask;
 import io.openems.edge.bridge.modbus.api.task.Task;
 import io.openems.edge.bridge.modbus.api.task.WriteTask;
@@ -30,6 +39,102 @@ public class TasksSupplierImpl implements TasksSupplier {
 	 */
 	private final Queue<Tuple<String, ReadTask>> nextLowPriorityTasks = new LinkedList<>();
 
+	/**
+	 * Polling state per {@link ReadTask}.
+	 */
+	private final Map<ReadTask, PollingState> pollingStates = new HashMap<>();
+
+	private final Clock clock;
+	private final Consumer<Integer> coalescedReadTasksChannel;
+	private final Consumer<Integer> savedReadRequestsChannel;
+
+	/**
+	 * Max gap in registers between two coalesced {@link ReadTask}s; see
+	 * {@link ReadTasksCoalescer}.
+	 */
+	private int coalesceReadTasksMaxGap = ReadTasksCoalescer.DISABLED;
+
+	/**
+	 * Max interval for adaptive polling of LOW priority {@link ReadTask}s;
+	 * {@link Duration#ZERO} disables adaptive polling.
+	 */
+	private Duration adaptivePollingMaxInterval = Duration.ZERO;
+
+	public TasksSupplierImpl() {
+		this(Clock.systemDefaultZone());
+	}
+
+	protected TasksSupplierImpl(Clock clock) {
+		this(clock, value -> {
+		}, value -> {
+		});
+	}
+
+	/**
+	 * Constructor for {@link TasksSupplierImpl}.
+	 *
+	 * @param coalescedReadTasksChannel sets the number of {@link ReadTask}s that
+	 *                                  were coalesced in the last Cycle
+	 * @param savedReadRequestsChannel  sets the number of read requests that were
+	 *                                  saved by coalescing in the last Cycle
+	 */
+	public TasksSupplierImpl(Consumer<Integer> coalescedReadTasksChannel, Consumer<Integer> savedReadRequestsChannel) {
+		this(Clock.systemDefaultZone(), coalescedReadTasksChannel, savedReadRequestsChannel);
+	}
+
+	private TasksSupplierImpl(Clock clock, Consumer<Integer> coalescedReadTasksChannel,
+			Consumer<Integer> savedReadRequestsChannel) {
+		this.clock = clock;
+		this.coalescedReadTasksChannel = coalescedReadTasksChannel;
+		this.savedReadRequestsChannel = savedReadRequestsChannel;
+	}
+
+	/**
+	 * Sets the max gap in registers between two {@link ReadTask}s of the same
+	 * component that are executed with one request. A negative value disables
+	 * coalescing.
+	 *
+	 * @param maxGap the max gap
+	 */
+	public synchronized void setCoalesceReadTasksMaxGap(int maxGap) {
+		this.coalesceReadTasksMaxGap = maxGap;
+	}
+
+	/**
+	 * Sets the max interval for adaptive polling. LOW priority {@link ReadTask}s
+	 * whose values do not change are then polled less often, up to this interval.
+	 *
+	 * @param maxInterval the max interval; {@link Duration#ZERO} to disable
+	 */
+	public synchronized void setAdaptivePollingMaxInterval(Duration maxInterval) {
+		this.adaptivePollingMaxInterval = maxInterval;
+	}
+
+	/**
+	 * Updates the polling state after a {@link Task} was executed.
+	 *
+	 * @param task           the executed {@link Task}
+	 * @param successful     was the execution successful?
+	 * @param durationMillis the execution duration in [ms]
+	 */
+	public synchronized void onExecuted(Task task, boolean successful, long durationMillis) {
+		var now = Instant.now(this.clock);
+		if (task instanceof CoalescedReadRegistersTask coalesced) {
+			var tasks = coalesced.getTasks();
+			for (var t : tasks) {
+				this.getPollingState(t).onExecuted(now, successful, t.hasChangedOnLastExecute(),
+						durationMillis / tasks.size(), this.adaptivePollingMaxInterval);
+			}
+		} else if (task instanceof ReadTask t) {
+			this.getPollingState(t).onExecuted(now, successful, t.hasChangedOnLastExecute(), durationMillis,
+					this.adaptivePollingMaxInterval);
+		}
+	}
+
+	private PollingState getPollingState(ReadTask task) {
+		return this.pollingStates.computeIfAbsent(task, ignore -> new PollingState());
+	}
+
 	/**
 	 * Adds the protocol.
 	 *
@@ -46,28 +151,83 @@ public class TasksSupplierImpl implements TasksSupplier {
 	 * @param sourceId Component-ID of the source
 	 */
 	public synchronized void removeProtocol(String sourceId) {
-		this.taskManagers.remove(sourceId);
+		var taskManager = this.taskManagers.remove(sourceId);
+		if (taskManager != null) {
+			taskManager.getTasks().forEach(this.pollingStates::remove);
+		}
 		this.nextLowPriorityTasks.removeIf(t -> t.a() == sourceId);
 	}
 
 	@Override
-	public synchronized CycleTasks getCycleTasks(DefectiveComponents defectiveComponents) {
+	public CycleTasks getCycleTasks(DefectiveComponents defectiveComponents) {
+		return this.getCycleTasks(defectiveComponents, 0);
+	}
+
+	@Override
+	public synchronized CycleTasks getCycleTasks(DefectiveComponents defectiveComponents, long budgetMillis) {
+		var now = Instant.now(this.clock);
 		Map<String, LinkedList<Task>> tasks = new HashMap<>();
+		var scheduledTasks = new ArrayList<Tuple<String, ReadTask>>();
+		// All High Priority ReadTasks + all WriteTasks; collect due ReadTasks with a
+		// Poll-Interval
+		this.taskManagers.forEach((id, taskManager) -> {
+			var list = tasks.computeIfAbsent(id, (ignore) -> new LinkedList<>());
+			for (var t : taskManager.getTasks()) {
+				if (t instanceof WriteTask) {
+					list.add(t);
+				} else if (t instanceof ReadTask rt) {
+					var pollInterval = rt.getPollInterval();
+					if (pollInterval != null) {
+						if (this.getPollingState(rt).isDue(now, pollInterval)) {
+							scheduledTasks.add(new Tuple<>(id, rt));
+						}
+					} else if (rt.getPriority() == Priority.HIGH) {
+						list.add(t);
+					}
+				}
+			}
+		});
 		// One Low Priority ReadTask
+		var selected = new HashSet<ReadTask>();
 		{
-			var t = this.getOneLowPriorityReadTask();
+			var t = this.getOneLowPriorityReadTask(now);
 			if (t != null) {
 				tasks.computeIfAbsent(t.a(), (ignore) -> new LinkedList<>()) //
 						.add(t.b());
+				selected.add(t.b());
 			}
 		}
-		// All High Priority ReadTasks + all WriteTasks
-		this.taskManagers.forEach((id, taskManager) -> {
-			var list = tasks.computeIfAbsent(id, (ignore) -> new LinkedList<>());
-			taskManager.getTasks().stream() //
-					.filter(t -> t instanceof WriteTask || t.getPriority() == Priority.HIGH) //
-					.forEach(list::add);
-		});
+		// Plan the budget: due ReadTasks with a Poll-Interval, most overdue first;
+		// then further Low Priority ReadTasks
+		var plannedMillis = 0L;
+		scheduledTasks.sort(Comparator.comparing(
+				(Tuple<String, ReadTask> t) -> overdue(this.getPollingState(t.b()), t.b().getPollInterval(), now))
+				.reversed());
+		for (var t : scheduledTasks) {
+			var state = this.getPollingState(t.b());
+			var estimate = state.getEstimatedDurationMillis();
+			if (plannedMillis + estimate <= budgetMillis || state.isStarving(now, t.b().getPollInterval())) {
+				tasks.computeIfAbsent(t.a(), (ignore) -> new LinkedList<>()) //
+						.add(t.b());
+				selected.add(t.b());
+				plannedMillis += estimate;
+			}
+		}
+		while (plannedMillis < budgetMillis) {
+			var t = this.peekLowPriorityReadTask(now, selected);
+			if (t == null) {
+				break;
+			}
+			var estimate = this.getPollingState(t.b()).getEstimatedDurationMillis();
+			if (plannedMillis + estimate > budgetMillis) {
+				break;
+			}
+			this.nextLowPriorityTasks.poll();
+			tasks.computeIfAbsent(t.a(), (ignore) -> new LinkedList<>()) //
+					.add(t.b());
+			selected.add(t.b());
+			plannedMillis += estimate;
+		}
 		// Filter out defective components
 		tasks.forEach((id, componentTasks) -> {
 			var isDue = defectiveComponents.isDueForNextTry(id);
@@ -84,6 +244,24 @@ public class TasksSupplierImpl implements TasksSupplier {
 				componentTasks.clear();
 			}
 		});
+		// Coalesce ReadTasks per component
+		if (this.coalesceReadTasksMaxGap > ReadTasksCoalescer.DISABLED) {
+			var before = 0;
+			var after = 0;
+			var coalesced = 0;
+			for (var entry : tasks.entrySet()) {
+				var componentTasks = ReadTasksCoalescer.coalesce(entry.getValue(), this.coalesceReadTasksMaxGap);
+				before += entry.getValue().size();
+				after += componentTasks.size();
+				coalesced += componentTasks.stream() //
+						.filter(CoalescedReadRegistersTask.class::isInstance) //
+						.mapToInt(t -> ((CoalescedReadRegistersTask) t).getTasks().size()) //
+						.sum();
+				entry.setValue(componentTasks);
+			}
+			this.coalescedReadTasksChannel.accept(coalesced);
+			this.savedReadRequestsChannel.accept(before - after);
+		}
 		return new CycleTasks(//
 				tasks.values().stream().flatMap(LinkedList::stream) //
 						.filter(ReadTask.class::isInstance).map(ReadTask.class::cast) //
@@ -92,20 +270,46 @@ public class TasksSupplierImpl implements TasksSupplier {
 						.collect(Collectors.toCollection(LinkedList::new)),
 				tasks.values().stream().flatMap(LinkedList::stream) //
 						.filter(WriteTask.class::isInstance).map(WriteTask.class::cast) //
-						.collect(Collectors.toCollection(LinkedList::new)));
+						.collect(Collectors.toCollection(LinkedList::new)), //
+				plannedMillis);
+	}
+
+	private static Duration overdue(PollingState state, Duration pollInterval, Instant now) {
+		return state.getAge(now).minus(pollInterval);
+	}
+
+	/**
+	 * Is the given LOW priority {@link ReadTask} due for execution? Always true if
+	 * adaptive polling is disabled.
+	 *
+	 * @param task the {@link ReadTask}
+	 * @param now  the current {@link Instant}
+	 * @return true if it is due
+	 */
+	private boolean isLowPriorityTaskDue(ReadTask task, Instant now) {
+		var state = this.pollingStates.get(task);
+		return state == null || state.isDue(now, state.getAdaptiveInterval());
 	}
 
 	/**
 	 * Get one LOW priority task.
 	 *
+	 * <p>
+	 * Tasks that are not due because of adaptive polling are skipped for this
+	 * round.
+	 *
+	 * @param now the current {@link Instant}
 	 * @return the next task; null if there is no available task
 	 */
-	private synchronized Tuple<String, ReadTask> getOneLowPriorityReadTask() {
+	private synchronized Tuple<String, ReadTask> getOneLowPriorityReadTask(Instant now) {
 		var refilledBefore = false;
 		while (true) {
 			var task = this.nextLowPriorityTasks.poll();
 			if (task != null) {
-				return task;
+				if (this.isLowPriorityTaskDue(task.b(), now)) {
+					return task;
+				}
+				continue;
 			}
 			if (refilledBefore) {
 				// queue had been refilled before, but still cannot find a matching task -> quit
@@ -115,6 +319,7 @@ public class TasksSupplierImpl implements TasksSupplier {
 			this.taskManagers.forEach((id, taskManager) -> {
 				taskManager.getTasks(Priority.LOW).stream() //
 						.filter(ReadTask.class::isInstance).map(ReadTask.class::cast) //
+						.filter(t -> t.getPollInterval() == null) //
 						.map(t -> new Tuple<String, ReadTask>(id, t)) //
 						.forEach(this.nextLowPriorityTasks::add);
 			});
@@ -122,6 +327,24 @@ public class TasksSupplierImpl implements TasksSupplier {
 		}
 	}
 
+	/**
+	 * Peeks the next due LOW priority task without refilling the queue. Tasks
+	 * that are not due are dropped from the queue for this round.
+	 *
+	 * @param now      the current {@link Instant}
+	 * @param selected the tasks that are already selected for this Cycle
+	 * @return the next task; null if there is no available task
+	 */
+	private Tuple<String, ReadTask> peekLowPriorityReadTask(Instant now, Set<ReadTask> selected) {
+		while (true) {
+			var task = this.nextLowPriorityTasks.peek();
+			if (task == null || (!selected.contains(task.b()) && this.isLowPriorityTaskDue(task.b(), now))) {
+				return task;
+			}
+			this.nextLowPriorityTasks.poll();
+		}
+	}
+
 	@Override
 	public synchronized int getTotalNumberOfTasks() {
 		return this.taskManagers.values().stream() //
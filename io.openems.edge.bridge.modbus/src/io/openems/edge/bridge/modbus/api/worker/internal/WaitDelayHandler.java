@@ -36,6 +36,12 @@ public class WaitDelayHandler {
 	 */
 	private boolean timeIsInvalid = false;
 
+	/**
+	 * Part of the delay of the current Cycle that was reserved for optional
+	 * ReadTasks. Set via {@link #reserveBudget(long)}.
+	 */
+	private long reservedBudget = 0;
+
 	protected WaitDelayHandler(Ticker ticker, Runnable onWaitDelayTaskFinished, Consumer<Long> cycleDelayChannel) {
 		this.stopwatch = Stopwatch.createUnstarted(ticker);
 		this.onWaitDelayTaskFinished = onWaitDelayTaskFinished;
@@ -95,16 +101,18 @@ public class WaitDelayHandler {
 			if (this.stopwatch.isRunning()) {
 				// Coming from FINISHED state -> it's possible to increase delay
 				this.stopwatch.stop();
-				possibleDelay = this.waitDelayTask.initialDelay + this.stopwatch.elapsed().toMillis();
+				possibleDelay = this.waitDelayTask.initialDelay + this.reservedBudget
+						+ this.stopwatch.elapsed().toMillis();
 				if (traceLog) {
 					log = "PreviousDelay [" + this.waitDelayTask.initialDelay + "ms] " //
+							+ "+ Budget [" + this.reservedBudget + "ms] " //
 							+ "+ Wait [" + this.stopwatch.elapsed().toMillis() + "ms] " //
 							+ "= PossibleDelay [" + possibleDelay + "ms]";
 				}
 
 			} else {
 				// FINISHED state has not happened -> reduce possible delay
-				var halfOfLastDelay = this.waitDelayTask.initialDelay / 2;
+				var halfOfLastDelay = (this.waitDelayTask.initialDelay + this.reservedBudget) / 2;
 				if (traceLog) {
 					if (this.waitDelayTask.initialDelay == 0) {
 						log = "CYCLE_TIME_TOO_SHORT"; //
@@ -123,8 +131,9 @@ public class WaitDelayHandler {
 		// Initialize a new WaitDelayTask.
 		this.setWaitDelayTask(generateWaitDelayTask(this.possibleDelays, this.onWaitDelayTaskFinished));
 
-		// Reset 'timeIsInvalid'
+		// Reset 'timeIsInvalid' and 'reservedBudget'
 		this.timeIsInvalid = false;
+		this.reservedBudget = 0;
 
 		return log;
 	}
@@ -144,6 +153,35 @@ public class WaitDelayHandler {
 	public synchronized void timeIsInvalid() {
 		this.setWaitDelayTask(generateZeroWaitDelayTask(this.onWaitDelayTaskFinished));
 		this.timeIsInvalid = true;
+		this.reservedBudget = 0;
+	}
+
+	/**
+	 * Gets the time budget of the current Cycle that can be used for optional
+	 * ReadTasks, i.e. the planned delay.
+	 * 
+	 * @return the budget in [ms]
+	 */
+	public synchronized long getBudget() {
+		return this.waitDelayTask.initialDelay;
+	}
+
+	/**
+	 * Reserves a part of the delay of the current Cycle for optional ReadTasks.
+	 * The WaitDelayTask is shortened accordingly; the reserved time still counts
+	 * as possible delay for the next Cycles.
+	 * 
+	 * <p>
+	 * This method is called shortly after 'onBeforeProcessImage()'
+	 * 
+	 * @param millis the planned execution time of the optional ReadTasks in [ms]
+	 */
+	public synchronized void reserveBudget(long millis) {
+		var delay = this.waitDelayTask.initialDelay;
+		this.reservedBudget = Math.max(0, Math.min(millis, delay));
+		if (this.reservedBudget > 0) {
+			this.setWaitDelayTask(new WaitTask.Delay(delay - this.reservedBudget, this.onWaitDelayTaskFinished));
+		}
 	}
 
 	/**
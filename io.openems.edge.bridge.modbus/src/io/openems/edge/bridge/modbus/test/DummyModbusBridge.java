@@ -35,7 +35,7 @@ public class DummyModbusBridge extends AbstractModbusBridge implements BridgeMod
 		for (Channel<?> channel : this.channels()) {
 			channel.nextProcessImage();
 		}
-		super.activate(null, id, "", true, logVerbosity, 2);
+		super.activate(null, id, "", true, logVerbosity, 2, -1, 0);
 	}
 
 	/**
@@ -0,0 +1,285 @@
+package io.openems.edge.bridge.modbus;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ghgande.j2mod.modbus.ModbusIOException;
+import com.ghgande.j2mod.modbus.ModbusSlaveException;
+import com.ghgande.j2mod.modbus.io.AbstractModbusTransport;
+import com.ghgande.j2mod.modbus.msg.ModbusResponse;
+import com.ghgande.j2mod.modbus.msg.ReadMultipleRegistersRequest;
+import com.ghgande.j2mod.modbus.msg.ReadMultipleRegistersResponse;
+import com.ghgande.j2mod.modbus.net.TCPMasterConnection;
+
+public class ModbusTcpPipelineTest {
+
+	private static final int TIMEOUT = 5; // [s]
+
+	private static record Frame(int transactionId, int unitId, int address) {
+	}
+
+	/**
+	 * A Modbus/TCP slave that hands every received request to the test, which then
+	 * decides when and how to reply.
+	 */
+	private static class ScriptedSlave implements AutoCloseable {
+
+		private final ServerSocket server;
+		private final BlockingQueue<Frame> received = new LinkedBlockingQueue<>();
+		private final Thread thread;
+
+		private Socket socket;
+		private DataOutputStream out;
+
+		public ScriptedSlave() throws IOException {
+			this.server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+			this.thread = new Thread(this::run);
+			this.thread.start();
+		}
+
+		private void run() {
+			try {
+				var socket = this.server.accept();
+				synchronized (this) {
+					this.socket = socket;
+					this.out = new DataOutputStream(socket.getOutputStream());
+				}
+				var in = new DataInputStream(socket.getInputStream());
+				while (true) {
+					var transactionId = in.readUnsignedShort();
+					in.readUnsignedShort(); // Protocol-ID
+					var length = in.readUnsignedShort();
+					var unitId = in.readUnsignedByte();
+					in.readUnsignedByte(); // Function-Code
+					var address = in.readUnsignedShort();
+					in.skipNBytes(length - 4);
+					this.received.add(new Frame(transactionId, unitId, address));
+				}
+			} catch (IOException e) {
+				// Closed
+			}
+		}
+
+		public int getPort() {
+			return this.server.getLocalPort();
+		}
+
+		public Frame take() throws InterruptedException {
+			var frame = this.received.poll(TIMEOUT, TimeUnit.SECONDS);
+			if (frame == null) {
+				fail("No request received");
+			}
+			return frame;
+		}
+
+		/**
+		 * Replies a single register.
+		 *
+		 * @param frame the request {@link Frame}
+		 * @param value the register value
+		 * @throws IOException on error
+		 */
+		public synchronized void reply(Frame frame, int value) throws IOException {
+			this.out.writeShort(frame.transactionId);
+			this.out.writeShort(0);
+			this.out.writeShort(5);
+			this.out.writeByte(frame.unitId);
+			this.out.writeByte(0x03);
+			this.out.writeByte(2);
+			this.out.writeShort(value);
+			this.out.flush();
+		}
+
+		/**
+		 * Replies an exception response.
+		 *
+		 * @param frame         the request {@link Frame}
+		 * @param exceptionCode the Modbus exception code
+		 * @throws IOException on error
+		 */
+		public synchronized void replyException(Frame frame, int exceptionCode) throws IOException {
+			this.out.writeShort(frame.transactionId);
+			this.out.writeShort(0);
+			this.out.writeShort(3);
+			this.out.writeByte(frame.unitId);
+			this.out.writeByte(0x83);
+			this.out.writeByte(exceptionCode);
+			this.out.flush();
+		}
+
+		@Override
+		public synchronized void close() throws IOException {
+			if (this.socket != null) {
+				this.socket.close();
+			}
+			this.server.close();
+		}
+	}
+
+	private final AtomicInteger sequentialUnits = new AtomicInteger();
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+
+	private ScriptedSlave slave;
+	private TCPMasterConnection connection;
+	private AbstractModbusTransport transport;
+	private ModbusTcpPipeline sut;
+
+	@Before
+	public void before() throws Exception {
+		this.slave = new ScriptedSlave();
+		this.connection = new TCPMasterConnection(InetAddress.getLoopbackAddress());
+		this.connection.setPort(this.slave.getPort());
+		this.connection.connect();
+		this.transport = this.connection.getModbusTransport();
+		this.transport.setTimeout(TIMEOUT * 1000);
+		this.sut = new ModbusTcpPipeline(4, this.sequentialUnits::set);
+	}
+
+	@After
+	public void after() throws IOException {
+		this.executor.shutdownNow();
+		this.connection.close();
+		this.slave.close();
+	}
+
+	private Future<ModbusResponse> execute(int unitId, int address) {
+		var request = new ReadMultipleRegistersRequest(address, 1);
+		request.setUnitID(unitId);
+		return this.executor.submit(() -> this.sut.execute(this.transport, request));
+	}
+
+	private static int getValue(Future<ModbusResponse> future) throws Exception {
+		var response = (ReadMultipleRegistersResponse) future.get(TIMEOUT, TimeUnit.SECONDS);
+		return response.getRegisterValue(0);
+	}
+
+	private static Throwable getCause(Future<ModbusResponse> future) throws Exception {
+		try {
+			future.get(TIMEOUT, TimeUnit.SECONDS);
+			fail("Expected an exception");
+			return null;
+		} catch (ExecutionException e) {
+			return e.getCause();
+		}
+	}
+
+	@Test
+	public void testOutOfOrderResponses() throws Exception {
+		// Requests are in flight at the same time
+		var request1 = this.execute(1, 100);
+		var frame1 = this.slave.take();
+		var request2 = this.execute(1, 101);
+		var frame2 = this.slave.take();
+		var request3 = this.execute(1, 102);
+		var frame3 = this.slave.take();
+		assertEquals(0, this.sequentialUnits.get());
+
+		// Responses are matched by Transaction-ID; unknown IDs are ignored
+		this.slave.reply(new Frame((frame3.transactionId + 100) & 0xFFFF, 1, 0), 999);
+		this.slave.reply(frame3, 102);
+		this.slave.reply(frame1, 100);
+		this.slave.reply(frame2, 101);
+
+		assertEquals(100, getValue(request1));
+		assertEquals(101, getValue(request2));
+		assertEquals(102, getValue(request3));
+
+		// Unit-ID falls back to sequential mode
+		assertEquals(1, this.sequentialUnits.get());
+		assertFalse(this.sut.hasFailed(this.transport));
+	}
+
+	@Test
+	public void testConcurrentRequests() throws Exception {
+		final var threads = 4;
+		final var requestsPerThread = 50;
+
+		// Several threads send at the same time
+		var futures = new ArrayList<Future<?>>();
+		for (var t = 0; t < threads; t++) {
+			final var unitId = t + 1;
+			futures.add(this.executor.submit(() -> {
+				for (var i = 0; i < requestsPerThread; i++) {
+					var request = new ReadMultipleRegistersRequest(i, 1);
+					request.setUnitID(unitId);
+					var response = (ReadMultipleRegistersResponse) this.sut.execute(this.transport, request);
+					assertEquals(unitId * 1000 + i, response.getRegisterValue(0));
+				}
+				return null;
+			}));
+		}
+
+		// Slave replies strictly in the order the requests arrived
+		for (var i = 0; i < threads * requestsPerThread; i++) {
+			var frame = this.slave.take();
+			this.slave.reply(frame, frame.unitId * 1000 + frame.address);
+		}
+		for (var future : futures) {
+			future.get(TIMEOUT, TimeUnit.SECONDS);
+		}
+
+		// In-order replies never fall back to sequential mode
+		assertEquals(0, this.sequentialUnits.get());
+		assertFalse(this.sut.hasFailed(this.transport));
+	}
+
+	@Test
+	public void testSlaveException() throws Exception {
+		var request1 = this.execute(1, 100);
+		var frame1 = this.slave.take();
+		var request2 = this.execute(2, 200);
+		var frame2 = this.slave.take();
+
+		this.slave.replyException(frame1, 2 /* Illegal Data Address */);
+		this.slave.reply(frame2, 200);
+
+		// Only the affected request fails
+		assertTrue(getCause(request1) instanceof ModbusSlaveException);
+		assertEquals(200, getValue(request2));
+		assertFalse(this.sut.hasFailed(this.transport));
+		assertEquals(0, this.sequentialUnits.get());
+
+		// Connection is still usable
+		var request3 = this.execute(1, 101);
+		this.slave.reply(this.slave.take(), 101);
+		assertEquals(101, getValue(request3));
+	}
+
+	@Test
+	public void testConnectionLoss() throws Exception {
+		var request1 = this.execute(1, 100);
+		this.slave.take();
+		var request2 = this.execute(2, 200);
+		this.slave.take();
+
+		this.slave.close();
+
+		// All requests in flight fail
+		assertTrue(getCause(request1) instanceof ModbusIOException);
+		assertTrue(getCause(request2) instanceof ModbusIOException);
+		assertTrue(this.sut.hasFailed(this.transport));
+	}
+
+}
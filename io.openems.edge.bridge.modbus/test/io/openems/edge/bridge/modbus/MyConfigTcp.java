@@ -12,6 +12,9 @@ public class MyConfigTcp extends AbstractComponentConfig implements ConfigTcp {
 		private int port;
 		private LogVerbosity logVerbosity;
 		private int invalidateElementsAfterReadErrors;
+		private int coalesceReadTasksMaxGap = -1;
+		private int adaptivePollingMaxInterval = 0;
+		private int pipelineDepth = 1;
 
 		private Builder() {
 		}
@@ -41,6 +44,21 @@ public class MyConfigTcp extends AbstractComponentConfig implements ConfigTcp {
 			return this;
 		}
 
+		public Builder setCoalesceReadTasksMaxGap(int coalesceReadTasksMaxGap) {
+			this.coalesceReadTasksMaxGap = coalesceReadTasksMaxGap;
+			return this;
+		}
+
+		public Builder setAdaptivePollingMaxInterval(int adaptivePollingMaxInterval) {
+			this.adaptivePollingMaxInterval = adaptivePollingMaxInterval;
+			return this;
+		}
+
+		public Builder setPipelineDepth(int pipelineDepth) {
+			this.pipelineDepth = pipelineDepth;
+			return this;
+		}
+
 		public MyConfigTcp build() {
 			return new MyConfigTcp(this);
 		}
@@ -82,4 +100,19 @@ public class MyConfigTcp extends AbstractComponentConfig implements ConfigTcp {
 		return this.builder.invalidateElementsAfterReadErrors;
 	}
 
+	@Override
+	public int coalesceReadTasksMaxGap() {
+		return this.builder.coalesceReadTasksMaxGap;
+	}
+
+	@Override
+	public int adaptivePollingMaxInterval() {
+		return this.builder.adaptivePollingMaxInterval;
+	}
+
+	@Override
+	public int pipelineDepth() {
+		return this.builder.pipelineDepth;
+	}
+
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package io.openems.edge.bridge.modbus.api.worker;
 
+import java.time.Duration;
+
 import io.openems.edge.bridge.modbus.api.task.ReadTask;
 import io.openems.edge.common.taskmanager.Priority;
 
@@ -7,6 +9,9 @@ public class DummyReadTask extends AbstractDummyTask implements ReadTask {
 
 	private final Priority priority;
 
+	private Duration pollInterval = null;
+	private boolean changed = true;
+
 	public DummyReadTask(String name, long delay, Priority priority) {
 		super(name, delay);
 		this.priority = priority;
@@ -21,4 +26,29 @@ public class DummyReadTask extends AbstractDummyTask implements ReadTask {
 	public Priority getPriority() {
 		return this.priority;
 	}
+
+	/**
+	 * Sets the Poll-Interval.
+	 * 
+	 * @param pollInterval the interval
+	 * @return myself
+	 */
+	public DummyReadTask setPollInterval(Duration pollInterval) {
+		this.pollInterval = pollInterval;
+		return this;
+	}
+
+	@Override
+	public Duration getPollInterval() {
+		return this.pollInterval;
+	}
+
+	public void setChanged(boolean changed) {
+		this.changed = changed;
+	}
+
+	@Override
+	public boolean hasChangedOnLastExecute() {
+		return this.changed;
+	}
 }
\ No newline at end of file
@@ -0,0 +1,76 @@
+package io.openems.edge.bridge.modbus.api.worker.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import io.openems.edge.bridge.modbus.api.element.UnsignedDoublewordElement;
+import io.openems.edge.bridge.modbus.api.element.UnsignedWordElement;
+import io.openems.edge.bridge.modbus.api.task.CoalescedReadRegistersTask;
+import io.openems.edge.bridge.modbus.api.task.FC3ReadRegistersTask;
+import io.openems.edge.bridge.modbus.api.task.FC4ReadInputRegistersTask;
+import io.openems.edge.bridge.modbus.api.task.Task;
+import io.openems.edge.bridge.modbus.api.worker.DummyWriteTask;
+import io.openems.edge.common.taskmanager.Priority;
+
+public class ReadTasksCoalescerTest {
+
+	@Test
+	public void test() {
+		var fc3a = new FC3ReadRegistersTask(0, Priority.HIGH, new UnsignedDoublewordElement(0));
+		var fc3b = new FC3ReadRegistersTask(3, Priority.HIGH, new UnsignedWordElement(3), new UnsignedWordElement(4));
+		var fc3c = new FC3ReadRegistersTask(100, Priority.HIGH, new UnsignedWordElement(100));
+		var fc4 = new FC4ReadInputRegistersTask(5, Priority.HIGH, new UnsignedWordElement(5));
+		var wt = new DummyWriteTask("WT", 10);
+		List<Task> tasks = List.of(fc3c, fc4, wt, fc3b, fc3a);
+
+		// Disabled
+		assertEquals(5, ReadTasksCoalescer.coalesce(tasks, ReadTasksCoalescer.DISABLED).size());
+
+		// Gap too big
+		assertEquals(5, ReadTasksCoalescer.coalesce(tasks, 0).size());
+
+		// Merge FC3 0-4; keep FC3 100, FC4 and WriteTask
+		var result = ReadTasksCoalescer.coalesce(tasks, 1);
+		assertEquals(4, result.size());
+		assertTrue(result.contains(wt));
+		assertTrue(result.contains(fc3c));
+		assertTrue(result.contains(fc4));
+		var coalesced = (CoalescedReadRegistersTask) result.stream() //
+				.filter(CoalescedReadRegistersTask.class::isInstance) //
+				.findFirst().get();
+		assertEquals(0, coalesced.getStartAddress());
+		assertEquals(5, coalesced.getLength());
+		assertEquals(Priority.HIGH, coalesced.getPriority());
+		assertSame(fc3a, coalesced.getTasks().get(0));
+		assertSame(fc3b, coalesced.getTasks().get(1));
+		assertEquals(3, coalesced.getElements().length);
+
+		// Max length of one request
+		var fc3d = new FC3ReadRegistersTask(125, Priority.HIGH, new UnsignedWordElement(125));
+		result = ReadTasksCoalescer.coalesce(List.of(fc3a, fc3b, fc3c, fc3d), 200);
+		assertEquals(2, result.size());
+		assertEquals(101, result.get(0).getLength());
+		assertSame(fc3d, result.get(1));
+	}
+
+	@Test
+	public void testPriority() {
+		var fc3a = new FC3ReadRegistersTask(0, Priority.HIGH, new UnsignedWordElement(0));
+		var fc3b = new FC3ReadRegistersTask(1, Priority.LOW, new UnsignedWordElement(1));
+		var fc3c = new FC3ReadRegistersTask(2, Priority.LOW, new UnsignedWordElement(2));
+
+		// LOW tasks are not promoted to HIGH
+		var result = ReadTasksCoalescer.coalesce(List.of(fc3a, fc3b, fc3c), 1);
+		assertEquals(2, result.size());
+		assertSame(fc3a, result.get(0));
+		var coalesced = (CoalescedReadRegistersTask) result.get(1);
+		assertEquals(Priority.LOW, coalesced.getPriority());
+		assertEquals(List.of(fc3b, fc3c), coalesced.getTasks());
+	}
+
+}
@@ -4,6 +4,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.time.Duration;
 import java.time.temporal.ChronoUnit;
 
 import org.junit.Before;
@@ -103,4 +104,74 @@ public class TasksSupplierImplTest {
 		assertTrue(tasks.writes().contains(WT_1));
 	}
 
+	@Test
+	public void testPollInterval() throws OpenemsException {
+		var clock = new TimeLeapClock();
+		var defectiveComponents = new DefectiveComponents(clock);
+		var sut = new TasksSupplierImpl(clock);
+		var rtInterval = new DummyReadTask("RT_I", 20, Priority.LOW).setPollInterval(Duration.ofSeconds(10));
+
+		var component = new DummyModbusComponent();
+		var protocol = component.getModbusProtocol();
+		protocol.addTasks(RT_H_1, rtInterval);
+		sut.addProtocol(component.id(), protocol);
+
+		// Never executed -> always due
+		var tasks = sut.getCycleTasks(defectiveComponents);
+		assertTrue(tasks.reads().contains(rtInterval));
+		sut.onExecuted(rtInterval, true, 20);
+
+		// Not due
+		tasks = sut.getCycleTasks(defectiveComponents, 100);
+		assertEquals(1, tasks.reads().size());
+		assertEquals(0, tasks.plannedMillis());
+
+		// Due, but no budget
+		clock.leap(10, ChronoUnit.SECONDS);
+		tasks = sut.getCycleTasks(defectiveComponents, 0);
+		assertFalse(tasks.reads().contains(rtInterval));
+
+		// Due and budget
+		tasks = sut.getCycleTasks(defectiveComponents, 100);
+		assertTrue(tasks.reads().contains(rtInterval));
+		assertEquals(20, tasks.plannedMillis());
+
+		// Starving -> execute without budget
+		clock.leap(10, ChronoUnit.SECONDS);
+		tasks = sut.getCycleTasks(defectiveComponents, 0);
+		assertTrue(tasks.reads().contains(rtInterval));
+	}
+
+	@Test
+	public void testAdaptivePolling() throws OpenemsException {
+		var clock = new TimeLeapClock();
+		var defectiveComponents = new DefectiveComponents(clock);
+		var sut = new TasksSupplierImpl(clock);
+		sut.setAdaptivePollingMaxInterval(Duration.ofMinutes(1));
+
+		var component = new DummyModbusComponent();
+		var protocol = component.getModbusProtocol();
+		protocol.addTasks(RT_L_1, RT_L_2);
+		sut.addProtocol(component.id(), protocol);
+
+		// RT_L_1 did not change -> back off
+		var tasks = sut.getCycleTasks(defectiveComponents);
+		assertEquals(RT_L_1, tasks.reads().get(0));
+		RT_L_1.setChanged(false);
+		sut.onExecuted(RT_L_1, true, 10);
+
+		tasks = sut.getCycleTasks(defectiveComponents);
+		assertEquals(RT_L_2, tasks.reads().get(0));
+		sut.onExecuted(RT_L_2, true, 10);
+
+		// RT_L_1 is skipped
+		tasks = sut.getCycleTasks(defectiveComponents);
+		assertEquals(RT_L_2, tasks.reads().get(0));
+
+		// RT_L_1 is due again
+		clock.leap(1, ChronoUnit.SECONDS);
+		tasks = sut.getCycleTasks(defectiveComponents);
+		assertEquals(RT_L_1, tasks.reads().get(0));
+	}
+
 }
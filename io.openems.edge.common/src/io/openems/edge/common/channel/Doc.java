@@ -142,6 +142,13 @@ public interface Doc {
 	 */
 	public boolean isDebug();
 
+	/**
+	 * Does the Channel keep its past values?.
+	 *
+	 * @return true if past values are kept; see {@link Channel#getPastValues()}
+	 */
+	public boolean hasPastValues();
+
 	/**
 	 * Creates an instance of {@link Channel} for the given Channel-ID using its
 	 * Channel-{@link AbstractDoc}.
@@ -3,6 +3,7 @@ package io.openems.edge.common.channel;
 import io.openems.common.types.OpenemsType;
 import io.openems.edge.common.channel.internal.AbstractReadChannel;
 import io.openems.edge.common.channel.internal.OpenemsTypeDoc;
+import io.openems.edge.common.channel.value.Value;
 import io.openems.edge.common.component.OpenemsComponent;
 
 public class LongReadChannel extends AbstractReadChannel<OpenemsTypeDoc<Long>, Long> {
@@ -11,4 +12,15 @@ public class LongReadChannel extends AbstractReadChannel<OpenemsTypeDoc<Long>, L
 		super(OpenemsType.LONG, component, channelId, channelDoc);
 	}
 
+	/**
+	 * Updates the 'next value' of the Channel without boxing the value and without
+	 * creating a {@link Value} object.
+	 *
+	 * @param value the 'next value'. It is going to be the 'value' after the next
+	 *              ProcessImage gets activated.
+	 */
+	public void setNextValue(long value) {
+		this.setNextBits(value);
+	}
+
 }
@@ -159,6 +159,32 @@ public abstract class AbstractDoc<T> implements Doc {
 		return this.debug;
 	}
 
+	/*
+	 * Past Values
+	 */
+	private boolean pastValues = true;
+
+	/**
+	 * Sets whether the Channel keeps its past values for
+	 * {@link Channel#MAX_AGE_OF_PAST_VALUES}. Defaults to true.
+	 *
+	 * <p>
+	 * Past values are used e.g. for aggregation by Controller.Api.Backend and
+	 * Timedata.Rrd4j. Disable for Channels that are not persisted to save memory.
+	 *
+	 * @param pastValues true to keep past values
+	 * @return myself
+	 */
+	public AbstractDoc<T> pastValues(boolean pastValues) {
+		this.pastValues = pastValues;
+		return this.self();
+	}
+
+	@Override
+	public boolean hasPastValues() {
+		return this.pastValues;
+	}
+
 	/*
 	 * On Channel initialization Callback
 	 */
@@ -34,23 +34,50 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 	private final List<Consumer<Value<T>>> onUpdateCallbacks = new CopyOnWriteArrayList<>();
 	private final List<Consumer<Value<T>>> onSetNextValueCallbacks = new CopyOnWriteArrayList<>();
 	private final List<BiConsumer<Value<T>, Value<T>>> onChangeCallbacks = new CopyOnWriteArrayList<>();
-	private final TreeMap<LocalDateTime, Value<T>> pastValues = new TreeMap<>();
+	/**
+	 * The past values of the Channel; null if the {@link AbstractDoc} disables
+	 * keeping past values.
+	 */
+	private final PastValues<T> pastValues;
 
 	/**
 	 * The 'next' value of the Channel. Copied to 'active' in
-	 * {@link #nextProcessImage()}. Never null.
+	 * {@link #nextProcessImage()}. Null if the 'next' value is held by
+	 * {@link #nextPrimitive}.
 	 */
 	private volatile Value<T> nextValue = new Value<>(this, null);
 	/**
-	 * The 'active' value of the Channel. Never null.
+	 * The 'active' value of the Channel. Null if the 'active' value is held by
+	 * {@link #activePrimitive}.
 	 */
 	private volatile Value<T> activeValue = new Value<>(this, null);
 
+	/**
+	 * Holds the 'next' value of a numeric Channel without creating a {@link Value}
+	 * object; null for non-numeric Channels. Access to {@link #nextPrimitive},
+	 * {@link #activePrimitive}, {@link #nextValue} and {@link #activeValue} of
+	 * numeric Channels is synchronized on {@link #nextPrimitive}.
+	 */
+	private final PrimitiveValue nextPrimitive;
+	/**
+	 * Holds the 'active' value of a numeric Channel without creating a
+	 * {@link Value} object; null for non-numeric Channels.
+	 */
+	private final PrimitiveValue activePrimitive;
+
 	protected AbstractReadChannel(OpenemsType type, OpenemsComponent parent, ChannelId channelId, D channelDoc) {
 		this.type = type;
 		this.parent = parent;
 		this.channelId = channelId;
 		this.channelDoc = channelDoc;
+		this.pastValues = channelDoc.hasPastValues() ? PastValues.of(type) : null;
+		if (PrimitiveValue.isSupported(type)) {
+			this.nextPrimitive = new PrimitiveValue(type);
+			this.activePrimitive = new PrimitiveValue(type);
+		} else {
+			this.nextPrimitive = null;
+			this.activePrimitive = null;
+		}
 
 		// validate Type
 		if (!this.validateType(channelDoc.getType(), type)) {
@@ -109,12 +136,16 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 
 	@Override
 	public void nextProcessImage() {
-		var oldValue = this.activeValue;
-		var newValue = this.nextValue;
 		try {
+			if (this.nextPrimitiveProcessImage()) {
+				return;
+			}
+
+			var oldValue = this.getActiveValue();
+			var newValue = this.getNextValue();
 
 			// Copy 'next' value to 'active' value
-			this.activeValue = newValue;
+			this.setActiveValue(newValue);
 
 			// Always -> call 'onUpdate' callbacks
 			this.onUpdateCallbacks.forEach(callback -> callback.accept(newValue));
@@ -135,6 +166,37 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 		}
 	}
 
+	/**
+	 * Switches the process image without creating {@link Value} objects.
+	 *
+	 * <p>
+	 * This is possible for numeric Channels without 'onUpdate' and 'onChange'
+	 * callbacks, if the 'next' value is held by {@link #nextPrimitive}.
+	 *
+	 * @return true if the process image was switched; false if the regular
+	 *         process image switch is required
+	 */
+	private boolean nextPrimitiveProcessImage() {
+		final var next = this.nextPrimitive;
+		if (next == null || !this.onUpdateCallbacks.isEmpty() || !this.onChangeCallbacks.isEmpty()) {
+			return false;
+		}
+		synchronized (next) {
+			if (this.nextValue != null) {
+				return false;
+			}
+			// Copy 'next' value to 'active' value
+			this.activePrimitive.copyFrom(next);
+			this.activeValue = null;
+
+			// Additionally append to 'pastValues'
+			if (this.pastValues != null) {
+				this.pastValues.appendBits(this, next.getTimestamp(), next.getBits());
+			}
+			return true;
+		}
+	}
+
 	/**
 	 * Appends a value to `pastValues` and deletes entries that are elder than
 	 * {@link Channel#MAX_AGE_OF_PAST_VALUES}.
@@ -142,10 +204,10 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 	 * @param value a new {@link Value}
 	 */
 	private void appendPastValue(Value<T> value) {
-		final var compareTime = value.getTimestamp().minus(Channel.MAX_AGE_OF_PAST_VALUES);
-		this.pastValues.put(value.getTimestamp(), value);
-		// changes to sub map are also applied to the backed map
-		this.pastValues.headMap(compareTime).clear();
+		if (this.pastValues == null) {
+			return;
+		}
+		this.pastValues.append(this, value.getTimestamp(), value.get());
 	}
 
 	@Override
@@ -171,7 +233,7 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 	@Override
 	@Deprecated
 	public void _setNextValue(T value) {
-		if (this.channelDoc.getUnit().isCumulated() && this.activeValue.isDefined() && value == null) {
+		if (this.channelDoc.getUnit().isCumulated() && value == null && this.getActiveValue().isDefined()) {
 			// Channel has CUMULATED Unit, currently holds a valid value and next value is
 			// 'null' -> ignore change to make sure the value is 'steadily increasing'.
 			if (this.channelDoc.isDebug()) {
@@ -181,16 +243,104 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 			return;
 		}
 
-		this.nextValue = new Value<>(this, value);
+		final var next = this.nextPrimitive;
+		if (next == null) {
+			this.nextValue = new Value<>(this, value);
+
+		} else if (value != null) {
+			this.setNextBits(PrimitiveValue.toBits(this.type, value));
+			return;
+
+		} else {
+			synchronized (next) {
+				this.nextValue = new Value<>(this, value);
+			}
+		}
+		this.afterSetNextValue();
+	}
+
+	/**
+	 * Sets the next value of a numeric Channel without creating a {@link Value}
+	 * object. Internal method. Do not call directly.
+	 *
+	 * <p>
+	 * The value is given as 'bits', i.e. the value itself for INTEGER and LONG and
+	 * {@link Double#doubleToLongBits(double)} for DOUBLE Channels.
+	 *
+	 * @param bits the next value as bits
+	 */
+	protected void setNextBits(long bits) {
+		final var next = this.nextPrimitive;
+		if (next == null) {
+			throw new IllegalArgumentException("[" + this.address() + "]: Channel of type [" + this.type
+					+ "] does not support primitive values.");
+		}
+		synchronized (next) {
+			next.set(bits);
+			this.nextValue = null;
+		}
+		this.afterSetNextValue();
+	}
+
+	/**
+	 * Logs the next value in debug mode and calls the 'onSetNextValue' callbacks.
+	 */
+	private void afterSetNextValue() {
 		if (this.channelDoc.isDebug()) {
-			this.log.info("Next value for [" + this.address() + "]: " + this.nextValue.asString());
+			this.log.info("Next value for [" + this.address() + "]: " + this.getNextValue().asString());
+		}
+		if (!this.onSetNextValueCallbacks.isEmpty()) {
+			final var nextValue = this.getNextValue();
+			this.onSetNextValueCallbacks.forEach(callback -> callback.accept(nextValue));
 		}
-		this.onSetNextValueCallbacks.forEach(callback -> callback.accept(this.nextValue));
 	}
 
 	@Override
 	public Value<T> getNextValue() {
-		return this.nextValue;
+		var value = this.nextValue;
+		if (value != null) {
+			return value;
+		}
+		synchronized (this.nextPrimitive) {
+			if (this.nextValue == null) {
+				this.nextValue = this.nextPrimitive.toValue(this);
+			}
+			return this.nextValue;
+		}
+	}
+
+	/**
+	 * Sets the 'active' value.
+	 *
+	 * @param value the 'active' value; not null
+	 */
+	private void setActiveValue(Value<T> value) {
+		if (this.nextPrimitive == null) {
+			this.activeValue = value;
+			return;
+		}
+		synchronized (this.nextPrimitive) {
+			this.activeValue = value;
+		}
+	}
+
+	/**
+	 * Gets the 'active' value. Creates the {@link Value} object if the 'active'
+	 * value is held by {@link #activePrimitive}.
+	 *
+	 * @return the 'active' value; never null
+	 */
+	private Value<T> getActiveValue() {
+		var value = this.activeValue;
+		if (value != null) {
+			return value;
+		}
+		synchronized (this.nextPrimitive) {
+			if (this.activeValue == null) {
+				this.activeValue = this.activePrimitive.toValue(this);
+			}
+			return this.activeValue;
+		}
 	}
 
 	@Override
@@ -202,7 +352,7 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 		case READ_WRITE:
 			break;
 		}
-		return this.activeValue;
+		return this.getActiveValue();
 	}
 
 	@Override
@@ -210,7 +360,7 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 		return "Channel [" //
 				+ "ID=" + this.channelId.id() + ", " //
 				+ "type=" + this.type + ", " //
-				+ "activeValue=" + this.activeValue.asString() + ", "//
+				+ "activeValue=" + this.getActiveValue().asString() + ", "//
 				+ "access=" + this.channelDoc.getAccessMode() //
 				+ "]";
 	}
@@ -301,11 +451,19 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 	/**
 	 * Gets the past values for this Channel.
 	 *
+	 * <p>
+	 * The map is created from the {@link PastValues} ring buffer on request and is
+	 * kept up-to-date as long as it is requested at least once per Cycle. Returns
+	 * an empty map if the {@link AbstractDoc} disables keeping past values.
+	 *
 	 * @return a map of recording time and historic value at that time
 	 */
 	@Override
 	public TreeMap<LocalDateTime, Value<T>> getPastValues() {
-		return this.pastValues;
+		if (this.pastValues == null) {
+			return new TreeMap<>();
+		}
+		return this.pastValues.toMap(this);
 	}
 
 	/**
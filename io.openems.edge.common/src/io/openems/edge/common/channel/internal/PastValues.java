@@ -0,0 +1,394 @@
+package io.openems.edge.common.channel.internal;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.TreeMap;
+
+import io.openems.common.types.OpenemsType;
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.channel.value.Value;
+
+/**
+ * Holds the past values of a {@link Channel} in a ring buffer.
+ *
+ * <p>
+ * Timestamps are stored as epoch milliseconds in a {@code long[]}; values are
+ * stored in a primitive array for INTEGER, LONG, DOUBLE and BOOLEAN Channels.
+ * Entries that are older than {@link Channel#MAX_AGE_OF_PAST_VALUES} compared
+ * to the latest entry are dropped on every append. The buffer only grows if the
+ * number of entries within that time range exceeds its capacity, i.e. appending
+ * does not allocate once the buffer has reached its working size.
+ *
+ * <p>
+ * {@link Value} objects are only created when the past values are requested via
+ * {@link #toMap(Channel)}.
+ *
+ * @param <T> the type of the Channel
+ */
+public abstract class PastValues<T> {
+
+	private static final int INITIAL_CAPACITY = 16;
+	private static final long MAX_AGE_MILLIS = Duration.from(Channel.MAX_AGE_OF_PAST_VALUES).toMillis();
+
+	/**
+	 * Creates a {@link PastValues} buffer for the given {@link OpenemsType}.
+	 *
+	 * @param <T>  the type of the Channel
+	 * @param type the {@link OpenemsType}
+	 * @return the {@link PastValues}
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> PastValues<T> of(OpenemsType type) {
+		return (PastValues<T>) switch (type) {
+		case INTEGER -> new IntegerPastValues();
+		case LONG -> new LongPastValues();
+		case DOUBLE -> new DoublePastValues();
+		case BOOLEAN -> new BooleanPastValues();
+		case FLOAT, SHORT, STRING -> new ObjectPastValues<T>(type);
+		};
+	}
+
+	private long[] timestamps;
+	private boolean[] defined;
+	private Object values;
+
+	/** Index of the oldest entry. */
+	private int head = 0;
+	private int size = 0;
+
+	/**
+	 * Map representation of the buffer, created on request. It is kept up-to-date
+	 * as long as it is requested at least once between two appends.
+	 */
+	private TreeMap<LocalDateTime, Value<T>> map = null;
+	private boolean mapRequested = false;
+
+	private PastValues() {
+		this.allocate(INITIAL_CAPACITY);
+	}
+
+	/**
+	 * Creates a new primitive array for the values.
+	 *
+	 * @param capacity the capacity
+	 * @return the array
+	 */
+	protected abstract Object newArray(int capacity);
+
+	/**
+	 * Stores a non-null value in the values array.
+	 *
+	 * @param array the values array
+	 * @param index the index
+	 * @param value the value; never null
+	 */
+	protected abstract void set(Object array, int index, Object value);
+
+	/**
+	 * Gets a value from the values array.
+	 *
+	 * @param array the values array
+	 * @param index the index
+	 * @return the value
+	 */
+	protected abstract T get(Object array, int index);
+
+	/**
+	 * Stores a value given as 'bits' in the values array. See
+	 * {@link PrimitiveValue}.
+	 *
+	 * @param array the values array
+	 * @param index the index
+	 * @param bits  the value as bits
+	 */
+	protected abstract void setBits(Object array, int index, long bits);
+
+	/**
+	 * Appends a value and drops entries that are elder than
+	 * {@link Channel#MAX_AGE_OF_PAST_VALUES}.
+	 *
+	 * <p>
+	 * A value with the same timestamp as the latest entry replaces that entry. If
+	 * the timestamp is before the latest entry (i.e. the system clock was turned
+	 * back) all entries after the timestamp are dropped.
+	 *
+	 * @param channel   the {@link Channel}
+	 * @param timestamp the timestamp
+	 * @param value     the value; possibly null
+	 */
+	public synchronized void append(Channel<T> channel, LocalDateTime timestamp, T value) {
+		final var millis = toMillis(timestamp);
+		final var index = this.prepareAppend(millis);
+		this.defined[index] = value != null;
+		if (value != null) {
+			this.set(this.values, index, value);
+		}
+		this.completeAppend(channel, millis, index);
+	}
+
+	/**
+	 * Appends a non-null value given as 'bits'. See
+	 * {@link #append(Channel, LocalDateTime, Object)} and {@link PrimitiveValue}.
+	 *
+	 * @param channel the {@link Channel}
+	 * @param millis  the timestamp as local date-time in milliseconds
+	 * @param bits    the value as bits
+	 */
+	protected synchronized void appendBits(Channel<T> channel, long millis, long bits) {
+		final var index = this.prepareAppend(millis);
+		this.defined[index] = true;
+		this.setBits(this.values, index, bits);
+		this.completeAppend(channel, millis, index);
+	}
+
+	/**
+	 * Drops entries that are not before the new timestamp and reserves the index
+	 * for the new entry.
+	 *
+	 * @param millis the timestamp of the new entry
+	 * @return the index of the new entry
+	 */
+	private int prepareAppend(long millis) {
+		while (this.size > 0 && this.timestamps[this.index(this.size - 1)] >= millis) {
+			this.size--;
+		}
+		if (this.size == this.timestamps.length) {
+			this.allocate(this.timestamps.length * 2);
+		}
+		var index = this.index(this.size);
+		this.timestamps[index] = millis;
+		return index;
+	}
+
+	/**
+	 * Completes appending of a new entry: drops entries that are too old and
+	 * updates the map representation.
+	 *
+	 * @param channel the {@link Channel}
+	 * @param millis  the timestamp of the new entry
+	 * @param index   the index of the new entry
+	 */
+	private void completeAppend(Channel<T> channel, long millis, int index) {
+		this.size++;
+
+		// Keep the map representation only if it was requested since last append
+		final var compareMillis = millis - MAX_AGE_MILLIS;
+		if (this.map != null) {
+			if (this.mapRequested) {
+				var time = toLocalDateTime(millis);
+				var value = this.defined[index] ? this.get(this.values, index) : null;
+				this.map.tailMap(time, true).clear();
+				this.map.put(time, new Value<>(channel, value, time));
+				// changes to sub map are also applied to the backed map
+				this.map.headMap(toLocalDateTime(compareMillis)).clear();
+				this.mapRequested = false;
+			} else {
+				this.map = null;
+			}
+		}
+
+		// Drop entries that are too old
+		while (this.size > 0 && this.timestamps[this.head] < compareMillis) {
+			this.head = (this.head + 1) % this.timestamps.length;
+			this.size--;
+		}
+	}
+
+	/**
+	 * Gets the number of entries.
+	 *
+	 * @return the number of entries
+	 */
+	public synchronized int size() {
+		return this.size;
+	}
+
+	/**
+	 * Gets the past values as a map of recording time and historic value at that
+	 * time.
+	 *
+	 * @param channel the {@link Channel}
+	 * @return the map
+	 */
+	public synchronized TreeMap<LocalDateTime, Value<T>> toMap(Channel<T> channel) {
+		if (this.map == null) {
+			this.map = new TreeMap<>();
+			for (var i = 0; i < this.size; i++) {
+				var index = this.index(i);
+				var time = toLocalDateTime(this.timestamps[index]);
+				var value = this.defined[index] ? this.get(this.values, index) : null;
+				this.map.put(time, new Value<>(channel, value, time));
+			}
+		}
+		this.mapRequested = true;
+		return this.map;
+	}
+
+	private int index(int offset) {
+		return (this.head + offset) % this.timestamps.length;
+	}
+
+	/**
+	 * Allocates new arrays with the given capacity and copies the existing entries
+	 * in order, starting at index zero.
+	 *
+	 * @param capacity the new capacity
+	 */
+	private void allocate(int capacity) {
+		var timestamps = new long[capacity];
+		var defined = new boolean[capacity];
+		var values = this.newArray(capacity);
+		if (this.timestamps != null) {
+			var length = this.timestamps.length;
+			var firstPart = Math.min(this.size, length - this.head);
+			System.arraycopy(this.timestamps, this.head, timestamps, 0, firstPart);
+			System.arraycopy(this.defined, this.head, defined, 0, firstPart);
+			System.arraycopy(this.values, this.head, values, 0, firstPart);
+			System.arraycopy(this.timestamps, 0, timestamps, firstPart, this.size - firstPart);
+			System.arraycopy(this.defined, 0, defined, firstPart, this.size - firstPart);
+			System.arraycopy(this.values, 0, values, firstPart, this.size - firstPart);
+		}
+		this.timestamps = timestamps;
+		this.defined = defined;
+		this.values = values;
+		this.head = 0;
+	}
+
+	private static long toMillis(LocalDateTime timestamp) {
+		return timestamp.toInstant(ZoneOffset.UTC).toEpochMilli();
+	}
+
+	/**
+	 * Converts a local date-time in milliseconds to a {@link LocalDateTime}.
+	 *
+	 * @param millis the local date-time in milliseconds
+	 * @return the {@link LocalDateTime}
+	 */
+	protected static LocalDateTime toLocalDateTime(long millis) {
+		return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneOffset.UTC);
+	}
+
+	private static final class IntegerPastValues extends PastValues<Integer> {
+
+		@Override
+		protected Object newArray(int capacity) {
+			return new int[capacity];
+		}
+
+		@Override
+		protected void set(Object array, int index, Object value) {
+			((int[]) array)[index] = ((Number) value).intValue();
+		}
+
+		@Override
+		protected void setBits(Object array, int index, long bits) {
+			((int[]) array)[index] = (int) bits;
+		}
+
+		@Override
+		protected Integer get(Object array, int index) {
+			return ((int[]) array)[index];
+		}
+	}
+
+	private static final class LongPastValues extends PastValues<Long> {
+
+		@Override
+		protected Object newArray(int capacity) {
+			return new long[capacity];
+		}
+
+		@Override
+		protected void set(Object array, int index, Object value) {
+			((long[]) array)[index] = ((Number) value).longValue();
+		}
+
+		@Override
+		protected void setBits(Object array, int index, long bits) {
+			((long[]) array)[index] = bits;
+		}
+
+		@Override
+		protected Long get(Object array, int index) {
+			return ((long[]) array)[index];
+		}
+	}
+
+	private static final class DoublePastValues extends PastValues<Double> {
+
+		@Override
+		protected Object newArray(int capacity) {
+			return new double[capacity];
+		}
+
+		@Override
+		protected void set(Object array, int index, Object value) {
+			((double[]) array)[index] = ((Number) value).doubleValue();
+		}
+
+		@Override
+		protected void setBits(Object array, int index, long bits) {
+			((double[]) array)[index] = Double.longBitsToDouble(bits);
+		}
+
+		@Override
+		protected Double get(Object array, int index) {
+			return ((double[]) array)[index];
+		}
+	}
+
+	private static final class BooleanPastValues extends PastValues<Boolean> {
+
+		@Override
+		protected Object newArray(int capacity) {
+			return new boolean[capacity];
+		}
+
+		@Override
+		protected void set(Object array, int index, Object value) {
+			((boolean[]) array)[index] = (Boolean) value;
+		}
+
+		@Override
+		protected void setBits(Object array, int index, long bits) {
+			((boolean[]) array)[index] = bits != 0;
+		}
+
+		@Override
+		protected Boolean get(Object array, int index) {
+			return ((boolean[]) array)[index];
+		}
+	}
+
+	private static final class ObjectPastValues<T> extends PastValues<T> {
+
+		private final OpenemsType type;
+
+		private ObjectPastValues(OpenemsType type) {
+			this.type = type;
+		}
+
+		@Override
+		protected Object newArray(int capacity) {
+			return new Object[capacity];
+		}
+
+		@Override
+		protected void set(Object array, int index, Object value) {
+			((Object[]) array)[index] = value;
+		}
+
+		@Override
+		protected void setBits(Object array, int index, long bits) {
+			((Object[]) array)[index] = PrimitiveValue.fromBits(this.type, bits);
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		protected T get(Object array, int index) {
+			return (T) ((Object[]) array)[index];
+		}
+	}
+}
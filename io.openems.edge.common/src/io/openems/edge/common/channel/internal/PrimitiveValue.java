@@ -0,0 +1,133 @@
+package io.openems.edge.common.channel.internal;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import io.openems.common.types.OpenemsType;
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.channel.value.Value;
+
+/**
+ * Mutable holder for a non-null numeric Channel value and its timestamp.
+ *
+ * <p>
+ * Used by {@link AbstractReadChannel} to update INTEGER, LONG and DOUBLE
+ * Channels without creating a boxed value, a {@link LocalDateTime} and a
+ * {@link Value} object per update. The value is stored as 'bits', i.e. the
+ * value itself for INTEGER and LONG and {@link Double#doubleToLongBits(double)}
+ * for DOUBLE. SHORT, FLOAT and BOOLEAN values can be converted to 'bits' as
+ * well, but are not held in a {@link PrimitiveValue}. The timestamp is stored
+ * as local date-time in milliseconds, see {@link PastValues}.
+ *
+ * <p>
+ * This class is not thread-safe; access is synchronized by
+ * {@link AbstractReadChannel}.
+ */
+final class PrimitiveValue {
+
+	/**
+	 * The system default time-zone, cached to avoid allocations on every update.
+	 */
+	private static final ZoneId ZONE = ZoneId.systemDefault();
+
+	/**
+	 * Is a {@link PrimitiveValue} supported for the given {@link OpenemsType}?.
+	 *
+	 * @param type the {@link OpenemsType}
+	 * @return true if supported
+	 */
+	protected static boolean isSupported(OpenemsType type) {
+		return switch (type) {
+		case INTEGER, LONG, DOUBLE -> true;
+		case BOOLEAN, FLOAT, SHORT, STRING -> false;
+		};
+	}
+
+	/**
+	 * Converts a non-null value to 'bits'.
+	 *
+	 * @param type  the {@link OpenemsType}; not STRING
+	 * @param value the value
+	 * @return the bits
+	 */
+	protected static long toBits(OpenemsType type, Object value) {
+		return switch (type) {
+		case SHORT, INTEGER, LONG -> ((Number) value).longValue();
+		case FLOAT -> Float.floatToIntBits(((Number) value).floatValue());
+		case DOUBLE -> Double.doubleToLongBits(((Number) value).doubleValue());
+		case BOOLEAN -> (Boolean) value ? 1L : 0L;
+		case STRING -> throw new IllegalArgumentException("Unsupported type " + type);
+		};
+	}
+
+	/**
+	 * Converts 'bits' to a boxed value.
+	 *
+	 * @param type the {@link OpenemsType}; not STRING
+	 * @param bits the bits
+	 * @return the boxed value
+	 */
+	protected static Object fromBits(OpenemsType type, long bits) {
+		return switch (type) {
+		case SHORT -> (short) bits;
+		case INTEGER -> (int) bits;
+		case LONG -> bits;
+		case FLOAT -> Float.intBitsToFloat((int) bits);
+		case DOUBLE -> Double.longBitsToDouble(bits);
+		case BOOLEAN -> bits != 0;
+		case STRING -> throw new IllegalArgumentException("Unsupported type " + type);
+		};
+	}
+
+	private final OpenemsType type;
+
+	private long bits;
+	private long timestamp;
+
+	protected PrimitiveValue(OpenemsType type) {
+		this.type = type;
+	}
+
+	/**
+	 * Sets the value with the current timestamp.
+	 *
+	 * @param bits the value as bits
+	 */
+	protected void set(long bits) {
+		var now = System.currentTimeMillis();
+		this.bits = bits;
+		this.timestamp = now + ZONE.getRules().getOffset(Instant.ofEpochMilli(now)).getTotalSeconds() * 1000L;
+	}
+
+	/**
+	 * Copies value and timestamp from another {@link PrimitiveValue}.
+	 *
+	 * @param other the other {@link PrimitiveValue}
+	 */
+	protected void copyFrom(PrimitiveValue other) {
+		this.bits = other.bits;
+		this.timestamp = other.timestamp;
+	}
+
+	protected long getBits() {
+		return this.bits;
+	}
+
+	protected long getTimestamp() {
+		return this.timestamp;
+	}
+
+	/**
+	 * Creates a {@link Value} object.
+	 *
+	 * @param <T>     the type of the Channel
+	 * @param channel the {@link Channel}
+	 * @return the {@link Value}
+	 */
+	@SuppressWarnings("unchecked")
+	protected <T> Value<T> toValue(Channel<T> channel) {
+		return new Value<>(channel, (T) fromBits(this.type, this.bits), PastValues.toLocalDateTime(this.timestamp));
+	}
+
+}
@@ -0,0 +1,243 @@
+package io.openems.edge.common.component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableSet;
+
+import io.openems.common.types.ChannelAddress;
+import io.openems.edge.common.channel.Channel;
+
+/**
+ * Resolves {@link ChannelAddress}es to {@link Channel}s without iterating all
+ * Components on every lookup.
+ *
+ * <p>
+ * Components are indexed by their ID. Component- and Channel-IDs containing
+ * regular expressions are compiled once; the resolved Channels of recent
+ * wildcard addresses are cached in a bounded LRU. A cached result is only
+ * used while the number of Channels of the matched Components is unchanged,
+ * because Components may add Channels after activation. The index has to be
+ * invalidated via {@link #invalidate()} whenever a Component is added and via
+ * {@link #invalidate(String)} when a Component is about to be removed.
+ */
+public class ChannelAddressIndex {
+
+	private static final int MAX_CACHED = 256;
+
+	private record Snapshot(Map<String, OpenemsComponent> components, Cache<ChannelAddress, Result> results) {
+	}
+
+	/**
+	 * The matched Channels of a wildcard address.
+	 *
+	 * @param channels     the matching {@link Channel}s
+	 * @param components   the matching {@link OpenemsComponent}s
+	 * @param channelCount the total number of Channels of the Components
+	 */
+	private record Result(List<Channel<?>> channels, List<OpenemsComponent> components, int channelCount) {
+
+		private boolean isValid() {
+			return this.channelCount == countChannels(this.components);
+		}
+	}
+
+	private final Supplier<List<OpenemsComponent>> components;
+	private final Cache<String, Pattern> patterns = CacheBuilder.newBuilder() //
+			.maximumSize(MAX_CACHED) //
+			.build();
+
+	private volatile Snapshot snapshot = null;
+	private long generation = 0;
+	private Set<String> removedComponentIds = Set.of();
+
+	public ChannelAddressIndex(Supplier<List<OpenemsComponent>> components) {
+		this.components = components;
+	}
+
+	/**
+	 * Invalidates the index, e.g. after a Component was added or removed.
+	 */
+	public synchronized void invalidate() {
+		this.generation++;
+		this.snapshot = null;
+		this.removedComponentIds = Set.of();
+	}
+
+	/**
+	 * Invalidates the index because a Component is about to be removed.
+	 *
+	 * <p>
+	 * The Component may still be provided by the Supplier while it is being
+	 * removed, e.g. during an OSGi UNREGISTERING event. It is left out of the
+	 * index until the next call of {@link #invalidate()}.
+	 *
+	 * @param componentId the Component-ID of the removed Component
+	 */
+	public synchronized void invalidate(String componentId) {
+		this.generation++;
+		this.snapshot = null;
+		this.removedComponentIds = ImmutableSet.<String>builder() //
+				.addAll(this.removedComponentIds) //
+				.add(componentId) //
+				.build();
+	}
+
+	/**
+	 * Gets an indexed Component by its ID.
+	 *
+	 * @param componentId the Component-ID
+	 * @return the {@link OpenemsComponent}; null if it is not indexed
+	 */
+	public OpenemsComponent getComponent(String componentId) {
+		return this.getSnapshot().components.get(componentId);
+	}
+
+	/**
+	 * Gets all Channels that match the {@link ChannelAddress}; regular expressions
+	 * are allowed.
+	 *
+	 * @param channelAddress the {@link ChannelAddress}
+	 * @return a list of matching {@link Channel}s
+	 * @throws PatternSyntaxException on regular expression error
+	 */
+	public List<Channel<?>> getChannels(ChannelAddress channelAddress) throws PatternSyntaxException {
+		final var snapshot = this.getSnapshot();
+		final var componentId = channelAddress.getComponentId();
+		final var channelId = channelAddress.getChannelId();
+
+		if (!isPattern(componentId) && !isPattern(channelId)) {
+			// Exact match
+			var component = snapshot.components.get(componentId);
+			if (component == null) {
+				return List.of();
+			}
+			var channel = component._channel(channelId);
+			return channel == null ? List.of() : List.of(channel);
+		}
+
+		var result = snapshot.results.getIfPresent(channelAddress);
+		if (result == null || !result.isValid()) {
+			final var componentPattern = this.compile(componentId);
+			final var componentMatcher = componentPattern.matcher("");
+			final var components = snapshot.components.values().stream() //
+					.filter(c -> componentMatcher.reset(c.id()).matches()) //
+					.toList();
+			// Count before matching; a Channel added meanwhile invalidates the result
+			final var channelCount = countChannels(components);
+			result = new Result(match(components, componentPattern, this.compile(channelId)), components,
+					channelCount);
+			snapshot.results.put(channelAddress, result);
+		}
+		return result.channels();
+	}
+
+	/**
+	 * Gets all Channels of the given Components that match the
+	 * {@link ChannelAddress}; regular expressions are allowed.
+	 *
+	 * <p>
+	 * Compiles the patterns on every call; prefer
+	 * {@link #getChannels(ChannelAddress)} for repeated lookups.
+	 *
+	 * @param components     the {@link OpenemsComponent}s
+	 * @param channelAddress the {@link ChannelAddress}
+	 * @return a list of matching {@link Channel}s
+	 * @throws PatternSyntaxException on regular expression error
+	 */
+	public static List<Channel<?>> getChannels(Iterable<? extends OpenemsComponent> components,
+			ChannelAddress channelAddress) throws PatternSyntaxException {
+		return match(components, Pattern.compile(channelAddress.getComponentId()),
+				Pattern.compile(channelAddress.getChannelId()));
+	}
+
+	private static List<Channel<?>> match(Iterable<? extends OpenemsComponent> components, Pattern componentPattern,
+			Pattern channelPattern) {
+		final var componentMatcher = componentPattern.matcher("");
+		final var channelMatcher = channelPattern.matcher("");
+		final var result = new ArrayList<Channel<?>>();
+		for (var component : components) {
+			if (!componentMatcher.reset(component.id()).matches()) {
+				continue;
+			}
+			for (var channel : component.channels()) {
+				if (channelMatcher.reset(channel.channelId().id()).matches()) {
+					result.add(channel);
+				}
+			}
+		}
+		return List.copyOf(result);
+	}
+
+	private static int countChannels(List<OpenemsComponent> components) {
+		var result = 0;
+		for (var component : components) {
+			result += component.channels().size();
+		}
+		return result;
+	}
+
+	private Pattern compile(String regex) throws PatternSyntaxException {
+		var pattern = this.patterns.getIfPresent(regex);
+		if (pattern == null) {
+			pattern = Pattern.compile(regex);
+			this.patterns.put(regex, pattern);
+		}
+		return pattern;
+	}
+
+	private Snapshot getSnapshot() {
+		var snapshot = this.snapshot;
+		if (snapshot != null) {
+			return snapshot;
+		}
+		final long generation;
+		final Set<String> removedComponentIds;
+		synchronized (this) {
+			generation = this.generation;
+			removedComponentIds = this.removedComponentIds;
+		}
+		var components = new LinkedHashMap<String, OpenemsComponent>();
+		for (var component : this.components.get()) {
+			if (!removedComponentIds.contains(component.id())) {
+				components.putIfAbsent(component.id(), component);
+			}
+		}
+		snapshot = new Snapshot(components, CacheBuilder.newBuilder() //
+				.maximumSize(MAX_CACHED) //
+				.build());
+		synchronized (this) {
+			// Do not publish a snapshot that was invalidated while it was built
+			if (this.generation == generation) {
+				this.snapshot = snapshot;
+			}
+		}
+		return snapshot;
+	}
+
+	/**
+	 * Checks whether the given ID contains characters with a special meaning in a
+	 * regular expression.
+	 *
+	 * @param id the Component- or Channel-ID
+	 * @return true if the ID has to be handled as a {@link Pattern}
+	 */
+	protected static boolean isPattern(String id) {
+		for (var i = 0; i < id.length(); i++) {
+			switch (id.charAt(i)) {
+			case '\\', '[', ']', '(', ')', '{', '}', '.', '*', '+', '?', '^', '$', '|':
+				return true;
+			}
+		}
+		return false;
+	}
+
+}
@@ -2,6 +2,7 @@ package io.openems.edge.common.component;
 
 import java.time.Clock;
 import java.util.List;
+import java.util.regex.PatternSyntaxException;
 
 import org.osgi.framework.BundleContext;
 
@@ -266,6 +267,19 @@ public interface ComponentManager extends OpenemsComponent, ClockProvider {
 		return component.channel(channelAddress.getChannelId());
 	}
 
+	/**
+	 * Gets all Channels of enabled Components that match the
+	 * {@link ChannelAddress}; regular expressions are allowed for Component-ID and
+	 * Channel-ID.
+	 *
+	 * @param channelAddress the Channel-Address
+	 * @return a list of matching Channels
+	 * @throws PatternSyntaxException on regular expression error
+	 */
+	public default List<Channel<?>> getChannels(ChannelAddress channelAddress) throws PatternSyntaxException {
+		return ChannelAddressIndex.getChannels(this.getEnabledComponents(), channelAddress);
+	}
+
 	/**
 	 * Gets the complete configuration of this OpenEMS Edge.
 	 *
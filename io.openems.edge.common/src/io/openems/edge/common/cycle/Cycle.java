@@ -27,6 +27,37 @@ public interface Cycle extends OpenemsComponent {
 		 */
 		MEASURED_CYCLE_TIME(Doc.of(OpenemsType.LONG) //
 				.unit(Unit.MILLISECONDS)),
+		/**
+		 * Duration of switching the Process Image of all Channels in [ms].
+		 *
+		 * <ul>
+		 * <li>Interface: Cycle
+		 * <li>Type: Long
+		 * </ul>
+		 */
+		MEASURED_PROCESS_IMAGE_TIME(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MILLISECONDS)),
+		/**
+		 * Duration of executing all Schedulers and Controllers in [ms].
+		 *
+		 * <ul>
+		 * <li>Interface: Cycle
+		 * <li>Type: Long
+		 * </ul>
+		 */
+		MEASURED_CONTROLLERS_TIME(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MILLISECONDS)),
+		/**
+		 * Duration of the Write-Events (BEFORE_WRITE, EXECUTE_WRITE, AFTER_WRITE) in
+		 * [ms].
+		 *
+		 * <ul>
+		 * <li>Interface: Cycle
+		 * <li>Type: Long
+		 * </ul>
+		 */
+		MEASURED_WRITE_TIME(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MILLISECONDS)),
 		/**
 		 * A configured Controller is not executed because it is disabled.
 		 *
@@ -88,6 +119,93 @@ public interface Cycle extends OpenemsComponent {
 		this.getMeasuredCycleTimeChannel().setNextValue(value);
 	}
 
+	/**
+	 * Gets the Channel for {@link ChannelId#MEASURED_PROCESS_IMAGE_TIME}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getMeasuredProcessImageTimeChannel() {
+		return this.channel(ChannelId.MEASURED_PROCESS_IMAGE_TIME);
+	}
+
+	/**
+	 * Gets the Measured Process Image Time in [ms]. See
+	 * {@link ChannelId#MEASURED_PROCESS_IMAGE_TIME}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getMeasuredProcessImageTime() {
+		return this.getMeasuredProcessImageTimeChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#MEASURED_PROCESS_IMAGE_TIME} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setMeasuredProcessImageTime(long value) {
+		this.getMeasuredProcessImageTimeChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#MEASURED_CONTROLLERS_TIME}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getMeasuredControllersTimeChannel() {
+		return this.channel(ChannelId.MEASURED_CONTROLLERS_TIME);
+	}
+
+	/**
+	 * Gets the Measured Controllers Time in [ms]. See
+	 * {@link ChannelId#MEASURED_CONTROLLERS_TIME}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getMeasuredControllersTime() {
+		return this.getMeasuredControllersTimeChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#MEASURED_CONTROLLERS_TIME} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setMeasuredControllersTime(long value) {
+		this.getMeasuredControllersTimeChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#MEASURED_WRITE_TIME}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getMeasuredWriteTimeChannel() {
+		return this.channel(ChannelId.MEASURED_WRITE_TIME);
+	}
+
+	/**
+	 * Gets the Measured Write Time in [ms]. See
+	 * {@link ChannelId#MEASURED_WRITE_TIME}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getMeasuredWriteTime() {
+		return this.getMeasuredWriteTimeChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#MEASURED_WRITE_TIME} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setMeasuredWriteTime(long value) {
+		this.getMeasuredWriteTimeChannel().setNextValue(value);
+	}
+
 	/**
 	 * Gets the Channel for {@link ChannelId#IGNORE_DISABLED_CONTROLLER}.
 	 *
@@ -0,0 +1,113 @@
+package io.openems.edge.common.channel.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Ignore;
+import org.junit.Test;
+
+import io.openems.common.types.OpenemsType;
+import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.channel.DoubleReadChannel;
+import io.openems.edge.common.channel.FloatReadChannel;
+import io.openems.edge.common.channel.IntegerReadChannel;
+import io.openems.edge.common.channel.LongReadChannel;
+
+public class AbstractReadChannelTest {
+
+	@Test
+	public void testPrimitiveInteger() {
+		final IntegerReadChannel channel = Doc.of(OpenemsType.INTEGER).createChannelInstance(null, null);
+		assertNull(channel.value().get());
+
+		channel.setNextValue(123);
+		assertNull(channel.value().get());
+		assertEquals(123, (int) channel.getNextValue().get());
+
+		channel.nextProcessImage();
+		var value = channel.value();
+		assertEquals(123, (int) value.get());
+		assertSame(value, channel.value());
+		assertEquals(1, channel.getPastValues().size());
+
+		// Boxed null value
+		channel.setNextValue(null);
+		channel.nextProcessImage();
+		assertFalse(channel.value().isDefined());
+	}
+
+	@Test
+	public void testPrimitiveLongAndDouble() {
+		final LongReadChannel longChannel = Doc.of(OpenemsType.LONG).createChannelInstance(null, null);
+		longChannel.setNextValue(Long.MAX_VALUE);
+		longChannel.nextProcessImage();
+		assertEquals(Long.MAX_VALUE, (long) longChannel.value().get());
+
+		final DoubleReadChannel doubleChannel = Doc.of(OpenemsType.DOUBLE).createChannelInstance(null, null);
+		doubleChannel.setNextValue(-1.5);
+		doubleChannel.nextProcessImage();
+		assertEquals(-1.5, doubleChannel.value().get(), 0.);
+	}
+
+	@Test
+	public void testPrimitiveWithCallbacks() {
+		final IntegerReadChannel channel = Doc.of(OpenemsType.INTEGER).createChannelInstance(null, null);
+		final var onSetNextValue = new AtomicInteger();
+		final var onChange = new AtomicInteger();
+		channel.onSetNextValue(value -> onSetNextValue.incrementAndGet());
+		channel.onChange((oldValue, newValue) -> onChange.incrementAndGet());
+
+		channel.setNextValue(1);
+		channel.nextProcessImage();
+		channel.setNextValue(1);
+		channel.nextProcessImage();
+		channel.setNextValue(2);
+		channel.nextProcessImage();
+
+		assertEquals(3, onSetNextValue.get());
+		assertEquals(2, onChange.get());
+		assertEquals(2, (int) channel.value().get());
+	}
+
+	/**
+	 * Compares the throughput of the primitive path of an INTEGER Channel with the
+	 * boxed path of a FLOAT Channel.
+	 */
+	@Ignore
+	@Test
+	public void benchmark() {
+		final IntegerReadChannel primitive = Doc.of(OpenemsType.INTEGER).createChannelInstance(null, null);
+		final FloatReadChannel boxed = Doc.of(OpenemsType.FLOAT).createChannelInstance(null, null);
+		final var iterations = 5_000_000;
+
+		// Warm-up
+		for (var i = 0; i < iterations; i++) {
+			primitive.setNextValue(i);
+			primitive.nextProcessImage();
+			boxed.setNextValue((float) i);
+			boxed.nextProcessImage();
+		}
+
+		var start = System.nanoTime();
+		for (var i = 0; i < iterations; i++) {
+			boxed.setNextValue((float) i);
+			boxed.nextProcessImage();
+		}
+		final var boxedTime = (System.nanoTime() - start) / 1_000_000_000.;
+
+		start = System.nanoTime();
+		for (var i = 0; i < iterations; i++) {
+			primitive.setNextValue(i);
+			primitive.nextProcessImage();
+		}
+		final var primitiveTime = (System.nanoTime() - start) / 1_000_000_000.;
+
+		System.out.println(String.format("Updated %d values: boxed %.2f s, primitive %.2f s (%.1fx)", //
+				iterations, boxedTime, primitiveTime, boxedTime / primitiveTime));
+	}
+
+}
@@ -0,0 +1,91 @@
+package io.openems.edge.common.channel.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import org.junit.Test;
+
+import io.openems.common.types.OpenemsType;
+
+public class PastValuesTest {
+
+	private static final LocalDateTime START = LocalDateTime.of(2023, 1, 1, 0, 0);
+
+	@Test
+	public void testAppendAndTrim() {
+		final PastValues<Integer> sut = PastValues.of(OpenemsType.INTEGER);
+
+		// 10 minutes of values every second; more than initial capacity
+		for (var i = 0; i < 600; i++) {
+			sut.append(null, START.plusSeconds(i), i % 10 == 0 ? null : i);
+		}
+
+		// Keeps 5 minutes and 10 seconds
+		assertEquals(311, sut.size());
+		var map = sut.toMap(null);
+		assertEquals(311, map.size());
+		assertEquals(START.plusSeconds(289), map.firstKey());
+		assertEquals(START.plusSeconds(599), map.lastKey());
+		assertEquals(289, (int) map.firstEntry().getValue().get());
+		assertFalse(map.get(START.plusSeconds(590)).isDefined());
+	}
+
+	@Test
+	public void testReplaceAndClockReset() {
+		final PastValues<Double> sut = PastValues.of(OpenemsType.DOUBLE);
+		sut.append(null, START, 1.);
+		sut.append(null, START.plusSeconds(1), 2.);
+		sut.append(null, START.plusSeconds(2), 3.);
+
+		// Same timestamp replaces the latest entry
+		sut.append(null, START.plusSeconds(2), 4.);
+		assertEquals(3, sut.size());
+		assertEquals(4., sut.toMap(null).lastEntry().getValue().get(), 0.001);
+
+		// Earlier timestamp drops newer entries
+		sut.append(null, START.plusSeconds(1), null);
+		assertEquals(2, sut.size());
+		assertNull(sut.toMap(null).lastEntry().getValue().get());
+	}
+
+	@Test
+	public void testMapIsKeptUpToDateWhileRequested() {
+		final PastValues<Boolean> sut = PastValues.of(OpenemsType.BOOLEAN);
+		sut.append(null, START, true);
+		var map = sut.toMap(null);
+
+		// Requested since last append -> map is updated incrementally
+		sut.append(null, START.plusSeconds(1), false);
+		assertSame(map, sut.toMap(null));
+		assertEquals(2, map.size());
+		assertEquals(false, map.lastEntry().getValue().get());
+
+		// Not requested since last append -> map is dropped
+		sut.append(null, START.plusSeconds(2), true);
+		sut.append(null, START.plusSeconds(3), true);
+		assertEquals(4, sut.toMap(null).size());
+	}
+
+	@Test
+	public void testAppendBits() {
+		final var millis = START.toInstant(ZoneOffset.UTC).toEpochMilli();
+
+		final PastValues<Integer> integers = PastValues.of(OpenemsType.INTEGER);
+		integers.appendBits(null, millis, -5);
+		assertEquals(-5, (int) integers.toMap(null).lastEntry().getValue().get());
+
+		final PastValues<Boolean> booleans = PastValues.of(OpenemsType.BOOLEAN);
+		booleans.appendBits(null, millis, 1);
+		assertEquals(true, booleans.toMap(null).lastEntry().getValue().get());
+
+		final PastValues<Float> floats = PastValues.of(OpenemsType.FLOAT);
+		floats.appendBits(null, millis, Float.floatToIntBits(1.5f));
+		assertEquals(1.5f, floats.toMap(null).lastEntry().getValue().get(), 0.f);
+	}
+
+}
@@ -0,0 +1,127 @@
+package io.openems.edge.common.component;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.PatternSyntaxException;
+
+import org.junit.Test;
+
+import io.openems.common.types.ChannelAddress;
+import io.openems.common.types.OpenemsType;
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.test.AbstractDummyOpenemsComponent;
+
+public class ChannelAddressIndexTest {
+
+	private static class DummyComponent extends AbstractDummyOpenemsComponent<DummyComponent> {
+
+		public enum ChannelId implements io.openems.edge.common.channel.ChannelId {
+			STATUS(Doc.of(OpenemsType.INTEGER));
+
+			private final Doc doc;
+
+			private ChannelId(Doc doc) {
+				this.doc = doc;
+			}
+
+			@Override
+			public Doc doc() {
+				return this.doc;
+			}
+		}
+
+		public DummyComponent(String id) {
+			super(id, OpenemsComponent.ChannelId.values());
+		}
+
+		@Override
+		protected DummyComponent self() {
+			return this;
+		}
+
+		@Override
+		public Channel<?> addChannel(io.openems.edge.common.channel.ChannelId channelId) {
+			return super.addChannel(channelId);
+		}
+	}
+
+	@Test
+	public void testGetChannels() {
+		final var foo0 = new DummyComponent("foo0");
+		final var bar0 = new DummyComponent("bar0");
+		final var components = new ArrayList<OpenemsComponent>(List.of(foo0, bar0, new DummyComponent("foo1")));
+		final var sut = new ChannelAddressIndex(() -> components);
+
+		// Exact match
+		assertEquals(List.of(foo0.getStateChannel()), sut.getChannels(new ChannelAddress("foo0", "State")));
+		assertEquals(List.of(), sut.getChannels(new ChannelAddress("foo0", "Foo")));
+		assertEquals(List.of(), sut.getChannels(new ChannelAddress("baz0", "State")));
+
+		// Wildcard results are cached
+		final var wildcard = new ChannelAddress(".*0", "St.*");
+		final var result = sut.getChannels(wildcard);
+		assertEquals(List.of(foo0.getStateChannel(), bar0.getStateChannel()), result);
+		assertSame(result, sut.getChannels(wildcard));
+
+		// ...until a Component is added
+		final var baz0 = new DummyComponent("baz0");
+		components.add(baz0);
+		assertNull(sut.getComponent("baz0"));
+		sut.invalidate();
+		assertSame(baz0, sut.getComponent("baz0"));
+		assertEquals(3, sut.getChannels(wildcard).size());
+	}
+
+	@Test
+	public void testChannelAddedAfterLookup() {
+		final var foo0 = new DummyComponent("foo0");
+		final var sut = new ChannelAddressIndex(() -> List.of(foo0));
+		final var wildcard = new ChannelAddress("foo0", "St.*");
+		assertEquals(List.of(foo0.getStateChannel()), sut.getChannels(wildcard));
+
+		// Cached result is refreshed without invalidating the index
+		final var status = foo0.addChannel(DummyComponent.ChannelId.STATUS);
+		assertEquals(Set.of(foo0.getStateChannel(), status), Set.copyOf(sut.getChannels(wildcard)));
+	}
+
+	@Test
+	public void testComponentRemoved() {
+		final var foo0 = new DummyComponent("foo0");
+		final var foo1 = new DummyComponent("foo1");
+		final var components = new ArrayList<OpenemsComponent>(List.of(foo0, foo1));
+		final var sut = new ChannelAddressIndex(() -> components);
+		final var wildcard = new ChannelAddress("foo.*", "State");
+		assertEquals(2, sut.getChannels(wildcard).size());
+
+		// Component is still provided while it is being removed
+		sut.invalidate("foo0");
+		assertNull(sut.getComponent("foo0"));
+		assertEquals(List.of(foo1.getStateChannel()), sut.getChannels(wildcard));
+
+		// ...and may be added again later
+		sut.invalidate();
+		assertSame(foo0, sut.getComponent("foo0"));
+	}
+
+	@Test(expected = PatternSyntaxException.class)
+	public void testInvalidPattern() {
+		new ChannelAddressIndex(List::of).getChannels(new ChannelAddress("*", ""));
+	}
+
+	@Test
+	public void testIsPattern() {
+		assertFalse(ChannelAddressIndex.isPattern("meter0"));
+		assertFalse(ChannelAddressIndex.isPattern("_sum"));
+		assertTrue(ChannelAddressIndex.isPattern(".*"));
+		assertTrue(ChannelAddressIndex.isPattern("ess[0-9]"));
+	}
+
+}
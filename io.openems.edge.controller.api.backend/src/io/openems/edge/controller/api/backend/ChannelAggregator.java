@@ -0,0 +1,182 @@
+package io.openems.edge.controller.api.backend;
+
+import java.util.Arrays;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.types.OpenemsType;
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.channel.EnumDoc;
+import io.openems.edge.common.type.TypeUtils;
+
+/**
+ * Aggregates the values of one {@link Channel} within one aggregation window
+ * with constant memory.
+ *
+ * <p>
+ * Values are added once per Cycle via {@link #add(Object)}; the result is
+ * taken and the aggregator is reset via {@link #getAndReset()}. The result
+ * over all values of the window is the max value for cumulated Channels, the
+ * average otherwise - rounded for integer types - and the first value for
+ * STRING Channels. For {@link EnumDoc} Channels it is the most frequent
+ * option; on a tie the option that was seen last.
+ */
+final class ChannelAggregator {
+
+	private static final int INITIAL_ENUM_OPTIONS = 4;
+
+	private final boolean isCumulated;
+	private final OpenemsType type;
+	private final boolean isEnum;
+
+	private boolean isUpdated = false;
+	private int count = 0;
+	private long sumLong = 0;
+	private long maxLong = Long.MIN_VALUE;
+	private double sumDouble = 0;
+	private double maxDouble = Double.NEGATIVE_INFINITY;
+	private String firstString = null;
+
+	// Enum options: value, number of appearances and when it was last seen
+	private int enumSize = 0;
+	private int[] enumValues;
+	private int[] enumCounts;
+	private int[] enumLastSeen;
+
+	private ChannelAggregator(boolean isCumulated, OpenemsType type, boolean isEnum) {
+		this.isCumulated = isCumulated;
+		this.type = type;
+		this.isEnum = isEnum;
+		if (isEnum) {
+			this.enumValues = new int[INITIAL_ENUM_OPTIONS];
+			this.enumCounts = new int[INITIAL_ENUM_OPTIONS];
+			this.enumLastSeen = new int[INITIAL_ENUM_OPTIONS];
+		}
+	}
+
+	/**
+	 * Creates a {@link ChannelAggregator} for the given {@link Channel}.
+	 *
+	 * @param channel the {@link Channel}
+	 * @return the {@link ChannelAggregator}
+	 */
+	protected static ChannelAggregator from(Channel<?> channel) {
+		return new ChannelAggregator(channel.channelDoc().getUnit().isCumulated(), channel.getType(),
+				channel.channelDoc() instanceof EnumDoc);
+	}
+
+	/**
+	 * Adds the value of the current Cycle.
+	 *
+	 * @param value the value; null values are ignored
+	 * @throws IllegalArgumentException if the value does not match the type
+	 */
+	protected void add(Object value) throws IllegalArgumentException {
+		this.isUpdated = true;
+		if (value == null) {
+			return;
+		}
+		if (this.isEnum) {
+			this.addEnum(((Number) value).intValue());
+			return;
+		}
+		switch (this.type) {
+		case DOUBLE, FLOAT -> {
+			var v = value instanceof Number n //
+					? n.doubleValue() //
+					: TypeUtils.<Double>getAsType(OpenemsType.DOUBLE, value);
+			this.sumDouble += v;
+			this.maxDouble = Math.max(this.maxDouble, v);
+		}
+		case BOOLEAN, LONG, INTEGER, SHORT -> {
+			var v = value instanceof Number n //
+					? n.longValue() //
+					: TypeUtils.<Long>getAsType(OpenemsType.LONG, value);
+			this.sumLong += v;
+			this.maxLong = Math.max(this.maxLong, v);
+		}
+		case STRING -> {
+			if (this.firstString == null) {
+				this.firstString = TypeUtils.getAsType(OpenemsType.STRING, value);
+			}
+		}
+		}
+		this.count++;
+	}
+
+	private void addEnum(int value) {
+		this.count++;
+		for (var i = 0; i < this.enumSize; i++) {
+			if (this.enumValues[i] == value) {
+				this.enumCounts[i]++;
+				this.enumLastSeen[i] = this.count;
+				return;
+			}
+		}
+		if (this.enumSize == this.enumValues.length) {
+			this.enumValues = Arrays.copyOf(this.enumValues, this.enumSize * 2);
+			this.enumCounts = Arrays.copyOf(this.enumCounts, this.enumSize * 2);
+			this.enumLastSeen = Arrays.copyOf(this.enumLastSeen, this.enumSize * 2);
+		}
+		this.enumValues[this.enumSize] = value;
+		this.enumCounts[this.enumSize] = 1;
+		this.enumLastSeen[this.enumSize] = this.count;
+		this.enumSize++;
+	}
+
+	/**
+	 * Was {@link #add(Object)} called since the last {@link #getAndReset()}?.
+	 *
+	 * @return true if it was updated
+	 */
+	protected boolean isUpdated() {
+		return this.isUpdated;
+	}
+
+	/**
+	 * Gets the aggregated value and resets the aggregator for the next window.
+	 *
+	 * @return the aggregated value; {@link JsonNull} if there were no values
+	 */
+	protected JsonElement getAndReset() {
+		final var result = this.getResult();
+		this.isUpdated = false;
+		this.count = 0;
+		this.sumLong = 0;
+		this.maxLong = Long.MIN_VALUE;
+		this.sumDouble = 0;
+		this.maxDouble = Double.NEGATIVE_INFINITY;
+		this.firstString = null;
+		this.enumSize = 0;
+		return result;
+	}
+
+	private JsonElement getResult() {
+		if (this.count == 0) {
+			return JsonNull.INSTANCE;
+		}
+		if (this.isEnum) {
+			var best = 0;
+			for (var i = 1; i < this.enumSize; i++) {
+				if (this.enumCounts[i] > this.enumCounts[best] //
+						|| this.enumCounts[i] == this.enumCounts[best]
+								&& this.enumLastSeen[i] > this.enumLastSeen[best]) {
+					best = i;
+				}
+			}
+			return new JsonPrimitive(this.enumValues[best]);
+		}
+		return switch (this.type) {
+		case DOUBLE, FLOAT -> this.isCumulated //
+				? new JsonPrimitive(this.maxDouble) //
+				: new JsonPrimitive(this.sumDouble / this.count);
+		// round averages to their type
+		case BOOLEAN, LONG, INTEGER, SHORT -> this.isCumulated //
+				? new JsonPrimitive(this.maxLong) //
+				: new JsonPrimitive(Math.round((double) this.sumLong / this.count));
+		case STRING -> new JsonPrimitive(this.firstString);
+		};
+	}
+}
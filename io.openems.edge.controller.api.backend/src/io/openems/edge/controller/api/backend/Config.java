@@ -49,6 +49,15 @@ import io.openems.common.channel.PersistencePriority;
 	@AttributeDefinition(name = "Resend values Persistence Priority", description = "Resend only Channels with a Persistence Priority greater-or-equals this. Should match with the persistence priority configured in your timedata.")
 	PersistencePriority resendPriority() default PersistencePriority.HIGH;
 
+	@AttributeDefinition(name = "Binary data format", description = "Send Channel values in a compact binary format if supported by OpenEMS Backend; JSON otherwise.")
+	boolean binaryDataFormat() default false;
+
+	@AttributeDefinition(name = "Journal max size [MB]", description = "Stores data that could not be sent in a local journal of this size and replays it on reconnect, instead of resending from Timedata; 0 disables the journal.")
+	int journalMaxSize() default 0;
+
+	@AttributeDefinition(name = "Journal replay rate", description = "Max number of journal messages that are replayed per second.")
+	int journalReplayRate() default 20;
+
 	@AttributeDefinition(name = "Debug Mode", description = "Activates the debug mode")
 	boolean debugMode() default false;
 
@@ -2,10 +2,12 @@ package io.openems.edge.controller.api.backend;
 
 import static io.openems.common.utils.StringUtils.definedOrElse;
 
+import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.Proxy;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -30,14 +32,17 @@ import org.slf4j.LoggerFactory;
 
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
+import io.openems.common.OpenemsConstants;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.jsonrpc.base.JsonrpcRequest;
 import io.openems.common.jsonrpc.base.JsonrpcResponseSuccess;
+import io.openems.common.jsonrpc.notification.AbstractDataNotification;
 import io.openems.common.jsonrpc.notification.EdgeConfigNotification;
 import io.openems.common.oem.OpenemsEdgeOem;
 import io.openems.common.types.EdgeConfig;
 import io.openems.common.utils.ThreadPoolUtils;
 import io.openems.common.websocket.AbstractWebsocketClient;
+import io.openems.common.websocket.BinaryDataFormat;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.component.ComponentManager;
 import io.openems.edge.common.component.OpenemsComponent;
@@ -65,6 +70,7 @@ public class ControllerApiBackendImpl extends AbstractOpenemsComponent
 		implements ControllerApiBackend, Controller, OpenemsComponent, EventHandler {
 
 	protected static final String COMPONENT_NAME = "Controller.Api.Backend";
+	private static final String JOURNAL_PATH = "journal";
 
 	public static final Key<WebsocketClient> WEBSOCKET_CLIENT_KEY = new Key<>("websocketClient", WebsocketClient.class);
 
@@ -88,6 +94,13 @@ public class ControllerApiBackendImpl extends AbstractOpenemsComponent
 	private BackendOnRequest.Factory requestHandlerFactory;
 	protected BackendOnRequest requestHandler;
 
+	/** Journal for data that could not be sent; null if disabled. */
+	protected DataJournal journal = null;
+	protected ReplayJournalWorker replayJournalWorker = null;
+
+	/** Serializes sending of live and replayed data notifications. */
+	private final Object sendDataLock = new Object();
+
 	protected WebsocketClient websocket = null;
 	protected Config config;
 	/** Used for SubscribeSystemLogRequests. */
@@ -142,20 +155,37 @@ public class ControllerApiBackendImpl extends AbstractOpenemsComponent
 		// create http headers
 		Map<String, String> httpHeaders = new HashMap<>();
 		httpHeaders.put("apikey", config.apikey());
+		if (config.binaryDataFormat()) {
+			httpHeaders.put(BinaryDataFormat.HTTP_HEADER, BinaryDataFormat.VERSION);
+		}
 
-		// Create Websocket instance
-		this.websocket = new WebsocketClient(this, name, uri, httpHeaders, proxy);
-		this.websocket.start();
+		if (config.journalMaxSize() > 0) {
+			// Store-and-forward via local journal
+			try {
+				this.journal = new DataJournal(
+						Paths.get(OpenemsConstants.getOpenemsDataDir(), JOURNAL_PATH, this.id()),
+						config.journalMaxSize());
+				this.replayJournalWorker = new ReplayJournalWorker(this.journal, config.journalReplayRate(),
+						this::sendDataNotification);
+				this.replayJournalWorker.activate(name + ":ReplayJournal", false);
+			} catch (IOException e) {
+				this.log.error("Unable to open journal: " + e.getMessage());
+				this.journal = null;
+			}
+		}
 
-		this.resendHistoricDataWorker = this.resendHistoricDataWorkerFactory.get();
-		this.resendHistoricDataWorker.setConfig(new ResendHistoricDataWorker.Config(//
-				this.getUnableToSendChannel().address(), //
-				this.getLastSuccessFulResendChannel().address(), //
-				config.resendPriority(), //
-				t -> this.getLastSuccessFulResendChannel().setNextValue(t), //
-				t -> this.websocket.sendMessage(t) //
-		));
-		this.resendHistoricDataWorker.activate(this.id(), false);
+		if (this.journal == null) {
+			// Resend from Timedata
+			this.resendHistoricDataWorker = this.resendHistoricDataWorkerFactory.get();
+			this.resendHistoricDataWorker.setConfig(new ResendHistoricDataWorker.Config(//
+					this.getUnableToSendChannel().address(), //
+					this.getLastSuccessFulResendChannel().address(), //
+					config.resendPriority(), //
+					t -> this.getLastSuccessFulResendChannel().setNextValue(t), //
+					t -> this.websocket.sendMessage(t) //
+			));
+			this.resendHistoricDataWorker.activate(this.id(), false);
+		}
 
 		this.requestHandler.setOnCall(call -> {
 			call.put(WEBSOCKET_CLIENT_KEY, this.websocket);
@@ -163,6 +193,10 @@ public class ControllerApiBackendImpl extends AbstractOpenemsComponent
 			call.put(EdgeKeys.IS_FROM_BACKEND_KEY, true);
 		});
 		this.requestHandler.setDebug(config.debugMode());
+
+		// Create Websocket instance; start last, as OnOpen triggers the resend
+		this.websocket = new WebsocketClient(this, name, uri, httpHeaders, proxy);
+		this.websocket.start();
 	}
 
 	@Override
@@ -172,9 +206,17 @@ public class ControllerApiBackendImpl extends AbstractOpenemsComponent
 		this.resendHistoricDataWorkerFactory.unget(this.resendHistoricDataWorker);
 		this.resendHistoricDataWorker = null;
 		this.sendChannelValuesWorker.deactivate();
+		if (this.replayJournalWorker != null) {
+			this.replayJournalWorker.deactivate();
+			this.replayJournalWorker = null;
+		}
 		if (this.websocket != null) {
 			this.websocket.stop();
 		}
+		if (this.journal != null) {
+			this.journal.close();
+			this.journal = null;
+		}
 		ThreadPoolUtils.shutdownAndAwaitTermination(this.executor, 5);
 	}
 
@@ -207,6 +249,11 @@ public class ControllerApiBackendImpl extends AbstractOpenemsComponent
 			switch (event.getTopic()) {
 			case EdgeEventConstants.TOPIC_CYCLE_AFTER_PROCESS_IMAGE:
 				this.sendChannelValuesWorker.collectData();
+				final var journal = this.journal;
+				if (journal != null) {
+					this._setJournalSize(journal.getSize());
+					this._setJournalBacklog(journal.getBacklog());
+				}
 				break;
 
 			case EdgeEventConstants.TOPIC_CONFIG_UPDATE:
@@ -235,6 +282,59 @@ public class ControllerApiBackendImpl extends AbstractOpenemsComponent
 				.orElse(false);
 	}
 
+	/**
+	 * Sends a {@link AbstractDataNotification} to the Backend.
+	 *
+	 * <p>
+	 * Live data of the {@link SendChannelValuesWorker} and data replayed from the
+	 * {@link DataJournal} are sent one at a time, in the order of the calls.
+	 *
+	 * @param message the {@link AbstractDataNotification}
+	 * @return true if sending was successful
+	 */
+	protected boolean sendDataNotification(AbstractDataNotification message) {
+		final var ws = this.websocket;
+		if (ws == null) {
+			return false;
+		}
+		synchronized (this.sendDataLock) {
+			return ws.sendDataNotification(message);
+		}
+	}
+
+	/**
+	 * Stores a message that could not be sent in the {@link DataJournal}.
+	 *
+	 * @param message the {@link AbstractDataNotification}
+	 * @return true if the message was stored; false if the journal is disabled or
+	 *         on error
+	 */
+	protected boolean writeToJournal(AbstractDataNotification message) {
+		final var journal = this.journal;
+		if (journal == null) {
+			return false;
+		}
+		try {
+			journal.append(message);
+			return true;
+		} catch (IOException e) {
+			this.logWarn(this.log, "Unable to write to journal: " + e.getMessage());
+			return false;
+		}
+	}
+
+	/**
+	 * Triggers resending of data that could not be sent, either from the
+	 * {@link DataJournal} or from Timedata.
+	 */
+	protected void triggerResend() {
+		if (this.replayJournalWorker != null) {
+			this.replayJournalWorker.triggerNextRun();
+		} else if (this.resendHistoricDataWorker != null) {
+			this.resendHistoricDataWorker.triggerNextRun();
+		}
+	}
+
 	/**
 	 * Execute a command using the {@link ScheduledExecutorService}.
 	 *
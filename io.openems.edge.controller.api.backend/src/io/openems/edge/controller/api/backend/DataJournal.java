@@ -0,0 +1,328 @@
+package io.openems.edge.controller.api.backend;
+
+import static io.openems.common.utils.StringUtils.toShortString;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.jsonrpc.base.JsonrpcMessageReader;
+import io.openems.common.jsonrpc.notification.AbstractDataNotification;
+import io.openems.common.jsonrpc.notification.AggregatedDataNotification;
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+
+/**
+ * An append-only journal of {@link TimestampedDataNotification}s and
+ * {@link AggregatedDataNotification}s that could not be sent to the Backend.
+ *
+ * <p>
+ * Messages are appended sequentially to segment files of
+ * {@link #SEGMENT_SIZE} bytes and replayed oldest first. Fully replayed
+ * segments are deleted. If the journal exceeds its max number of segments, the
+ * oldest segment is dropped.
+ *
+ * <p>
+ * The read position is only kept in memory, i.e. after a restart a partially
+ * replayed segment is replayed again from its start. The Backend overwrites
+ * values with the same timestamp, so this is harmless.
+ *
+ * <pre>
+ * segment := record*
+ * record  := length:int jsonrpcNotification:byte[length]
+ * </pre>
+ */
+public class DataJournal {
+
+	protected static final int SEGMENT_SIZE = 1024 * 1024;
+	private static final String SUFFIX = ".journal";
+
+	private final Logger log = LoggerFactory.getLogger(DataJournal.class);
+
+	private final Path directory;
+	private final int maxSegments;
+	private final ArrayDeque<Segment> segments = new ArrayDeque<>();
+
+	private long nextSequence = 0;
+	private FileChannel writer = null;
+	private int readPosition = 0;
+	private final List<Peeked> peeked = new ArrayList<>();
+	private long droppedMessages = 0;
+
+	/**
+	 * The read position and the number of records up to and including a peeked
+	 * message; invalid records in between are skipped on commit.
+	 */
+	private static record Peeked(int position, int records) {
+	}
+
+	private static final class Segment {
+		private final Path path;
+		private int size = 0;
+		private int messages = 0;
+
+		private Segment(Path path) {
+			this.path = path;
+		}
+	}
+
+	/**
+	 * Opens the journal in the given directory; existing segments are kept for
+	 * replay.
+	 *
+	 * @param directory the directory
+	 * @param maxSize   the max size of the journal in [MB]
+	 * @throws IOException on error
+	 */
+	public DataJournal(Path directory, int maxSize) throws IOException {
+		this.directory = directory;
+		this.maxSegments = Math.max(2, (int) ((long) maxSize * 1024 * 1024 / SEGMENT_SIZE));
+		Files.createDirectories(directory);
+
+		final var paths = new ArrayList<Path>();
+		try (var files = Files.list(directory)) {
+			files.filter(p -> p.getFileName().toString().endsWith(SUFFIX)) //
+					.sorted() //
+					.forEach(paths::add);
+		}
+		for (var path : paths) {
+			this.nextSequence = Math.max(this.nextSequence, parseSequence(path) + 1);
+			final var segment = recover(path);
+			if (segment.messages == 0) {
+				Files.deleteIfExists(path);
+				continue;
+			}
+			this.segments.add(segment);
+		}
+	}
+
+	/**
+	 * Scans an existing segment and truncates an incompletely written last record.
+	 *
+	 * @param path the {@link Path} of the segment
+	 * @return the {@link Segment}
+	 * @throws IOException on error
+	 */
+	private static Segment recover(Path path) throws IOException {
+		final var segment = new Segment(path);
+		try (var channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			final var fileSize = channel.size();
+			final var header = ByteBuffer.allocate(Integer.BYTES);
+			while (segment.size + Integer.BYTES <= fileSize) {
+				header.clear();
+				channel.read(header, segment.size);
+				final var length = header.getInt(0);
+				if (length <= 0 || segment.size + Integer.BYTES + length > fileSize) {
+					break;
+				}
+				segment.size += Integer.BYTES + length;
+				segment.messages++;
+			}
+			channel.truncate(segment.size);
+		}
+		return segment;
+	}
+
+	/**
+	 * Appends a message to the journal.
+	 *
+	 * @param message the {@link AbstractDataNotification}
+	 * @throws IOException on error
+	 */
+	public synchronized void append(AbstractDataNotification message) throws IOException {
+		final var json = message.toString().getBytes(UTF_8);
+		final var buffer = ByteBuffer.allocate(Integer.BYTES + json.length) //
+				.putInt(json.length) //
+				.put(json) //
+				.flip();
+
+		var segment = this.segments.peekLast();
+		if (this.writer == null || segment == null || segment.size + buffer.remaining() > SEGMENT_SIZE) {
+			segment = this.rotate();
+		}
+		while (buffer.hasRemaining()) {
+			this.writer.write(buffer);
+		}
+		segment.size += Integer.BYTES + json.length;
+		segment.messages++;
+	}
+
+	private Segment rotate() throws IOException {
+		if (this.writer != null) {
+			this.writer.close();
+			this.writer = null;
+		}
+		final var segment = new Segment(this.directory.resolve(String.format("%020d", this.nextSequence++) + SUFFIX));
+		this.writer = FileChannel.open(segment.path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+		this.segments.add(segment);
+
+		// Drop oldest segments
+		while (this.segments.size() > this.maxSegments) {
+			final var dropped = this.segments.removeFirst();
+			this.droppedMessages += dropped.messages;
+			this.readPosition = 0;
+			this.peeked.clear();
+			Files.deleteIfExists(dropped.path);
+			this.log.warn("Journal is full. Dropped [" + dropped.messages + "] messages");
+		}
+		return segment;
+	}
+
+	/**
+	 * Reads the oldest messages without removing them; see {@link #commit(int)}.
+	 *
+	 * @param maxMessages the max number of messages
+	 * @return the messages; empty if the journal is empty
+	 * @throws IOException on error
+	 */
+	public synchronized List<AbstractDataNotification> peek(int maxMessages) throws IOException {
+		this.peeked.clear();
+		final var result = new ArrayList<AbstractDataNotification>();
+		final var segment = this.segments.peekFirst();
+		if (segment == null) {
+			return result;
+		}
+		try (var channel = FileChannel.open(segment.path, StandardOpenOption.READ)) {
+			final var header = ByteBuffer.allocate(Integer.BYTES);
+			var position = this.readPosition;
+			var records = 0;
+			while (result.size() < maxMessages && position + Integer.BYTES <= segment.size) {
+				header.clear();
+				channel.read(header, position);
+				final var data = ByteBuffer.allocate(header.getInt(0));
+				channel.read(data, position + Integer.BYTES);
+				position += Integer.BYTES + data.capacity();
+				records++;
+				try {
+					result.add(parse(new String(data.array(), UTF_8)));
+					this.peeked.add(new Peeked(position, records));
+				} catch (OpenemsNamedException | IllegalArgumentException e) {
+					// Skip invalid record
+					this.log.warn("Unable to parse journal record: " + e.getMessage());
+					if (result.isEmpty()) {
+						this.readPosition = position;
+						segment.messages -= records;
+						records = 0;
+					}
+				}
+			}
+		}
+		this.removeReplayedSegment();
+		return result;
+	}
+
+	private static AbstractDataNotification parse(String json) throws OpenemsNamedException {
+		final var message = JsonrpcMessageReader.read(json);
+		if (message instanceof TimestampedDataNotification n) {
+			return n;
+		}
+		if (message instanceof AggregatedDataNotification n) {
+			return n;
+		}
+		throw new IllegalArgumentException("Unexpected message " + toShortString(message.toString(), 100));
+	}
+
+	/**
+	 * Removes messages that were returned by the last {@link #peek(int)}.
+	 *
+	 * @param count the number of messages that were sent successfully
+	 * @throws IOException on error
+	 */
+	public synchronized void commit(int count) throws IOException {
+		if (count <= 0 || this.peeked.isEmpty()) {
+			return;
+		}
+		final var segment = this.segments.peekFirst();
+		final var peeked = this.peeked.get(Math.min(count, this.peeked.size()) - 1);
+		this.peeked.clear();
+		this.readPosition = peeked.position();
+		segment.messages -= peeked.records();
+
+		this.removeReplayedSegment();
+	}
+
+	private void removeReplayedSegment() throws IOException {
+		final var segment = this.segments.peekFirst();
+		if (segment == null || this.readPosition < segment.size) {
+			return;
+		}
+		if (segment == this.segments.peekLast() && this.writer != null) {
+			this.writer.close();
+			this.writer = null;
+		}
+		this.segments.removeFirst();
+		this.readPosition = 0;
+		Files.deleteIfExists(segment.path);
+	}
+
+	/**
+	 * Is the journal empty?.
+	 *
+	 * @return true if there are no messages to replay
+	 */
+	public synchronized boolean isEmpty() {
+		return this.segments.stream().allMatch(s -> s.messages == 0);
+	}
+
+	/**
+	 * Gets the number of messages to replay.
+	 *
+	 * @return the number of messages
+	 */
+	public synchronized int getBacklog() {
+		return this.segments.stream().mapToInt(s -> s.messages).sum();
+	}
+
+	/**
+	 * Gets the size of the journal files.
+	 *
+	 * @return the size in [bytes]
+	 */
+	public synchronized long getSize() {
+		return this.segments.stream().mapToLong(s -> s.size).sum();
+	}
+
+	/**
+	 * Gets the number of messages that were dropped because the journal was full.
+	 *
+	 * @return the number of messages
+	 */
+	public synchronized long getDroppedMessages() {
+		return this.droppedMessages;
+	}
+
+	/**
+	 * Closes the journal; existing segments are kept for the next start.
+	 */
+	public synchronized void close() {
+		if (this.writer == null) {
+			return;
+		}
+		try {
+			this.writer.close();
+		} catch (IOException e) {
+			this.log.warn("Unable to close journal: " + e.getMessage());
+		}
+		this.writer = null;
+	}
+
+	private static long parseSequence(Path path) {
+		final var name = path.getFileName().toString();
+		try {
+			return Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+		} catch (NumberFormatException e) {
+			return -1;
+		}
+	}
+
+}
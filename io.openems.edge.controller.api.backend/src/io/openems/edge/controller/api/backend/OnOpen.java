@@ -1,5 +1,7 @@
 package io.openems.edge.controller.api.backend;
 
+import static io.openems.common.websocket.WebsocketUtils.getAsString;
+
 import org.java_websocket.WebSocket;
 import org.java_websocket.handshake.Handshakedata;
 import org.slf4j.Logger;
@@ -7,6 +9,7 @@ import org.slf4j.LoggerFactory;
 
 import io.openems.common.exceptions.OpenemsError;
 import io.openems.common.jsonrpc.notification.EdgeConfigNotification;
+import io.openems.common.websocket.BinaryDataFormat;
 
 public class OnOpen implements io.openems.common.websocket.OnOpen {
 
@@ -21,6 +24,11 @@ public class OnOpen implements io.openems.common.websocket.OnOpen {
 	public OpenemsError apply(WebSocket ws, Handshakedata handshakedata) {
 		this.parent.logInfo(this.log, "Connected to OpenEMS Backend");
 
+		// Use the binary data format if it was confirmed by the Backend
+		WsData wsData = ws.getAttachment();
+		wsData.setBinaryDataFormat(this.parent.config.binaryDataFormat() //
+				&& BinaryDataFormat.isSupported(getAsString(handshakedata, BinaryDataFormat.HTTP_HEADER)));
+
 		// Immediately send Config
 		var config = this.parent.componentManager.getEdgeConfig();
 		var message = new EdgeConfigNotification(config);
@@ -30,7 +38,7 @@ public class OnOpen implements io.openems.common.websocket.OnOpen {
 		this.parent.sendChannelValuesWorker.sendValuesOfAllChannelsOnce();
 
 		// Trigger resending data
-		this.parent.resendHistoricDataWorker.triggerNextRun();
+		this.parent.triggerResend();
 
 		return null; // No error
 	}
@@ -0,0 +1,75 @@
+package io.openems.edge.controller.api.backend;
+
+import java.util.function.Predicate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.openems.common.jsonrpc.notification.AbstractDataNotification;
+import io.openems.common.worker.AbstractWorker;
+
+/**
+ * Streams the messages of a {@link DataJournal} to the Backend at a limited
+ * rate.
+ *
+ * <p>
+ * The worker is triggered when the connection to the Backend is (re-)opened.
+ * It then sends up to 'replayRate' messages per second, oldest first, until
+ * the journal is empty or sending fails; then it waits for the next trigger.
+ */
+public class ReplayJournalWorker extends AbstractWorker {
+
+	private static final int CYCLE_TIME = 1_000; // [ms]
+
+	private final Logger log = LoggerFactory.getLogger(ReplayJournalWorker.class);
+
+	private final DataJournal journal;
+	private final int replayRate;
+	private final Predicate<AbstractDataNotification> onSendData;
+
+	private volatile boolean isReplaying = false;
+
+	/**
+	 * Creates a {@link ReplayJournalWorker}.
+	 *
+	 * @param journal    the {@link DataJournal}
+	 * @param replayRate the max number of messages per second
+	 * @param onSendData sends a message; returns true if sending was successful
+	 */
+	public ReplayJournalWorker(DataJournal journal, int replayRate,
+			Predicate<AbstractDataNotification> onSendData) {
+		this.journal = journal;
+		this.replayRate = Math.max(1, replayRate);
+		this.onSendData = onSendData;
+	}
+
+	@Override
+	protected void forever() throws Throwable {
+		final var messages = this.journal.peek(this.replayRate);
+		var sent = 0;
+		for (var message : messages) {
+			if (!this.onSendData.test(message)) {
+				break;
+			}
+			sent++;
+		}
+		this.journal.commit(sent);
+
+		if (sent < messages.size()) {
+			// Unable to send: wait for next connection
+			this.log.warn("Unable to replay journal. Remaining [" + this.journal.getBacklog() + "] messages");
+			this.isReplaying = false;
+		} else {
+			this.isReplaying = !this.journal.isEmpty();
+		}
+	}
+
+	@Override
+	protected int getCycleTime() {
+		if (this.isReplaying) {
+			return CYCLE_TIME;
+		}
+		return ALWAYS_WAIT_FOR_TRIGGER_NEXT_RUN;
+	}
+
+}
@@ -1,25 +1,16 @@
 package io.openems.edge.controller.api.backend;
 
-import static java.util.stream.Collectors.counting;
-import static java.util.stream.Collectors.groupingBy;
-
 import java.time.Duration;
 import java.time.Instant;
-import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
-import java.util.Collection;
+import java.util.ConcurrentModificationException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.function.Function;
-import java.util.stream.Collector;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -28,19 +19,14 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.TreeBasedTable;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.gson.JsonElement;
-import com.google.gson.JsonNull;
-import com.google.gson.JsonPrimitive;
 
 import io.openems.common.channel.AccessMode;
 import io.openems.common.jsonrpc.notification.AggregatedDataNotification;
 import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
 import io.openems.common.timedata.DurationUnit;
-import io.openems.common.types.OpenemsType;
 import io.openems.common.utils.ThreadPoolUtils;
 import io.openems.edge.common.channel.Channel;
-import io.openems.edge.common.channel.EnumDoc;
 import io.openems.edge.common.component.OpenemsComponent;
-import io.openems.edge.common.type.TypeUtils;
 
 /**
  * Method {@link #collectData()} is called Synchronously with the Core.Cycle to
@@ -81,7 +67,12 @@ public class SendChannelValuesWorker {
 	 */
 	private Map<String, JsonElement> lastAllValues = ImmutableMap.of();
 
-	private Instant lastSendAggregatedDataTimestamp;
+	/**
+	 * Aggregates the values of each Channel within the current window.
+	 */
+	private final Map<Channel<?>, ChannelAggregator> aggregators = new HashMap<>();
+
+	private Instant aggregationWindowStart;
 
 	protected SendChannelValuesWorker(ControllerApiBackendImpl parent) {
 		this.parent = parent;
@@ -157,177 +148,69 @@ public class SendChannelValuesWorker {
 		}
 	}
 
+	/**
+	 * Adds the current values to the {@link ChannelAggregator}s. Once per
+	 * aggregation window the aggregated values are taken and the aggregators are
+	 * reset, so no past values need to be scanned.
+	 *
+	 * @param enabledComponents the enabled components
+	 * @return the aggregated data of the previous window; null if the window did
+	 *         not change
+	 */
 	private TreeBasedTable<Long, String, JsonElement> collectAggregatedData(List<OpenemsComponent> enabledComponents) {
-		final var now = LocalDateTime.now(this.parent.componentManager.getClock());
-		final var endTime = now.truncatedTo(DurationUnit.ofMinutes(AGGREGATION_MINUTES));
-		final var startTime = endTime.minusMinutes(AGGREGATION_MINUTES);
-
-		final var timestamp = Instant.now().truncatedTo(DurationUnit.ofMinutes(AGGREGATION_MINUTES)) //
-				.minus(AGGREGATION_MINUTES, ChronoUnit.MINUTES);
-		if (this.lastSendAggregatedDataTimestamp == null) {
-			this.lastSendAggregatedDataTimestamp = timestamp;
-			return null;
-		}
-		if (timestamp.equals(this.lastSendAggregatedDataTimestamp)) {
-			return null;
-		}
-		this.lastSendAggregatedDataTimestamp = timestamp;
-		final var timestampMillis = timestamp.toEpochMilli();
+		final var windowStart = Instant.now(this.parent.componentManager.getClock())
+				.truncatedTo(DurationUnit.ofMinutes(AGGREGATION_MINUTES));
 
-		final var sendAllChannels = this.sendValuesOfAllChannelsAggregated.getAndSet(false);
+		TreeBasedTable<Long, String, JsonElement> table = null;
+		if (this.aggregationWindowStart != null && !windowStart.equals(this.aggregationWindowStart)) {
+			table = this.drainAggregators(this.aggregationWindowStart.toEpochMilli());
+		}
+		this.aggregationWindowStart = windowStart;
 
-		final var table = TreeBasedTable.<Long, String, JsonElement>create();
-		enabledComponents.stream() //
-				.flatMap(component -> component.channels().stream()) //
-				.filter(channel -> // Ignore WRITE_ONLY Channels
-				channel.channelDoc().getAccessMode() != AccessMode.WRITE_ONLY //
-						// Ignore Low-Priority Channels
-						&& channel.channelDoc().getPersistencePriority()
-								.isAtLeast(this.parent.config.aggregationPriority()))
-				.forEach(channel -> {
+		try {
+			for (var component : enabledComponents) {
+				for (var channel : component.channels()) {
+					if (// Ignore WRITE_ONLY Channels
+					channel.channelDoc().getAccessMode() == AccessMode.WRITE_ONLY //
+							// Ignore Low-Priority Channels
+							|| !channel.channelDoc().getPersistencePriority()
+									.isAtLeast(this.parent.config.aggregationPriority())) {
+						continue;
+					}
 					try {
-						// This is the highest timestamp before `startTime`. If existing it is used for
-						// the tailMap to make sure we get a Value even for Channels where the value has
-						// not changed within the last 5 minutes.
-						var channelStartTime = Optional.ofNullable(channel.getPastValues().floorKey(startTime))
-								.orElse(startTime);
-
-						var value = channel.getPastValues() //
-								.tailMap(channelStartTime, true) //
-								.entrySet() //
-								.stream() //
-								.filter(e -> e.getKey().isBefore(endTime)) //
-								.filter(e -> e.getValue().isDefined()).map(e -> e.getValue().get()) //
-								.collect(aggregateCollector(channel.channelDoc().getUnit().isCumulated(), //
-										channel.getType()));
-
-						// TODO aggregation should be modifiable in Doc e. g. not every EnumDoc may want
-						// this behaviour
-						if (channel.channelDoc() instanceof EnumDoc) {
-							value = aggregateEnumChannel(channel, channelStartTime, endTime);
-						}
-
-						if (!sendAllChannels && value.isJsonNull()) {
-							return;
-						}
-						table.put(timestampMillis, channel.address().toString(), value);
-					} catch (IllegalArgumentException e) {
+						this.aggregators.computeIfAbsent(channel, ChannelAggregator::from) //
+								.add(channel.value().get());
+					} catch (IllegalArgumentException | ClassCastException e) {
 						// unable to collect data because types are not matching the expected one
 						e.printStackTrace();
 					}
-				});
-		return table;
-	}
-
-	// TODO aggregation should be moved to doc
-	protected static JsonElement aggregateEnumChannel(//
-			Channel<?> channel, //
-			LocalDateTime channelStartTime, //
-			LocalDateTime endTime //
-	) {
-		final var doc = channel.channelDoc();
-		if (!(doc instanceof EnumDoc)) {
-			return JsonNull.INSTANCE;
-		}
-		final var numberOfValuesPerOption = channel.getPastValues() //
-				.tailMap(channelStartTime, true) //
-				.entrySet() //
-				.stream() //
-				.filter(e -> e.getKey().isBefore(endTime)) //
-				.filter(e -> e.getValue().isDefined()) //
-				.map(e -> (Integer) e.getValue().get()) //
-				.collect(groupingBy(Function.identity(), counting()));
-
-		final var values = numberOfValuesPerOption.entrySet().stream() //
-				.sorted((o1, o2) -> Long.compare(o2.getValue(), o1.getValue())) //
-				.toList();
-
-		final var maxValues = new ArrayList<Integer>();
-		var maxCount = -1L;
-		for (var entry : values) {
-			if (entry.getValue() < maxCount) {
-				break;
-			}
-			if (entry.getValue() == maxCount) {
-				maxValues.add(entry.getKey());
-				continue;
-			}
-			maxCount = entry.getValue();
-			maxValues.clear();
-			maxValues.add(entry.getKey());
-		}
-
-		// pick first value with most appearances
-		for (var entry : channel.getPastValues().descendingMap().entrySet()) {
-			for (var optionValue : maxValues) {
-				if (!entry.getValue().isDefined()) {
-					continue;
-				}
-				final var entryValue = entry.getValue().get();
-				if (((Integer) entryValue).intValue() == optionValue) {
-					return new JsonPrimitive(optionValue);
 				}
 			}
+		} catch (ConcurrentModificationException e) {
+			// Channels are dynamically added or removed
+			this.parent.logWarn(this.log, "Unable to aggregate data: " + e.getMessage());
 		}
-		return JsonNull.INSTANCE;
-	}
-
-	protected static Collector<Object, ?, JsonElement> aggregateCollector(//
-			final boolean isCumulated, //
-			final OpenemsType type //
-	) {
-		return Collector.of(ArrayList::new, //
-				(a, b) -> a.add(b), //
-				(a, b) -> {
-					b.addAll(a);
-					return b;
-				}, //
-				t -> aggregate(isCumulated, type, t) //
-		);
+		return table;
 	}
 
-	protected static JsonElement aggregate(boolean isCumulated, OpenemsType type, Collection<Object> values)
-			throws IllegalArgumentException {
-		switch (type) {
-		case DOUBLE, FLOAT -> {
-			final var stream = values.stream() //
-					.mapToDouble(item -> TypeUtils.getAsType(OpenemsType.DOUBLE, item));
-			if (isCumulated) {
-				final var maxOpt = stream.max();
-				if (maxOpt.isPresent()) {
-					return new JsonPrimitive(maxOpt.getAsDouble());
-				}
-			} else {
-				final var avgOpt = stream.average();
-				if (avgOpt.isPresent()) {
-					return new JsonPrimitive(avgOpt.getAsDouble());
-				}
-			}
-		}
-		// round averages to their type
-		case BOOLEAN, LONG, INTEGER, SHORT -> {
-			final var stream = values.stream() //
-					.mapToLong(item -> TypeUtils.getAsType(OpenemsType.LONG, item));
-			if (isCumulated) {
-				final var maxOpt = stream.max();
-				if (maxOpt.isPresent()) {
-					return new JsonPrimitive(maxOpt.getAsLong());
-				}
-			} else {
-				final var avgOpt = stream.average();
-				if (avgOpt.isPresent()) {
-					return new JsonPrimitive(Math.round(avgOpt.getAsDouble()));
-				}
+	private TreeBasedTable<Long, String, JsonElement> drainAggregators(long timestampMillis) {
+		final var sendAllChannels = this.sendValuesOfAllChannelsAggregated.getAndSet(false);
+		final var table = TreeBasedTable.<Long, String, JsonElement>create();
+		for (var iterator = this.aggregators.entrySet().iterator(); iterator.hasNext();) {
+			var entry = iterator.next();
+			var aggregator = entry.getValue();
+			if (!aggregator.isUpdated()) {
+				// Channel was removed or is not aggregated anymore
+				iterator.remove();
+				continue;
 			}
-		}
-		case STRING -> {
-			// return first string for now
-			for (var item : values) {
-				return new JsonPrimitive(TypeUtils.<String>getAsType(type, item));
+			var value = aggregator.getAndReset();
+			if (!sendAllChannels && value.isJsonNull()) {
+				continue;
 			}
+			table.put(timestampMillis, entry.getKey().address().toString(), value);
 		}
-		}
-		return JsonNull.INSTANCE;
+		return table;
 	}
 
 	/*
@@ -393,11 +276,15 @@ public class SendChannelValuesWorker {
 						"Sending [" + sendValuesMap.size() + " values]: " + sendValuesMap);
 			}
 
-			// Try to send
-			var wasSent = this.parent.parent.websocket.sendMessage(message);
+			// Try to send; otherwise store in journal for later replay
+			final var wasSent = this.parent.parent.sendDataNotification(message);
+			final var wasJournaled = !wasSent && this.parent.parent.writeToJournal(message);
+
+			// Set the UNABLE_TO_SEND channel
+			this.parent.parent.getUnableToSendChannel().setNextValue(!wasSent);
 
-			if (wasSent) {
-				// Successfully sent: update information for next runs
+			if (wasSent || wasJournaled) {
+				// Sent or replayed later in order: update information for next runs
 				this.parent.lastAllValues = this.allValues;
 				if (lastAllValues.isEmpty()) {
 					// 'lastSentValues' was empty, i.e. all values were sent
@@ -428,7 +315,10 @@ public class SendChannelValuesWorker {
 			final var message = new AggregatedDataNotification();
 			message.add(this.timestamp.toEpochMilli(), this.allValues);
 
-			final var wasSent = this.parent.parent.websocket.sendMessage(message);
+			final var wasSent = this.parent.parent.sendDataNotification(message);
+			if (!wasSent) {
+				this.parent.parent.writeToJournal(message);
+			}
 
 			// Set the UNABLE_TO_SEND channel
 			this.parent.parent.getUnableToSendChannel().setNextValue(!wasSent);
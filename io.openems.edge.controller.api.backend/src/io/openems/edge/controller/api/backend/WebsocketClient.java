@@ -11,7 +11,11 @@ import org.java_websocket.WebSocket;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.openems.common.jsonrpc.notification.AbstractDataNotification;
+import io.openems.common.jsonrpc.notification.AggregatedDataNotification;
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
 import io.openems.common.websocket.AbstractWebsocketClient;
+import io.openems.common.websocket.BinaryDataFormat;
 import io.openems.common.websocket.OnClose;
 
 public class WebsocketClient extends AbstractWebsocketClient<WsData> {
@@ -83,6 +87,25 @@ public class WebsocketClient extends AbstractWebsocketClient<WsData> {
 		this.parent.logError(log, message);
 	}
 
+	/**
+	 * Sends a {@link TimestampedDataNotification} or
+	 * {@link AggregatedDataNotification}; in the {@link BinaryDataFormat} if it
+	 * was negotiated with the Backend, as JSON-RPC otherwise.
+	 *
+	 * @param message the {@link AbstractDataNotification}
+	 * @return true if sending was successful
+	 */
+	public boolean sendDataNotification(AbstractDataNotification message) {
+		WsData wsData = this.ws.getAttachment();
+		var encoder = wsData.getBinaryDataEncoder();
+		if (encoder == null) {
+			return this.sendMessage(message);
+		}
+		// Encode and send under the lock of the encoder: delta state only advances for
+		// frames that were actually sent
+		return encoder.encodeAndSend(message, this::sendBinaryMessage);
+	}
+
 	public boolean isConnected() {
 		return this.ws.isOpen();
 	}
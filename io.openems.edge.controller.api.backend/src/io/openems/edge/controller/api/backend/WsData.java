@@ -2,12 +2,38 @@ package io.openems.edge.controller.api.backend;
 
 import org.java_websocket.WebSocket;
 
+import io.openems.common.websocket.BinaryDataFormat;
+
 public class WsData extends io.openems.common.websocket.WsData {
 
+	/**
+	 * Encodes data notifications in the {@link BinaryDataFormat}; null if the
+	 * format was not negotiated for the current connection.
+	 */
+	private volatile BinaryDataFormat.Encoder binaryDataEncoder = null;
+
 	public WsData(WebSocket ws) {
 		super(ws);
 	}
 
+	/**
+	 * Enables or disables the {@link BinaryDataFormat} for a new connection.
+	 *
+	 * @param enabled true if the format was negotiated
+	 */
+	public void setBinaryDataFormat(boolean enabled) {
+		this.binaryDataEncoder = enabled ? new BinaryDataFormat.Encoder() : null;
+	}
+
+	/**
+	 * Gets the {@link BinaryDataFormat.Encoder}.
+	 *
+	 * @return the Encoder; null if the format was not negotiated
+	 */
+	public BinaryDataFormat.Encoder getBinaryDataEncoder() {
+		return this.binaryDataEncoder;
+	}
+
 	@Override
 	public String toString() {
 		return "BackendApi.WsData []";
@@ -11,6 +11,7 @@ import io.openems.common.jsonrpc.base.JsonrpcRequest;
 import io.openems.common.jsonrpc.base.JsonrpcResponseSuccess;
 import io.openems.common.types.OpenemsType;
 import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.channel.IntegerReadChannel;
 import io.openems.edge.common.channel.LongReadChannel;
 import io.openems.edge.common.channel.StateChannel;
 import io.openems.edge.common.channel.StringReadChannel;
@@ -31,6 +32,10 @@ public interface ControllerApiBackend extends Controller, OpenemsComponent, Even
 				// Make sure this is always persisted, as it is required for resending
 				.persistencePriority(PersistencePriority.VERY_HIGH) //
 				.text("Latest timestamp of successfully resent data")), //
+		JOURNAL_SIZE(Doc.of(OpenemsType.LONG) //
+				.text("Size of the journal of not sent data in [bytes]")), //
+		JOURNAL_BACKLOG(Doc.of(OpenemsType.INTEGER) //
+				.text("Number of journal messages waiting for replay")), //
 		;
 
 		private final Doc doc;
@@ -72,6 +77,44 @@ public interface ControllerApiBackend extends Controller, OpenemsComponent, Even
 		return this.channel(ChannelId.LAST_SUCCESSFUL_RESEND);
 	}
 
+	/**
+	 * Gets the Channel for {@link ChannelId#JOURNAL_SIZE}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getJournalSizeChannel() {
+		return this.channel(ChannelId.JOURNAL_SIZE);
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#JOURNAL_SIZE}
+	 * Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setJournalSize(Long value) {
+		this.getJournalSizeChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#JOURNAL_BACKLOG}.
+	 *
+	 * @return the Channel
+	 */
+	public default IntegerReadChannel getJournalBacklogChannel() {
+		return this.channel(ChannelId.JOURNAL_BACKLOG);
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#JOURNAL_BACKLOG}
+	 * Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setJournalBacklog(Integer value) {
+		this.getJournalBacklogChannel().setNextValue(value);
+	}
+
 	/**
 	 * Gets if the edge is currently connected to the backend.
 	 * 
@@ -0,0 +1,83 @@
+package io.openems.edge.controller.api.backend;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.jsonrpc.notification.AggregatedDataNotification;
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+
+public class DataJournalTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private static TimestampedDataNotification timestamped(long timestamp, int value) {
+		var message = new TimestampedDataNotification();
+		message.add(timestamp, "_sum/EssSoc", new JsonPrimitive(value));
+		return message;
+	}
+
+	@Test
+	public void testAppendPeekCommit() throws IOException {
+		final var directory = this.folder.getRoot().toPath();
+		var sut = new DataJournal(directory, 1);
+		assertTrue(sut.isEmpty());
+
+		sut.append(timestamped(1000L, 10));
+		sut.append(timestamped(2000L, 20));
+		var aggregated = new AggregatedDataNotification();
+		aggregated.add(3000L, "_sum/EssSoc", new JsonPrimitive(30));
+		sut.append(aggregated);
+		assertEquals(3, sut.getBacklog());
+
+		// Peek does not remove
+		var messages = sut.peek(2);
+		assertEquals(2, messages.size());
+		assertEquals(new JsonPrimitive(10), messages.get(0).getData().get(1000L, "_sum/EssSoc"));
+		assertEquals(3, sut.getBacklog());
+
+		// Commit only the first message
+		sut.commit(1);
+		assertEquals(2, sut.getBacklog());
+		messages = sut.peek(10);
+		assertEquals(2, messages.size());
+		assertTrue(messages.get(1) instanceof AggregatedDataNotification);
+
+		// Reopen: the not yet committed messages are kept
+		sut.close();
+		sut = new DataJournal(directory, 1);
+		assertEquals(3, sut.getBacklog()); // read position is not persisted
+		sut.commit(sut.peek(10).size());
+		assertTrue(sut.isEmpty());
+		assertEquals(0, sut.getSize());
+		sut.close();
+	}
+
+	@Test
+	public void testDropOldest() throws IOException {
+		final var sut = new DataJournal(this.folder.getRoot().toPath(), 0 /* min. 2 segments */);
+		final var padding = "x".repeat(100_000);
+		for (var i = 0; i < 30; i++) {
+			var message = timestamped(i * 1000L, i);
+			message.add(i * 1000L, "_meta/Padding", new JsonPrimitive(padding));
+			sut.append(message);
+		}
+		assertTrue(sut.getDroppedMessages() > 0);
+		assertTrue(sut.getSize() <= 2 * DataJournal.SEGMENT_SIZE);
+		assertEquals(30, sut.getBacklog() + sut.getDroppedMessages());
+
+		// Oldest remaining message is replayed first
+		var first = sut.peek(1).get(0).getData().rowKeySet().iterator().next();
+		assertEquals(sut.getDroppedMessages() * 1000L, first.longValue());
+		sut.close();
+	}
+
+}
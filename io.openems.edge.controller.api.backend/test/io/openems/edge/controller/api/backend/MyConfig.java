@@ -19,6 +19,9 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		private PersistencePriority persistencePriority;
 		private PersistencePriority aggregationPriority;
 		private PersistencePriority resendPriority;
+		private boolean binaryDataFormat;
+		private int journalMaxSize;
+		private int journalReplayRate;
 		private boolean debugMode;
 
 		private Builder() {
@@ -74,6 +77,21 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 			return this;
 		}
 
+		public Builder setBinaryDataFormat(boolean binaryDataFormat) {
+			this.binaryDataFormat = binaryDataFormat;
+			return this;
+		}
+
+		public Builder setJournalMaxSize(int journalMaxSize) {
+			this.journalMaxSize = journalMaxSize;
+			return this;
+		}
+
+		public Builder setJournalReplayRate(int journalReplayRate) {
+			this.journalReplayRate = journalReplayRate;
+			return this;
+		}
+
 		public Builder setDebugMode(boolean debugMode) {
 			this.debugMode = debugMode;
 			return this;
@@ -145,6 +163,21 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		return this.builder.resendPriority;
 	}
 
+	@Override
+	public boolean binaryDataFormat() {
+		return this.builder.binaryDataFormat;
+	}
+
+	@Override
+	public int journalMaxSize() {
+		return this.builder.journalMaxSize;
+	}
+
+	@Override
+	public int journalReplayRate() {
+		return this.builder.journalReplayRate;
+	}
+
 	@Override
 	public boolean debugMode() {
 		return this.builder.debugMode;
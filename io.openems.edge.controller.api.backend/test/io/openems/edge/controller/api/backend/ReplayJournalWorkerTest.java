@@ -0,0 +1,74 @@
+package io.openems.edge.controller.api.backend;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.jsonrpc.notification.AbstractDataNotification;
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+import io.openems.common.worker.AbstractWorker;
+
+public class ReplayJournalWorkerTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private static TimestampedDataNotification timestamped(long timestamp, int value) {
+		var message = new TimestampedDataNotification();
+		message.add(timestamp, "_sum/EssSoc", new JsonPrimitive(value));
+		return message;
+	}
+
+	@Test
+	public void testReplay() throws Throwable {
+		final var journal = new DataJournal(this.folder.getRoot().toPath(), 1);
+		for (var i = 1; i <= 3; i++) {
+			journal.append(timestamped(i * 1000L, i));
+		}
+		final var sent = new ArrayList<AbstractDataNotification>();
+		final var sut = new ReplayJournalWorker(journal, 2, sent::add);
+
+		// Limited by replay rate; oldest first
+		sut.forever();
+		assertEquals(2, sent.size());
+		assertEquals(new JsonPrimitive(1), sent.get(0).getData().get(1000L, "_sum/EssSoc"));
+		assertEquals(1, journal.getBacklog());
+		assertTrue(sut.getCycleTime() > 0);
+
+		sut.forever();
+		assertEquals(3, sent.size());
+		assertTrue(journal.isEmpty());
+		assertEquals(AbstractWorker.ALWAYS_WAIT_FOR_TRIGGER_NEXT_RUN, sut.getCycleTime());
+		journal.close();
+	}
+
+	@Test
+	public void testSendFails() throws Throwable {
+		final var journal = new DataJournal(this.folder.getRoot().toPath(), 1);
+		journal.append(timestamped(1000L, 1));
+		journal.append(timestamped(2000L, 2));
+		final var sent = new ArrayList<AbstractDataNotification>();
+
+		// Second message fails: first one is committed, then wait for next connection
+		final var sut = new ReplayJournalWorker(journal, 10, m -> sent.isEmpty() && sent.add(m));
+		sut.forever();
+		assertEquals(1, sent.size());
+		assertEquals(1, journal.getBacklog());
+		assertEquals(AbstractWorker.ALWAYS_WAIT_FOR_TRIGGER_NEXT_RUN, sut.getCycleTime());
+
+		// Remaining message is replayed on next trigger
+		new ReplayJournalWorker(journal, 10, sent::add).forever();
+		assertEquals(2, sent.size());
+		assertEquals(new JsonPrimitive(2), sent.get(1).getData().get(2000L, "_sum/EssSoc"));
+		assertTrue(journal.isEmpty());
+		journal.close();
+	}
+
+}
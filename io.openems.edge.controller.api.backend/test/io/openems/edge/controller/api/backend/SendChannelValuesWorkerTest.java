@@ -1,64 +1,69 @@
 package io.openems.edge.controller.api.backend;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import java.time.LocalDateTime;
 
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
-import com.google.common.collect.Lists;
+import com.google.gson.JsonElement;
 
+import io.openems.common.channel.PersistencePriority;
+import io.openems.common.channel.Unit;
 import io.openems.common.function.ThrowingFunction;
+import io.openems.common.test.TimeLeapClock;
 import io.openems.common.types.OpenemsType;
 import io.openems.common.types.OptionsEnum;
 import io.openems.edge.common.channel.Channel;
 import io.openems.edge.common.channel.Doc;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.test.DummyComponentManager;
+import io.openems.edge.common.test.DummyCycle;
 import io.openems.edge.controller.api.backend.SendChannelValuesWorkerTest.DummyComponent.DummyEnum;
 
 public class SendChannelValuesWorkerTest {
 
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
 	@Test
 	public void testAggregateNaturalCumulated() {
-		final var value = SendChannelValuesWorker.aggregate(true, OpenemsType.LONG, //
-				Lists.newArrayList(2, 4));
+		final var value = aggregate(DummyComponent.ChannelId.DUMMY_CUMULATED_LONG_CHANNEL, 2L, 4L);
 		assertEquals(4, value.getAsLong());
 	}
 
 	@Test
 	public void testAggregateNaturalNotCumulated() {
-		final var value = SendChannelValuesWorker.aggregate(false, OpenemsType.LONG, //
-				Lists.newArrayList(2, 7));
+		final var value = aggregate(DummyComponent.ChannelId.DUMMY_LONG_CHANNEL, 2L, 7L);
 		assertEquals(5, value.getAsLong());
 	}
 
+	@Test
+	public void testAggregateNaturalRounded() {
+		final var value = aggregate(DummyComponent.ChannelId.DUMMY_INTEGER_CHANNEL, 0, 1, 1, 3, 2, 0);
+		assertEquals(1, value.getAsLong());
+	}
+
 	@Test
 	public void testAggregateFloatingCumulated() {
-		final var value = SendChannelValuesWorker.aggregate(true, OpenemsType.DOUBLE, //
-				Lists.newArrayList(2.23, 4.75));
+		final var value = aggregate(DummyComponent.ChannelId.DUMMY_CUMULATED_DOUBLE_CHANNEL, 2.23, 4.75);
 		assertEquals(4.75, value.getAsDouble(), 0);
 	}
 
 	@Test
 	public void testAggregateFloatingNotCumulated() {
-		final var value = SendChannelValuesWorker.aggregate(false, OpenemsType.DOUBLE, //
-				Lists.newArrayList(2.9, 7.1));
+		final var value = aggregate(DummyComponent.ChannelId.DUMMY_DOUBLE_CHANNEL, 2.9, 7.1);
 		assertEquals(5, value.getAsDouble(), 0);
 	}
 
 	@Test
-	public void testAggregateStringCumulated() {
-		final var value = SendChannelValuesWorker.aggregate(true, OpenemsType.STRING, //
-				Lists.newArrayList("a", "b", "c", "d", "e"));
-		assertEquals("a", value.getAsString());
-	}
-
-	@Test
-	public void testAggregateStringNotCumulated() {
-		final var value = SendChannelValuesWorker.aggregate(false, OpenemsType.STRING, //
-				Lists.newArrayList("a", "b", "c", "d", "e"));
+	public void testAggregateString() {
+		final var value = aggregate(DummyComponent.ChannelId.DUMMY_STRING_CHANNEL, "a", "b", "c", "d", "e");
 		assertEquals("a", value.getAsString());
 	}
 
@@ -119,6 +124,65 @@ public class SendChannelValuesWorkerTest {
 		});
 	}
 
+	@Test
+	public void testChannelAggregatorEnum() throws Exception {
+		final var component = new DummyComponent("component0");
+		final var channel = component.<Channel<DummyEnum>>channel(DummyComponent.ChannelId.DUMMY_ENUM_CHANNEL);
+		final var aggregator = ChannelAggregator.from(channel);
+		assertFalse(aggregator.isUpdated());
+
+		aggregator.add(DummyEnum.VALUE_1.getValue());
+		aggregator.add(DummyEnum.VALUE_1.getValue());
+		aggregator.add(null);
+		aggregator.add(DummyEnum.VALUE_3.getValue());
+		aggregator.add(DummyEnum.VALUE_3.getValue());
+		assertTrue(aggregator.isUpdated());
+		assertEquals(DummyEnum.VALUE_3.getValue(), aggregator.getAndReset().getAsInt());
+
+		// Reset for next window
+		assertFalse(aggregator.isUpdated());
+		aggregator.add(null);
+		assertTrue(aggregator.getAndReset().isJsonNull());
+	}
+
+	@Test
+	public void testJournalFallback() throws Exception {
+		final var sut = new ControllerApiBackendImpl();
+		sut.componentManager = new DummyComponentManager(new TimeLeapClock()) //
+				.addComponent(new DummyComponent("dummy0"));
+		sut.cycle = new DummyCycle(1000);
+		sut.config = MyConfig.create() //
+				.setId("ctrl0") //
+				.setPersistencePriority(PersistencePriority.VERY_LOW) //
+				.setAggregationPriority(PersistencePriority.VERY_LOW) //
+				.build();
+		sut.journal = new DataJournal(this.folder.getRoot().toPath(), 1);
+
+		// Not connected: both messages are written to the journal
+		sut.sendChannelValuesWorker.collectData();
+		sut.sendChannelValuesWorker.collectData();
+		sut.sendChannelValuesWorker.deactivate();
+
+		assertTrue(sut.getUnableToSendChannel().getNextValue().get());
+		final var messages = sut.journal.peek(10);
+		assertEquals(2, messages.size());
+
+		// Journaled values are treated as sent, i.e. the second message only contains
+		// changed values
+		assertFalse(messages.get(0).getData().isEmpty());
+		assertTrue(messages.get(1).getData().isEmpty());
+		sut.journal.close();
+	}
+
+	private static JsonElement aggregate(DummyComponent.ChannelId channelId, Object... values) {
+		final var component = new DummyComponent("component0");
+		final var aggregator = ChannelAggregator.from(component.channel(channelId));
+		for (var value : values) {
+			aggregator.add(value);
+		}
+		return aggregator.getAndReset();
+	}
+
 	private static void testAggregateEnumChannel(int numberOfValues,
 			ThrowingFunction<Channel<?>, DummyEnum, Exception> test) throws Exception {
 		final var component = new DummyComponent("component0");
@@ -129,7 +193,11 @@ public class SendChannelValuesWorkerTest {
 
 		assertEquals(numberOfValues, channel.getPastValues().size());
 
-		final var aggregatedValue = SendChannelValuesWorker.aggregateEnumChannel(channel, start, end);
+		// Aggregate the values of the window like once per Cycle
+		final var aggregator = ChannelAggregator.from(channel);
+		channel.getPastValues().subMap(start, true, end, false).values() //
+				.forEach(value -> aggregator.add(value.get()));
+		final var aggregatedValue = aggregator.getAndReset();
 		assertTrue(aggregatedValue.isJsonPrimitive());
 		assertTrue(aggregatedValue.getAsJsonPrimitive().isNumber());
 		assertEquals(expectedValue.getValue(), aggregatedValue.getAsInt());
@@ -178,9 +246,17 @@ public class SendChannelValuesWorkerTest {
 
 		public enum ChannelId implements io.openems.edge.common.channel.ChannelId {
 			/**
-			 * Dummy state channels for testing.
+			 * Dummy channels for testing.
 			 */
 			DUMMY_ENUM_CHANNEL(Doc.of(DummyEnum.values())), //
+			DUMMY_INTEGER_CHANNEL(Doc.of(OpenemsType.INTEGER)), //
+			DUMMY_LONG_CHANNEL(Doc.of(OpenemsType.LONG)), //
+			DUMMY_CUMULATED_LONG_CHANNEL(Doc.of(OpenemsType.LONG) //
+					.unit(Unit.CUMULATED_WATT_HOURS)), //
+			DUMMY_DOUBLE_CHANNEL(Doc.of(OpenemsType.DOUBLE)), //
+			DUMMY_CUMULATED_DOUBLE_CHANNEL(Doc.of(OpenemsType.DOUBLE) //
+					.unit(Unit.CUMULATED_WATT_HOURS)), //
+			DUMMY_STRING_CHANNEL(Doc.of(OpenemsType.STRING)), //
 			;
 
 			private final Doc doc;
@@ -11,7 +11,6 @@ import java.util.List;
 import java.util.StringTokenizer;
 import java.util.UUID;
 import java.util.concurrent.ExecutionException;
-import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
 import org.eclipse.jetty.server.Request;
@@ -38,6 +37,7 @@ import io.openems.common.utils.JsonUtils;
 import io.openems.common.utils.StringUtils;
 import io.openems.common.utils.UuidUtils;
 import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.component.ChannelAddressIndex;
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.user.User;
 import jakarta.servlet.http.HttpServletRequest;
@@ -201,8 +201,7 @@ public class RestHandler extends AbstractHandler {
 			HttpServletResponse response) throws OpenemsNamedException {
 		user.assertRoleIsAtLeast("HTTP GET", Role.GUEST);
 
-		var components = this.parent.getComponentManager().getEnabledComponents();
-		var channels = getChannels(components, channelAddress);
+		var channels = this.parent.getComponentManager().getChannels(channelAddress);
 
 		// Return with error when no matching channel was found
 		if (channels.size() == 0) {
@@ -259,11 +258,7 @@ public class RestHandler extends AbstractHandler {
 	 */
 	protected static List<Channel<?>> getChannels(List<OpenemsComponent> components, ChannelAddress channelAddress)
 			throws PatternSyntaxException {
-		return components.stream() //
-				.filter(component -> Pattern.matches(channelAddress.getComponentId(), component.id())) //
-				.flatMap(component -> component.channels().stream()) //
-				.filter(channel -> Pattern.matches(channelAddress.getChannelId(), channel.channelId().id())) //
-				.toList();
+		return ChannelAddressIndex.getChannels(components, channelAddress);
 	}
 
 	private void sendErrorResponse(Request baseRequest, HttpServletResponse response, UUID jsonrpcId, Throwable ex) {
@@ -13,10 +13,13 @@ import java.util.Dictionary;
 import java.util.Hashtable;
 import java.util.List;
 import java.util.Map.Entry;
+import java.util.regex.PatternSyntaxException;
 import java.util.stream.Stream;
 
 import org.osgi.framework.BundleContext;
 import org.osgi.framework.InvalidSyntaxException;
+import org.osgi.framework.ServiceEvent;
+import org.osgi.framework.ServiceListener;
 import org.osgi.service.cm.Configuration;
 import org.osgi.service.cm.ConfigurationAdmin;
 import org.osgi.service.cm.ConfigurationEvent;
@@ -33,6 +36,7 @@ import org.osgi.service.event.EventAdmin;
 import org.osgi.service.metatype.MetaTypeService;
 import org.osgi.service.metatype.annotations.Designate;
 import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.google.common.collect.Lists;
 import com.google.gson.JsonNull;
@@ -57,6 +61,7 @@ import io.openems.edge.common.channel.Channel;
 import io.openems.edge.common.channel.EnumDoc;
 import io.openems.edge.common.channel.StateChannelDoc;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
+import io.openems.edge.common.component.ChannelAddressIndex;
 import io.openems.edge.common.component.ClockProvider;
 import io.openems.edge.common.component.ComponentManager;
 import io.openems.edge.common.component.OpenemsComponent;
@@ -86,8 +91,19 @@ import io.openems.edge.io.api.DigitalInput;
 public class ComponentManagerImpl extends AbstractOpenemsComponent
 		implements ComponentManager, OpenemsComponent, ConfigurationListener, ComponentJsonApi {
 
+	private final Logger log = LoggerFactory.getLogger(ComponentManagerImpl.class);
 	private final List<ComponentManagerWorker> workers = new ArrayList<>();
 	private final EdgeConfigWorker edgeConfigWorker;
+	private final ChannelAddressIndex channelAddressIndex = new ChannelAddressIndex(this::getEnabledComponents);
+	private final ServiceListener componentListener = event -> {
+		if (event.getType() == ServiceEvent.UNREGISTERING
+				&& event.getServiceReference().getProperty("id") instanceof String componentId) {
+			// Service is still registered while this event is dispatched
+			this.channelAddressIndex.invalidate(componentId);
+		} else {
+			this.channelAddressIndex.invalidate();
+		}
+	};
 
 	protected BundleContext bundleContext;
 
@@ -122,6 +138,19 @@ public class ComponentManagerImpl extends AbstractOpenemsComponent
 		super.activate(componentContext, SINGLETON_COMPONENT_ID, SINGLETON_SERVICE_PID, true);
 		this.bundleContext = bundleContext;
 
+		// Invalidate the ChannelAddressIndex whenever a Component is added, modified
+		// or removed
+		if (bundleContext != null) {
+			// Can be null in JUnit tests
+			try {
+				bundleContext.addServiceListener(this.componentListener,
+						"(objectClass=" + OpenemsComponent.class.getName() + ")");
+			} catch (InvalidSyntaxException e) {
+				this.logError(this.log, "Unable to listen for Component changes: " + e.getMessage());
+			}
+		}
+		this.channelAddressIndex.invalidate();
+
 		for (ComponentManagerWorker worker : this.workers) {
 			worker.activate(this.id());
 		}
@@ -150,6 +179,10 @@ public class ComponentManagerImpl extends AbstractOpenemsComponent
 	protected void deactivate() {
 		super.deactivate();
 
+		if (this.bundleContext != null) {
+			this.bundleContext.removeServiceListener(this.componentListener);
+		}
+
 		for (ComponentManagerWorker worker : this.workers) {
 			worker.deactivate();
 		}
@@ -191,6 +224,22 @@ public class ComponentManagerImpl extends AbstractOpenemsComponent
 		throw OpenemsError.EDGE_NO_COMPONENT_WITH_ID.exception(componentId);
 	}
 
+	@Override
+	public <T extends Channel<?>> T getChannel(ChannelAddress channelAddress)
+			throws IllegalArgumentException, OpenemsNamedException {
+		var component = this.channelAddressIndex.getComponent(channelAddress.getComponentId());
+		if (component == null) {
+			// e.g. the ComponentManager itself
+			component = this.getComponent(channelAddress.getComponentId());
+		}
+		return component.channel(channelAddress.getChannelId());
+	}
+
+	@Override
+	public List<Channel<?>> getChannels(ChannelAddress channelAddress) throws PatternSyntaxException {
+		return this.channelAddressIndex.getChannels(channelAddress);
+	}
+
 	/**
 	 * Gets the components via OSGi service reference.
 	 *
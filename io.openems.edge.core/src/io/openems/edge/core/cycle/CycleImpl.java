@@ -1,7 +1,11 @@
 package io.openems.edge.core.cycle;
 
+import static io.openems.common.utils.ThreadPoolUtils.shutdownAndAwaitTermination;
+
 import java.util.Comparator;
 import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.osgi.service.cm.ConfigurationAdmin;
 import org.osgi.service.component.ComponentContext;
@@ -18,6 +22,8 @@ import org.osgi.service.event.EventAdmin;
 import org.osgi.service.metatype.annotations.Designate;
 import org.slf4j.Logger;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
@@ -59,6 +65,13 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 
 	private Config config = null;
 
+	/**
+	 * Executor for switching the Process Image in parallel; null if the Process
+	 * Image is switched sequentially.
+	 */
+	private volatile ExecutorService processImageExecutor = null;
+	private int processImageThreads = 0;
+
 	@Reference(//
 			policy = ReferencePolicy.DYNAMIC, //
 			policyOption = ReferencePolicyOption.GREEDY, //
@@ -87,6 +100,7 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 	private void activate(ComponentContext context, Config config) throws OpenemsException {
 		super.activate(context, SINGLETON_COMPONENT_ID, SINGLETON_SERVICE_PID, true);
 		this.config = config;
+		this.applyProcessImageThreads(config.processImageThreads());
 		this.worker.activate(this.id());
 
 		if (OpenemsComponent.validateSingleton(this.cm, SINGLETON_SERVICE_PID, SINGLETON_COMPONENT_ID)) {
@@ -98,6 +112,7 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 	private void modified(ComponentContext context, Config config) throws OpenemsNamedException {
 		super.modified(context, SINGLETON_COMPONENT_ID, SINGLETON_SERVICE_PID, true);
 		this.config = config;
+		this.applyProcessImageThreads(config.processImageThreads());
 		this.worker.modified(this.id());
 
 		if (OpenemsComponent.validateSingleton(this.cm, SINGLETON_SERVICE_PID, SINGLETON_COMPONENT_ID)) {
@@ -110,6 +125,40 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 	protected void deactivate() {
 		super.deactivate();
 		this.worker.deactivate();
+		this.applyProcessImageThreads(0);
+	}
+
+	/**
+	 * (Re)Creates the {@link ExecutorService} for switching the Process Image in
+	 * parallel.
+	 *
+	 * @param threads the number of threads; values smaller than two disable
+	 *                parallel switching
+	 */
+	private synchronized void applyProcessImageThreads(int threads) {
+		threads = threads > 1 ? threads : 0;
+		if (threads == this.processImageThreads) {
+			return;
+		}
+		var oldExecutor = this.processImageExecutor;
+		if (threads > 0) {
+			this.processImageExecutor = Executors.newFixedThreadPool(threads,
+					new ThreadFactoryBuilder().setNameFormat(SINGLETON_COMPONENT_ID + ":ProcessImage-%d").build());
+		} else {
+			this.processImageExecutor = null;
+		}
+		this.processImageThreads = threads;
+		shutdownAndAwaitTermination(oldExecutor, 5);
+	}
+
+	/**
+	 * Gets the {@link ExecutorService} for switching the Process Image in
+	 * parallel.
+	 *
+	 * @return the {@link ExecutorService}; or null for sequential switching
+	 */
+	protected ExecutorService getProcessImageExecutor() {
+		return this.processImageExecutor;
 	}
 
 	@Override
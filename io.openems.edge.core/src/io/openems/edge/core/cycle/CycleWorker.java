@@ -1,5 +1,7 @@
 package io.openems.edge.core.cycle;
 
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
@@ -11,6 +13,7 @@ import info.faljse.SDNotify.SDNotify;
 import io.openems.common.event.EventBuilder;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.worker.AbstractWorker;
+import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.event.EdgeEventConstants;
 import io.openems.edge.common.sum.Sum;
 import io.openems.edge.controller.api.Controller;
@@ -52,24 +55,9 @@ public class CycleWorker extends AbstractWorker {
 			/*
 			 * Before Controllers start: switch to next process image for each channel
 			 */
-			this.parent.componentManager.getEnabledComponents().stream() //
-					.filter(c -> c.isEnabled() && !(c instanceof Sum)) //
-					.forEach(component -> {
-						component.channels().forEach(channel -> {
-							channel.nextProcessImage();
-						});
-					});
-			this.parent.channels().forEach(channel -> {
-				channel.nextProcessImage();
-			});
-
-			/*
-			 * Update the Channels in the Sum-Component.
-			 */
-			this.parent.sumComponent.updateChannelsBeforeProcessImage();
-			this.parent.sumComponent.channels().forEach(channel -> {
-				channel.nextProcessImage();
-			});
+			var phaseStopwatch = Stopwatch.createStarted();
+			this.switchProcessImage();
+			this.parent._setMeasuredProcessImageTime(phaseStopwatch.elapsed(TimeUnit.MILLISECONDS));
 
 			/*
 			 * Trigger AFTER_PROCESS_IMAGE event
@@ -81,6 +69,7 @@ public class CycleWorker extends AbstractWorker {
 			 */
 			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_BEFORE_CONTROLLERS);
 
+			phaseStopwatch.reset().start();
 			var hasDisabledController = false;
 
 			/*
@@ -142,6 +131,7 @@ public class CycleWorker extends AbstractWorker {
 
 			// announce ignoring disabled Controllers.
 			this.parent._setIgnoreDisabledController(hasDisabledController);
+			this.parent._setMeasuredControllersTime(phaseStopwatch.elapsed(TimeUnit.MILLISECONDS));
 
 			/*
 			 * Trigger AFTER_CONTROLLERS event
@@ -151,6 +141,7 @@ public class CycleWorker extends AbstractWorker {
 			/*
 			 * Trigger BEFORE_WRITE event
 			 */
+			phaseStopwatch.reset().start();
 			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_BEFORE_WRITE);
 
 			/*
@@ -162,6 +153,7 @@ public class CycleWorker extends AbstractWorker {
 			 * Trigger AFTER_WRITE event
 			 */
 			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_AFTER_WRITE);
+			this.parent._setMeasuredWriteTime(phaseStopwatch.elapsed(TimeUnit.MILLISECONDS));
 
 		} catch (Throwable t) {
 			this.parent.logWarn(this.log,
@@ -175,4 +167,50 @@ public class CycleWorker extends AbstractWorker {
 		this.parent._setMeasuredCycleTime(stopwatch.elapsed(TimeUnit.MILLISECONDS));
 	}
 
+	/**
+	 * Switches to the next Process Image for each Channel.
+	 *
+	 * <p>
+	 * If a Process-Image executor is configured, the Channels of different
+	 * Components are switched in parallel; the Channels of one Component are
+	 * always switched by one thread in their natural order. The Cycle and the Sum
+	 * Component are switched last and sequentially, so that the Sum sees the
+	 * updated values of all other Components.
+	 *
+	 * @throws InterruptedException on interrupt
+	 * @throws ExecutionException   if switching the Process Image of a Component
+	 *                              failed
+	 */
+	void switchProcessImage() throws InterruptedException, ExecutionException {
+		var components = this.parent.componentManager.getEnabledComponents().stream() //
+				.filter(c -> c.isEnabled() && !(c instanceof Sum)) //
+				.toList();
+		var executor = this.parent.getProcessImageExecutor();
+		if (executor == null) {
+			components.forEach(CycleWorker::nextProcessImage);
+
+		} else {
+			var tasks = components.stream() //
+					.map(component -> Executors.callable(() -> nextProcessImage(component))) //
+					.toList();
+			for (var future : executor.invokeAll(tasks)) {
+				// Rethrows an Exception of a Channel callback
+				future.get();
+			}
+		}
+		nextProcessImage(this.parent);
+
+		/*
+		 * Update the Channels in the Sum-Component.
+		 */
+		this.parent.sumComponent.updateChannelsBeforeProcessImage();
+		nextProcessImage(this.parent.sumComponent);
+	}
+
+	private static void nextProcessImage(OpenemsComponent component) {
+		component.channels().forEach(channel -> {
+			channel.nextProcessImage();
+		});
+	}
+
 }
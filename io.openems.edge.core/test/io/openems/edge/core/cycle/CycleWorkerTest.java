@@ -0,0 +1,126 @@
+package io.openems.edge.core.cycle;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.After;
+import org.junit.Test;
+
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.sum.DummySum;
+import io.openems.edge.common.test.DummyComponentManager;
+import io.openems.edge.common.test.DummyMeta;
+
+public class CycleWorkerTest {
+
+	private static final int PROCESS_IMAGE_THREADS = 2;
+
+	private static record Update(String componentId, Thread thread) {
+	}
+
+	private final ExecutorService executor = Executors.newFixedThreadPool(PROCESS_IMAGE_THREADS);
+	private final List<Update> updates = Collections.synchronizedList(new ArrayList<>());
+
+	@After
+	public void after() {
+		this.executor.shutdownNow();
+	}
+
+	private CycleWorker createWorker(DummySum sum, OpenemsComponent... components) {
+		final var cycle = new CycleImpl() {
+			@Override
+			protected ExecutorService getProcessImageExecutor() {
+				return CycleWorkerTest.this.executor;
+			}
+		};
+		final var componentManager = new DummyComponentManager();
+		for (var component : components) {
+			componentManager.addComponent(component);
+		}
+		cycle.componentManager = componentManager;
+		cycle.sumComponent = sum;
+		return new CycleWorker(cycle);
+	}
+
+	private void recordUpdates(OpenemsComponent component) {
+		for (var channel : component.channels()) {
+			channel.onUpdate(value -> this.updates.add(new Update(component.id(), Thread.currentThread())));
+		}
+	}
+
+	private long countUpdates(OpenemsComponent component) {
+		return this.updates.stream() //
+				.filter(u -> u.componentId().equals(component.id())) //
+				.count();
+	}
+
+	@Test
+	public void testParallelSwitchProcessImage() throws Exception {
+		final var components = List.of(new DummyMeta("meta0"), new DummyMeta("meta1"), new DummyMeta("meta2"),
+				new DummyMeta("meta3"));
+		final var sum = new DummySum();
+		components.forEach(this::recordUpdates);
+		this.recordUpdates(sum);
+		final var sut = this.createWorker(sum, //
+				components.get(0), components.get(1), sum, components.get(2), components.get(3));
+
+		sut.switchProcessImage();
+
+		// Channels of all Components are switched by the Process-Image threads
+		for (var component : components) {
+			assertEquals(component.channels().size(), this.countUpdates(component));
+		}
+		final var sumChannels = sum.channels().size();
+		final var otherUpdates = this.updates.size() - sumChannels;
+		for (var update : this.updates.subList(0, otherUpdates)) {
+			assertNotSame(Thread.currentThread(), update.thread());
+		}
+
+		// Sum is switched once, last and by the Cycle thread
+		assertEquals(sumChannels, this.countUpdates(sum));
+		for (var update : this.updates.subList(otherUpdates, this.updates.size())) {
+			assertEquals(sum.id(), update.componentId());
+			assertSame(Thread.currentThread(), update.thread());
+		}
+	}
+
+	@Test
+	public void testParallelSwitchProcessImageCallbackFails() throws Exception {
+		final var meta0 = new DummyMeta("meta0");
+		final var meta1 = new DummyMeta("meta1");
+		this.recordUpdates(meta1);
+		final var sut = this.createWorker(new DummySum(), meta0, meta1);
+
+		final var throwError = new AtomicBoolean(false);
+		meta0.channels().iterator().next().onUpdate(value -> {
+			if (throwError.get()) {
+				throw new AssertionError("failing callback");
+			}
+			throw new IllegalStateException("failing callback");
+		});
+
+		// RuntimeException is logged by the Channel; other Channels are switched
+		sut.switchProcessImage();
+		assertEquals(meta1.channels().size(), this.countUpdates(meta1));
+
+		// Error is rethrown to the Cycle, like when switching sequentially
+		throwError.set(true);
+		try {
+			sut.switchProcessImage();
+			fail("Expected ExecutionException");
+		} catch (ExecutionException e) {
+			assertEquals(AssertionError.class, e.getCause().getClass());
+		}
+	}
+
+}
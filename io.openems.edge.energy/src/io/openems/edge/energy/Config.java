@@ -11,5 +11,11 @@ import org.osgi.service.metatype.annotations.ObjectClassDefinition;
 	@AttributeDefinition(name = "Is enabled?", description = "Is this Component enabled?")
 	boolean enabled() default true;
 
+	@AttributeDefinition(name = "Optimizer Threads", description = "Number of threads for evaluating Schedules. '1' evaluates in the Optimizer thread; '0' uses all available processors.", min = "0")
+	int optimizerThreads() default 1;
+
+	@AttributeDefinition(name = "Incremental Optimization", description = "Seeds each optimization with the population of the previous run and stops early when the result does not improve anymore.")
+	boolean incrementalOptimization() default false;
+
 	String webconsole_configurationFactory_nameHint() default "Core Energy Scheduler";
 }
\ No newline at end of file
@@ -130,6 +130,9 @@ public class EnergySchedulerImpl extends AbstractOpenemsComponent
 			return false;
 		}
 
+		this.optimizer.setThreads(config.optimizerThreads());
+		this.optimizer.setIncremental(config.incrementalOptimization());
+
 		return true;
 	}
 
@@ -0,0 +1,138 @@
+package io.openems.edge.energy.optimizer;
+
+import static io.openems.edge.common.type.TypeUtils.fitWithin;
+import static io.openems.edge.energy.optimizer.Simulator.EFFICIENCY_FACTOR;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+import io.jenetics.Genotype;
+import io.jenetics.IntegerGene;
+import io.openems.edge.controller.ess.timeofusetariff.StateMachine;
+
+/**
+ * Calculates the cost of a Schedule like
+ * {@link Simulator#calculateCost(Params, StateMachine[])}, but on primitive
+ * arrays that are prepared once per optimization. Evaluating a
+ * {@link Genotype} does not allocate any objects, so it can be called millions
+ * of times from multiple threads.
+ *
+ * <p>
+ * The calculation must always be kept in sync with
+ * {@link EnergyFlow#create(Params, Params.OptimizePeriod, int, int, int)}.
+ */
+class CostKernel {
+
+	private static final int STATE_BALANCING = 0;
+	private static final int STATE_DELAY_DISCHARGE = 1;
+	private static final int STATE_CHARGE_GRID = 2;
+
+	private final int essTotalEnergy;
+	private final int essMinSocEnergy;
+	private final int essMaxSocEnergy;
+	private final int essInitialEnergy;
+	private final int[] states;
+
+	private final int[] essMaxChargeEnergy;
+	private final int[] essMaxDischargeEnergy;
+	private final int[] essChargeInChargeGrid;
+	private final int[] maxBuyFromGrid;
+	private final int[] production;
+	private final int[] consumption;
+	private final double[] price;
+
+	protected CostKernel(Params p) {
+		this.essTotalEnergy = p.essTotalEnergy();
+		this.essMinSocEnergy = p.essMinSocEnergy();
+		this.essMaxSocEnergy = p.essMaxSocEnergy();
+		this.essInitialEnergy = p.essInitialEnergy();
+		this.states = new int[p.states().length];
+		for (var i = 0; i < this.states.length; i++) {
+			this.states[i] = switch (p.states()[i]) {
+			case BALANCING -> STATE_BALANCING;
+			case DELAY_DISCHARGE -> STATE_DELAY_DISCHARGE;
+			case CHARGE_GRID -> STATE_CHARGE_GRID;
+			};
+		}
+
+		var ops = p.optimizePeriods();
+		var size = ops.size();
+		this.essMaxChargeEnergy = new int[size];
+		this.essMaxDischargeEnergy = new int[size];
+		this.essChargeInChargeGrid = new int[size];
+		this.maxBuyFromGrid = new int[size];
+		this.production = new int[size];
+		this.consumption = new int[size];
+		this.price = new double[size];
+		for (var i = 0; i < size; i++) {
+			var op = ops.get(i);
+			this.essMaxChargeEnergy[i] = op.essMaxChargeEnergy();
+			this.essMaxDischargeEnergy[i] = op.essMaxDischargeEnergy();
+			this.essChargeInChargeGrid[i] = op.essChargeInChargeGrid();
+			this.maxBuyFromGrid[i] = op.maxBuyFromGrid();
+			this.production[i] = op.production();
+			this.consumption[i] = op.consumption();
+			this.price[i] = max(0, op.price()); // Filter negative prices
+		}
+	}
+
+	/**
+	 * Simulates the Schedule represented by a {@link Genotype} and calculates the
+	 * cost.
+	 *
+	 * @param gt the {@link Genotype}; one chromosome per period, each holding the
+	 *           index of a state in {@link Params#states()}
+	 * @return the cost, lower is better; always positive
+	 */
+	protected double calculateCost(Genotype<IntegerGene> gt) {
+		var essInitial = this.essInitialEnergy;
+		var sum = 0.;
+		for (var i = 0; i < this.production.length; i++) {
+			essInitial = max(0, essInitial); // always at least '0'
+			var production = this.production[i];
+			var consumption = this.consumption[i];
+
+			// Target per State
+			final int essMaxSocEnergy;
+			final int essTarget;
+			switch (this.states[gt.get(i).get(0).intValue()]) {
+			case STATE_DELAY_DISCHARGE -> {
+				essMaxSocEnergy = this.essTotalEnergy;
+				essTarget = min(0, consumption - production);
+			}
+			case STATE_CHARGE_GRID -> {
+				essMaxSocEnergy = this.essMaxSocEnergy;
+				essTarget = min(0, consumption - production) - this.essChargeInChargeGrid[i];
+			}
+			default -> {
+				essMaxSocEnergy = this.essTotalEnergy;
+				essTarget = consumption - production;
+			}
+			}
+
+			// Energy-Flow
+			var essMaxDischarge = max(0, essInitial - this.essMinSocEnergy);
+			var essMaxCharge = max(0, essMaxSocEnergy - essInitial);
+			var ess = max(consumption - production - this.maxBuyFromGrid[i], essTarget);
+			ess = fitWithin(-essMaxCharge, essMaxDischarge, ess);
+			ess = fitWithin(-this.essMaxChargeEnergy[i], this.essMaxDischargeEnergy[i], ess);
+			essInitial -= ess;
+
+			var grid = consumption - production - ess;
+			if (grid <= 0) {
+				// Sell-to-Grid
+				continue;
+			}
+			var productionToConsumption = min(production, consumption);
+			var productionToEss = max(0, min(-ess, production - productionToConsumption));
+			var productionToGrid = max(0, production - productionToConsumption - productionToEss);
+			var essToConsumption = max(0, min(consumption - productionToConsumption, ess - productionToGrid));
+			var gridToConsumption = max(0, consumption - essToConsumption - productionToConsumption);
+			var gridToEss = grid - gridToConsumption + productionToGrid;
+
+			// Cost
+			sum += gridToConsumption * this.price[i] //
+					+ gridToEss * this.price[i] * EFFICIENCY_FACTOR;
+		}
+		return sum;
+	}
+}
@@ -6,6 +6,7 @@ import static io.openems.edge.controller.ess.timeofusetariff.StateMachine.DELAY_
 import static io.openems.edge.energy.optimizer.Utils.findFirstPeakIndex;
 import static io.openems.edge.energy.optimizer.Utils.findFirstValleyIndex;
 
+import java.time.ZonedDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -13,6 +14,7 @@ import java.util.function.BiConsumer;
 import java.util.stream.IntStream;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSortedMap;
 import com.google.common.math.Quantiles;
 
 import io.jenetics.Genotype;
@@ -44,6 +46,25 @@ public class InitialPopulationUtils {
 	 * @return the {@link Genotype}
 	 */
 	public static ImmutableList<Genotype<IntegerGene>> buildInitialPopulation(Params p) {
+		return buildInitialPopulation(p, ImmutableList.of());
+	}
+
+	/**
+	 * Builds an initial population like {@link #buildInitialPopulation(Params)}
+	 * and adds the population of a previous optimization run.
+	 * 
+	 * <p>
+	 * The previous Schedules are mapped to the periods of the current
+	 * {@link Params} by time, i.e. they are shifted forward by the elapsed
+	 * periods; periods that were not covered fall back to BALANCING.
+	 * 
+	 * @param p                  the {@link Params}
+	 * @param previousPopulation the Schedules of the previous population, see
+	 *                           {@link #toSchedule(Params, Genotype)}
+	 * @return the {@link Genotype}
+	 */
+	public static ImmutableList<Genotype<IntegerGene>> buildInitialPopulation(Params p,
+			List<ImmutableSortedMap<ZonedDateTime, StateMachine>> previousPopulation) {
 		var states = List.of(p.states());
 		if (!states.contains(BALANCING)) {
 			throw new IllegalArgumentException("State option BALANCING is always required!");
@@ -61,12 +82,12 @@ public class InitialPopulationUtils {
 		if (p.existingSchedule().values().stream() //
 				.anyMatch(s -> s != BALANCING)) {
 			// Existing Schedule if available
-			b.add(Genotype.of(//
-					p.optimizePeriods().stream() //
-							.map(op -> Optional.ofNullable(p.existingSchedule().get(op.time())).orElse(BALANCING))
-							.map(state -> IntegerChromosome.of(IntegerGene.of(//
-									toIndex(states, state), 0, p.states().length))) //
-							.toList()));
+			b.add(toGenotype(p, states, p.existingSchedule()));
+		}
+
+		// Population of the previous optimization run
+		for (var schedule : previousPopulation) {
+			b.add(toGenotype(p, states, schedule));
 		}
 
 		// Suggest different combinations of CHARGE_GRID and DELAY_CHARGE
@@ -90,6 +111,34 @@ public class InitialPopulationUtils {
 		return b.build();
 	}
 
+	/**
+	 * Converts a {@link Genotype} to a Schedule of quarterly periods.
+	 * 
+	 * @param p  the {@link Params}
+	 * @param gt the {@link Genotype}
+	 * @return the Schedule
+	 */
+	public static ImmutableSortedMap<ZonedDateTime, StateMachine> toSchedule(Params p, Genotype<IntegerGene> gt) {
+		var result = ImmutableSortedMap.<ZonedDateTime, StateMachine>naturalOrder();
+		for (var i = 0; i < p.optimizePeriods().size(); i++) {
+			var state = p.states()[gt.get(i).get(0).intValue()];
+			for (var qp : p.optimizePeriods().get(i).quarterPeriods()) {
+				result.put(qp.time(), state);
+			}
+		}
+		return result.build();
+	}
+
+	private static Genotype<IntegerGene> toGenotype(Params p, List<StateMachine> states,
+			ImmutableSortedMap<ZonedDateTime, StateMachine> schedule) {
+		return Genotype.of(//
+				p.optimizePeriods().stream() //
+						.map(op -> Optional.ofNullable(schedule.get(op.time())).orElse(BALANCING))
+						.map(state -> IntegerChromosome.of(IntegerGene.of(//
+								toIndex(states, state), 0, p.states().length))) //
+						.toList());
+	}
+
 	private static int toIndex(List<StateMachine> states, StateMachine state) {
 		var result = states.indexOf(state);
 		if (result != -1) {
@@ -2,6 +2,7 @@ package io.openems.edge.energy.optimizer;
 
 import static com.google.common.collect.ImmutableMap.toImmutableMap;
 import static com.google.common.collect.ImmutableSortedMap.toImmutableSortedMap;
+import static io.openems.common.utils.ThreadPoolUtils.shutdownAndAwaitTermination;
 import static io.openems.edge.energy.optimizer.Simulator.simulate;
 import static io.openems.edge.energy.optimizer.Utils.calculateExecutionLimitSeconds;
 import static io.openems.edge.energy.optimizer.Utils.createSimulatorParams;
@@ -15,16 +16,21 @@ import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.util.Map.Entry;
 import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.function.ThrowingSupplier;
 import io.openems.common.test.TimeLeapClock;
 import io.openems.common.worker.AbstractImmediateWorker;
+import io.openems.edge.controller.ess.timeofusetariff.StateMachine;
 import io.openems.edge.energy.api.EnergyScheduleHandler;
 import io.openems.edge.energy.optimizer.Simulator.Period;
 
@@ -40,6 +46,10 @@ public class Optimizer extends AbstractImmediateWorker {
 	private final TreeMap<ZonedDateTime, Period> schedule = new TreeMap<>();
 
 	private Params params = null;
+	private int threads = 1;
+	private volatile ExecutorService executor = null;
+	private volatile boolean incremental = false;
+	private ImmutableList<ImmutableSortedMap<ZonedDateTime, StateMachine>> lastPopulation = ImmutableList.of();
 
 	public Optimizer(ThrowingSupplier<GlobalContext, OpenemsException> globalContext) {
 		this.globalContext = globalContext;
@@ -49,6 +59,49 @@ public class Optimizer extends AbstractImmediateWorker {
 		this.setPriority(Thread.MIN_PRIORITY);
 	}
 
+	/**
+	 * Sets the number of threads for evaluating Schedules.
+	 * 
+	 * @param threads the number of threads; '1' evaluates in the Optimizer
+	 *                thread; '0' uses all available processors
+	 */
+	public synchronized void setThreads(int threads) {
+		if (threads <= 0) {
+			threads = Runtime.getRuntime().availableProcessors();
+		}
+		if (threads == this.threads) {
+			return;
+		}
+		var oldExecutor = this.executor;
+		if (threads > 1) {
+			this.executor = Executors.newFixedThreadPool(threads, new ThreadFactoryBuilder() //
+					.setNameFormat("Energy:Optimizer-%d") //
+					.setPriority(Thread.MIN_PRIORITY) //
+					.build());
+		} else {
+			this.executor = null;
+		}
+		this.threads = threads;
+		shutdownAndAwaitTermination(oldExecutor, 5);
+	}
+
+	/**
+	 * Enables or disables incremental optimization: the population of the last
+	 * run is used to seed the next run, which stops as soon as improvement
+	 * stalls.
+	 * 
+	 * @param incremental true to enable
+	 */
+	public void setIncremental(boolean incremental) {
+		this.incremental = incremental;
+	}
+
+	@Override
+	public void deactivate() {
+		super.deactivate();
+		this.setThreads(1);
+	}
+
 	@Override
 	public void forever() throws InterruptedException, OpenemsException {
 		this.log.info("# Start next run of Optimizer");
@@ -64,7 +117,10 @@ public class Optimizer extends AbstractImmediateWorker {
 		executionLimitSeconds = calculateExecutionLimitSeconds(globalContext.clock());
 
 		// Find best Schedule
-		var schedule = Simulator.getBestSchedule(this.params, executionLimitSeconds);
+		var result = Simulator.optimize(this.params, executionLimitSeconds, null, null, this.executor, //
+				this.incremental ? this.lastPopulation : ImmutableList.of());
+		this.lastPopulation = result.population();
+		var schedule = result.schedule();
 
 		// Re-Simulate and keep best Schedule
 		var newSchedule = simulate(this.params, schedule);
@@ -115,6 +171,7 @@ public class Optimizer extends AbstractImmediateWorker {
 			} catch (OpenemsException e) {
 				this.log.info("# Stuck trying to get Params. " + e.getMessage());
 				this.params = null;
+				this.lastPopulation = ImmutableList.of();
 				synchronized (this.schedule) {
 					this.schedule.clear();
 				}
@@ -1,14 +1,20 @@
 package io.openems.edge.energy.optimizer;
 
-import static io.jenetics.engine.EvolutionResult.toBestGenotype;
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static io.jenetics.engine.EvolutionResult.toBestEvolutionResult;
 import static io.jenetics.engine.Limits.byExecutionTime;
+import static io.jenetics.engine.Limits.bySteadyFitness;
 import static io.openems.edge.energy.optimizer.InitialPopulationUtils.buildInitialPopulation;
+import static io.openems.edge.energy.optimizer.InitialPopulationUtils.toSchedule;
 import static io.openems.edge.energy.optimizer.Utils.paramsAreValid;
 import static io.openems.edge.energy.optimizer.Utils.postprocessSimulatorState;
 import static java.lang.Math.max;
 import static java.time.Duration.ofSeconds;
+import static java.util.Comparator.comparing;
 
 import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -21,6 +27,7 @@ import com.google.common.collect.ImmutableSortedMap;
 import io.jenetics.Genotype;
 import io.jenetics.IntegerChromosome;
 import io.jenetics.IntegerGene;
+import io.jenetics.Phenotype;
 import io.jenetics.engine.Engine;
 import io.jenetics.engine.EvolutionResult;
 import io.openems.edge.controller.ess.timeofusetariff.StateMachine;
@@ -32,9 +39,32 @@ public class Simulator {
 	/** Used to incorporate charge/discharge efficiency. */
 	public static final double EFFICIENCY_FACTOR = 1.17;
 
+	/**
+	 * Max number of Genotypes of a previous population that are used to seed the
+	 * next optimization run.
+	 */
+	public static final int SEED_POPULATION_SIZE = 20;
+
+	/**
+	 * Number of generations without improvement after which a seeded
+	 * optimization run stops.
+	 */
+	public static final int STEADY_FITNESS_GENERATIONS = 1_000;
+
 	public record Period(OptimizePeriod op, StateMachine state, int essInitial, EnergyFlow ef) {
 	}
 
+	/**
+	 * The result of an optimization run.
+	 * 
+	 * @param schedule   the best Schedule
+	 * @param population the best Schedules of the final population, ordered by
+	 *                   cost; used to seed the next run
+	 */
+	public record Result(StateMachine[] schedule,
+			ImmutableList<ImmutableSortedMap<ZonedDateTime, StateMachine>> population) {
+	}
+
 	/**
 	 * Simulates a Schedule and calculates the cost.
 	 * 
@@ -135,43 +165,107 @@ public class Simulator {
 	 * @return the best schedule
 	 */
 	protected static StateMachine[] getBestSchedule(Params p, long executionLimitSeconds) {
-		return getBestSchedule(p, executionLimitSeconds, null, null);
+		return getBestSchedule(p, executionLimitSeconds, null, null, null);
 	}
 
 	protected static StateMachine[] getBestSchedule(Params p, long executionLimitSeconds, Integer populationSize,
 			Integer limit) {
+		return getBestSchedule(p, executionLimitSeconds, populationSize, limit, null);
+	}
+
+	/**
+	 * Runs the optimization.
+	 * 
+	 * @param p                     the {@link Params}
+	 * @param executionLimitSeconds limit.byExecutionTime.ofSeconds
+	 * @param populationSize        the optional population size
+	 * @param limit                 the optional max number of generations
+	 * @param executor              the optional {@link Executor} for parallel
+	 *                              evaluation; null for the current thread
+	 * @return the best schedule
+	 */
+	protected static StateMachine[] getBestSchedule(Params p, long executionLimitSeconds, Integer populationSize,
+			Integer limit, Executor executor) {
+		return optimize(p, executionLimitSeconds, populationSize, limit, executor, ImmutableList.of()).schedule();
+	}
+
+	/**
+	 * Runs the optimization, optionally seeded with the population of a previous
+	 * run.
+	 * 
+	 * <p>
+	 * If a previous population is given, the optimization stops early once the
+	 * best cost did not improve for {@link #STEADY_FITNESS_GENERATIONS}
+	 * generations.
+	 * 
+	 * @param p                     the {@link Params}
+	 * @param executionLimitSeconds limit.byExecutionTime.ofSeconds
+	 * @param populationSize        the optional population size
+	 * @param limit                 the optional max number of generations
+	 * @param executor              the optional {@link Executor} for parallel
+	 *                              evaluation; null for the current thread
+	 * @param previousPopulation    the population of the previous run; empty
+	 *                              for a full optimization
+	 * @return the {@link Result}
+	 */
+	protected static Result optimize(Params p, long executionLimitSeconds, Integer populationSize, Integer limit,
+			Executor executor, List<ImmutableSortedMap<ZonedDateTime, StateMachine>> previousPopulation) {
 		// Return pure BALANCING Schedule if no predictions are available
 		if (!paramsAreValid(p)) {
-			return p.optimizePeriods().stream() //
+			return new Result(p.optimizePeriods().stream() //
 					.map(op -> StateMachine.BALANCING) //
-					.toArray(StateMachine[]::new);
+					.toArray(StateMachine[]::new), ImmutableList.of());
 		}
 
+		Stream<EvolutionResult<IntegerGene, Double>> stream = buildEngine(p, populationSize, executor) //
+				.stream(buildInitialPopulation(p, previousPopulation)) //
+				.limit(byExecutionTime(ofSeconds(executionLimitSeconds))); //
+		if (!previousPopulation.isEmpty()) {
+			stream = stream.limit(bySteadyFitness(STEADY_FITNESS_GENERATIONS)); // stop when improvement stalls
+		}
+		if (limit != null) {
+			stream = stream.limit(limit); // apply optional limit
+		}
+		var best = stream //
+				.collect(toBestEvolutionResult());
+		var bestGt = best.bestPhenotype().genotype();
+		var schedule = IntStream.range(0, p.optimizePeriods().size()) //
+				.mapToObj(period -> p.states()[bestGt.get(period).get(0).intValue()]) //
+				.toArray(StateMachine[]::new);
+		var population = best.population().stream() //
+				.sorted(comparing(Phenotype::fitness)) //
+				.map(Phenotype::genotype) //
+				.distinct() //
+				.limit(SEED_POPULATION_SIZE) //
+				.map(gt -> toSchedule(p, gt)) //
+				.collect(toImmutableList());
+		return new Result(schedule, population);
+	}
+
+	/**
+	 * Builds the Jenetics {@link Engine}.
+	 * 
+	 * <p>
+	 * Fitness is evaluated by the allocation-free {@link CostKernel}. With an
+	 * {@link Executor} the population is evaluated in parallel.
+	 * 
+	 * @param p              the {@link Params}
+	 * @param populationSize the optional population size
+	 * @param executor       the optional {@link Executor}; null for the current
+	 *                       thread
+	 * @return the {@link Engine}
+	 */
+	protected static Engine<IntegerGene, Double> buildEngine(Params p, Integer populationSize, Executor executor) {
 		var gtf = Genotype.of(IntegerChromosome.of(IntegerGene.of(0, p.states().length)), p.optimizePeriods().size()); //
-		var eval = (Function<Genotype<IntegerGene>, Double>) (gt) -> {
-			var modes = new StateMachine[p.optimizePeriods().size()];
-			for (var i = 0; i < modes.length; i++) {
-				modes[i] = p.states()[gt.get(i).get(0).intValue()];
-			}
-			return calculateCost(p, modes);
-		};
+		var kernel = new CostKernel(p);
+		var eval = (Function<Genotype<IntegerGene>, Double>) kernel::calculateCost;
 		var engine = Engine //
 				.builder(eval, gtf) //
-				.executor(Runnable::run) // current thread
+				.executor(executor != null ? executor : Runnable::run) //
 				.minimizing();
 		if (populationSize != null) {
 			engine.populationSize(populationSize); //
 		}
-		Stream<EvolutionResult<IntegerGene, Double>> stream = engine.build() //
-				.stream(buildInitialPopulation(p)) //
-				.limit(byExecutionTime(ofSeconds(executionLimitSeconds))); //
-		if (limit != null) {
-			stream = stream.limit(limit); // apply optional limit
-		}
-		var bestGt = stream //
-				.collect(toBestGenotype());
-		return IntStream.range(0, p.optimizePeriods().size()) //
-				.mapToObj(period -> p.states()[bestGt.get(period).get(0).intValue()]) //
-				.toArray(StateMachine[]::new);
+		return engine.build();
 	}
 }
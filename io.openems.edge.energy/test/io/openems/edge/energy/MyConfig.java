@@ -12,6 +12,8 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		private int essMaxChargePower;
 		private int maxChargePowerFromGrid;
 		private boolean limitChargePowerFor14aEnWG;
+		private int optimizerThreads = 1;
+		private boolean incrementalOptimization;
 
 		private Builder() {
 		}
@@ -46,6 +48,16 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 			return this;
 		}
 
+		public Builder setOptimizerThreads(int optimizerThreads) {
+			this.optimizerThreads = optimizerThreads;
+			return this;
+		}
+
+		public Builder setIncrementalOptimization(boolean incrementalOptimization) {
+			this.incrementalOptimization = incrementalOptimization;
+			return this;
+		}
+
 		public MyConfig build() {
 			return new MyConfig(this);
 		}
@@ -71,4 +83,14 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 	public boolean enabled() {
 		return this.builder.enabled;
 	}
-}
\ No newline at end of file
+
+	@Override
+	public int optimizerThreads() {
+		return this.builder.optimizerThreads;
+	}
+
+	@Override
+	public boolean incrementalOptimization() {
+		return this.builder.incrementalOptimization;
+	}
+}
@@ -0,0 +1,55 @@
+package io.openems.edge.energy.optimizer;
+
+import static io.jenetics.engine.Limits.byExecutionTime;
+import static io.openems.common.utils.ThreadPoolUtils.shutdownAndAwaitTermination;
+import static io.openems.edge.controller.ess.timeofusetariff.StateMachine.BALANCING;
+import static io.openems.edge.controller.ess.timeofusetariff.StateMachine.CHARGE_GRID;
+import static io.openems.edge.controller.ess.timeofusetariff.StateMachine.DELAY_DISCHARGE;
+import static io.openems.edge.energy.optimizer.InitialPopulationUtils.buildInitialPopulation;
+import static io.openems.edge.energy.optimizer.SimulatorTest.createParams888d20231106;
+import static io.openems.edge.energy.optimizer.Utils.initializeRandomRegistryForProduction;
+import static java.time.Duration.ofSeconds;
+
+import java.util.concurrent.Executors;
+
+/**
+ * This little application measures the number of generations per second the
+ * Optimizer explores - with evaluation in the current thread and in parallel
+ * on all available processors.
+ */
+public class BenchmarkOptimizerApp {
+
+	private static final long EXECUTION_LIMIT_SECONDS = 10;
+
+	/**
+	 * Run the Application.
+	 *
+	 * @param args the args
+	 * @throws Exception on error
+	 */
+	public static void main(String[] args) throws Exception {
+		initializeRandomRegistryForProduction();
+		var params = createParams888d20231106(BALANCING, DELAY_DISCHARGE, CHARGE_GRID);
+
+		// Warm-up
+		run(params, 1);
+
+		run(params, 1);
+		run(params, Runtime.getRuntime().availableProcessors());
+	}
+
+	private static void run(Params params, int threads) {
+		var executor = threads > 1 ? Executors.newFixedThreadPool(threads) : null;
+		try {
+			var generations = Simulator.buildEngine(params, null, executor) //
+					.stream(buildInitialPopulation(params)) //
+					.limit(byExecutionTime(ofSeconds(EXECUTION_LIMIT_SECONDS))) //
+					.count();
+			System.out.println("Threads [" + threads + "] Generations per second ["
+					+ generations / EXECUTION_LIMIT_SECONDS + "]");
+
+		} finally {
+			shutdownAndAwaitTermination(executor, 5);
+		}
+	}
+}
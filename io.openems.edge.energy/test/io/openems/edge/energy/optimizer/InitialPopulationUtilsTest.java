@@ -7,6 +7,7 @@ import static io.openems.edge.energy.TestData.CONSUMPTION_888_20231106;
 import static io.openems.edge.energy.TestData.PRICES_888_20231106;
 import static io.openems.edge.energy.TestData.PRODUCTION_888_20231106;
 import static io.openems.edge.energy.optimizer.InitialPopulationUtils.buildInitialPopulation;
+import static io.openems.edge.energy.optimizer.InitialPopulationUtils.toSchedule;
 import static io.openems.edge.energy.optimizer.SimulatorTest.hourlyToQuarterly;
 import static io.openems.edge.energy.optimizer.Utils.interpolateArray;
 import static io.openems.edge.energy.optimizer.Utils.toEnergy;
@@ -16,6 +17,7 @@ import static org.junit.Assert.assertEquals;
 
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.List;
 
 import org.junit.Test;
 
@@ -85,4 +87,31 @@ public class InitialPopulationUtilsTest {
 		}
 	}
 
+	@Test
+	public void testPreviousPopulation() {
+		var p = Params.create() //
+				.setTime(TIME) //
+				.setProductions(stream(interpolateArray(PRODUCTION_888_20231106)).map(v -> toEnergy(v)).toArray()) //
+				.setConsumptions(stream(interpolateArray(CONSUMPTION_888_20231106)).map(v -> toEnergy(v)).toArray()) //
+				.setPrices(hourlyToQuarterly(interpolateArray(PRICES_888_20231106))) //
+				.setStates(ControlMode.CHARGE_CONSUMPTION.states) //
+				.setExistingSchedule(prepareExistingSchedule(TIME)) //
+				.build();
+
+		// Previous run started one quarter earlier
+		var previous = prepareExistingSchedule(TIME.minusMinutes(15), //
+				CHARGE_GRID, DELAY_DISCHARGE, CHARGE_GRID);
+		var lgt = buildInitialPopulation(p, List.of(previous));
+		assertEquals(6, lgt.size());
+		var gt = lgt.get(5);
+		assertEquals(1 /* DELAY_DISCHARGE */, gt.get(0).get(0).intValue());
+		assertEquals(2 /* CHARGE_GRID */, gt.get(1).get(0).intValue());
+		assertEquals(0 /* BALANCING */, gt.get(2).get(0).intValue()); // default
+
+		var schedule = toSchedule(p, gt);
+		assertEquals(DELAY_DISCHARGE, schedule.get(TIME));
+		assertEquals(CHARGE_GRID, schedule.get(TIME.plusMinutes(15)));
+		assertEquals(BALANCING, schedule.get(TIME.plusMinutes(30)));
+	}
+
 }
@@ -21,12 +21,16 @@ import java.util.Random;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
 
 import org.junit.Before;
 import org.junit.Test;
 
 import com.google.common.collect.ImmutableSortedMap;
 
+import io.jenetics.Genotype;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.IntegerGene;
 import io.jenetics.util.RandomRegistry;
 import io.openems.edge.controller.ess.timeofusetariff.ControlMode;
 import io.openems.edge.controller.ess.timeofusetariff.StateMachine;
@@ -166,6 +170,20 @@ public class SimulatorTest {
 		assertArrayEquals(existingSchedule, Arrays.copyOfRange(s, 0, existingSchedule.length));
 	}
 
+	@Test
+	public void testCostKernel() {
+		var p = createParams888d20231106(BALANCING, DELAY_DISCHARGE, CHARGE_GRID);
+		var kernel = new CostKernel(p);
+		var gtf = Genotype.of(IntegerChromosome.of(IntegerGene.of(0, p.states().length)), p.optimizePeriods().size());
+		for (var i = 0; i < 100; i++) {
+			var gt = gtf.newInstance();
+			var schedule = IntStream.range(0, p.optimizePeriods().size()) //
+					.mapToObj(period -> p.states()[gt.get(period).get(0).intValue()]) //
+					.toArray(StateMachine[]::new);
+			assertEquals(Simulator.calculateCost(p, schedule), kernel.calculateCost(gt), 0.);
+		}
+	}
+
 	/**
 	 * Creates dummy {@link Params}.
 	 * 
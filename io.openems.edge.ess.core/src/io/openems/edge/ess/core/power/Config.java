@@ -23,6 +23,15 @@ import io.openems.edge.ess.power.api.SolverStrategy;
 	@AttributeDefinition(name = "Debug Mode", description = "Activates the debug mode")
 	boolean debugMode() default EssPower.DEFAULT_DEBUG_MODE;
 
+	@AttributeDefinition(name = "Incremental Solver", description = "Reuses the results of problems that did not change since the previous Cycle")
+	boolean incrementalSolver() default false;
+
+	@AttributeDefinition(name = "Parallel Strategies", description = "Evaluates the solving strategies concurrently and uses the first successful one in order within the deadline")
+	boolean parallelStrategies() default false;
+
+	@AttributeDefinition(name = "Solve Deadline [ms]", description = "Deadline for concurrently evaluated strategies; afterwards the solver falls back to 'All Constraints'", min = "0")
+	int solveDeadline() default EssPower.DEFAULT_SOLVE_DEADLINE;
+
 	@AttributeDefinition(name = "Enable PID Filter", description = "Enables the PID Filter with the settings for P, I and D below")
 	boolean enablePid() default true;
 
@@ -21,6 +21,7 @@ public interface EssPower extends OpenemsComponent, EventHandler, Power {
 	public static final boolean DEFAULT_SYMMETRIC_MODE = true;
 	public static final boolean DEFAULT_DEBUG_MODE = false;
 	public static final SolverStrategy DEFAULT_SOLVER_STRATEGY = SolverStrategy.OPTIMIZE_BY_MOVING_TOWARDS_TARGET;
+	public static final int DEFAULT_SOLVE_DEADLINE = 300; // [ms]
 
 	public enum ChannelId implements io.openems.edge.common.channel.ChannelId {
 		/**
@@ -46,6 +47,86 @@ public interface EssPower extends OpenemsComponent, EventHandler, Power {
 		 * </ul>
 		 */
 		SOLVE_STRATEGY(Doc.of(SolverStrategy.values())),
+		/**
+		 * Number of linear problems per Cycle that were taken from the cache of the
+		 * incremental solver.
+		 *
+		 * <ul>
+		 * <li>Interface: PowerComponent
+		 * <li>Type: Integer
+		 * <li>Range: positive
+		 * </ul>
+		 */
+		SOLVER_CACHE_HITS(Doc.of(OpenemsType.INTEGER)),
+		/**
+		 * Number of linear problems per Cycle that had to be solved from scratch by
+		 * the incremental solver.
+		 *
+		 * <ul>
+		 * <li>Interface: PowerComponent
+		 * <li>Type: Integer
+		 * <li>Range: positive
+		 * </ul>
+		 */
+		SOLVER_CACHE_MISSES(Doc.of(OpenemsType.INTEGER)),
+		/**
+		 * The duration of the last evaluation of the strategy 'Optimize By Moving Towards Target'.
+		 *
+		 * <ul>
+		 * <li>Interface: PowerComponent
+		 * <li>Type: Integer
+		 * <li>Unit: milliseconds
+		 * <li>Range: positive
+		 * </ul>
+		 */
+		STRATEGY_DURATION_MOVING_TOWARDS_TARGET(Doc.of(OpenemsType.INTEGER) //
+				.unit(Unit.MILLISECONDS)),
+		/**
+		 * The duration of the last evaluation of the strategy 'Optimize By Keeping Target Direction And Maximizing In Order'.
+		 *
+		 * <ul>
+		 * <li>Interface: PowerComponent
+		 * <li>Type: Integer
+		 * <li>Unit: milliseconds
+		 * <li>Range: positive
+		 * </ul>
+		 */
+		STRATEGY_DURATION_MAXIMIZING_IN_ORDER(Doc.of(OpenemsType.INTEGER) //
+				.unit(Unit.MILLISECONDS)),
+		/**
+		 * The duration of the last evaluation of the strategy 'Optimize By Keeping All Inverters Equal'.
+		 *
+		 * <ul>
+		 * <li>Interface: PowerComponent
+		 * <li>Type: Integer
+		 * <li>Unit: milliseconds
+		 * <li>Range: positive
+		 * </ul>
+		 */
+		STRATEGY_DURATION_KEEPING_ALL_EQUAL(Doc.of(OpenemsType.INTEGER) //
+				.unit(Unit.MILLISECONDS)),
+		/**
+		 * The duration of the last evaluation of the strategy 'Optimize By Keeping All Inverters Nearly Equal'.
+		 *
+		 * <ul>
+		 * <li>Interface: PowerComponent
+		 * <li>Type: Integer
+		 * <li>Unit: milliseconds
+		 * <li>Range: positive
+		 * </ul>
+		 */
+		STRATEGY_DURATION_KEEPING_ALL_NEAR_EQUAL(Doc.of(OpenemsType.INTEGER) //
+				.unit(Unit.MILLISECONDS)),
+		/**
+		 * Strategies did not finish within the deadline in parallel mode.
+		 *
+		 * <ul>
+		 * <li>Interface: PowerComponent
+		 * <li>Type: Boolean
+		 * </ul>
+		 */
+		SOLVE_DEADLINE_EXCEEDED(Doc.of(Level.INFO) //
+				.text("Solving strategies did not finish within the deadline")),
 		/**
 		 * Whether the Power problem could be solved.
 		 *
@@ -134,6 +215,94 @@ public interface EssPower extends OpenemsComponent, EventHandler, Power {
 		this.getSolveStrategyChannel().setNextValue(value);
 	}
 
+	/**
+	 * Gets the Channel for {@link ChannelId#SOLVER_CACHE_HITS}.
+	 *
+	 * @return the Channel
+	 */
+	public default IntegerReadChannel getSolverCacheHitsChannel() {
+		return this.channel(ChannelId.SOLVER_CACHE_HITS);
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#SOLVER_CACHE_HITS}
+	 * Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setSolverCacheHits(Integer value) {
+		this.getSolverCacheHitsChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#SOLVER_CACHE_MISSES}.
+	 *
+	 * @return the Channel
+	 */
+	public default IntegerReadChannel getSolverCacheMissesChannel() {
+		return this.channel(ChannelId.SOLVER_CACHE_MISSES);
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#SOLVER_CACHE_MISSES} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setSolverCacheMisses(Integer value) {
+		this.getSolverCacheMissesChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#SOLVE_DEADLINE_EXCEEDED}.
+	 *
+	 * @return the Channel
+	 */
+	public default StateChannel getSolveDeadlineExceededChannel() {
+		return this.channel(ChannelId.SOLVE_DEADLINE_EXCEEDED);
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#SOLVE_DEADLINE_EXCEEDED} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setSolveDeadlineExceeded(boolean value) {
+		this.getSolveDeadlineExceededChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for the duration of the given {@link SolverStrategy}.
+	 *
+	 * @param strategy the {@link SolverStrategy}
+	 * @return the Channel; null if durations are not recorded for this strategy
+	 */
+	public default IntegerReadChannel getStrategyDurationChannel(SolverStrategy strategy) {
+		return switch (strategy) {
+		case OPTIMIZE_BY_MOVING_TOWARDS_TARGET -> this.channel(ChannelId.STRATEGY_DURATION_MOVING_TOWARDS_TARGET);
+		case OPTIMIZE_BY_KEEPING_TARGET_DIRECTION_AND_MAXIMIZING_IN_ORDER ->
+			this.channel(ChannelId.STRATEGY_DURATION_MAXIMIZING_IN_ORDER);
+		case OPTIMIZE_BY_KEEPING_ALL_EQUAL -> this.channel(ChannelId.STRATEGY_DURATION_KEEPING_ALL_EQUAL);
+		case OPTIMIZE_BY_KEEPING_ALL_NEAR_EQUAL -> this.channel(ChannelId.STRATEGY_DURATION_KEEPING_ALL_NEAR_EQUAL);
+		case UNDEFINED, NONE, ALL_CONSTRAINTS -> null;
+		};
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on the duration Channel of the given
+	 * {@link SolverStrategy}.
+	 *
+	 * @param strategy the {@link SolverStrategy}
+	 * @param value    the next value
+	 */
+	public default void _setStrategyDuration(SolverStrategy strategy, Integer value) {
+		var channel = this.getStrategyDurationChannel(strategy);
+		if (channel != null) {
+			channel.setNextValue(value);
+		}
+	}
+
 	/**
 	 * Gets the Channel for {@link ChannelId#STATIC_CONSTRAINTS_FAILED}.
 	 *
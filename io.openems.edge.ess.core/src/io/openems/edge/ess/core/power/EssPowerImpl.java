@@ -32,6 +32,7 @@ import io.openems.edge.ess.api.ManagedSymmetricEss;
 import io.openems.edge.ess.core.power.data.ConstraintUtil;
 import io.openems.edge.ess.core.power.data.LogUtil;
 import io.openems.edge.ess.core.power.solver.CalculatePowerExtrema;
+import io.openems.edge.ess.core.power.solver.SolverCache;
 import io.openems.edge.ess.power.api.Coefficient;
 import io.openems.edge.ess.power.api.Constraint;
 import io.openems.edge.ess.power.api.Phase;
@@ -62,6 +63,9 @@ public class EssPowerImpl extends AbstractOpenemsComponent implements EssPower,
 	private final Data data;
 	private final Solver solver;
 
+	/** Results of previously solved problems; disabled by default. */
+	private final SolverCache solverCache = new SolverCache();
+
 	private boolean debugMode = EssPowerImpl.DEFAULT_DEBUG_MODE;
 
 	private Config config;
@@ -75,12 +79,14 @@ public class EssPowerImpl extends AbstractOpenemsComponent implements EssPower,
 		this.data = new Data();
 		this.data.onStaticConstraintsFailed(this::_setStaticConstraintsFailed);
 
-		this.solver = new Solver(this.data);
+		this.solver = new Solver(this.data, this.solverCache);
 		this.solver.onSolved((isSolved, duration, strategy) -> {
 			this._setNotSolved(!isSolved);
 			this._setSolveDuration(duration);
 			this._setSolveStrategy(strategy);
 		});
+		this.solver.onStrategyDuration(this::_setStrategyDuration);
+		this.solver.onDeadlineExceeded(this::_setSolveDeadlineExceeded);
 	}
 
 	@Activate
@@ -107,12 +113,19 @@ public class EssPowerImpl extends AbstractOpenemsComponent implements EssPower,
 	@Deactivate
 	protected void deactivate() {
 		super.deactivate();
+		this.solverCache.setEnabled(false);
+		this.solver.setParallelMode(false, EssPower.DEFAULT_SOLVE_DEADLINE);
 	}
 
 	private void updateConfig(Config config) {
 		this.data.setSymmetricMode(config.symmetricMode());
 		this.debugMode = config.debugMode();
 		this.solver.setDebugMode(config.debugMode());
+		this.solverCache.setEnabled(config.incrementalSolver());
+		this.solver.setParallelMode(config.parallelStrategies(), config.solveDeadline());
+		if (!config.parallelStrategies()) {
+			this._setSolveDeadlineExceeded(false);
+		}
 		this.config = config;
 
 		if (config.enablePid()) {
@@ -202,7 +215,8 @@ public class EssPowerImpl extends AbstractOpenemsComponent implements EssPower,
 			this.logError(this.log, "Unable to get Constraints " + e.getMessage());
 			return 0;
 		}
-		var power = CalculatePowerExtrema.from(this.data.getCoefficients(), allConstraints, ess.id(), phase, pwr, goal);
+		var power = CalculatePowerExtrema.from(this.solverCache, this.data.getCoefficients(), allConstraints, ess.id(),
+				phase, pwr, goal);
 		if (power <= Integer.MIN_VALUE || power >= Integer.MAX_VALUE) {
 			this.logError(this.log, goal.name() + " Power for [" + ess.toString() + "," + phase.toString() + ","
 					+ pwr.toString() + "=" + power + "] is out of bounds. Returning '0'");
@@ -222,10 +236,22 @@ public class EssPowerImpl extends AbstractOpenemsComponent implements EssPower,
 			break;
 		case EdgeEventConstants.TOPIC_CYCLE_AFTER_WRITE:
 			this.data.initializeCycle();
+			this.nextSolverCacheCycle();
 			break;
 		}
 	}
 
+	private void nextSolverCacheCycle() {
+		if (this.config.incrementalSolver()) {
+			this._setSolverCacheHits(this.solverCache.getHits());
+			this._setSolverCacheMisses(this.solverCache.getMisses());
+		} else {
+			this._setSolverCacheHits(null);
+			this._setSolverCacheMisses(null);
+		}
+		this.solverCache.nextCycle();
+	}
+
 	/**
 	 * Gets the Ess component with the given ID.
 	 *
@@ -1,11 +1,24 @@
 package io.openems.edge.ess.core.power;
 
+import static io.openems.common.utils.ThreadPoolUtils.shutdownAndAwaitTermination;
+
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 import org.apache.commons.math3.optim.PointValuePair;
 import org.apache.commons.math3.optim.linear.NoFeasibleSolutionException;
@@ -13,6 +26,8 @@ import org.apache.commons.math3.optim.linear.UnboundedSolutionException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.function.ThrowingFunction;
@@ -30,6 +45,7 @@ import io.openems.edge.ess.core.power.optimizers.MoveTowardsTarget;
 import io.openems.edge.ess.core.power.optimizers.Optimizers;
 import io.openems.edge.ess.core.power.solver.ConstraintSolver;
 import io.openems.edge.ess.core.power.solver.PowerTuple;
+import io.openems.edge.ess.core.power.solver.SolverCache;
 import io.openems.edge.ess.power.api.Constraint;
 import io.openems.edge.ess.power.api.Inverter;
 import io.openems.edge.ess.power.api.OnSolved;
@@ -41,18 +57,37 @@ import io.openems.edge.ess.power.api.SolverStrategy;
 
 public class Solver {
 
+	/** Max number of strategies that are tried in one Cycle. */
+	private static final int MAX_PARALLEL_STRATEGIES = 4;
+
 	private final Logger log = LoggerFactory.getLogger(Solver.class);
 	private final Data data;
+	private final SolverCache cache;
 	private final Optimizers optimizers = new Optimizers();
 
 	private boolean debugMode = EssPower.DEFAULT_DEBUG_MODE;
 	private OnSolved onSolvedCallback = (isSolved, duration, strategy) -> {
 	};
+	private BiConsumer<SolverStrategy, Integer> onStrategyDurationCallback = (strategy, duration) -> {
+	};
+	private Consumer<Boolean> onDeadlineExceededCallback = deadlineExceeded -> {
+	};
+
+	private volatile ExecutorService strategyExecutor = null;
+	private volatile int solveDeadline = EssPower.DEFAULT_SOLVE_DEADLINE;
+
+	/**
+	 * Strategies that are still running in parallel mode. The SimplexSolver can
+	 * not be interrupted, so a strategy that missed the deadline may still be busy
+	 * in the next Cycle; it is skipped until it finished.
+	 */
+	private final Set<SolverStrategy> busyStrategies = ConcurrentHashMap.newKeySet();
 
 	private final ThrowingFunction<List<Inverter>, PointValuePair, Exception> solveWithDisabledInverters;
 
-	public Solver(Data data) {
+	public Solver(Data data, SolverCache cache) {
 		this.data = data;
+		this.cache = cache;
 
 		/**
 		 * Solves the problem, while setting all DisabledInverters to EQUALS zero.
@@ -65,7 +100,7 @@ public class Solver {
 		 */
 		this.solveWithDisabledInverters = disabledInverters -> {
 			var constraints = this.data.getConstraintsWithoutDisabledInverters(disabledInverters);
-			return ConstraintSolver.solve(this.data.getCoefficients(), constraints);
+			return ConstraintSolver.solve(this.cache, this.data.getCoefficients(), constraints);
 		};
 	}
 
@@ -78,6 +113,47 @@ public class Solver {
 		this.onSolvedCallback = onSolvedCallback;
 	}
 
+	/**
+	 * Adds a callback for the duration of each applied {@link SolverStrategy} in
+	 * [ms].
+	 *
+	 * @param onStrategyDurationCallback the Callback
+	 */
+	public void onStrategyDuration(BiConsumer<SolverStrategy, Integer> onStrategyDurationCallback) {
+		this.onStrategyDurationCallback = onStrategyDurationCallback;
+	}
+
+	/**
+	 * Adds a callback that announces whether strategies missed the deadline in
+	 * parallel mode.
+	 *
+	 * @param onDeadlineExceededCallback the Callback
+	 */
+	public void onDeadlineExceeded(Consumer<Boolean> onDeadlineExceededCallback) {
+		this.onDeadlineExceededCallback = onDeadlineExceededCallback;
+	}
+
+	/**
+	 * Enables or disables concurrent evaluation of the solving strategies.
+	 *
+	 * @param parallel      true to evaluate strategies concurrently
+	 * @param solveDeadline the deadline for concurrent strategies in [ms]
+	 */
+	public synchronized void setParallelMode(boolean parallel, int solveDeadline) {
+		this.solveDeadline = Math.max(solveDeadline, 0);
+		if (parallel == (this.strategyExecutor != null)) {
+			return;
+		}
+		var oldExecutor = this.strategyExecutor;
+		if (parallel) {
+			this.strategyExecutor = Executors.newFixedThreadPool(MAX_PARALLEL_STRATEGIES,
+					new ThreadFactoryBuilder().setNameFormat("EssPower:Strategy-%d").build());
+		} else {
+			this.strategyExecutor = null;
+		}
+		shutdownAndAwaitTermination(oldExecutor, 5);
+	}
+
 	/**
 	 * Tests whether the Problem is solvable under the current Constraints.
 	 *
@@ -85,7 +161,7 @@ public class Solver {
 	 */
 	public void isSolvableOrError() throws OpenemsException {
 		try {
-			ConstraintSolver.solve(this.data.getCoefficients(), this.data.getConstraintsForAllInverters());
+			ConstraintSolver.solve(this.cache, this.data.getCoefficients(), this.data.getConstraintsForAllInverters());
 		} catch (NoFeasibleSolutionException e) {
 			throw new PowerException(Type.NO_FEASIBLE_SOLUTION);
 		} catch (UnboundedSolutionException e) {
@@ -100,7 +176,7 @@ public class Solver {
 	 */
 	public boolean isSolvable() {
 		try {
-			ConstraintSolver.solve(this.data.getCoefficients(), this.data.getConstraintsForAllInverters());
+			ConstraintSolver.solve(this.cache, this.data.getCoefficients(), this.data.getConstraintsForAllInverters());
 			return true;
 		} catch (NoFeasibleSolutionException | UnboundedSolutionException | OpenemsException e) {
 			return false;
@@ -136,8 +212,8 @@ public class Solver {
 			allConstraints = this.data.getConstraintsForAllInverters();
 
 			// Add Strict constraints if required
-			AddConstraintsForNotStrictlyDefinedCoefficients.apply(allInverters, this.data.getCoefficients(),
-					allConstraints);
+			AddConstraintsForNotStrictlyDefinedCoefficients.apply(this.cache, allInverters,
+					this.data.getCoefficients(), allConstraints);
 
 			// Print log with currently active EQUALS != 0 Constraints
 			if (this.debugMode) {
@@ -151,6 +227,7 @@ public class Solver {
 
 			// Evaluates whether it is a CHARGE or DISCHARGE problem.
 			targetDirection = TargetDirection.from(//
+					this.cache, //
 					this.data.getInverters(), //
 					this.data.getCoefficients(), //
 					this.data.getConstraintsForAllInverters() //
@@ -229,6 +306,10 @@ public class Solver {
 	 * Tries different solving strategies in order. 'ALL_CONSTRAINTS' is always
 	 * tried last if everything else failed. Returns as soon as a result is found.
 	 *
+	 * <p>
+	 * In parallel mode all strategies are started at once; the result of the
+	 * first strategy in order that finds a solution within the deadline is used.
+	 *
 	 * @param targetDirection the target direction
 	 * @param allInverters    a list of all inverters
 	 * @param targetInverters a list of target inverters
@@ -240,42 +321,158 @@ public class Solver {
 	private SolveSolution tryStrategies(TargetDirection targetDirection, List<Inverter> allInverters,
 			List<Inverter> targetInverters, List<Constraint> allConstraints, SolverStrategy... strategies)
 			throws OpenemsException {
-		PointValuePair solution = null;
+		var executor = this.strategyExecutor;
+		if (executor != null && strategies.length > 1) {
+			var solution = this.tryStrategiesInParallel(executor, targetDirection, allInverters, targetInverters,
+					allConstraints, strategies);
+			if (solution != null) {
+				return solution;
+			}
+
+		} else {
+			for (SolverStrategy strategy : strategies) {
+				var solution = this.applyStrategy(strategy, targetDirection, allInverters, targetInverters,
+						allConstraints);
+				if (solution != null) {
+					return new SolveSolution(strategy, solution);
+				}
+			}
+		}
+
+		// no strategy was successful -> try allConstraints
+		var solution = ConstraintSolver.solve(this.cache, this.data.getCoefficients(), allConstraints);
+		if (solution != null) {
+			return new SolveSolution(SolverStrategy.ALL_CONSTRAINTS, solution);
+		}
+		return new SolveSolution(SolverStrategy.NONE, null);
+	}
+
+	/**
+	 * Evaluates the strategies concurrently with a deadline.
+	 *
+	 * @param executor        the {@link ExecutorService}
+	 * @param targetDirection the target direction
+	 * @param allInverters    a list of all inverters
+	 * @param targetInverters a list of target inverters
+	 * @param allConstraints  a list of all Constraints
+	 * @param strategies      an array of SolverStrategies in order of priority
+	 * @return a Solution; null if no strategy was successful within the deadline
+	 * @throws OpenemsException on error
+	 */
+	private SolveSolution tryStrategiesInParallel(ExecutorService executor, TargetDirection targetDirection,
+			List<Inverter> allInverters, List<Inverter> targetInverters, List<Constraint> allConstraints,
+			SolverStrategy... strategies) throws OpenemsException {
+		final var deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(this.solveDeadline);
+		var futures = new ArrayList<Future<PointValuePair>>(strategies.length);
 		for (SolverStrategy strategy : strategies) {
+			if (this.busyStrategies.contains(strategy)) {
+				// Still busy from a previous Cycle
+				futures.add(null);
+				continue;
+			}
+			try {
+				futures.add(executor.submit(() -> {
+					this.busyStrategies.add(strategy);
+					try {
+						return this.applyStrategy(strategy, targetDirection, allInverters, targetInverters,
+								allConstraints);
+					} finally {
+						this.busyStrategies.remove(strategy);
+					}
+				}));
+			} catch (RejectedExecutionException e) {
+				// Executor is shutting down
+				futures.add(null);
+			}
+		}
+
+		var deadlineExceeded = false;
+		try {
+			for (var i = 0; i < strategies.length; i++) {
+				var future = futures.get(i);
+				if (future == null) {
+					deadlineExceeded = true;
+					continue;
+				}
+				var remaining = deadline - System.nanoTime();
+				if (remaining <= 0 && !future.isDone()) {
+					deadlineExceeded = true;
+					continue;
+				}
+				PointValuePair solution;
+				try {
+					solution = future.get(Math.max(remaining, 0), TimeUnit.NANOSECONDS);
+				} catch (TimeoutException e) {
+					deadlineExceeded = true;
+					continue;
+				} catch (ExecutionException e) {
+					// Same behaviour as in sequential mode
+					if (e.getCause() instanceof RuntimeException re) {
+						throw re;
+					}
+					if (e.getCause() instanceof OpenemsException oe) {
+						throw oe;
+					}
+					throw new OpenemsException(e.getMessage());
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new OpenemsException("Interrupted while solving: " + e.getMessage());
+				}
+				if (solution != null) {
+					return new SolveSolution(strategies[i], solution);
+				}
+			}
+			return null;
+
+		} finally {
+			// Does not stop a running SimplexSolver; only tasks that did not start yet
+			futures.stream() //
+					.filter(Objects::nonNull) //
+					.forEach(f -> f.cancel(true));
+			this.onDeadlineExceededCallback.accept(deadlineExceeded);
+		}
+	}
+
+	/**
+	 * Applies one solving strategy and reports its duration.
+	 *
+	 * @param strategy        the {@link SolverStrategy}
+	 * @param targetDirection the target direction
+	 * @param allInverters    a list of all inverters
+	 * @param targetInverters a list of target inverters
+	 * @param allConstraints  a list of all Constraints
+	 * @return a solution; null if the strategy was not successful
+	 * @throws OpenemsException on error
+	 */
+	private PointValuePair applyStrategy(SolverStrategy strategy, TargetDirection targetDirection,
+			List<Inverter> allInverters, List<Inverter> targetInverters, List<Constraint> allConstraints)
+			throws OpenemsException {
+		final var startTime = System.nanoTime();
+		try {
 			switch (strategy) {
 			case UNDEFINED:
 			case NONE:
-				break;
+				return null;
 			case ALL_CONSTRAINTS:
-				solution = ConstraintSolver.solve(this.data.getCoefficients(), allConstraints);
-				break;
+				return ConstraintSolver.solve(this.cache, this.data.getCoefficients(), allConstraints);
 			case OPTIMIZE_BY_MOVING_TOWARDS_TARGET:
-				solution = MoveTowardsTarget.apply(this.data.getCoefficients(), targetDirection, allInverters,
-						targetInverters, allConstraints);
-				break;
+				return MoveTowardsTarget.apply(this.cache, this.data.getCoefficients(), targetDirection,
+						allInverters, targetInverters, allConstraints);
 			case OPTIMIZE_BY_KEEPING_TARGET_DIRECTION_AND_MAXIMIZING_IN_ORDER:
-				solution = KeepTargetDirectionAndMaximizeInOrder.apply(this.data.getCoefficients(), allInverters,
-						targetInverters, allConstraints, targetDirection);
-				break;
+				return KeepTargetDirectionAndMaximizeInOrder.apply(this.cache, this.data.getCoefficients(),
+						allInverters, targetInverters, allConstraints, targetDirection);
 			case OPTIMIZE_BY_KEEPING_ALL_EQUAL:
-				solution = KeepAllEqual.apply(this.data.getCoefficients(), allInverters, allConstraints);
-				break;
+				return KeepAllEqual.apply(this.cache, this.data.getCoefficients(), allInverters, allConstraints);
 			case OPTIMIZE_BY_KEEPING_ALL_NEAR_EQUAL:
-				solution = KeepAllNearEqual.apply(this.data.getCoefficients(), this.data.getEsss(), allInverters,
+				return KeepAllNearEqual.apply(this.data.getCoefficients(), this.data.getEsss(), allInverters,
 						allConstraints, targetDirection);
-				break;
 			}
+			return null;
 
-			if (solution != null) {
-				return new SolveSolution(strategy, solution);
-			}
-		}
-		// no strategy was successful -> try allConstraints
-		solution = ConstraintSolver.solve(this.data.getCoefficients(), allConstraints);
-		if (solution != null) {
-			return new SolveSolution(SolverStrategy.ALL_CONSTRAINTS, solution);
+		} finally {
+			this.onStrategyDurationCallback.accept(strategy,
+					(int) ((System.nanoTime() - startTime) / 1_000_000));
 		}
-		return new SolveSolution(SolverStrategy.NONE, null);
 	}
 
 	private Map<Inverter, PowerTuple> getZeroSolution(List<Inverter> allInverters) {
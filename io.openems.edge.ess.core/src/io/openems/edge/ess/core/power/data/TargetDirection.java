@@ -7,6 +7,7 @@ import org.apache.commons.math3.exception.MathIllegalStateException;
 
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.edge.ess.core.power.solver.ConstraintSolver;
+import io.openems.edge.ess.core.power.solver.SolverCache;
 import io.openems.edge.ess.power.api.Coefficients;
 import io.openems.edge.ess.power.api.Constraint;
 import io.openems.edge.ess.power.api.Inverter;
@@ -31,24 +32,42 @@ public enum TargetDirection {
 	 */
 	public static TargetDirection from(List<Inverter> inverters, Coefficients coefficients,
 			List<Constraint> constraintsForAllInverters) throws OpenemsException {
+		return from(null, inverters, coefficients, constraintsForAllInverters);
+	}
+
+	/**
+	 * Gets the TargetDirection of the Problem, i.e. whether it is a DISCHARGE or
+	 * CHARGE problem.
+	 *
+	 * @param cache                      the {@link SolverCache}; null to always
+	 *                                   solve
+	 * @param inverters                  list of {@link Inverter}s
+	 * @param coefficients               the {@link Coefficients}
+	 * @param constraintsForAllInverters {@link Constraint}s for all
+	 *                                   {@link Inverter}s
+	 * @return the {@link TargetDirection}
+	 * @throws OpenemsException on error
+	 */
+	public static TargetDirection from(SolverCache cache, List<Inverter> inverters, Coefficients coefficients,
+			List<Constraint> constraintsForAllInverters) throws OpenemsException {
 		var constraints = constraintsForAllInverters;
 		var equals0 = createSumOfPConstraint(inverters, coefficients, Relationship.EQUALS, 0);
 		constraints.add(equals0);
 		try {
-			ConstraintSolver.solve(coefficients, constraints);
+			ConstraintSolver.solve(cache, coefficients, constraints);
 			return TargetDirection.KEEP_ZERO;
 		} catch (MathIllegalStateException e) {
 			constraints.remove(equals0);
 			var greaterOrEquals0 = createSumOfPConstraint(inverters, coefficients, Relationship.GREATER_OR_EQUALS, 0);
 			constraints.add(greaterOrEquals0);
 			try {
-				ConstraintSolver.solve(coefficients, constraints);
+				ConstraintSolver.solve(cache, coefficients, constraints);
 				return TargetDirection.DISCHARGE;
 			} catch (MathIllegalStateException e2) {
 				constraints.remove(greaterOrEquals0);
 				var lessOrEquals0 = createSumOfPConstraint(inverters, coefficients, Relationship.LESS_OR_EQUALS, 0);
 				constraints.add(lessOrEquals0);
-				ConstraintSolver.solve(coefficients, constraints);
+				ConstraintSolver.solve(cache, coefficients, constraints);
 				return TargetDirection.CHARGE;
 			}
 		}
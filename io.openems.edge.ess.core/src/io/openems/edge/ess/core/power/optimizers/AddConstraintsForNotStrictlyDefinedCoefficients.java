@@ -14,6 +14,7 @@ import org.apache.commons.math3.optim.nonlinear.scalar.GoalType;
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.edge.ess.core.power.data.LinearSolverUtil;
 import io.openems.edge.ess.core.power.solver.ConstraintSolver;
+import io.openems.edge.ess.core.power.solver.SolverCache;
 import io.openems.edge.ess.power.api.Coefficients;
 import io.openems.edge.ess.power.api.Constraint;
 import io.openems.edge.ess.power.api.Inverter;
@@ -27,13 +28,14 @@ public class AddConstraintsForNotStrictlyDefinedCoefficients {
 	 * Adds Constraints for not strictly defined Coefficients, e.g. if only a P <= X
 	 * is defined, but no P = X.
 	 *
+	 * @param cache          the {@link SolverCache}; null to always solve
 	 * @param allInverters   a list of all {@link Inverter}s
 	 * @param coefficients   the {@link Coefficients}
 	 * @param allConstraints a list of all {@link Constraint}s
 	 * @throws OpenemsException on error
 	 */
-	public static void apply(List<Inverter> allInverters, Coefficients coefficients, List<Constraint> allConstraints)
-			throws OpenemsException {
+	public static void apply(SolverCache cache, List<Inverter> allInverters, Coefficients coefficients,
+			List<Constraint> allConstraints) throws OpenemsException {
 		var constraints = new LinearConstraintSet(
 				LinearSolverUtil.convertToLinearConstraints(coefficients, allConstraints));
 
@@ -130,7 +132,7 @@ public class AddConstraintsForNotStrictlyDefinedCoefficients {
 			allConstraints.addAll(newConstraints);
 			for (Constraint constraint : newConstraints) {
 				try {
-					ConstraintSolver.solve(coefficients, allConstraints);
+					ConstraintSolver.solve(cache, coefficients, allConstraints);
 					break;
 				} catch (NoFeasibleSolutionException | UnboundedSolutionException e) {
 					// Unable to add Constraint
@@ -9,6 +9,7 @@ import org.apache.commons.math3.optim.linear.UnboundedSolutionException;
 
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.edge.ess.core.power.solver.ConstraintSolver;
+import io.openems.edge.ess.core.power.solver.SolverCache;
 import io.openems.edge.ess.power.api.Coefficients;
 import io.openems.edge.ess.power.api.Constraint;
 import io.openems.edge.ess.power.api.Inverter;
@@ -21,12 +22,13 @@ public class KeepAllEqual {
 	/**
 	 * Tries to distribute power equally between inverters.
 	 *
+	 * @param cache          the {@link SolverCache}; null to always solve
 	 * @param coefficients   the {@link Coefficients}
 	 * @param allInverters   all {@link Inverter}s
 	 * @param allConstraints all active {@link Constraint}s
 	 * @return a solution or null
 	 */
-	public static PointValuePair apply(Coefficients coefficients, List<Inverter> allInverters,
+	public static PointValuePair apply(SolverCache cache, Coefficients coefficients, List<Inverter> allInverters,
 			List<Constraint> allConstraints) {
 		try {
 			List<Constraint> constraints = new ArrayList<>(allConstraints);
@@ -50,7 +52,7 @@ public class KeepAllEqual {
 										-1) },
 						Relationship.EQUALS, 0));
 			}
-			return ConstraintSolver.solve(coefficients, constraints);
+			return ConstraintSolver.solve(cache, coefficients, constraints);
 
 		} catch (OpenemsException | NoFeasibleSolutionException | UnboundedSolutionException e) {
 			return null;
@@ -2,11 +2,8 @@ package io.openems.edge.ess.core.power.solver;
 
 import java.util.List;
 
-import org.apache.commons.math3.optim.linear.LinearConstraintSet;
 import org.apache.commons.math3.optim.linear.LinearObjectiveFunction;
 import org.apache.commons.math3.optim.linear.NoFeasibleSolutionException;
-import org.apache.commons.math3.optim.linear.PivotSelectionRule;
-import org.apache.commons.math3.optim.linear.SimplexSolver;
 import org.apache.commons.math3.optim.linear.UnboundedSolutionException;
 import org.apache.commons.math3.optim.nonlinear.scalar.GoalType;
 import org.slf4j.Logger;
@@ -28,6 +25,7 @@ public class CalculatePowerExtrema {
 	 * Calculates the extrema under the current constraints for the given
 	 * parameters.
 	 *
+	 * @param cache          the {@link SolverCache}; null to always solve
 	 * @param coefficients   the {@link Coefficients}
 	 * @param allConstraints all active {@link Constraint}s
 	 * @param essId          the ID of the {@link ManagedSymmetricEss}
@@ -36,8 +34,8 @@ public class CalculatePowerExtrema {
 	 * @param goal           the {@link GoalType}
 	 * @return the extrema value; or 0 on error
 	 */
-	public static double from(Coefficients coefficients, List<Constraint> allConstraints, String essId, Phase phase,
-			Pwr pwr, GoalType goal) {
+	public static double from(SolverCache cache, Coefficients coefficients, List<Constraint> allConstraints,
+			String essId, Phase phase, Pwr pwr, GoalType goal) {
 		// prepare objective function
 		int index;
 		try {
@@ -50,16 +48,10 @@ public class CalculatePowerExtrema {
 		cos[index] = 1;
 		var objectiveFunction = new LinearObjectiveFunction(cos, 0);
 
-		var constraints = new LinearConstraintSet(
-				LinearSolverUtil.convertToLinearConstraints(coefficients, allConstraints));
+		var constraints = LinearSolverUtil.convertToLinearConstraints(coefficients, allConstraints);
 
-		var solver = new SimplexSolver();
 		try {
-			var solution = solver.optimize(//
-					objectiveFunction, //
-					constraints, //
-					goal, //
-					PivotSelectionRule.BLAND);
+			var solution = LinearConstraintsSolver.optimize(cache, objectiveFunction, constraints, goal);
 			return solution.getPoint()[index];
 
 		} catch (UnboundedSolutionException e) {
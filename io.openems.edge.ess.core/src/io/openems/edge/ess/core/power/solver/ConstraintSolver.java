@@ -23,8 +23,23 @@ public class ConstraintSolver {
 	 */
 	public static PointValuePair solve(Coefficients coefficients, List<Constraint> constraints)
 			throws NoFeasibleSolutionException, UnboundedSolutionException {
+		return solve(null, coefficients, constraints);
+	}
+
+	/**
+	 * Solves the problem with the given list of Constraints.
+	 *
+	 * @param cache        the {@link SolverCache}; null to always solve
+	 * @param coefficients the {@link Coefficients}
+	 * @param constraints  a list of Constraints
+	 * @return a solution
+	 * @throws NoFeasibleSolutionException if not solvable
+	 * @throws UnboundedSolutionException  if not solvable
+	 */
+	public static PointValuePair solve(SolverCache cache, Coefficients coefficients, List<Constraint> constraints)
+			throws NoFeasibleSolutionException, UnboundedSolutionException {
 		var linearConstraints = LinearSolverUtil.convertToLinearConstraints(coefficients, constraints);
-		return LinearConstraintsSolver.solve(coefficients, linearConstraints);
+		return LinearConstraintsSolver.solve(cache, coefficients, linearConstraints);
 	}
 
 }
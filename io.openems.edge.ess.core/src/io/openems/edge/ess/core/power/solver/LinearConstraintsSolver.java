@@ -6,6 +6,7 @@ import org.apache.commons.math3.exception.MathIllegalStateException;
 import org.apache.commons.math3.optim.PointValuePair;
 import org.apache.commons.math3.optim.linear.LinearConstraint;
 import org.apache.commons.math3.optim.linear.LinearConstraintSet;
+import org.apache.commons.math3.optim.linear.LinearObjectiveFunction;
 import org.apache.commons.math3.optim.linear.PivotSelectionRule;
 import org.apache.commons.math3.optim.linear.SimplexSolver;
 import org.apache.commons.math3.optim.nonlinear.scalar.GoalType;
@@ -25,13 +26,53 @@ public class LinearConstraintsSolver {
 	 */
 	public static PointValuePair solve(Coefficients coefficients, List<LinearConstraint> constraints)
 			throws MathIllegalStateException {
+		return solve(null, coefficients, constraints);
+	}
+
+	/**
+	 * Solves the problem with the given list of LinearConstraints.
+	 *
+	 * @param cache        the {@link SolverCache}; null to always solve
+	 * @param coefficients the {@link Coefficients}
+	 * @param constraints  a list of LinearConstraints
+	 * @return a solution as {@link PointValuePair}
+	 * @throws MathIllegalStateException if not solvable
+	 */
+	public static PointValuePair solve(SolverCache cache, Coefficients coefficients,
+			List<LinearConstraint> constraints) throws MathIllegalStateException {
 		var objectiveFunction = LinearSolverUtil.getDefaultObjectiveFunction(coefficients.getNoOfCoefficients());
+		return optimize(cache, objectiveFunction, constraints, GoalType.MINIMIZE);
+	}
+
+	/**
+	 * Optimizes the given objective function under the given list of
+	 * LinearConstraints.
+	 *
+	 * <p>
+	 * Uses the {@link SolverCache} if given and enabled.
+	 *
+	 * @param cache             the {@link SolverCache}; null to always solve
+	 * @param objectiveFunction the {@link LinearObjectiveFunction}
+	 * @param constraints       a list of LinearConstraints
+	 * @param goal              the {@link GoalType}
+	 * @return a solution as {@link PointValuePair}
+	 * @throws MathIllegalStateException if not solvable
+	 */
+	public static PointValuePair optimize(SolverCache cache, LinearObjectiveFunction objectiveFunction,
+			List<LinearConstraint> constraints, GoalType goal) throws MathIllegalStateException {
+		if (cache == null) {
+			return simplex(objectiveFunction, constraints, goal);
+		}
+		return cache.solve(objectiveFunction, constraints, goal, () -> simplex(objectiveFunction, constraints, goal));
+	}
 
+	private static PointValuePair simplex(LinearObjectiveFunction objectiveFunction,
+			List<LinearConstraint> constraints, GoalType goal) throws MathIllegalStateException {
 		var solver = new SimplexSolver();
 		return solver.optimize(//
 				objectiveFunction, //
 				new LinearConstraintSet(constraints), //
-				GoalType.MINIMIZE, //
+				goal, //
 				PivotSelectionRule.BLAND);
 	}
 
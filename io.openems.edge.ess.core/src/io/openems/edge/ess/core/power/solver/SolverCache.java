@@ -0,0 +1,200 @@
+package io.openems.edge.ess.core.power.solver;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.apache.commons.math3.optim.PointValuePair;
+import org.apache.commons.math3.optim.linear.LinearConstraint;
+import org.apache.commons.math3.optim.linear.LinearObjectiveFunction;
+import org.apache.commons.math3.optim.linear.NoFeasibleSolutionException;
+import org.apache.commons.math3.optim.linear.UnboundedSolutionException;
+import org.apache.commons.math3.optim.nonlinear.scalar.GoalType;
+
+/**
+ * Remembers the results of linear problems across Cycles.
+ *
+ * <p>
+ * The {@link org.apache.commons.math3.optim.linear.SimplexSolver} can not be
+ * started from a previous basis. Still most of the problems that are solved in
+ * one Cycle - by the optimizers and for the Min/Max Power of each ESS - are
+ * exactly the same as in the previous Cycle as long as Constraints do not
+ * change. Those results are taken from the cache; problems that changed are
+ * solved from scratch.
+ *
+ * <p>
+ * Entries are kept for the current and the previous Cycle only, so the cache
+ * does not grow with changing Constraints. Results are deterministic, so a
+ * cached result is always the same as the one of a full solve.
+ */
+public class SolverCache {
+
+	/** Max number of entries per Cycle. */
+	protected static final int MAX_ENTRIES = 1_000;
+
+	private static final Object NO_FEASIBLE_SOLUTION = new Object();
+	private static final Object UNBOUNDED_SOLUTION = new Object();
+
+	private static final class Key {
+
+		private final int goal;
+		private final double[] data;
+		private final int hashCode;
+
+		private Key(LinearObjectiveFunction objectiveFunction, List<LinearConstraint> constraints, GoalType goal) {
+			var cos = objectiveFunction.getCoefficients();
+			var noOfCoefficients = cos.getDimension();
+			var data = new double[2 + noOfCoefficients + constraints.size() * (noOfCoefficients + 2)];
+			var i = 0;
+			data[i++] = noOfCoefficients;
+			data[i++] = objectiveFunction.getConstantTerm();
+			for (var j = 0; j < noOfCoefficients; j++) {
+				data[i++] = cos.getEntry(j);
+			}
+			for (var constraint : constraints) {
+				var coefficients = constraint.getCoefficients();
+				for (var j = 0; j < noOfCoefficients; j++) {
+					data[i++] = coefficients.getEntry(j);
+				}
+				data[i++] = constraint.getRelationship().ordinal();
+				data[i++] = constraint.getValue();
+			}
+			this.goal = goal.ordinal();
+			this.data = data;
+			this.hashCode = 31 * this.goal + Arrays.hashCode(data);
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return this == obj //
+					|| obj instanceof Key other //
+							&& this.hashCode == other.hashCode //
+							&& this.goal == other.goal //
+							&& Arrays.equals(this.data, other.data);
+		}
+	}
+
+	private volatile boolean enabled = false;
+	private Map<Key, Object> previous = new HashMap<>();
+	private Map<Key, Object> current = new HashMap<>();
+	private int hits = 0;
+	private int misses = 0;
+
+	/**
+	 * Enables or disables the cache.
+	 *
+	 * @param enabled true to enable
+	 */
+	public synchronized void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+		if (!enabled) {
+			this.previous.clear();
+			this.current.clear();
+		}
+	}
+
+	/**
+	 * Starts a new Cycle: results that were not used in the previous Cycle are
+	 * dropped.
+	 */
+	public synchronized void nextCycle() {
+		this.previous = this.current;
+		this.current = new HashMap<>();
+		this.hits = 0;
+		this.misses = 0;
+	}
+
+	/**
+	 * Gets the number of problems that were taken from the cache since the last
+	 * call of {@link #nextCycle()}.
+	 *
+	 * @return the number of hits
+	 */
+	public synchronized int getHits() {
+		return this.hits;
+	}
+
+	/**
+	 * Gets the number of problems that had to be solved since the last call of
+	 * {@link #nextCycle()}.
+	 *
+	 * @return the number of misses
+	 */
+	public synchronized int getMisses() {
+		return this.misses;
+	}
+
+	/**
+	 * Gets the cached result of the given problem or solves it using the
+	 * 'solver'.
+	 *
+	 * @param objectiveFunction the {@link LinearObjectiveFunction}
+	 * @param constraints       the {@link LinearConstraint}s
+	 * @param goal              the {@link GoalType}
+	 * @param solver            solves the problem if it is not cached
+	 * @return the solution as {@link PointValuePair}
+	 * @throws NoFeasibleSolutionException if not solvable
+	 * @throws UnboundedSolutionException  if not solvable
+	 */
+	public PointValuePair solve(LinearObjectiveFunction objectiveFunction, List<LinearConstraint> constraints,
+			GoalType goal, Supplier<PointValuePair> solver)
+			throws NoFeasibleSolutionException, UnboundedSolutionException {
+		if (!this.enabled) {
+			return solver.get();
+		}
+
+		var key = new Key(objectiveFunction, constraints, goal);
+		var result = this.get(key);
+		if (result == null) {
+			try {
+				result = solver.get();
+			} catch (NoFeasibleSolutionException e) {
+				this.put(key, NO_FEASIBLE_SOLUTION);
+				throw e;
+			} catch (UnboundedSolutionException e) {
+				this.put(key, UNBOUNDED_SOLUTION);
+				throw e;
+			}
+			this.put(key, result);
+			return (PointValuePair) result;
+		}
+
+		if (result == NO_FEASIBLE_SOLUTION) {
+			throw new NoFeasibleSolutionException();
+		}
+		if (result == UNBOUNDED_SOLUTION) {
+			throw new UnboundedSolutionException();
+		}
+		return (PointValuePair) result;
+	}
+
+	private synchronized Object get(Key key) {
+		var result = this.current.get(key);
+		if (result == null) {
+			result = this.previous.get(key);
+			if (result != null && this.current.size() < MAX_ENTRIES) {
+				// Keep for the next Cycle
+				this.current.put(key, result);
+			}
+		}
+		if (result == null) {
+			this.misses++;
+		} else {
+			this.hits++;
+		}
+		return result;
+	}
+
+	private synchronized void put(Key key, Object result) {
+		if (this.current.size() < MAX_ENTRIES) {
+			this.current.put(key, result);
+		}
+	}
+}
@@ -10,6 +10,9 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		private SolverStrategy strategy;
 		private boolean symmetricMode;
 		private boolean debugMode;
+		private boolean incrementalSolver;
+		private boolean parallelStrategies;
+		private int solveDeadline = EssPower.DEFAULT_SOLVE_DEADLINE;
 		private boolean enablePid;
 		private double p;
 		private double i;
@@ -33,6 +36,21 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 			return this;
 		}
 
+		public Builder setIncrementalSolver(boolean incrementalSolver) {
+			this.incrementalSolver = incrementalSolver;
+			return this;
+		}
+
+		public Builder setParallelStrategies(boolean parallelStrategies) {
+			this.parallelStrategies = parallelStrategies;
+			return this;
+		}
+
+		public Builder setSolveDeadline(int solveDeadline) {
+			this.solveDeadline = solveDeadline;
+			return this;
+		}
+
 		public Builder setEnablePid(boolean enablePid) {
 			this.enablePid = enablePid;
 			return this;
@@ -89,6 +107,21 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		return this.builder.debugMode;
 	}
 
+	@Override
+	public boolean incrementalSolver() {
+		return this.builder.incrementalSolver;
+	}
+
+	@Override
+	public boolean parallelStrategies() {
+		return this.builder.parallelStrategies;
+	}
+
+	@Override
+	public int solveDeadline() {
+		return this.builder.solveDeadline;
+	}
+
 	@Override
 	public boolean enablePid() {
 		return this.builder.enablePid;
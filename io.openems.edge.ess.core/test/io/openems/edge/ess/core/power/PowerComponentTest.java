@@ -62,6 +62,39 @@ public class PowerComponentTest {
 		componentTest.next(new TestCase());
 	}
 
+	@Test
+	public void testSymmetricEssParallel() throws Exception {
+		EssPower powerComponent = new EssPowerImpl();
+		var ess0 = new DummyManagedSymmetricEss("ess0") //
+				.setPower(powerComponent) //
+				.withAllowedChargePower(-50000) //
+				.withAllowedDischargePower(50000) //
+				.withMaxApparentPower(12000) //
+				.withSoc(30);
+
+		final var cm = new DummyConfigurationAdmin();
+		cm.getOrCreateEmptyConfiguration(EssPower.SINGLETON_SERVICE_PID);
+
+		final var componentTest = new ComponentTest(powerComponent) //
+				.addReference("cm", cm) //
+				.addReference("addEss", ess0) //
+				.activate(MyConfig.create() //
+						.setStrategy(SolverStrategy.OPTIMIZE_BY_MOVING_TOWARDS_TARGET) //
+						.setSymmetricMode(true) //
+						.setDebugMode(false) //
+						.setParallelStrategies(true) //
+						.setSolveDeadline(5_000) //
+						.setEnablePid(false) //
+						.build()); //
+
+		expect("#10", ess0, 5000, 3000);
+		ess0.addPowerConstraint("", Phase.ALL, Pwr.ACTIVE, Relationship.EQUALS, 5000);
+		ess0.addPowerConstraint("", Phase.ALL, Pwr.REACTIVE, Relationship.EQUALS, 3000);
+		componentTest //
+				.next(new TestCase()) //
+				.deactivate();
+	}
+
 	@Test
 	public void testAsymmetricEss() throws Exception {
 		EssPower powerComponent = new EssPowerImpl();
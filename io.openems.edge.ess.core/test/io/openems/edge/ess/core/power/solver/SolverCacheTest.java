@@ -0,0 +1,100 @@
+package io.openems.edge.ess.core.power.solver;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.math3.optim.PointValuePair;
+import org.apache.commons.math3.optim.linear.LinearConstraint;
+import org.apache.commons.math3.optim.linear.LinearObjectiveFunction;
+import org.apache.commons.math3.optim.linear.NoFeasibleSolutionException;
+import org.apache.commons.math3.optim.linear.Relationship;
+import org.apache.commons.math3.optim.nonlinear.scalar.GoalType;
+import org.junit.Test;
+
+public class SolverCacheTest {
+
+	private static final LinearObjectiveFunction OBJECTIVE = new LinearObjectiveFunction(new double[] { 1, 1 }, 0);
+
+	private static List<LinearConstraint> constraints(double value) {
+		return List.of(//
+				new LinearConstraint(new double[] { 1, 0 }, Relationship.GEQ, value), //
+				new LinearConstraint(new double[] { 0, 1 }, Relationship.GEQ, 0));
+	}
+
+	@Test
+	public void test() {
+		var sut = new SolverCache();
+		sut.setEnabled(true);
+		var solves = new AtomicInteger();
+		var solution = new PointValuePair(new double[] { 5, 0 }, 5);
+
+		// First solve
+		assertSame(solution, sut.solve(OBJECTIVE, constraints(5), GoalType.MINIMIZE, () -> {
+			solves.incrementAndGet();
+			return solution;
+		}));
+		assertEquals(1, solves.get());
+
+		// Same problem in next Cycle
+		sut.nextCycle();
+		assertSame(solution, sut.solve(OBJECTIVE, constraints(5), GoalType.MINIMIZE, () -> {
+			solves.incrementAndGet();
+			return null;
+		}));
+		assertEquals(1, solves.get());
+		assertEquals(1, sut.getHits());
+		assertEquals(0, sut.getMisses());
+
+		// Changed Constraint and GoalType
+		sut.solve(OBJECTIVE, constraints(6), GoalType.MINIMIZE, () -> {
+			solves.incrementAndGet();
+			return solution;
+		});
+		sut.solve(OBJECTIVE, constraints(5), GoalType.MAXIMIZE, () -> {
+			solves.incrementAndGet();
+			return solution;
+		});
+		assertEquals(3, solves.get());
+		assertEquals(2, sut.getMisses());
+
+		// Not solvable
+		assertThrows(NoFeasibleSolutionException.class,
+				() -> sut.solve(OBJECTIVE, constraints(7), GoalType.MINIMIZE, () -> {
+					solves.incrementAndGet();
+					throw new NoFeasibleSolutionException();
+				}));
+		assertThrows(NoFeasibleSolutionException.class,
+				() -> sut.solve(OBJECTIVE, constraints(7), GoalType.MINIMIZE, () -> {
+					solves.incrementAndGet();
+					return solution;
+				}));
+		assertEquals(4, solves.get());
+
+		// Not used for two Cycles
+		sut.nextCycle();
+		sut.nextCycle();
+		sut.solve(OBJECTIVE, constraints(5), GoalType.MINIMIZE, () -> {
+			solves.incrementAndGet();
+			return solution;
+		});
+		assertEquals(5, solves.get());
+	}
+
+	@Test
+	public void testDisabled() {
+		var sut = new SolverCache();
+		var solves = new AtomicInteger();
+		for (var i = 0; i < 2; i++) {
+			sut.solve(OBJECTIVE, constraints(5), GoalType.MINIMIZE, () -> {
+				solves.incrementAndGet();
+				return null;
+			});
+		}
+		assertEquals(2, solves.get());
+	}
+
+}
@@ -28,5 +28,11 @@ import io.openems.common.channel.PersistencePriority;
 	@AttributeDefinition(name = "Debug Mode", description = "Activates the debug mode")
 	boolean debugMode() default false;
 
+	@AttributeDefinition(name = "Memory-mapped files", description = "Accesses RRD4J files via memory-mapping; changes are written to disk periodically instead of on every update.")
+	boolean memoryMapped() default false;
+
+	@AttributeDefinition(name = "Max open databases", description = "Number of RRD4J files that are kept open between writes and queries; 0 closes files after every access.")
+	int maxOpenDatabases() default 0;
+
 	String webconsole_configurationFactory_nameHint() default "Timedata RRD4J [{id}]";
 }
\ No newline at end of file
@@ -0,0 +1,112 @@
+package io.openems.edge.timedata.rrd4j;
+
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import io.openems.common.types.ChannelAddress;
+
+/**
+ * Caches the results of historic queries per Channel, so that repeated chart
+ * loads do not read the RRD4J files again.
+ *
+ * <p>
+ * Results are invalidated when new records are written. As samples are
+ * consolidated into archives with a step of up to {@link #MAX_ARC_STEP_SECONDS},
+ * every result whose range ends after the first written timestamp minus this
+ * step is invalidated.
+ *
+ * @param <T> the type of the result
+ */
+public class QueryResultCache<T> {
+
+	/** The largest step of the RRD4J archives. */
+	protected static final long MAX_ARC_STEP_SECONDS = 12 * Rrd4jConstants.DEFAULT_STEP_SECONDS;
+
+	private static final int MAX_SIZE = 1_000;
+
+	/**
+	 * Identifies the result of a query for one Channel.
+	 *
+	 * @param rrdDbId        the id of the rrdb
+	 * @param channelAddress the {@link ChannelAddress}
+	 * @param resolution     the resolution in [s]; 0 for queries without
+	 *                       resolution
+	 * @param fromTimestamp  the From-Timestamp in epoch seconds
+	 * @param toTimestamp    the To-Timestamp in epoch seconds
+	 */
+	public static record Key(//
+			String rrdDbId, //
+			ChannelAddress channelAddress, //
+			long resolution, //
+			long fromTimestamp, //
+			long toTimestamp //
+	) {
+	}
+
+	private final Cache<Key, T> cache = CacheBuilder.newBuilder() //
+			.maximumSize(MAX_SIZE) //
+			// Archives are consolidated over time -> refresh eventually
+			.expireAfterWrite(1, TimeUnit.HOURS) //
+			.build();
+
+	private long generation = 0;
+
+	/**
+	 * Gets the current generation. Has to be called before querying the data that
+	 * is passed to {@link #put(long, Key, Object)}.
+	 *
+	 * @return the generation
+	 */
+	public synchronized long getGeneration() {
+		return this.generation;
+	}
+
+	/**
+	 * Gets a cached result.
+	 *
+	 * @param key the {@link Key}
+	 * @return the result; null if not cached
+	 */
+	public T get(Key key) {
+		return this.cache.getIfPresent(key);
+	}
+
+	/**
+	 * Adds a result; unless records were written since the given generation.
+	 *
+	 * @param generation the generation before the data was queried
+	 * @param key        the {@link Key}
+	 * @param value      the result
+	 */
+	public synchronized void put(long generation, Key key, T value) {
+		if (generation != this.generation) {
+			return;
+		}
+		this.cache.put(key, value);
+	}
+
+	/**
+	 * Invalidates results that might be affected by newly written records.
+	 *
+	 * @param rrdDbId       the id of the rrdb
+	 * @param fromTimestamp the first timestamp of the written records in epoch
+	 *                      seconds
+	 */
+	public synchronized void invalidate(String rrdDbId, long fromTimestamp) {
+		this.generation++;
+		final var threshold = fromTimestamp - MAX_ARC_STEP_SECONDS;
+		this.cache.asMap().keySet().removeIf(key -> //
+		key.rrdDbId().equals(rrdDbId) && key.toTimestamp() > threshold);
+	}
+
+	/**
+	 * Removes all results.
+	 */
+	public synchronized void clear() {
+		this.generation++;
+		this.cache.invalidateAll();
+	}
+
+}
@@ -7,6 +7,7 @@ import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
@@ -53,7 +54,10 @@ public class RecordWorker extends AbstractImmediateWorker {
 			boolean debugMode, //
 			PersistencePriority persistencePriority, //
 			Consumer<? super Boolean> onQueueFull, //
-			Consumer<? super Boolean> onUnableToInsert //
+			Consumer<? super Boolean> onUnableToInsert, //
+			Consumer<? super Integer> onWrittenSamples, //
+			Consumer<? super Long> onWriteDuration, //
+			Consumer<? super Long> onRecordsWritten //
 	) {
 
 	}
@@ -80,8 +84,8 @@ public class RecordWorker extends AbstractImmediateWorker {
 		this.config = config;
 	}
 
-	// Record queue
-	private final BlockingQueue<DataRecord> records = new LinkedBlockingQueue<>();
+	// Record queue; one batch of records per interval
+	private final BlockingQueue<List<DataRecord>> records = new LinkedBlockingQueue<>();
 
 	// keeps the last recorded timestamp
 	private Instant lastTimestamp = Instant.MIN;
@@ -135,7 +139,7 @@ public class RecordWorker extends AbstractImmediateWorker {
 
 		this.lastTimestamp = timestamp;
 
-		this.componentManager.getEnabledComponents().stream() //
+		final var batch = this.componentManager.getEnabledComponents().stream() //
 				.flatMap(component -> component.channels().stream()) //
 				.filter(channel -> {
 					final var doc = channel.channelDoc();
@@ -192,23 +196,45 @@ public class RecordWorker extends AbstractImmediateWorker {
 					);
 				}) //
 				.filter(Objects::nonNull) //
-				.forEach(dataRecord -> {
-					this.config.onUnableToInsert.accept(!this.records.offer(dataRecord));
-				});
+				.toList();
 
+		if (batch.isEmpty()) {
+			return;
+		}
+		this.config.onUnableToInsert.accept(!this.records.offer(batch));
 	}
 
 	@Override
 	protected void forever() throws InterruptedException {
-		final var record = this.records.take();
+		final var batch = this.records.take();
 
 		if (this.config.readOnly() && this.config.debugMode()) {
-			this.log.info("Read-Only-Mode is activated. Not writing record: " + record.toString());
+			this.log.info("Read-Only-Mode is activated. Not writing records: " + batch.toString());
 			return;
 		}
 
-		try (var database = this.rrd4jSupplier.getRrdDb(this.config.rrdDbId, record.address, record.unit,
+		// Write all records of the interval in one pass
+		final var start = System.nanoTime();
+		var writtenSamples = 0;
+		for (var record : batch) {
+			if (this.write(record)) {
+				writtenSamples++;
+			}
+		}
+		this.config.onWrittenSamples.accept(writtenSamples);
+		this.config.onWriteDuration.accept((System.nanoTime() - start) / 1_000_000);
+
+		// Notify about the first written timestamp, e.g. to invalidate cached queries
+		batch.stream() //
+				.mapToLong(DataRecord::timestamp) //
+				.min() //
+				.ifPresent(this.config.onRecordsWritten::accept);
+	}
+
+	private boolean write(DataRecord record) {
+		try (var handle = this.rrd4jSupplier.getRrdDb(this.config.rrdDbId, record.address, record.unit,
 				record.timestamp - 1)) {
+			final var database = handle.get();
 			if (database.getLastUpdateTime() == record.timestamp()) {
 				// overwrite last value if same time stamp
 				final var robin = database.getArchive(0).getRobin(0);
@@ -224,12 +250,14 @@ public class RecordWorker extends AbstractImmediateWorker {
 			}
 
 			this.config.onQueueFull.accept(false);
+			return true;
 		} catch (Throwable e) {
 			this.config.onQueueFull.accept(true);
 			if (this.config.debugMode()) {
 				this.log.error("Unable to insert Sample [%s] %s: %s".formatted(record.address,
 						e.getClass().getSimpleName(), e.getMessage()), e);
 			}
+			return false;
 		}
 	}
 
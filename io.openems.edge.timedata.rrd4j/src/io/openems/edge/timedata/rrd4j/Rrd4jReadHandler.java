@@ -1,15 +1,21 @@
 package io.openems.edge.timedata.rrd4j;
 
+import static io.openems.common.utils.ThreadPoolUtils.shutdownAndAwaitTermination;
+
 import java.io.IOException;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -17,6 +23,7 @@ import java.util.stream.Stream;
 
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ServiceScope;
 import org.rrd4j.core.Archive;
@@ -24,6 +31,7 @@ import org.rrd4j.core.RrdDb;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonNull;
 import com.google.gson.JsonPrimitive;
@@ -43,6 +51,8 @@ import io.openems.edge.timedata.api.Timeranges;
 )
 public class Rrd4jReadHandler {
 
+	private static final int QUERY_THREADS = 4;
+
 	private final Logger log = LoggerFactory.getLogger(this.getClass());
 
 	@Reference
@@ -51,10 +61,36 @@ public class Rrd4jReadHandler {
 	@Reference
 	private Rrd4jSupplier rrd4jSupplier;
 
+	/** Bounded pool for fetching multiple Channels in parallel. */
+	private final ExecutorService executor = Executors.newFixedThreadPool(QUERY_THREADS,
+			new ThreadFactoryBuilder().setNameFormat("Rrd4jReadHandler-%d").build());
+
+	private final QueryResultCache<double[]> historicDataCache = new QueryResultCache<>();
+	private final QueryResultCache<JsonElement> energyCache = new QueryResultCache<>();
+
 	@Activate
 	public Rrd4jReadHandler() {
 	}
 
+	@Deactivate
+	private void deactivate() {
+		shutdownAndAwaitTermination(this.executor, 0);
+		this.historicDataCache.clear();
+		this.energyCache.clear();
+	}
+
+	/**
+	 * Invalidates cached query results after new records were written.
+	 *
+	 * @param rrdDbId       the id of the rrdb
+	 * @param fromTimestamp the first timestamp of the written records in epoch
+	 *                      seconds
+	 */
+	public void invalidateCache(String rrdDbId, long fromTimestamp) {
+		this.historicDataCache.invalidate(rrdDbId, fromTimestamp);
+		this.energyCache.invalidate(rrdDbId, fromTimestamp);
+	}
+
 	private static int calculateIndex(Archive archive, long timestamp) throws IOException {
 		return (int) ((timestamp - archive.getStartTime()) / archive.getArcStep());
 	}
@@ -167,11 +203,12 @@ public class Rrd4jReadHandler {
 			// unable to get channel
 			throw new OpenemsException("RRD4j Database for " + notSendChannel + " is missing");
 		}
-		try (final var database = this.rrd4jSupplier.getExistingUpdatedRrdDb(//
+		try (final var handle = this.rrd4jSupplier.getExistingUpdatedRrdDb(//
 				rrdDbId, channel.address(), channel.channelDoc().getUnit())) {
-			if (database == null) {
+			if (handle == null) {
 				throw new OpenemsException("RRD4j Database for " + notSendChannel + " is missing");
 			}
+			final var database = handle.get();
 			return getTimerangesOfNotSendData(database, lastResendTimestamp);
 		} catch (IOException e) {
 			throw new OpenemsException("Unable to query database.", e);
@@ -212,15 +249,16 @@ public class Rrd4jReadHandler {
 				}
 				continue;
 			}
-			try (final var database = this.rrd4jSupplier.getExistingUpdatedRrdDb(//
+			try (final var handle = this.rrd4jSupplier.getExistingUpdatedRrdDb(//
 					rrdDbId, channel.address(), channel.channelDoc().getUnit())) {
-				if (database == null) {
+				if (handle == null) {
 					if (debugMode) {
 						this.log.warn("Unable to query RRD4j: " //
 								+ "RRD4j Database for " + channelAddress + " is missing");
 					}
 					continue;
 				}
+				final var database = handle.get();
 
 				for (int i = 0; i < database.getArcCount(); i++) {
 					final var archive = database.getArchive(i);
@@ -297,39 +335,30 @@ public class Rrd4jReadHandler {
 		var errorCounter = 0;
 
 		try {
-			for (var channelAddress : channels) {
-				final Channel<?> channel;
-				try {
-					channel = this.componentManager.getChannel(channelAddress);
-				} catch (Exception e) {
-					if (debugMode) {
-						this.log.warn("Unable to get channel " + channelAddress, e);
-					}
-					errorCounter++;
-					continue;
-				}
-				final var chDef = Rrd4jSupplier.getDsDefForChannel(channel.channelDoc().getUnit());
-				final double[] result;
-				try (final var database = this.rrd4jSupplier.getExistingUpdatedRrdDb(rrdDbId, channel.address(),
-						channel.channelDoc().getUnit())) {
-					if (database == null) {
-						if (debugMode) {
-							this.log.warn(
-									"Unable to query RRD4j" + "RRD4j Database for " + channelAddress + " is missing");
+			// Fetch Channels in parallel
+			final var generation = this.historicDataCache.getGeneration();
+			final var futures = channels.stream() //
+					.collect(Collectors.toMap(Function.identity(), channelAddress -> {
+						final var key = new QueryResultCache.Key(rrdDbId, channelAddress, resolution.toSeconds(),
+								fromTimestamp, toTimeStamp);
+						final var cached = this.historicDataCache.get(key);
+						if (cached != null) {
+							return CompletableFuture.completedFuture(cached);
 						}
-						errorCounter++;
-						continue;
-					}
-
-					final var fetchedData = database
-							.createFetchRequest(chDef.consolFun(), fromTimestamp, toTimeStamp, resolution.toSeconds())
-							.fetchData();
-					// Post-Process data
-					result = Rrd4jSupplier.postProcessData(fetchedData, resolution.toSeconds());
-				} catch (Exception e) {
-					if (debugMode) {
-						this.log.warn("Unable to query RRD4j " + channelAddress, e);
-					}
+						return CompletableFuture.supplyAsync(() -> {
+							final var result = this.fetchHistoricData(rrdDbId, channelAddress, fromTimestamp,
+									toTimeStamp, resolution, debugMode);
+							if (result != null) {
+								this.historicDataCache.put(generation, key, result);
+							}
+							return result;
+						}, this.executor);
+					}, (t, u) -> t, LinkedHashMap::new));
+
+			for (var entry : futures.entrySet()) {
+				final var channelAddress = entry.getKey();
+				final var result = entry.getValue().join();
+				if (result == null) {
 					errorCounter++;
 					continue;
 				}
@@ -370,6 +399,58 @@ public class Rrd4jReadHandler {
 		return table;
 	}
 
+	/**
+	 * Fetches historic data of one Channel.
+	 *
+	 * @param rrdDbId        the id of the rrdb
+	 * @param channelAddress the {@link ChannelAddress}
+	 * @param fromTimestamp  the From-Timestamp in epoch seconds
+	 * @param toTimestamp    the To-Timestamp in epoch seconds
+	 * @param resolution     the {@link Resolution}
+	 * @param debugMode      if debugMode is active
+	 * @return the post-processed values; null on error
+	 */
+	private double[] fetchHistoricData(//
+			final String rrdDbId, //
+			final ChannelAddress channelAddress, //
+			final long fromTimestamp, //
+			final long toTimestamp, //
+			final Resolution resolution, //
+			final boolean debugMode //
+	) {
+		final Channel<?> channel;
+		try {
+			channel = this.componentManager.getChannel(channelAddress);
+		} catch (Exception e) {
+			if (debugMode) {
+				this.log.warn("Unable to get channel " + channelAddress, e);
+			}
+			return null;
+		}
+		final var chDef = Rrd4jSupplier.getDsDefForChannel(channel.channelDoc().getUnit());
+		try (final var handle = this.rrd4jSupplier.getExistingUpdatedRrdDb(rrdDbId, channel.address(),
+				channel.channelDoc().getUnit())) {
+			if (handle == null) {
+				if (debugMode) {
+					this.log.warn("Unable to query RRD4j" + "RRD4j Database for " + channelAddress + " is missing");
+				}
+				return null;
+			}
+			final var database = handle.get();
+
+			final var fetchedData = database
+					.createFetchRequest(chDef.consolFun(), fromTimestamp, toTimestamp, resolution.toSeconds())
+					.fetchData();
+			// Post-Process data
+			return Rrd4jSupplier.postProcessData(fetchedData, resolution.toSeconds());
+		} catch (Exception e) {
+			if (debugMode) {
+				this.log.warn("Unable to query RRD4j " + channelAddress, e);
+			}
+			return null;
+		}
+	}
+
 	/**
 	 * Queries historic energy.
 	 *
@@ -390,49 +471,27 @@ public class Rrd4jReadHandler {
 		final var fromTimestamp = fromDate.toEpochSecond();
 		final var toTimestamp = toDate.toEpochSecond();
 
-		final var result = channels.stream() //
+		// Fetch Channels in parallel
+		final var generation = this.energyCache.getGeneration();
+		final var futures = channels.stream() //
 				.collect(Collectors.toMap(Function.identity(), channelAddress -> {
-					final Channel<?> channel;
-					try {
-						channel = this.componentManager.getChannel(channelAddress);
-					} catch (Exception e) {
-						// unable to get channel
-						if (debugMode) {
-							this.log.warn("Unable to query RRD4j", e);
-						}
-						return JsonNull.INSTANCE;
+					final var key = new QueryResultCache.Key(rrdDbId, channelAddress, 0, fromTimestamp, toTimestamp);
+					final var cached = this.energyCache.get(key);
+					if (cached != null) {
+						return CompletableFuture.completedFuture(cached);
 					}
-					try (final var database = this.rrd4jSupplier.getExistingUpdatedRrdDb(//
-							rrdDbId, channel.address(), channel.channelDoc().getUnit())) {
-						if (database == null) {
-							if (debugMode) {
-								this.log.warn("Unable to query RRD4j: " //
-										+ "RRD4j Database for " + channelAddress + " is missing");
-							}
-							return JsonNull.INSTANCE;
+					return CompletableFuture.supplyAsync(() -> {
+						final var value = this.fetchHistoricEnergy(rrdDbId, channelAddress, fromTimestamp,
+								toTimestamp, debugMode);
+						if (!value.isJsonNull()) {
+							this.energyCache.put(generation, key, value);
 						}
+						return value;
+					}, this.executor);
+				}, (t, u) -> t, LinkedHashMap::new));
 
-						var first = getFirstValueBefore(database, fromTimestamp);
-
-						// minus 1h to include the last timestamp of the requested day
-						final var last = getLastValue(database, fromTimestamp, toTimestamp);
-
-						// get first value in range
-						if (Double.isNaN(first) && !Double.isNaN(last)) {
-							return new JsonPrimitive(last);
-						}
-
-						if (Double.isNaN(first) || Double.isNaN(last)) {
-							return JsonNull.INSTANCE;
-						}
-						return new JsonPrimitive(last - first);
-					} catch (Exception e) {
-						if (debugMode) {
-							this.log.warn("Unable to query RRD4j", e);
-						}
-						return JsonNull.INSTANCE;
-					}
-				}, (t, u) -> t, TreeMap::new));
+		final var result = futures.entrySet().stream() //
+				.collect(Collectors.toMap(Entry::getKey, e -> e.getValue().join(), (t, u) -> t, TreeMap::new));
 
 		// If no Channel can be read successfully: throw exception
 		if (result.values().stream().allMatch(JsonElement::isJsonNull)) {
@@ -443,6 +502,66 @@ public class Rrd4jReadHandler {
 		return result;
 	}
 
+	/**
+	 * Fetches the energy of one Channel.
+	 *
+	 * @param rrdDbId        the id of the rrdb
+	 * @param channelAddress the {@link ChannelAddress}
+	 * @param fromTimestamp  the From-Timestamp in epoch seconds
+	 * @param toTimestamp    the To-Timestamp in epoch seconds
+	 * @param debugMode      if debugMode is active
+	 * @return the energy; {@link JsonNull} if not available
+	 */
+	private JsonElement fetchHistoricEnergy(//
+			final String rrdDbId, //
+			final ChannelAddress channelAddress, //
+			final long fromTimestamp, //
+			final long toTimestamp, //
+			final boolean debugMode //
+	) {
+		final Channel<?> channel;
+		try {
+			channel = this.componentManager.getChannel(channelAddress);
+		} catch (Exception e) {
+			// unable to get channel
+			if (debugMode) {
+				this.log.warn("Unable to query RRD4j", e);
+			}
+			return JsonNull.INSTANCE;
+		}
+		try (final var handle = this.rrd4jSupplier.getExistingUpdatedRrdDb(//
+				rrdDbId, channel.address(), channel.channelDoc().getUnit())) {
+			if (handle == null) {
+				if (debugMode) {
+					this.log.warn("Unable to query RRD4j: " //
+							+ "RRD4j Database for " + channelAddress + " is missing");
+				}
+				return JsonNull.INSTANCE;
+			}
+			final var database = handle.get();
+
+			var first = getFirstValueBefore(database, fromTimestamp);
+
+			// minus 1h to include the last timestamp of the requested day
+			final var last = getLastValue(database, fromTimestamp, toTimestamp);
+
+			// get first value in range
+			if (Double.isNaN(first) && !Double.isNaN(last)) {
+				return new JsonPrimitive(last);
+			}
+
+			if (Double.isNaN(first) || Double.isNaN(last)) {
+				return JsonNull.INSTANCE;
+			}
+			return new JsonPrimitive(last - first);
+		} catch (Exception e) {
+			if (debugMode) {
+				this.log.warn("Unable to query RRD4j", e);
+			}
+			return JsonNull.INSTANCE;
+		}
+	}
+
 	/**
 	 * Queries historic energy per period.
 	 *
@@ -543,11 +662,12 @@ public class Rrd4jReadHandler {
 				return Optional.empty();
 			}
 
-			try (var database = this.rrd4jSupplier.getExistingUpdatedRrdDb(rrdDbId, channelAddress,
+			try (var handle = this.rrd4jSupplier.getExistingUpdatedRrdDb(rrdDbId, channelAddress,
 					channel.channelDoc().getUnit())) {
-				if (database == null) {
+				if (handle == null) {
 					return Optional.empty();
 				}
+				final var database = handle.get();
 
 				// search for last value in robin
 				final var robin = database.getArchive(0).getRobin(0);
@@ -586,10 +706,11 @@ public class Rrd4jReadHandler {
 	) {
 		return CompletableFuture.supplyAsync(() -> {
 
-			try (var database = this.rrd4jSupplier.getExistingUpdatedRrdDb(rrdDbId, channelAddress, unit)) {
-				if (database == null) {
+			try (var handle = this.rrd4jSupplier.getExistingUpdatedRrdDb(rrdDbId, channelAddress, unit)) {
+				if (handle == null) {
 					return Optional.empty();
 				}
+				final var database = handle.get();
 
 				// search for last value in robin
 				final var robin = database.getArchive(0).getRobin(0);
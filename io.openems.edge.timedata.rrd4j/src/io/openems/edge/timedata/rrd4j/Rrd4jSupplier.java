@@ -1,5 +1,6 @@
 package io.openems.edge.timedata.rrd4j;
 
+import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
@@ -14,6 +15,7 @@ import java.util.function.BiFunction;
 
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ServiceScope;
 import org.rrd4j.ConsolFun;
@@ -22,6 +24,7 @@ import org.rrd4j.core.DsDef;
 import org.rrd4j.core.FetchData;
 import org.rrd4j.core.RrdBackendFactory;
 import org.rrd4j.core.RrdDb;
+import org.rrd4j.core.RrdNioBackendFactory;
 import org.rrd4j.core.RrdRandomAccessFileBackendFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -47,7 +50,9 @@ public class Rrd4jSupplier {
 	private VersionHandler versionHandler;
 
 	private final KeyLock keyLock = new KeyLock();
-	private final RrdBackendFactory factory;
+	private final RrdDbCache cache = new RrdDbCache();
+	private volatile RrdBackendFactory factory;
+	private boolean isMemoryMapped = false;
 
 	// channelAddress, rrdDbId => file path
 	private final BiFunction<ChannelAddress, String, String> fileValidator;
@@ -74,6 +79,63 @@ public class Rrd4jSupplier {
 		);
 	}
 
+	@Deactivate
+	private synchronized void deactivate() {
+		this.cache.clear();
+		this.closeFactory(this.factory);
+	}
+
+	/**
+	 * Configures how databases are accessed.
+	 *
+	 * <p>
+	 * Memory-mapped files are written back to disk periodically by RRD4j instead
+	 * of on every update. Keeping databases open avoids opening one file per
+	 * Channel for every record and query.
+	 *
+	 * <p>
+	 * This is a singleton service, i.e. the settings apply to all RRD4j Timedata
+	 * Components and the last call wins.
+	 *
+	 * @param isMemoryMapped   use memory-mapped files
+	 * @param maxOpenDatabases the max number of databases that are kept open; 0
+	 *                         to close databases after every access
+	 */
+	public synchronized void configure(boolean isMemoryMapped, int maxOpenDatabases) {
+		if (isMemoryMapped != this.isMemoryMapped) {
+			// Databases are bound to their backend factory -> reopen
+			this.cache.clear();
+			final var previous = this.factory;
+			this.factory = isMemoryMapped //
+					? new RrdNioBackendFactory() //
+					: new RrdRandomAccessFileBackendFactory();
+			this.isMemoryMapped = isMemoryMapped;
+			// e.g. stops the sync thread of the NIO backend factory
+			this.closeFactory(previous);
+		}
+		this.cache.setCapacity(maxOpenDatabases);
+	}
+
+	private void closeFactory(RrdBackendFactory factory) {
+		if (!(factory instanceof Closeable)) {
+			return;
+		}
+		try {
+			((Closeable) factory).close();
+		} catch (IOException e) {
+			this.log.warn("Unable to close RRD4j backend factory: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Gets the {@link RrdDbCache} of open databases.
+	 *
+	 * @return the {@link RrdDbCache}
+	 */
+	public RrdDbCache getCache() {
+		return this.cache;
+	}
+
 	/**
 	 * Gets the RRD4j database for the given Channel-Address.
 	 * 
@@ -85,23 +147,30 @@ public class Rrd4jSupplier {
 	 * @param channelUnit    the {@link Unit}
 	 * @param startTime      the starttime for newly created RrdDbs
 	 * @param rrdDbId        the id of the rrd4j database
-	 * @return the RrdDb
+	 * @return a {@link RrdDbCache.Handle} for the RrdDb
 	 * @throws IOException on error
 	 */
-	public RrdDb getRrdDb(//
+	public RrdDbCache.Handle getRrdDb(//
 			final String rrdDbId, //
 			final ChannelAddress channelAddress, //
 			final Unit channelUnit, //
 			final long startTime //
 	) throws IOException {
-		return this.keyLock.lock(rrdDbId + "/" + channelAddress.toString(), () -> {
+		final var key = rrdDbId + "/" + channelAddress.toString();
+		return this.keyLock.lock(key, () -> {
+			final var cached = this.cache.acquire(key);
+			if (cached != null) {
+				return cached;
+			}
 			var rrdDb = this.getExistingRrdDb(channelAddress, rrdDbId);
 			if (rrdDb != null) {
 				// Database exists
-				return this.updateRrdDbToLatestDefinition(rrdDb, rrdDbId, channelAddress, channelUnit);
+				rrdDb = this.updateRrdDbToLatestDefinition(rrdDb, rrdDbId, channelAddress, channelUnit);
+			} else {
+				// Create new database
+				rrdDb = this.createNewDb(rrdDbId, channelAddress, channelUnit, startTime);
 			}
-			// Create new database
-			return this.createNewDb(rrdDbId, channelAddress, channelUnit, startTime);
+			return this.cache.add(key, rrdDb);
 		});
 	}
 
@@ -112,20 +181,27 @@ public class Rrd4jSupplier {
 	 * @param rrdDbId        the id of the RrdDb
 	 * @param channelAddress the address of the {@link RrdDb}
 	 * @param channelUnit    the unit of the channel
-	 * @return the {@link RrdDb} or null if not existing
+	 * @return a {@link RrdDbCache.Handle} for the {@link RrdDb} or null if not
+	 *         existing
 	 * @throws IOException on IO-Error
 	 */
-	public RrdDb getExistingUpdatedRrdDb(//
+	public RrdDbCache.Handle getExistingUpdatedRrdDb(//
 			final String rrdDbId, //
 			final ChannelAddress channelAddress, //
 			final Unit channelUnit //
 	) throws IOException {
-		return this.keyLock.lock(rrdDbId + "/" + channelAddress.toString(), () -> {
+		final var key = rrdDbId + "/" + channelAddress.toString();
+		return this.keyLock.lock(key, () -> {
+			final var cached = this.cache.acquire(key);
+			if (cached != null) {
+				return cached;
+			}
 			var rrdDb = this.getExistingRrdDb(channelAddress, rrdDbId);
 			if (rrdDb == null) {
 				return null;
 			}
-			return this.updateRrdDbToLatestDefinition(rrdDb, rrdDbId, channelAddress, channelUnit);
+			rrdDb = this.updateRrdDbToLatestDefinition(rrdDb, rrdDbId, channelAddress, channelUnit);
+			return this.cache.add(key, rrdDb);
 		});
 	}
 
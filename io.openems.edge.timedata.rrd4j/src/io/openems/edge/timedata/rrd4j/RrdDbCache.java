@@ -0,0 +1,217 @@
+package io.openems.edge.timedata.rrd4j;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.rrd4j.core.RrdDb;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A bounded LRU cache of open {@link RrdDb}s.
+ *
+ * <p>
+ * Keeping databases open avoids opening and closing one file per Channel for
+ * every record and every query. {@link RrdDb}s are handed out as
+ * {@link Handle}s; closing a {@link Handle} only releases the database. Idle
+ * databases are closed when the cache exceeds its capacity. A capacity of 0
+ * disables caching, i.e. closing a {@link Handle} closes the database.
+ *
+ * <p>
+ * A {@link RrdDb} is not safe for concurrent use, e.g. by the RecordWorker and
+ * a query. A {@link Handle} grants exclusive access to its database until it is
+ * closed; other threads block in {@link #acquire(String)} meanwhile. Handles
+ * must be closed by the thread that acquired them.
+ */
+public class RrdDbCache {
+
+	/**
+	 * A lease on an {@link RrdDb}; to be used in try-with-resources.
+	 */
+	public static final class Handle implements AutoCloseable {
+
+		private final RrdDbCache cache;
+		private final Entry entry;
+		private final RrdDb rrdDb;
+
+		private Handle(RrdDbCache cache, Entry entry, RrdDb rrdDb) {
+			this.cache = cache;
+			this.entry = entry;
+			this.rrdDb = rrdDb;
+		}
+
+		/**
+		 * Gets the {@link RrdDb}.
+		 *
+		 * @return the {@link RrdDb}
+		 */
+		public RrdDb get() {
+			return this.rrdDb;
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (this.entry == null) {
+				this.rrdDb.close();
+			} else {
+				this.entry.lock.unlock();
+				this.cache.release(this.entry);
+			}
+		}
+	}
+
+	private static final class Entry {
+		private final RrdDb rrdDb;
+		private final ReentrantLock lock = new ReentrantLock();
+		private int references = 0;
+		private boolean removed = false;
+
+		private Entry(RrdDb rrdDb) {
+			this.rrdDb = rrdDb;
+		}
+	}
+
+	private final Logger log = LoggerFactory.getLogger(RrdDbCache.class);
+
+	// Access-order, i.e. least recently used first
+	private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+	private int capacity = 0;
+	private long hits = 0;
+	private long misses = 0;
+
+	/**
+	 * Gets a cached {@link RrdDb}. Blocks while the database is in use by another
+	 * {@link Handle}.
+	 *
+	 * @param key the key
+	 * @return a {@link Handle}; null if the database is not cached
+	 */
+	public Handle acquire(String key) {
+		final Entry entry;
+		synchronized (this) {
+			entry = this.entries.get(key);
+			if (entry == null) {
+				this.misses++;
+				return null;
+			}
+			this.hits++;
+			// Keeps the database open while waiting for the lock
+			entry.references++;
+		}
+		entry.lock.lock();
+		return new Handle(this, entry, entry.rrdDb);
+	}
+
+	/**
+	 * Adds a newly opened {@link RrdDb} to the cache.
+	 *
+	 * @param key   the key
+	 * @param rrdDb the {@link RrdDb}
+	 * @return a {@link Handle}
+	 */
+	public synchronized Handle add(String key, RrdDb rrdDb) {
+		if (this.capacity <= 0) {
+			return new Handle(this, null, rrdDb);
+		}
+		final var entry = new Entry(rrdDb);
+		entry.references++;
+		entry.lock.lock();
+		final var previous = this.entries.put(key, entry);
+		if (previous != null) {
+			this.remove(previous);
+		}
+		this.evictIdle();
+		return new Handle(this, entry, rrdDb);
+	}
+
+	private synchronized void release(Entry entry) {
+		entry.references--;
+		if (entry.removed) {
+			this.closeIfIdle(entry);
+		} else {
+			this.evictIdle();
+		}
+	}
+
+	/**
+	 * Sets the max number of open databases; 0 disables the cache.
+	 *
+	 * @param capacity the capacity
+	 */
+	public synchronized void setCapacity(int capacity) {
+		this.capacity = Math.max(0, capacity);
+		this.evictIdle();
+	}
+
+	/**
+	 * Closes all databases. Databases that are in use are closed on release.
+	 */
+	public synchronized void clear() {
+		for (var entry : new ArrayList<>(this.entries.values())) {
+			this.remove(entry);
+		}
+		this.entries.clear();
+	}
+
+	/**
+	 * Gets the number of open databases.
+	 *
+	 * @return the number of open databases
+	 */
+	public synchronized int size() {
+		return this.entries.size();
+	}
+
+	/**
+	 * Gets the number of requests that were answered by an open database.
+	 *
+	 * @return the number of hits
+	 */
+	public synchronized long getHits() {
+		return this.hits;
+	}
+
+	/**
+	 * Gets the number of requests that had to open a database.
+	 *
+	 * @return the number of misses
+	 */
+	public synchronized long getMisses() {
+		return this.misses;
+	}
+
+	private void evictIdle() {
+		if (this.entries.size() <= this.capacity) {
+			return;
+		}
+		final var iterator = this.entries.values().iterator();
+		while (this.entries.size() > this.capacity && iterator.hasNext()) {
+			final var entry = iterator.next();
+			if (entry.references > 0) {
+				continue;
+			}
+			iterator.remove();
+			this.remove(entry);
+		}
+	}
+
+	private void remove(Entry entry) {
+		entry.removed = true;
+		this.closeIfIdle(entry);
+	}
+
+	private void closeIfIdle(Entry entry) {
+		if (entry.references > 0 || entry.rrdDb.isClosed()) {
+			return;
+		}
+		try {
+			entry.rrdDb.close();
+		} catch (IOException e) {
+			this.log.warn("Unable to close RrdDb [" + entry.rrdDb.getPath() + "]: " + e.getMessage());
+		}
+	}
+
+}
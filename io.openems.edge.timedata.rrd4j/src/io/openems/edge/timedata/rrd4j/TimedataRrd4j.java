@@ -1,7 +1,11 @@
 package io.openems.edge.timedata.rrd4j;
 
 import io.openems.common.channel.Level;
+import io.openems.common.channel.Unit;
+import io.openems.common.types.OpenemsType;
 import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.channel.IntegerReadChannel;
+import io.openems.edge.common.channel.LongReadChannel;
 import io.openems.edge.common.channel.StateChannel;
 import io.openems.edge.common.channel.value.Value;
 import io.openems.edge.common.component.OpenemsComponent;
@@ -11,7 +15,16 @@ public interface TimedataRrd4j extends Timedata, OpenemsComponent {
 
 	public enum ChannelId implements io.openems.edge.common.channel.ChannelId {
 		QUEUE_IS_FULL(Doc.of(Level.WARNING)), //
-		UNABLE_TO_INSERT_SAMPLE(Doc.of(Level.WARNING));
+		UNABLE_TO_INSERT_SAMPLE(Doc.of(Level.WARNING)), //
+		OPEN_DATABASES(Doc.of(OpenemsType.INTEGER) //
+				.text("Number of RRD4J databases that are kept open")), //
+		OPENED_DATABASES(Doc.of(OpenemsType.LONG) //
+				.text("Number of times an RRD4J database had to be opened")), //
+		WRITTEN_SAMPLES(Doc.of(OpenemsType.INTEGER) //
+				.text("Number of samples written in the last write pass")), //
+		WRITE_DURATION(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MILLISECONDS) //
+				.text("Duration of the last write pass"));
 
 		private final Doc doc;
 
@@ -80,4 +93,116 @@ public interface TimedataRrd4j extends Timedata, OpenemsComponent {
 	public default void _setUnableToInsertSample(Boolean value) {
 		this.getUnableToInsertSampleChannel().setNextValue(value);
 	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#OPEN_DATABASES}.
+	 *
+	 * @return the Channel
+	 */
+	public default IntegerReadChannel getOpenDatabasesChannel() {
+		return this.channel(ChannelId.OPEN_DATABASES);
+	}
+
+	/**
+	 * Gets the number of open databases. See {@link ChannelId#OPEN_DATABASES}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Integer> getOpenDatabases() {
+		return this.getOpenDatabasesChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#OPEN_DATABASES}
+	 * Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setOpenDatabases(Integer value) {
+		this.getOpenDatabasesChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#OPENED_DATABASES}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getOpenedDatabasesChannel() {
+		return this.channel(ChannelId.OPENED_DATABASES);
+	}
+
+	/**
+	 * Gets the number of opened databases. See {@link ChannelId#OPENED_DATABASES}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getOpenedDatabases() {
+		return this.getOpenedDatabasesChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#OPENED_DATABASES}
+	 * Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setOpenedDatabases(Long value) {
+		this.getOpenedDatabasesChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#WRITTEN_SAMPLES}.
+	 *
+	 * @return the Channel
+	 */
+	public default IntegerReadChannel getWrittenSamplesChannel() {
+		return this.channel(ChannelId.WRITTEN_SAMPLES);
+	}
+
+	/**
+	 * Gets the number of written samples. See {@link ChannelId#WRITTEN_SAMPLES}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Integer> getWrittenSamples() {
+		return this.getWrittenSamplesChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#WRITTEN_SAMPLES}
+	 * Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setWrittenSamples(Integer value) {
+		this.getWrittenSamplesChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#WRITE_DURATION}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getWriteDurationChannel() {
+		return this.channel(ChannelId.WRITE_DURATION);
+	}
+
+	/**
+	 * Gets the duration of the last write pass in [ms]. See {@link ChannelId#WRITE_DURATION}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getWriteDuration() {
+		return this.getWriteDurationChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#WRITE_DURATION}
+	 * Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setWriteDuration(Long value) {
+		this.getWriteDurationChannel().setNextValue(value);
+	}
 }
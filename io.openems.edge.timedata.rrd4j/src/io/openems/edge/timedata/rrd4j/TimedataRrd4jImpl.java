@@ -48,6 +48,9 @@ public final class TimedataRrd4jImpl extends AbstractOpenemsComponent
 	@Reference
 	private Rrd4jReadHandler readHandler;
 
+	@Reference
+	private Rrd4jSupplier rrd4jSupplier;
+
 	private boolean debugMode = false;
 
 	public TimedataRrd4jImpl() {
@@ -62,6 +65,7 @@ public final class TimedataRrd4jImpl extends AbstractOpenemsComponent
 	private void activate(ComponentContext context, Config config) throws Exception {
 		super.activate(context, config.id(), config.alias(), config.enabled());
 		this.debugMode = config.debugMode();
+		this.rrd4jSupplier.configure(config.memoryMapped(), config.maxOpenDatabases());
 
 		this.worker = this.workerFactory.get();
 		this.worker.setConfig(new RecordWorker.Config(//
@@ -70,7 +74,10 @@ public final class TimedataRrd4jImpl extends AbstractOpenemsComponent
 				this.debugMode, //
 				config.persistencePriority(), //
 				isFull -> this._setQueueIsFull(isFull), //
-				unableToInsert -> this._setUnableToInsertSample(unableToInsert) //
+				unableToInsert -> this._setUnableToInsertSample(unableToInsert), //
+				writtenSamples -> this._setWrittenSamples(writtenSamples), //
+				writeDuration -> this._setWriteDuration(writeDuration), //
+				fromTimestamp -> this.readHandler.invalidateCache(this.id(), fromTimestamp) //
 		));
 		if (config.enabled()) {
 			this.worker.activate(this.id());
@@ -153,6 +160,9 @@ public final class TimedataRrd4jImpl extends AbstractOpenemsComponent
 		switch (event.getTopic()) {
 		case EdgeEventConstants.TOPIC_CYCLE_AFTER_PROCESS_IMAGE:
 			this.worker.collectData();
+			final var cache = this.rrd4jSupplier.getCache();
+			this._setOpenDatabases(cache.size());
+			this._setOpenedDatabases(cache.getMisses());
 			break;
 		}
 	}
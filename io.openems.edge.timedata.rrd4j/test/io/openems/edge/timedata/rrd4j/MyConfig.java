@@ -11,6 +11,8 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		private PersistencePriority persistencePriority;
 		private boolean readOnly;
 		private boolean debugMode;
+		private boolean memoryMapped;
+		private int maxOpenDatabases;
 
 		private Builder() {
 		}
@@ -35,6 +37,16 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 			return this;
 		}
 
+		public Builder setMemoryMapped(boolean memoryMapped) {
+			this.memoryMapped = memoryMapped;
+			return this;
+		}
+
+		public Builder setMaxOpenDatabases(int maxOpenDatabases) {
+			this.maxOpenDatabases = maxOpenDatabases;
+			return this;
+		}
+
 		public MyConfig build() {
 			return new MyConfig(this);
 		}
@@ -71,4 +83,14 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		return this.builder.debugMode;
 	}
 
-}
\ No newline at end of file
+	@Override
+	public boolean memoryMapped() {
+		return this.builder.memoryMapped;
+	}
+
+	@Override
+	public int maxOpenDatabases() {
+		return this.builder.maxOpenDatabases;
+	}
+
+}
@@ -0,0 +1,51 @@
+package io.openems.edge.timedata.rrd4j;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+import io.openems.common.types.ChannelAddress;
+
+public class QueryResultCacheTest {
+
+	private static final ChannelAddress CHANNEL = new ChannelAddress("_sum", "ProductionActivePower");
+
+	@Test
+	public void testInvalidate() {
+		final var sut = new QueryResultCache<String>();
+		final var old = new QueryResultCache.Key("rrd4j0", CHANNEL, 300, 0, 10_000);
+		final var recent = new QueryResultCache.Key("rrd4j0", CHANNEL, 300, 0, 100_000);
+		final var other = new QueryResultCache.Key("rrd4j1", CHANNEL, 300, 0, 100_000);
+
+		var generation = sut.getGeneration();
+		sut.put(generation, old, "old");
+		sut.put(generation, recent, "recent");
+		sut.put(generation, other, "other");
+
+		sut.invalidate("rrd4j0", 50_000);
+		assertEquals("old", sut.get(old));
+		assertNull(sut.get(recent));
+		assertEquals("other", sut.get(other));
+
+		// Range ends within the largest archive step before the record
+		sut.invalidate("rrd4j0", 10_000 + QueryResultCache.MAX_ARC_STEP_SECONDS - 1);
+		assertNull(sut.get(old));
+	}
+
+	@Test
+	public void testPutAfterInvalidate() {
+		final var sut = new QueryResultCache<String>();
+		final var key = new QueryResultCache.Key("rrd4j0", CHANNEL, 0, 0, 10_000);
+
+		// Records were written while querying -> result is not cached
+		var generation = sut.getGeneration();
+		sut.invalidate("rrd4j0", 50_000);
+		sut.put(generation, key, "stale");
+		assertNull(sut.get(key));
+
+		sut.put(sut.getGeneration(), key, "value");
+		assertEquals("value", sut.get(key));
+	}
+
+}
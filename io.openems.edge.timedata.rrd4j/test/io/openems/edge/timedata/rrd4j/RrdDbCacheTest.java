@@ -0,0 +1,114 @@
+package io.openems.edge.timedata.rrd4j;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.rrd4j.ConsolFun;
+import org.rrd4j.DsType;
+import org.rrd4j.core.RrdDb;
+import org.rrd4j.core.RrdDef;
+import org.rrd4j.core.RrdMemoryBackendFactory;
+
+public class RrdDbCacheTest {
+
+	private static RrdDb createRrdDb(String path) throws IOException {
+		final var rrdDef = new RrdDef(path, 0, 300);
+		rrdDef.addDatasource(Rrd4jConstants.DEFAULT_DATASOURCE_NAME, DsType.GAUGE, 300, Double.NaN, Double.NaN);
+		rrdDef.addArchive(ConsolFun.AVERAGE, 0.5, 1, 10);
+		return RrdDb.getBuilder() //
+				.setBackendFactory(new RrdMemoryBackendFactory()) //
+				.setRrdDef(rrdDef) //
+				.build();
+	}
+
+	@Test
+	public void testEviction() throws IOException {
+		final var sut = new RrdDbCache();
+		sut.setCapacity(2);
+
+		final var a = createRrdDb("a");
+		final var b = createRrdDb("b");
+		final var c = createRrdDb("c");
+		sut.add("a", a).close();
+		sut.add("b", b).close();
+
+		// Touch "a" -> "b" is least recently used
+		try (var handle = sut.acquire("a")) {
+			assertEquals(a, handle.get());
+		}
+		sut.add("c", c).close();
+
+		assertEquals(2, sut.size());
+		assertNull(sut.acquire("b"));
+		assertTrue(b.isClosed());
+		assertFalse(a.isClosed());
+		assertFalse(c.isClosed());
+		assertEquals(1, sut.getHits());
+		assertEquals(1, sut.getMisses());
+
+		sut.clear();
+		assertEquals(0, sut.size());
+		assertTrue(a.isClosed());
+		assertTrue(c.isClosed());
+	}
+
+	@Test
+	public void testInUse() throws IOException {
+		final var sut = new RrdDbCache();
+		sut.setCapacity(1);
+
+		final var a = createRrdDb("a");
+		final var handle = sut.add("a", a);
+		sut.clear();
+
+		// Closed on release
+		assertFalse(a.isClosed());
+		handle.close();
+		assertTrue(a.isClosed());
+	}
+
+	@Test
+	public void testExclusiveAccess() throws Exception {
+		final var sut = new RrdDbCache();
+		sut.setCapacity(1);
+		final var a = createRrdDb("a");
+		final var handle = sut.add("a", a);
+
+		final var executor = Executors.newSingleThreadExecutor();
+		try {
+			final var other = executor.submit(() -> {
+				try (var h = sut.acquire("a")) {
+					return h.get();
+				}
+			});
+
+			// Blocks while the database is in use
+			Thread.sleep(100);
+			assertFalse(other.isDone());
+
+			handle.close();
+			assertEquals(a, other.get(5, TimeUnit.SECONDS));
+			assertFalse(a.isClosed());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testDisabled() throws IOException {
+		final var sut = new RrdDbCache();
+
+		final var a = createRrdDb("a");
+		sut.add("a", a).close();
+		assertTrue(a.isClosed());
+		assertEquals(0, sut.size());
+	}
+
+}
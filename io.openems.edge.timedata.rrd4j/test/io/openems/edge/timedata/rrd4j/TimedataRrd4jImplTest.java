@@ -30,6 +30,7 @@ public class TimedataRrd4jImplTest {
 		new ComponentTest(new TimedataRrd4jImpl()) //
 				.addReference("workerFactory", new DummyRecordWorkerFactory(componentManager)) //
 				.addReference("readHandler", new Rrd4jReadHandler()) //
+				.addReference("rrd4jSupplier", new Rrd4jSupplier()) //
 				.activate(MyConfig.create() //
 						.setId(COMPONENT_ID) //
 						.setPersistencePriority(PersistencePriority.MEDIUM) //
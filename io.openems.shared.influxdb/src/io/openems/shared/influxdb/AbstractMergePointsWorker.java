@@ -1,8 +1,10 @@
 package io.openems.shared.influxdb;
 
+import java.io.IOException;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
@@ -32,6 +34,10 @@ public abstract class AbstractMergePointsWorker<T> extends AbstractImmediateWork
 
 	private final BlockingQueue<T> pointsQueue = new LinkedBlockingQueue<>(POINTS_QUEUE_SIZE);
 
+	private volatile PointsSpool spool = null;
+	private double replayBudget = 0; // [points]
+	private long lastReplay = System.nanoTime();
+
 	public AbstractMergePointsWorker(InfluxConnector parent, String name, WriteParameters writeParameters,
 			Consumer<BadRequestException> onWriteError) {
 		this.parent = parent;
@@ -42,11 +48,37 @@ public abstract class AbstractMergePointsWorker<T> extends AbstractImmediateWork
 
 	@Override
 	public void activate() {
+		final var spoolConfig = this.parent.spoolConfig;
+		if (spoolConfig != null) {
+			final var directory = spoolConfig.directory().resolve(this.name.replaceAll("[^A-Za-z0-9._-]", "_"));
+			try {
+				this.spool = new PointsSpool(directory, spoolConfig.maxSize());
+			} catch (IOException e) {
+				this.log.error("Unable to open spool [" + directory + "]: " + e.getMessage());
+			}
+		}
 		this.activate("TimescaleDB-MergePoints" + this.name);
 	}
 
+	@Override
+	public void deactivate() {
+		super.deactivate();
+		final var spool = this.spool;
+		if (spool != null) {
+			// Keep queued points for the next start
+			final var points = new ArrayList<T>(this.pointsQueue.size());
+			this.pointsQueue.drainTo(points);
+			this.spool(this.writePoints(points));
+			// Points of pending writes are discarded from now on
+			this.spool = null;
+			spool.close();
+		}
+	}
+
 	@Override
 	protected void forever() throws InterruptedException {
+		this.replaySpool();
+
 		var points = this.pollPoints();
 
 		if (points.isEmpty()) {
@@ -58,6 +90,7 @@ public abstract class AbstractMergePointsWorker<T> extends AbstractImmediateWork
 		 */
 		this.parent.executor.execute(() -> {
 			if (this.parent.queryProxy.isLimitReached()) {
+				this.spool(this.writePoints(points));
 				return;
 			}
 			try {
@@ -86,13 +119,92 @@ public abstract class AbstractMergePointsWorker<T> extends AbstractImmediateWork
 		return points;
 	}
 
+	/**
+	 * Writes spooled points to InfluxDB at the configured replay rate.
+	 *
+	 * <p>
+	 * Replay only happens while the live queue is mostly empty and InfluxDB
+	 * accepts writes, so recovering from an outage does not delay live data.
+	 */
+	private void replaySpool() {
+		final var spool = this.spool;
+		final var now = System.nanoTime();
+		if (spool == null || spool.isEmpty()) {
+			this.lastReplay = now;
+			this.replayBudget = 0;
+			return;
+		}
+		final var replayRate = this.parent.spoolConfig.replayRate();
+		this.replayBudget = Math.min(replayRate * MAX_AGGREGATE_WAIT, //
+				this.replayBudget + replayRate * (now - this.lastReplay) / 1_000_000_000.);
+		this.lastReplay = now;
+
+		while (this.replayBudget >= 1 //
+				&& this.pointsQueue.size() < POINTS_QUEUE_SIZE / 10 //
+				&& !this.parent.queryProxy.isLimitReached()) {
+			final var batch = spool.peek(Math.min((int) this.replayBudget, MAX_POINTS_PER_WRITE));
+			if (batch == null) {
+				return;
+			}
+			try {
+				final var writeApi = this.parent.getInfluxConnection().writeApi;
+				final var options = this.parent.defaultOptions;
+				for (var entry : batch.records().entrySet()) {
+					writeApi.writeRecords(entry.getValue(), new WriteParameters(//
+							this.writeParameters.bucketSafe(options), //
+							this.writeParameters.orgSafe(options), //
+							entry.getKey(), //
+							this.writeParameters.consistencySafe(options)));
+				}
+				this.parent.queryProxy.queryLimit.decrease();
+
+			} catch (BadRequestException e) {
+				// Points can never be written -> discard them
+				this.log.warn("Discarding [" + batch.count() + "] spooled points. " + e.getMessage());
+				this.onWriteError.accept(e);
+
+			} catch (Throwable t) {
+				this.parent.queryProxy.queryLimit.increase();
+				this.log.warn("Unable to replay spooled points. " + t.getClass().getSimpleName() + ": "
+						+ t.getMessage());
+				return;
+			}
+			this.replayBudget -= batch.count();
+			try {
+				spool.commit(batch);
+			} catch (IOException e) {
+				this.log.warn("Unable to commit spooled points: " + e.getMessage());
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Adds points to the spool, if it is enabled.
+	 *
+	 * @param points the {@link Point}s
+	 */
+	protected void spool(List<Point> points) {
+		final var spool = this.spool;
+		if (spool == null || points.isEmpty()) {
+			return;
+		}
+		try {
+			spool.append(points);
+		} catch (IOException e) {
+			this.log.warn("Unable to spool [" + points.size() + "] points: " + e.getMessage());
+		}
+	}
+
 	protected abstract List<Point> writePoints(List<T> points);
 
 	protected void onWriteError(Throwable t, List<T> points) {
 		this.log.warn("Unable to write to InfluxDB. " + t.getClass().getSimpleName() + ": " + t.getMessage());
 		if (t instanceof BadRequestException) {
 			this.onWriteError.accept((BadRequestException) t);
+			return;
 		}
+		this.spool(this.writePoints(points));
 	}
 
 	/**
@@ -100,11 +212,22 @@ public abstract class AbstractMergePointsWorker<T> extends AbstractImmediateWork
 	 * immediately without violating capacity restrictions, returning true upon
 	 * success and false if no space is currently available.
 	 * 
+	 * <p>
+	 * If the queue is full and the spool is enabled, the point is added to the
+	 * spool instead.
+	 * 
 	 * @param point the point to add
-	 * @return true if the point was added to this queue, else false
+	 * @return true if the point was added to this queue or the spool, else false
 	 */
 	public boolean offer(T point) {
-		return this.pointsQueue.offer(point);
+		if (this.pointsQueue.offer(point)) {
+			return true;
+		}
+		if (this.spool == null) {
+			return false;
+		}
+		this.spool(this.writePoints(List.of(point)));
+		return true;
 	}
 
 	@Override
@@ -117,7 +240,21 @@ public abstract class AbstractMergePointsWorker<T> extends AbstractImmediateWork
 				.append("/") //
 				.append(POINTS_QUEUE_SIZE) //
 				.append((pointsQueueSize == POINTS_QUEUE_SIZE) ? " !!!POINTS BACKPRESSURE!!!" : "") //
+				.append(this.spool != null && !this.spool.isEmpty() ? " Spool:" + this.spool.getPoints() : "") //
 				.toString();
 	}
 
+	@Override
+	public Map<String, Number> debugMetrics() {
+		final var spool = this.spool;
+		if (spool == null) {
+			return Map.of();
+		}
+		return Map.of(//
+				this.name + "/SpoolPoints", spool.getPoints(), //
+				this.name + "/SpoolSegments", spool.getSegments(), //
+				this.name + "/SpoolReplayLag", spool.getReplayLag() / 1000, //
+				this.name + "/SpoolDropped", spool.getDroppedPoints());
+	}
+
 }
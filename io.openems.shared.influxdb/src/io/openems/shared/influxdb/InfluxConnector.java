@@ -61,6 +61,8 @@ public class InfluxConnector {
 	private final boolean safeWrite;
 
 	private final WriteParameters defaultWriteParameters;
+	protected final InfluxDBClientOptions defaultOptions;
+	protected final PointsSpool.Config spoolConfig;
 	private final Map<WriteParameters, MergePointsWorker> mergePointsWorkerByWriteParameters = new HashMap<>();
 	private final AtomicInteger rejectedExecutionCount = new AtomicInteger();
 
@@ -81,13 +83,16 @@ public class InfluxConnector {
 	 * @param maxQueueSize  queue size limit for executor
 	 * @param onWriteError  A consumer for write-errors
 	 * @param safeWrite     Adds back points to the queue if a write fails
+	 * @param spoolConfig   the {@link PointsSpool.Config} for points that could
+	 *                      not be written; null to disable the spool
 	 * @param parameters    the {@link WriteParameters} to create a
 	 *                      {@link MergePointsWorker} for. All later used
 	 *                      {@link WriteParameters} need to be passed here
 	 */
 	public InfluxConnector(String componentId, QueryLanguageConfig queryLanguage, URI url, String org, String apiKey,
 			String bucket, String tag, boolean isReadOnly, int poolSize, int maxQueueSize,
-			Consumer<BadRequestException> onWriteError, boolean safeWrite, WriteParameters... parameters) {
+			Consumer<BadRequestException> onWriteError, boolean safeWrite, PointsSpool.Config spoolConfig,
+			WriteParameters... parameters) {
 		this.queryProxy = QueryProxy.from(queryLanguage, tag);
 		this.url = url;
 		this.org = org;
@@ -95,6 +100,12 @@ public class InfluxConnector {
 		this.bucket = bucket;
 		this.isReadOnly = isReadOnly;
 		this.safeWrite = safeWrite;
+		this.spoolConfig = spoolConfig;
+		this.defaultOptions = InfluxDBClientOptions.builder() //
+				.url(this.url.toString()) //
+				.org(this.org) //
+				.bucket(this.bucket) //
+				.build();
 
 		this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
 				new LinkedBlockingQueue<Runnable>(maxQueueSize), //
@@ -120,20 +131,22 @@ public class InfluxConnector {
 		defaultMergePointsWorker.activate();
 		this.mergePointsWorkerByWriteParameters.put(this.defaultWriteParameters, defaultMergePointsWorker);
 
-		final var defaultOptions = InfluxDBClientOptions.builder() //
-				.url(this.url.toString()) //
-				.org(this.org) //
-				.bucket(this.bucket) //
-				.build();
 		// initialize merge points worker for specific write parameters
 		for (var writeParameters : parameters) {
-			final var mergePointsWorker = mergePointsWorkerFactory.apply(writeParameters.bucketSafe(defaultOptions),
+			final var mergePointsWorker = mergePointsWorkerFactory.apply(writeParameters.bucketSafe(this.defaultOptions),
 					writeParameters);
 			mergePointsWorker.activate();
 			this.mergePointsWorkerByWriteParameters.put(writeParameters, mergePointsWorker);
 		}
 	}
 
+	public InfluxConnector(String componentId, QueryLanguageConfig queryLanguage, URI url, String org, String apiKey,
+			String bucket, String tag, boolean isReadOnly, int poolSize, int maxQueueSize,
+			Consumer<BadRequestException> onWriteError, boolean safeWrite, WriteParameters... parameters) {
+		this(componentId, queryLanguage, url, org, apiKey, bucket, tag, isReadOnly, poolSize, maxQueueSize,
+				onWriteError, safeWrite, null, parameters);
+	}
+
 	public InfluxConnector(String componentId, QueryLanguageConfig queryLanguage, URI url, String org, String apiKey,
 			String bucket, String tag, boolean isReadOnly, int poolSize, int maxQueueSize,
 			Consumer<BadRequestException> onWriteError, WriteParameters... parameters) {
@@ -169,6 +182,19 @@ public class InfluxConnector {
 				.toString();
 	}
 
+	/**
+	 * Gets metrics of the {@link MergePointsWorker}s and their spools.
+	 *
+	 * @return the metrics
+	 */
+	public Map<String, Number> debugMetrics() {
+		final var result = new HashMap<String, Number>();
+		result.put("RejectedExecutions", this.rejectedExecutionCount.get());
+		this.mergePointsWorkerByWriteParameters.values() //
+				.forEach(worker -> result.putAll(worker.debugMetrics()));
+		return result;
+	}
+
 	private InfluxConnection influxConnection = null;
 
 	/**
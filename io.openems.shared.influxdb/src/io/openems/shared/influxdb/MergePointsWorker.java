@@ -1,5 +1,7 @@
 package io.openems.shared.influxdb;
 
+import java.util.Map;
+
 import com.influxdb.client.write.Point;
 
 public interface MergePointsWorker {
@@ -31,4 +33,11 @@ public interface MergePointsWorker {
 	 */
 	public String debugLog();
 
+	/**
+	 * Gets metrics of the worker, e.g. the size of its spool.
+	 * 
+	 * @return the metrics
+	 */
+	public Map<String, Number> debugMetrics();
+
 }
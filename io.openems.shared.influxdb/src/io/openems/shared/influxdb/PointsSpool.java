@@ -0,0 +1,419 @@
+package io.openems.shared.influxdb;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.influxdb.client.domain.WritePrecision;
+import com.influxdb.client.write.Point;
+
+/**
+ * A segment-based write-ahead spool for {@link Point}s that could not be
+ * written to InfluxDB.
+ *
+ * <p>
+ * Points are appended in line protocol to memory-mapped segment files of
+ * {@link #SEGMENT_SIZE} bytes. The first bytes of each segment hold the read
+ * position, so replaying continues where it stopped after a restart. Fully
+ * replayed segments are deleted. If the spool exceeds its max number of
+ * segments, the oldest segment is dropped.
+ *
+ * <p>
+ * Only the oldest (read) and the newest (write) segment are mapped; segments in
+ * between are released until they are replayed. Changes are forced to disk at
+ * least every {@link #FORCE_INTERVAL} ms. Every record holds a checksum; on
+ * restart the segment is truncated at the first incomplete record.
+ *
+ * <p>
+ * After a crash some points may be replayed twice; InfluxDB overwrites points
+ * with the same series and timestamp, so this is harmless.
+ *
+ * <pre>
+ * segment := readPosition:long record* 0:int
+ * record  := length:int crc32:int spoolTime:long precision:byte lineProtocol:byte[length]
+ * </pre>
+ */
+public class PointsSpool {
+
+	/**
+	 * Configuration of a {@link PointsSpool}.
+	 *
+	 * @param directory  the directory for the segment files
+	 * @param maxSize    the max size of the spool in [MB]
+	 * @param replayRate the max number of points that are replayed per second
+	 */
+	public static record Config(Path directory, int maxSize, int replayRate) {
+	}
+
+	/**
+	 * Points that were read from the spool and are not yet committed.
+	 *
+	 * @param records     the line protocol records per {@link WritePrecision}
+	 * @param count       the number of records
+	 * @param segment     the {@link Segment} the records were read from
+	 * @param endPosition the position after the last record
+	 */
+	public static record Batch(Map<WritePrecision, List<String>> records, int count, Segment segment,
+			int endPosition) {
+	}
+
+	protected static final int SEGMENT_SIZE = 16 * 1024 * 1024;
+	protected static final int HEADER_SIZE = Long.BYTES;
+	protected static final int RECORD_HEADER_SIZE = Integer.BYTES + Integer.BYTES + Long.BYTES + Byte.BYTES;
+	protected static final long FORCE_INTERVAL = 1_000; // [ms]
+	private static final String SUFFIX = ".spool";
+	private static final WritePrecision[] PRECISIONS = WritePrecision.values();
+
+	private final Logger log = LoggerFactory.getLogger(PointsSpool.class);
+
+	private final Path directory;
+	private final int maxSegments;
+	private final ArrayDeque<Segment> segments = new ArrayDeque<>();
+
+	private long nextSequence = 0;
+	private long points = 0;
+	private long droppedPoints = 0;
+	private long lastForce = 0;
+	private boolean isClosed = false;
+
+	protected static final class Segment {
+		private final Path path;
+		private MappedByteBuffer buffer = null;
+		private int writePosition;
+		private int readPosition;
+		private int points;
+
+		private Segment(Path path) throws IOException {
+			this.path = path;
+			this.map();
+			this.readPosition = Math.max(HEADER_SIZE, (int) this.buffer.getLong(0));
+			this.writePosition = this.readPosition;
+			this.points = 0;
+			// Find the end of the complete records
+			while (this.writePosition + RECORD_HEADER_SIZE <= SEGMENT_SIZE) {
+				var length = this.buffer.getInt(this.writePosition);
+				if (length <= 0 || this.writePosition + RECORD_HEADER_SIZE + length > SEGMENT_SIZE) {
+					break;
+				}
+				var checksum = this.buffer.getInt(this.writePosition + Integer.BYTES);
+				if (checksum != this.checksum(this.writePosition, length)) {
+					// Partially written record -> truncate
+					this.buffer.putInt(this.writePosition, 0);
+					break;
+				}
+				this.writePosition += RECORD_HEADER_SIZE + length;
+				this.points++;
+			}
+		}
+
+		private void map() throws IOException {
+			if (this.buffer != null) {
+				return;
+			}
+			try (var channel = FileChannel.open(this.path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+					StandardOpenOption.WRITE)) {
+				this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, SEGMENT_SIZE);
+			}
+		}
+
+		/**
+		 * Forces changes to disk and releases the mapping. The memory is unmapped
+		 * once the buffer is garbage collected.
+		 */
+		private void unmap() {
+			if (this.buffer == null) {
+				return;
+			}
+			this.buffer.force();
+			this.buffer = null;
+		}
+
+		private void force() {
+			if (this.buffer != null) {
+				this.buffer.force();
+			}
+		}
+
+		private boolean hasSpace(int length) {
+			return this.writePosition + RECORD_HEADER_SIZE + length <= SEGMENT_SIZE;
+		}
+
+		/**
+		 * Calculates the checksum of spoolTime, precision and line protocol of the
+		 * record at the given position.
+		 *
+		 * @param position the position of the record
+		 * @param length   the length of the line protocol
+		 * @return the checksum
+		 */
+		private int checksum(int position, int length) {
+			final var crc = new CRC32();
+			final var offset = position + Integer.BYTES + Integer.BYTES;
+			crc.update(this.buffer.slice(offset, Long.BYTES + Byte.BYTES + length));
+			return (int) crc.getValue();
+		}
+	}
+
+	/**
+	 * Opens the spool in the given directory; existing segments are kept for
+	 * replay.
+	 *
+	 * @param directory the directory
+	 * @param maxSize   the max size of the spool in [MB]
+	 * @throws IOException on error
+	 */
+	public PointsSpool(Path directory, int maxSize) throws IOException {
+		this.directory = directory;
+		this.maxSegments = Math.max(2, (int) ((long) maxSize * 1024 * 1024 / SEGMENT_SIZE));
+		Files.createDirectories(directory);
+
+		final var paths = new ArrayList<Path>();
+		try (var files = Files.list(directory)) {
+			files.filter(p -> p.getFileName().toString().endsWith(SUFFIX)) //
+					.sorted() //
+					.forEach(paths::add);
+		}
+		for (var path : paths) {
+			var segment = new Segment(path);
+			this.nextSequence = Math.max(this.nextSequence, parseSequence(path) + 1);
+			if (segment.points == 0) {
+				segment.unmap();
+				Files.deleteIfExists(path);
+				continue;
+			}
+			var previous = this.segments.peekLast();
+			if (previous != null && previous != this.segments.peekFirst()) {
+				previous.unmap();
+			}
+			this.segments.add(segment);
+			this.points += segment.points;
+		}
+		if (this.points > 0) {
+			this.log.info("Found [" + this.points + "] spooled points in [" + directory + "]");
+		}
+	}
+
+	private static long parseSequence(Path path) {
+		var name = path.getFileName().toString();
+		try {
+			return Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+		} catch (NumberFormatException e) {
+			return 0;
+		}
+	}
+
+	/**
+	 * Appends {@link Point}s to the spool.
+	 *
+	 * @param points the {@link Point}s
+	 * @throws IOException on error or if the spool is closed
+	 */
+	public synchronized void append(List<Point> points) throws IOException {
+		if (this.isClosed) {
+			throw new IOException("Spool [" + this.directory + "] is closed");
+		}
+		final var now = System.currentTimeMillis();
+		for (var point : points) {
+			var bytes = point.toLineProtocol().getBytes(UTF_8);
+			if (bytes.length == 0 || RECORD_HEADER_SIZE + bytes.length > SEGMENT_SIZE - HEADER_SIZE) {
+				continue;
+			}
+			var segment = this.segments.peekLast();
+			if (segment == null || !segment.hasSpace(bytes.length)) {
+				segment = this.newSegment();
+			}
+			var buffer = segment.buffer;
+			var position = segment.writePosition;
+			buffer.putLong(position + Integer.BYTES + Integer.BYTES, now);
+			buffer.put(position + Integer.BYTES + Integer.BYTES + Long.BYTES, (byte) point.getPrecision().ordinal());
+			buffer.put(position + RECORD_HEADER_SIZE, bytes);
+			buffer.putInt(position + Integer.BYTES, segment.checksum(position, bytes.length));
+			// Write length last: it marks the record as complete
+			buffer.putInt(position, bytes.length);
+			segment.writePosition += RECORD_HEADER_SIZE + bytes.length;
+			segment.points++;
+			this.points++;
+		}
+		this.forceIfDue(now);
+	}
+
+	private Segment newSegment() throws IOException {
+		var previous = this.segments.peekLast();
+		if (previous != null) {
+			if (previous == this.segments.peekFirst()) {
+				previous.force();
+			} else {
+				previous.unmap();
+			}
+		}
+		if (this.segments.size() >= this.maxSegments) {
+			// Spool is full -> drop oldest segment
+			var oldest = this.segments.pollFirst();
+			this.points -= oldest.points;
+			this.droppedPoints += oldest.points;
+			oldest.buffer = null;
+			Files.deleteIfExists(oldest.path);
+			this.log.warn("Spool [" + this.directory + "] is full. Dropped [" + oldest.points + "] points");
+			var head = this.segments.peekFirst();
+			if (head != null) {
+				head.map();
+			}
+		}
+		var path = this.directory.resolve(String.format("%020d", this.nextSequence++) + SUFFIX);
+		var segment = new Segment(path);
+		segment.buffer.putLong(0, HEADER_SIZE);
+		this.segments.add(segment);
+		return segment;
+	}
+
+	/**
+	 * Forces the mapped segments to disk if the last force is older than
+	 * {@link #FORCE_INTERVAL}.
+	 *
+	 * @param now the current time in [ms]
+	 */
+	private void forceIfDue(long now) {
+		if (now - this.lastForce < FORCE_INTERVAL) {
+			return;
+		}
+		this.lastForce = now;
+		var head = this.segments.peekFirst();
+		var tail = this.segments.peekLast();
+		if (head != null) {
+			head.force();
+		}
+		if (tail != null && tail != head) {
+			tail.force();
+		}
+	}
+
+	/**
+	 * Reads the oldest points without removing them; see
+	 * {@link #commit(Batch)}.
+	 *
+	 * @param maxPoints the max number of points
+	 * @return the {@link Batch}; null if the spool is empty
+	 */
+	public synchronized Batch peek(int maxPoints) {
+		var segment = this.segments.peekFirst();
+		if (segment == null || segment.points == 0) {
+			return null;
+		}
+		final var records = new EnumMap<WritePrecision, List<String>>(WritePrecision.class);
+		var position = segment.readPosition;
+		var count = 0;
+		while (count < maxPoints && position < segment.writePosition) {
+			var length = segment.buffer.getInt(position);
+			var precision = PRECISIONS[segment.buffer.get(position + Integer.BYTES + Integer.BYTES + Long.BYTES)];
+			var bytes = new byte[length];
+			segment.buffer.get(position + RECORD_HEADER_SIZE, bytes);
+			records.computeIfAbsent(precision, p -> new ArrayList<>()).add(new String(bytes, UTF_8));
+			position += RECORD_HEADER_SIZE + length;
+			count++;
+		}
+		return new Batch(records, count, segment, position);
+	}
+
+	/**
+	 * Removes the points of a {@link Batch} after they were written successfully.
+	 *
+	 * @param batch the {@link Batch} from {@link #peek(int)}
+	 * @throws IOException on error
+	 */
+	public synchronized void commit(Batch batch) throws IOException {
+		var segment = batch.segment();
+		if (this.segments.peekFirst() != segment) {
+			// Segment was dropped in the meantime
+			return;
+		}
+		segment.readPosition = batch.endPosition();
+		segment.buffer.putLong(0, batch.endPosition());
+		segment.points -= batch.count();
+		this.points -= batch.count();
+		if (segment.points == 0 && segment != this.segments.peekLast()) {
+			this.segments.pollFirst();
+			segment.buffer = null;
+			Files.deleteIfExists(segment.path);
+			this.segments.peekFirst().map();
+		}
+		this.forceIfDue(System.currentTimeMillis());
+	}
+
+	/**
+	 * Is the spool empty?.
+	 *
+	 * @return true if there are no points to replay
+	 */
+	public synchronized boolean isEmpty() {
+		return this.points == 0;
+	}
+
+	/**
+	 * Gets the number of spooled points.
+	 *
+	 * @return the number of points
+	 */
+	public synchronized long getPoints() {
+		return this.points;
+	}
+
+	/**
+	 * Gets the number of points that were dropped because the spool was full.
+	 *
+	 * @return the number of points
+	 */
+	public synchronized long getDroppedPoints() {
+		return this.droppedPoints;
+	}
+
+	/**
+	 * Gets the number of segment files.
+	 *
+	 * @return the number of segments
+	 */
+	public synchronized int getSegments() {
+		return this.segments.size();
+	}
+
+	/**
+	 * Gets the time since the oldest spooled point was added.
+	 *
+	 * @return the replay lag in [ms]; 0 if empty
+	 */
+	public synchronized long getReplayLag() {
+		var segment = this.segments.peekFirst();
+		if (segment == null || segment.points == 0) {
+			return 0;
+		}
+		return Math.max(0, System.currentTimeMillis()
+				- segment.buffer.getLong(segment.readPosition + Integer.BYTES + Integer.BYTES));
+	}
+
+	/**
+	 * Writes all changes to disk and releases the segments. Points can not be
+	 * appended afterwards.
+	 */
+	public synchronized void close() {
+		this.isClosed = true;
+		for (var segment : this.segments) {
+			segment.unmap();
+		}
+		this.segments.clear();
+		this.points = 0;
+	}
+
+}
@@ -1,5 +1,6 @@
 package io.openems.shared.influxdb;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
@@ -40,11 +41,17 @@ public class SafeMergePointsWorker extends AbstractMergePointsWorker<WritePoint>
 
 	@Override
 	protected void onWriteError(Throwable t, List<WritePoint> points) {
-		super.onWriteError(t, points);
-		points.stream() //
-				.peek(w -> w.failedCountDown--) //
-				.filter(w -> w.failedCountDown > 0) //
-				.forEach(this::offer);
+		final var failed = new ArrayList<WritePoint>();
+		for (var w : points) {
+			w.failedCountDown--;
+			if (w.failedCountDown > 0) {
+				this.offer(w);
+			} else {
+				failed.add(w);
+			}
+		}
+		// Spool points that failed too often
+		super.onWriteError(t, failed);
 	}
 
 }
@@ -0,0 +1,145 @@
+package io.openems.shared.influxdb;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.influxdb.client.domain.WritePrecision;
+import com.influxdb.client.write.Point;
+
+public class PointsSpoolTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private static Point point(int value) {
+		return Point.measurement("data") //
+				.addField("value", value) //
+				.time(1_000L + value, WritePrecision.MS);
+	}
+
+	private static Map<WritePrecision, List<String>> records(int... values) {
+		return Map.of(WritePrecision.MS, Arrays.stream(values) //
+				.mapToObj(v -> point(v).toLineProtocol()) //
+				.toList());
+	}
+
+	@Test
+	public void testAppendAndReplay() throws IOException {
+		final var sut = new PointsSpool(this.folder.getRoot().toPath(), 100);
+		assertTrue(sut.isEmpty());
+		assertNull(sut.peek(10));
+
+		sut.append(List.of(point(1), point(2), point(3)));
+		assertEquals(3, sut.getPoints());
+		assertEquals(1, sut.getSegments());
+
+		// Peek does not remove
+		var batch = sut.peek(2);
+		assertEquals(2, batch.count());
+		assertEquals(records(1, 2), batch.records());
+		assertEquals(records(1, 2), sut.peek(2).records());
+
+		sut.commit(batch);
+		assertEquals(1, sut.getPoints());
+
+		batch = sut.peek(10);
+		assertEquals(records(3), batch.records());
+		sut.commit(batch);
+		assertTrue(sut.isEmpty());
+		assertNull(sut.peek(10));
+		sut.close();
+	}
+
+	@Test
+	public void testRestart() throws IOException {
+		final var directory = this.folder.getRoot().toPath();
+		var sut = new PointsSpool(directory, 100);
+		sut.append(List.of(point(1), point(2), point(3)));
+		sut.commit(sut.peek(1));
+		sut.close();
+
+		// Replay continues after the committed points
+		sut = new PointsSpool(directory, 100);
+		assertEquals(2, sut.getPoints());
+		assertEquals(records(2, 3), sut.peek(10).records());
+
+		sut.commit(sut.peek(10));
+		sut.close();
+
+		// Fully replayed segments are deleted
+		sut = new PointsSpool(directory, 100);
+		assertTrue(sut.isEmpty());
+		assertEquals(0, sut.getSegments());
+		sut.close();
+	}
+
+	@Test
+	public void testPartialRecord() throws IOException {
+		final var directory = this.folder.getRoot().toPath();
+		var sut = new PointsSpool(directory, 100);
+		sut.append(List.of(point(1), point(2)));
+		sut.close();
+
+		// Simulate a crash while the third record was written: length is on disk,
+		// the data is not
+		final Path file;
+		try (var files = Files.list(directory)) {
+			file = files.findFirst().get();
+		}
+		try (var channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			var buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, PointsSpool.SEGMENT_SIZE);
+			var position = PointsSpool.HEADER_SIZE;
+			for (var i = 0; i < 2; i++) {
+				position += PointsSpool.RECORD_HEADER_SIZE + buffer.getInt(position);
+			}
+			buffer.putInt(position, 20);
+			buffer.force();
+		}
+
+		// Partial record is truncated
+		sut = new PointsSpool(directory, 100);
+		assertEquals(2, sut.getPoints());
+		assertEquals(records(1, 2), sut.peek(10).records());
+
+		// ...and overwritten by the next append
+		sut.append(List.of(point(3)));
+		sut.close();
+		sut = new PointsSpool(directory, 100);
+		assertEquals(records(1, 2, 3), sut.peek(10).records());
+		sut.close();
+	}
+
+	@Test
+	public void testAppendAfterClose() throws IOException {
+		final var directory = this.folder.getRoot().toPath();
+		var sut = new PointsSpool(directory, 100);
+		sut.append(List.of(point(1)));
+		sut.close();
+		try {
+			sut.append(List.of(point(2)));
+			fail("Expected IOException");
+		} catch (IOException e) {
+			// expected
+		}
+
+		sut = new PointsSpool(directory, 100);
+		assertEquals(records(1), sut.peek(10).records());
+		sut.close();
+	}
+
+}